@@ -108,13 +108,13 @@ class BaseScriptServiceImplTest {
             when(usersGateway.createUser(any(UserRequestDto.class))).thenReturn(userResponse1, userResponse2);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(tweetId2, userId1, "Tweet 2",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(tweetId3, userId2, "Tweet 3",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse4 = new TweetResponseDto(tweetId4, userId2, "Tweet 4",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3, tweetResponse4);
@@ -193,7 +193,7 @@ class BaseScriptServiceImplTest {
             when(usersGateway.createUser(any(UserRequestDto.class))).thenReturn(userResponse1);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1)
@@ -238,7 +238,7 @@ class BaseScriptServiceImplTest {
             when(usersGateway.createUser(any(UserRequestDto.class))).thenReturn(userResponse1);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class))).thenReturn(tweetResponse1);
 
@@ -280,7 +280,7 @@ class BaseScriptServiceImplTest {
             when(usersGateway.createUser(any(UserRequestDto.class))).thenReturn(userResponse1);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class))).thenReturn(tweetResponse1);
 
@@ -374,7 +374,7 @@ class BaseScriptServiceImplTest {
             when(usersGateway.createUser(any(UserRequestDto.class))).thenReturn(userResponse1);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class))).thenReturn(tweetResponse1);
 
@@ -441,9 +441,9 @@ class BaseScriptServiceImplTest {
             when(usersGateway.createUser(any(UserRequestDto.class))).thenReturn(userResponse1, userResponse2);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(
-                UUID.randomUUID(), userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(
-                UUID.randomUUID(), userId2, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId2, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2);
@@ -515,11 +515,11 @@ class BaseScriptServiceImplTest {
                 });
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(
-                UUID.randomUUID(), userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(
-                UUID.randomUUID(), userId2, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId2, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(
-                UUID.randomUUID(), userId3, "Tweet 3", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId3, "Tweet 3", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3);
@@ -595,11 +595,11 @@ class BaseScriptServiceImplTest {
                 });
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(
-                UUID.randomUUID(), userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(
-                UUID.randomUUID(), userId2, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId2, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(
-                UUID.randomUUID(), userId3, "Tweet 3", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                UUID.randomUUID(), userId3, "Tweet 3", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3);
@@ -683,17 +683,17 @@ class BaseScriptServiceImplTest {
             UUID tweetId6 = UUID.randomUUID();
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(
-                tweetId1, userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                tweetId1, userId1, "Tweet 1", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(
-                tweetId2, userId1, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                tweetId2, userId1, "Tweet 2", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(
-                tweetId3, userId2, "Tweet 3", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                tweetId3, userId2, "Tweet 3", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse4 = new TweetResponseDto(
-                tweetId4, userId2, "Tweet 4", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                tweetId4, userId2, "Tweet 4", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse5 = new TweetResponseDto(
-                tweetId5, userId3, "Tweet 5", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                tweetId5, userId3, "Tweet 5", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse6 = new TweetResponseDto(
-                tweetId6, userId3, "Tweet 6", LocalDateTime.now(), LocalDateTime.now(), false, null);
+                tweetId6, userId3, "Tweet 6", LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3, tweetResponse4, tweetResponse5, tweetResponse6);
@@ -779,23 +779,23 @@ class BaseScriptServiceImplTest {
                 .thenReturn(userResponse1, userResponse2, userResponse3);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(tweetId2, userId1, "Tweet 2",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(tweetId3, userId1, "Tweet 3",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse4 = new TweetResponseDto(tweetId4, userId2, "Tweet 4",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse5 = new TweetResponseDto(tweetId5, userId2, "Tweet 5",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse6 = new TweetResponseDto(tweetId6, userId2, "Tweet 6",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse7 = new TweetResponseDto(UUID.randomUUID(), userId3, "Tweet 7",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse8 = new TweetResponseDto(UUID.randomUUID(), userId3, "Tweet 8",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse9 = new TweetResponseDto(UUID.randomUUID(), userId3, "Tweet 9",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3, tweetResponse4, tweetResponse5,
@@ -871,17 +871,17 @@ class BaseScriptServiceImplTest {
                 .thenReturn(userResponse1, userResponse2);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(tweetId2, userId1, "Tweet 2",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(tweetId3, userId1, "Tweet 3",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse4 = new TweetResponseDto(tweetId4, userId2, "Tweet 4",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse5 = new TweetResponseDto(tweetId5, userId2, "Tweet 5",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse6 = new TweetResponseDto(tweetId6, userId2, "Tweet 6",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3, tweetResponse4, tweetResponse5, tweetResponse6);
@@ -933,17 +933,17 @@ class BaseScriptServiceImplTest {
                 .thenReturn(userResponse1, userResponse2);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(tweetId2, userId1, "Tweet 2",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(tweetId3, userId1, "Tweet 3",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse4 = new TweetResponseDto(tweetId4, userId2, "Tweet 4",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse5 = new TweetResponseDto(tweetId5, userId2, "Tweet 5",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse6 = new TweetResponseDto(tweetId6, userId2, "Tweet 6",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3, tweetResponse4, tweetResponse5, tweetResponse6);
@@ -1004,9 +1004,9 @@ class BaseScriptServiceImplTest {
                 .thenReturn(userResponse1, userResponse2);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(tweetId2, userId2, "Tweet 2",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2);
@@ -1051,17 +1051,17 @@ class BaseScriptServiceImplTest {
                 .thenReturn(userResponse1);
 
             TweetResponseDto tweetResponse1 = new TweetResponseDto(tweetId1, userId1, "Tweet 1",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse2 = new TweetResponseDto(tweetId2, userId1, "Tweet 2",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse3 = new TweetResponseDto(tweetId3, userId1, "Tweet 3",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse4 = new TweetResponseDto(tweetId4, userId1, "Tweet 4",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse5 = new TweetResponseDto(tweetId5, userId1, "Tweet 5",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
             TweetResponseDto tweetResponse6 = new TweetResponseDto(tweetId6, userId1, "Tweet 6",
-                LocalDateTime.now(), LocalDateTime.now(), false, null);
+                LocalDateTime.now(), LocalDateTime.now(), false, null, null, null, null, null);
 
             when(tweetsGateway.createTweet(any(CreateTweetRequestDto.class)))
                 .thenReturn(tweetResponse1, tweetResponse2, tweetResponse3, tweetResponse4, tweetResponse5, tweetResponse6);
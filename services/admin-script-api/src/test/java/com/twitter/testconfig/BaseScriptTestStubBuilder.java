@@ -95,6 +95,10 @@ public final class BaseScriptTestStubBuilder {
             LocalDateTime.now(),
             LocalDateTime.now(),
             false,
+            null,
+            null,
+            null,
+            null,
             null
         );
     }
@@ -0,0 +1,114 @@
+package com.twitter.cache;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import com.twitter.common.cache.VersionStripes;
+import com.twitter.common.transaction.AfterCommit;
+import com.twitter.config.FollowSuggestionProperties;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of computed follow suggestions keyed by user identifier.
+ * <p>
+ * Suggestions are cached for {@code app.follow-suggestions.cache-ttl}, for at most
+ * {@code app.follow-suggestions.cache-max-size} users; the suggestions read least recently are
+ * evicted first.
+ * <p>
+ * Invalidations are applied after the commit of the follow change, and suggestions computed from a
+ * read that started before an invalidation are returned but not cached.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+public class FollowSuggestionCache {
+
+    private final BoundedTtlCache<UUID, Entry> entries;
+    private final VersionStripes versions = new VersionStripes(1024);
+    private final long ttlNanos;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public FollowSuggestionCache(FollowSuggestionProperties properties, MeterRegistry meterRegistry) {
+        this.entries = new BoundedTtlCache<>(properties.cacheMaxSize(), Entry::isExpired);
+        this.ttlNanos = properties.cacheTtl().toNanos();
+        this.hitCounter = requestsCounter(meterRegistry, "hit");
+        this.missCounter = requestsCounter(meterRegistry, "miss");
+        Gauge.builder("follow.suggestions.cache.size", entries, BoundedTtlCache::size)
+            .description("Number of users whose follow suggestions are cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached suggestions of a user or computes them with the given loader on a miss.
+     *
+     * @param userId the user identifier
+     * @param loader function computing the suggestions of the user
+     * @return the suggestions of the user
+     */
+    public List<FollowSuggestionResponseDto> get(UUID userId, Function<UUID, List<FollowSuggestionResponseDto>> loader) {
+        long now = System.nanoTime();
+        Entry current = entries.get(userId);
+        if (current != null && !current.isExpired(now)) {
+            hitCounter.increment();
+            return current.suggestions();
+        }
+
+        missCounter.increment();
+        long version = versions.get(userId);
+        List<FollowSuggestionResponseDto> suggestions = List.copyOf(loader.apply(userId));
+        Entry loaded = new Entry(suggestions, System.nanoTime() + ttlNanos);
+        entries.compute(userId, (id, cached) -> versions.get(id) == version ? loaded : cached);
+        return suggestions;
+    }
+
+    /**
+     * Removes the cached suggestions of a user.
+     * <p>
+     * Inside a transaction the suggestions are removed after the commit.
+     *
+     * @param userId the user identifier
+     */
+    public void invalidate(UUID userId) {
+        AfterCommit.run(() -> {
+            versions.increment(userId);
+            entries.remove(userId);
+        });
+    }
+
+    /**
+     * Returns the number of users whose suggestions are cached.
+     *
+     * @return number of cache entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("follow.suggestions.cache.requests")
+            .description("Number of follow suggestions cache lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cached suggestions of a user.
+     *
+     * @param suggestions    the suggestions
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the entry is stale
+     */
+    private record Entry(List<FollowSuggestionResponseDto> suggestions, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
\ No newline at end of file
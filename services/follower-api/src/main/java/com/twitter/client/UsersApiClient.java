@@ -1,11 +1,17 @@
 package com.twitter.client;
 
+import com.twitter.common.dto.request.user.UserExistsBatchRequestDto;
+import com.twitter.common.dto.request.user.UserLoginBatchRequestDto;
+import com.twitter.common.dto.response.user.UserExistsBatchResponseDto;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
+import com.twitter.common.dto.response.user.UserLoginBatchResponseDto;
 import com.twitter.common.dto.response.user.UserResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.UUID;
 
@@ -31,6 +37,26 @@ public interface UsersApiClient {
     @GetMapping("/{userId}/exists")
     UserExistsResponseDto existsUser(@PathVariable("userId") UUID userId);
 
+    /**
+     * Checks which of several users exist.
+     *
+     * @param request the identifiers of the users to check, at most
+     *                {@link UserExistsBatchRequestDto#MAX_USER_IDS}
+     * @return UserExistsBatchResponseDto containing the identifiers of the existing users
+     */
+    @PostMapping("/exists/batch")
+    UserExistsBatchResponseDto existsUsers(@RequestBody UserExistsBatchRequestDto request);
+
+    /**
+     * Retrieves the logins of several users.
+     *
+     * @param request the identifiers of the users whose logins are requested, at most
+     *                {@link UserLoginBatchRequestDto#MAX_USER_IDS}
+     * @return UserLoginBatchResponseDto containing the logins of the existing users keyed by identifier
+     */
+    @PostMapping("/logins/batch")
+    UserLoginBatchResponseDto getUserLogins(@RequestBody UserLoginBatchRequestDto request);
+
     /**
      * Retrieves a user by their unique identifier.
      *
@@ -0,0 +1,17 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class for the follow counters repair job.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(FollowCountRepairProperties.class)
+public class FollowCountRepairConfig {
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the follow counters repair job.
+ *
+ * @param enabled    whether the background repair job is scheduled
+ * @param batchSize  maximum number of users whose counters are checked in one transaction
+ * @param batchPause pause between two batches, used to limit the load on the database
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.follow-counts.repair")
+public record FollowCountRepairProperties(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("1000")
+    int batchSize,
+
+    @DefaultValue("100ms")
+    Duration batchPause
+) {
+}
\ No newline at end of file
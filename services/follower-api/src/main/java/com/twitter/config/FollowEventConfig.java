@@ -0,0 +1,35 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Configuration class for the follow event outbox and its relay.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(FollowEventProperties.class)
+public class FollowEventConfig {
+
+    /**
+     * HTTP client used to deliver follow events to the configured subscribers.
+     *
+     * @param builder    the auto-configured RestClient builder
+     * @param properties follow event properties
+     * @return RestClient with the subscriber request timeout applied
+     */
+    @Bean
+    public RestClient followEventRestClient(RestClient.Builder builder, FollowEventProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.requestTimeout());
+        requestFactory.setReadTimeout(properties.requestTimeout());
+        return builder.requestFactory(requestFactory).build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for the follow event outbox and its relay.
+ *
+ * @param enabled        whether follow changes are written to the outbox and relayed to subscribers
+ * @param batchSize      maximum number of events sequenced or delivered to a subscriber at once
+ * @param subscribers    URLs that receive every batch of events as a JSON array with an HTTP POST
+ * @param requestTimeout connect and read timeout of a request to a subscriber
+ * @param claimTimeout   how long a relay may deliver a claimed batch before another relay may claim
+ *                       the subscriber again; must exceed the request timeout
+ * @param retention      how long events delivered to all subscribers are kept before they are deleted
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.follow-events")
+public record FollowEventProperties(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("500")
+    int batchSize,
+
+    @DefaultValue
+    List<URI> subscribers,
+
+    @DefaultValue("5s")
+    Duration requestTimeout,
+
+    @DefaultValue("1m")
+    Duration claimTimeout,
+
+    @DefaultValue("7d")
+    Duration retention
+) {
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-memory follow graph.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(FollowGraphProperties.class)
+public class FollowGraphConfig {
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the in-memory follow graph.
+ *
+ * @param enabled      whether the graph is loaded at startup; when disabled every read goes to the database
+ * @param memoryBudget estimated heap the graph may occupy; a larger graph is released and reads fall back
+ *                     to the database
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.follow-graph")
+public record FollowGraphProperties(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("256MB")
+    DataSize memoryBudget
+) {
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the friends-of-friends follow suggestions.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(FollowSuggestionProperties.class)
+public class FollowSuggestionConfig {
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the friends-of-friends follow suggestions.
+ *
+ * @param parallelism    number of worker threads counting second-degree users
+ * @param maxFirstDegree maximum number of followed users whose own followings are counted; larger
+ *                       following lists are sampled evenly
+ * @param maxFanOut      maximum number of followings counted per followed user; larger lists are
+ *                       sampled evenly
+ * @param cacheTtl       how long computed suggestions are served before they are computed again
+ * @param cacheMaxSize   maximum number of users whose suggestions are cached
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.follow-suggestions")
+public record FollowSuggestionProperties(
+    @DefaultValue("4")
+    int parallelism,
+
+    @DefaultValue("1000")
+    int maxFirstDegree,
+
+    @DefaultValue("2000")
+    int maxFanOut,
+
+    @DefaultValue("10m")
+    Duration cacheTtl,
+
+    @DefaultValue("10000")
+    int cacheMaxSize
+) {
+}
\ No newline at end of file
@@ -5,11 +5,19 @@ import com.twitter.common.dto.response.follow.FollowResponseDto;
 import com.twitter.common.dto.response.follow.FollowingResponseDto;
 import com.twitter.dto.filter.FollowerFilter;
 import com.twitter.dto.filter.FollowingFilter;
+import com.twitter.dto.request.FollowBatchRequestDto;
+import com.twitter.dto.request.FollowStatusBatchRequestDto;
+import com.twitter.dto.response.FollowBatchItemResponseDto;
+import com.twitter.dto.response.FollowIdsPageResponseDto;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
+import com.twitter.dto.response.FollowerExportLineDto;
 import com.twitter.dto.response.FollowerResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,7 +27,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -75,6 +85,47 @@ public interface FollowApi {
         )
         UUID followingId);
 
+    @Operation(
+        summary = "Create follow relationships in bulk",
+        description = "Creates up to 5000 follow relationships in one request, intended for migrations and " +
+            "imports. User existence is verified with batched users-api requests and all relationships are " +
+            "inserted with a single statement that skips existing ones. The response contains one result per " +
+            "requested item in the request order: CREATED, ALREADY_FOLLOWING, SELF_FOLLOW or USER_NOT_FOUND. " +
+            "Every item takes one token from the 'follows-batch' rate limit of its follower; returns 429 if a " +
+            "follower of the batch has used up the limit. " +
+            "Returns 503 if users-api is unavailable, in which case nothing is created."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = FollowBatchItemResponseDto.class))
+        )
+    )
+    ResponseEntity<List<FollowBatchItemResponseDto>> createFollows(
+        @Parameter(description = "Follow relationships to create", required = true)
+        FollowBatchRequestDto request);
+
+    @Operation(
+        summary = "Delete follow relationships in bulk",
+        description = "Removes up to 5000 follow relationships in one request with a single statement. " +
+            "The response contains one result per requested item in the request order: DELETED or NOT_FOLLOWING. " +
+            "Every item takes one token from the 'follows-batch' rate limit of its follower; returns 429 if a " +
+            "follower of the batch has used up the limit."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch processed",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = FollowBatchItemResponseDto.class))
+        )
+    )
+    ResponseEntity<List<FollowBatchItemResponseDto>> deleteFollows(
+        @Parameter(description = "Follow relationships to delete", required = true)
+        FollowBatchRequestDto request);
+
     @Operation(
         summary = "Get followers list",
         description = "Retrieves a paginated list of followers for a specific user. " +
@@ -103,6 +154,35 @@ public interface FollowApi {
         @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC)
         Pageable pageable);
 
+    @Operation(
+        summary = "Export followers",
+        description = "Streams the complete follower list of a user as NDJSON, one follower per line, " +
+            "in ascending order of follower ID. Rows are read from a database cursor and written as they " +
+            "arrive, without pagination, counting or user login lookups, so memory use does not depend on " +
+            "the number of followers. To resume an interrupted export, pass the follower ID of the last " +
+            "line received as 'after'."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Follower export started",
+        content = @Content(
+            mediaType = "application/x-ndjson",
+            schema = @Schema(implementation = FollowerExportLineDto.class)
+        )
+    )
+    ResponseEntity<StreamingResponseBody> exportFollowers(
+        @Parameter(
+            description = "Unique identifier of the user whose followers should be exported",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId,
+        @Parameter(
+            description = "Follower ID of the last line received by an interrupted export",
+            example = "987fcdeb-51a2-43d7-b123-426614174999"
+        )
+        UUID after);
+
     @Operation(
         summary = "Get following list",
         description = "Retrieves a paginated list of following for a specific user. " +
@@ -159,6 +239,31 @@ public interface FollowApi {
         )
         UUID followingId);
 
+    @Operation(
+        summary = "Check follow statuses in batch",
+        description = "Checks whether a user follows each of up to 100 users in one request. " +
+            "The statuses are answered with a single database query, or from memory when the in-memory " +
+            "follow graph is enabled and loaded. The response contains one item per requested identifier " +
+            "in the request order."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Follow statuses retrieved successfully",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = FollowStatusBatchItemResponseDto.class))
+        )
+    )
+    ResponseEntity<List<FollowStatusBatchItemResponseDto>> getFollowStatuses(
+        @Parameter(
+            description = "Unique identifier of the user who may be following (the follower)",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID followerId,
+        @Parameter(description = "Identifiers of the users to check", required = true)
+        FollowStatusBatchRequestDto request);
+
     @Operation(
         summary = "Get follow statistics",
         description = "Retrieves follow statistics for a specific user. " +
@@ -180,4 +285,128 @@ public interface FollowApi {
             example = "123e4567-e89b-12d3-a456-426614174000"
         )
         UUID userId);
+
+    @Operation(
+        summary = "Get following identifiers",
+        description = "Retrieves the identifiers of all users that a specific user is following. " +
+            "The list is not paginated, carries no user logins and has no particular order. " +
+            "When the in-memory follow graph is enabled and loaded, the list is served from memory."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Following identifiers retrieved successfully",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(type = "string", format = "uuid"))
+        )
+    )
+    ResponseEntity<List<UUID>> getFollowingIds(
+        @Parameter(
+            description = "Unique identifier of the user whose followed users should be retrieved",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId);
+
+    @Operation(
+        summary = "Get follow suggestions",
+        description = "Retrieves users suggested to follow for a specific user. " +
+            "Users are ranked by the number of users followed by this user that follow them; " +
+            "users already followed and the user themselves are excluded. " +
+            "Suggestions are cached per user for a short time. " +
+            "User login information is retrieved from the users-api service."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Follow suggestions retrieved successfully",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = FollowSuggestionResponseDto.class))
+        )
+    )
+    ResponseEntity<List<FollowSuggestionResponseDto>> getFollowSuggestions(
+        @Parameter(
+            description = "Unique identifier of the user to compute suggestions for",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId,
+        @Parameter(
+            description = "Maximum number of suggestions to return, from 1 to 50",
+            example = "10"
+        )
+        int limit);
+
+    @Operation(
+        summary = "Get mutual follows",
+        description = "Retrieves the users that a specific user follows and that follow the user back. " +
+            "Identifiers are returned in ascending order and paged with a cursor: pass the returned " +
+            "nextCursor as 'after' to get the next page. The relationships of both directions are " +
+            "intersected as sorted streams, so large accounts are never loaded into memory at once."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Mutual follows retrieved successfully",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = FollowIdsPageResponseDto.class)
+        )
+    )
+    ResponseEntity<FollowIdsPageResponseDto> getMutualFollows(
+        @Parameter(
+            description = "Unique identifier of the user whose mutual follows should be retrieved",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId,
+        @Parameter(
+            description = "Cursor returned as nextCursor with the previous page",
+            example = "987fcdeb-51a2-43d7-b123-426614174999"
+        )
+        UUID after,
+        @Parameter(
+            description = "Maximum number of identifiers to return, from 1 to 1000",
+            example = "100"
+        )
+        int limit);
+
+    @Operation(
+        summary = "Get common followers",
+        description = "Retrieves the users following both of two users. " +
+            "Identifiers are returned in ascending order and paged with a cursor: pass the returned " +
+            "nextCursor as 'after' to get the next page. The followers of both users are intersected " +
+            "as sorted streams; when one user has far more followers, only the followers of the other " +
+            "user are read and looked up in the larger set."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Common followers retrieved successfully",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = FollowIdsPageResponseDto.class)
+        )
+    )
+    ResponseEntity<FollowIdsPageResponseDto> getCommonFollowers(
+        @Parameter(
+            description = "Unique identifier of the first user",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId,
+        @Parameter(
+            description = "Unique identifier of the second user",
+            required = true,
+            example = "987fcdeb-51a2-43d7-b123-426614174999"
+        )
+        UUID otherUserId,
+        @Parameter(
+            description = "Cursor returned as nextCursor with the previous page",
+            example = "456e7890-e89b-12d3-a456-426614174111"
+        )
+        UUID after,
+        @Parameter(
+            description = "Maximum number of identifiers to return, from 1 to 1000",
+            example = "100"
+        )
+        int limit);
 }
\ No newline at end of file
@@ -4,12 +4,23 @@ import com.twitter.common.aspect.LoggableRequest;
 import com.twitter.common.dto.request.follow.FollowRequestDto;
 import com.twitter.common.dto.response.follow.FollowResponseDto;
 import com.twitter.common.dto.response.follow.FollowingResponseDto;
+import com.twitter.common.ratelimit.RateLimited;
 import com.twitter.dto.filter.FollowerFilter;
 import com.twitter.dto.filter.FollowingFilter;
+import com.twitter.dto.request.FollowBatchRequestDto;
+import com.twitter.dto.request.FollowStatusBatchRequestDto;
+import com.twitter.dto.response.FollowBatchItemResponseDto;
+import com.twitter.dto.response.FollowIdsPageResponseDto;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
 import com.twitter.dto.response.FollowerResponseDto;
+import com.twitter.service.FollowBatchService;
+import com.twitter.service.FollowExportService;
+import com.twitter.service.FollowIntersectionService;
 import com.twitter.service.FollowService;
+import com.twitter.service.FollowSuggestionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,9 +29,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,11 +50,16 @@ import java.util.UUID;
 public class FollowController implements FollowApi {
 
     private final FollowService followService;
+    private final FollowSuggestionService followSuggestionService;
+    private final FollowIntersectionService followIntersectionService;
+    private final FollowExportService followExportService;
+    private final FollowBatchService followBatchService;
 
     /**
      * @see FollowApi#createFollow
      */
     @LoggableRequest
+    @RateLimited(endpoint = "follows-create", key = "#request.followerId()")
     @PostMapping
     @Override
     public ResponseEntity<FollowResponseDto> createFollow(@RequestBody @Valid FollowRequestDto request) {
@@ -61,6 +80,28 @@ public class FollowController implements FollowApi {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * @see FollowApi#createFollows
+     */
+    @LoggableRequest(printRequestBody = false)
+    @RateLimited(endpoint = "follows-batch", key = "#request.follows().![followerId()]")
+    @PostMapping("/batch")
+    @Override
+    public ResponseEntity<List<FollowBatchItemResponseDto>> createFollows(@RequestBody @Valid FollowBatchRequestDto request) {
+        return ResponseEntity.ok(followBatchService.followAll(request.follows()));
+    }
+
+    /**
+     * @see FollowApi#deleteFollows
+     */
+    @LoggableRequest(printRequestBody = false)
+    @RateLimited(endpoint = "follows-batch", key = "#request.follows().![followerId()]")
+    @PostMapping("/batch/delete")
+    @Override
+    public ResponseEntity<List<FollowBatchItemResponseDto>> deleteFollows(@RequestBody @Valid FollowBatchRequestDto request) {
+        return ResponseEntity.ok(followBatchService.unfollowAll(request.follows()));
+    }
+
     /**
      * @see FollowApi#getFollowers
      */
@@ -74,6 +115,21 @@ public class FollowController implements FollowApi {
         return followService.getFollowers(userId, filter, pageable);
     }
 
+    /**
+     * @see FollowApi#exportFollowers
+     */
+    @LoggableRequest
+    @GetMapping(value = "/{userId}/followers/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportFollowers(
+        @PathVariable("userId") UUID userId,
+        @RequestParam(value = "after", required = false) UUID after) {
+        StreamingResponseBody body = output -> followExportService.exportFollowers(userId, after, output);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     /**
      * @see FollowApi#getFollowing
      */
@@ -100,6 +156,19 @@ public class FollowController implements FollowApi {
         return ResponseEntity.ok(status);
     }
 
+    /**
+     * @see FollowApi#getFollowStatuses
+     */
+    @LoggableRequest
+    @PostMapping("/{followerId}/status/batch")
+    @Override
+    public ResponseEntity<List<FollowStatusBatchItemResponseDto>> getFollowStatuses(
+        @PathVariable("followerId") UUID followerId,
+        @RequestBody @Valid FollowStatusBatchRequestDto request) {
+        List<FollowStatusBatchItemResponseDto> statuses = followService.getFollowStatuses(followerId, request.followingIds());
+        return ResponseEntity.ok(statuses);
+    }
+
     /**
      * @see FollowApi#getFollowStats
      */
@@ -111,4 +180,58 @@ public class FollowController implements FollowApi {
         FollowStatsResponseDto stats = followService.getFollowStats(userId);
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * @see FollowApi#getFollowingIds
+     */
+    @LoggableRequest
+    @GetMapping("/{userId}/following/ids")
+    @Override
+    public ResponseEntity<List<UUID>> getFollowingIds(
+        @PathVariable("userId") UUID userId) {
+        List<UUID> followingIds = followService.getFollowingIds(userId);
+        return ResponseEntity.ok(followingIds);
+    }
+
+    /**
+     * @see FollowApi#getFollowSuggestions
+     */
+    @LoggableRequest
+    @GetMapping("/{userId}/suggestions")
+    @Override
+    public ResponseEntity<List<FollowSuggestionResponseDto>> getFollowSuggestions(
+        @PathVariable("userId") UUID userId,
+        @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<FollowSuggestionResponseDto> suggestions = followSuggestionService.getSuggestions(userId, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * @see FollowApi#getMutualFollows
+     */
+    @LoggableRequest
+    @GetMapping("/{userId}/mutual")
+    @Override
+    public ResponseEntity<FollowIdsPageResponseDto> getMutualFollows(
+        @PathVariable("userId") UUID userId,
+        @RequestParam(value = "after", required = false) UUID after,
+        @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        FollowIdsPageResponseDto page = followIntersectionService.getMutualFollows(userId, after, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * @see FollowApi#getCommonFollowers
+     */
+    @LoggableRequest
+    @GetMapping("/{userId}/common-followers/{otherUserId}")
+    @Override
+    public ResponseEntity<FollowIdsPageResponseDto> getCommonFollowers(
+        @PathVariable("userId") UUID userId,
+        @PathVariable("otherUserId") UUID otherUserId,
+        @RequestParam(value = "after", required = false) UUID after,
+        @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        FollowIdsPageResponseDto page = followIntersectionService.getCommonFollowers(userId, otherUserId, after, limit);
+        return ResponseEntity.ok(page);
+    }
 }
\ No newline at end of file
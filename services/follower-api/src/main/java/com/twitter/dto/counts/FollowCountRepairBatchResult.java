@@ -0,0 +1,37 @@
+package com.twitter.dto.counts;
+
+import java.util.UUID;
+
+/**
+ * Result of reconciling the follow counters of one batch of users.
+ *
+ * @param checkedUsers  number of users whose counters were compared with the follows table
+ * @param repairedUsers number of users whose counters had drifted and were corrected
+ * @param lastUserId    identifier of the last checked user, used as the start of the next batch
+ * @author geron
+ * @version 1.0
+ */
+public record FollowCountRepairBatchResult(
+    int checkedUsers,
+    int repairedUsers,
+    UUID lastUserId
+) {
+
+    /**
+     * Creates a result for a batch with no users left to check.
+     *
+     * @return empty batch result
+     */
+    public static FollowCountRepairBatchResult empty() {
+        return new FollowCountRepairBatchResult(0, 0, null);
+    }
+
+    /**
+     * Checks whether the batch had no users to check.
+     *
+     * @return true if no users were checked
+     */
+    public boolean isEmpty() {
+        return checkedUsers == 0;
+    }
+}
\ No newline at end of file
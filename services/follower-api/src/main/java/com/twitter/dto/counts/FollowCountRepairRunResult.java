@@ -0,0 +1,21 @@
+package com.twitter.dto.counts;
+
+import java.time.Duration;
+
+/**
+ * Aggregated result of one follow counters repair run.
+ *
+ * @param createdCounters number of missing counter rows created for users with follow relationships
+ * @param checkedUsers    total number of users whose counters were checked
+ * @param repairedUsers   total number of users whose counters were corrected
+ * @param duration        wall-clock duration of the run
+ * @author geron
+ * @version 1.0
+ */
+public record FollowCountRepairRunResult(
+    int createdCounters,
+    long checkedUsers,
+    long repairedUsers,
+    Duration duration
+) {
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.twitter.dto.graph;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Follow relationship as it is loaded into the in-memory follow graph.
+ *
+ * @param followerId  the follower user identifier
+ * @param followingId the followed user identifier
+ * @param createdAt   when the relationship was created
+ * @author geron
+ * @version 1.0
+ */
+public record FollowGraphEdge(
+    UUID followerId,
+    UUID followingId,
+    LocalDateTime createdAt
+) {
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.twitter.dto.graph;
+
+import java.util.UUID;
+
+/**
+ * User suggested to follow together with the number of followed users that follow them.
+ *
+ * @param userId      the suggested user identifier
+ * @param mutualCount number of users followed by the requesting user that follow the suggested user
+ * @author geron
+ * @version 1.0
+ */
+public record FollowSuggestionCandidate(
+    UUID userId,
+    long mutualCount
+) {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.twitter.dto.graph;
+
+import java.util.UUID;
+
+/**
+ * Projection of a user suggested to follow as computed by the database fallback query.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowSuggestionCandidateView {
+
+    /**
+     * Returns the suggested user identifier.
+     *
+     * @return the suggested user identifier
+     */
+    UUID getUserId();
+
+    /**
+     * Returns the number of counted followed users that follow the suggested user.
+     *
+     * @return the number of followed users that follow the suggested user
+     */
+    long getMutualCount();
+}
\ No newline at end of file
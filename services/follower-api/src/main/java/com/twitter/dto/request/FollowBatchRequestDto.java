@@ -0,0 +1,55 @@
+package com.twitter.dto.request;
+
+import com.twitter.common.dto.request.follow.FollowRequestDto;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for creating or removing many follow relationships in one request.
+ *
+ * @param follows the relationships to create or remove (1-5000 items, order is preserved in the response)
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowBatchRequest",
+    description = "Data structure for bulk creation or removal of follow relationships",
+    example = """
+        {
+          "follows": [
+            {
+              "followerId": "123e4567-e89b-12d3-a456-426614174000",
+              "followingId": "987fcdeb-51a2-43d7-b123-426614174999"
+            },
+            {
+              "followerId": "123e4567-e89b-12d3-a456-426614174000",
+              "followingId": "456e7890-e89b-12d3-a456-426614174111"
+            }
+          ]
+        }
+        """
+)
+@Builder
+public record FollowBatchRequestDto(
+    @ArraySchema(
+        schema = @Schema(implementation = FollowRequestDto.class),
+        minItems = 1,
+        maxItems = FollowBatchRequestDto.MAX_FOLLOWS
+    )
+    @NotEmpty(message = "Follows cannot be empty")
+    @Size(max = FollowBatchRequestDto.MAX_FOLLOWS, message = "No more than 5000 follows can be processed at once")
+    List<@NotNull(message = "Follow cannot be null") @Valid FollowRequestDto> follows
+) {
+
+    /**
+     * Maximum number of follow relationships accepted in one request.
+     */
+    public static final int MAX_FOLLOWS = 5000;
+}
\ No newline at end of file
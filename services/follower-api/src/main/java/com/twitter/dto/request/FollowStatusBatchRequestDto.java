@@ -0,0 +1,48 @@
+package com.twitter.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for checking the follow status of several users in one request.
+ *
+ * @param followingIds the identifiers of the users to check (1-100 items, order is preserved in the response)
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowStatusBatchRequest",
+    description = "Data structure for checking whether a user follows each of the given users",
+    example = """
+        {
+          "followingIds": [
+            "987fcdeb-51a2-43d7-b123-426614174999",
+            "456e7890-e89b-12d3-a456-426614174111"
+          ]
+        }
+        """
+)
+@Builder
+public record FollowStatusBatchRequestDto(
+    @ArraySchema(
+        schema = @Schema(format = "uuid", example = "987fcdeb-51a2-43d7-b123-426614174999"),
+        minItems = 1,
+        maxItems = FollowStatusBatchRequestDto.MAX_FOLLOWING_IDS
+    )
+    @NotEmpty(message = "Following IDs cannot be empty")
+    @Size(max = FollowStatusBatchRequestDto.MAX_FOLLOWING_IDS, message = "No more than 100 following IDs can be checked at once")
+    List<@NotNull(message = "Following ID cannot be null") UUID> followingIds
+) {
+
+    /**
+     * Maximum number of user identifiers accepted in one request.
+     */
+    public static final int MAX_FOLLOWING_IDS = 100;
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.twitter.dto.response;
+
+import com.twitter.enums.FollowBatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for one item of a bulk follow or unfollow operation.
+ *
+ * @param followerId  the follower user identifier of the item
+ * @param followingId the followed user identifier of the item
+ * @param status      the result of the item
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowBatchItemResponse",
+    description = "Result of a bulk follow or unfollow operation for one requested relationship",
+    example = """
+        {
+          "followerId": "123e4567-e89b-12d3-a456-426614174000",
+          "followingId": "987fcdeb-51a2-43d7-b123-426614174999",
+          "status": "CREATED"
+        }
+        """
+)
+@Builder
+public record FollowBatchItemResponseDto(
+    @Schema(
+        description = "ID of the follower of the requested relationship",
+        example = "123e4567-e89b-12d3-a456-426614174000",
+        format = "uuid"
+    )
+    UUID followerId,
+
+    @Schema(
+        description = "ID of the followed user of the requested relationship",
+        example = "987fcdeb-51a2-43d7-b123-426614174999",
+        format = "uuid"
+    )
+    UUID followingId,
+
+    @Schema(
+        description = "Result of the requested relationship",
+        example = "CREATED"
+    )
+    FollowBatchItemStatus status
+) {
+}
\ No newline at end of file
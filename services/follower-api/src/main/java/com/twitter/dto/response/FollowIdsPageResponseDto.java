@@ -0,0 +1,44 @@
+package com.twitter.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a page of user identifiers with a keyset cursor.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowIdsPageResponse",
+    description = "Page of user identifiers ordered by identifier, with a cursor for the next page",
+    example = """
+        {
+          "ids": [
+            "456e7890-e89b-12d3-a456-426614174111",
+            "987fcdeb-51a2-43d7-b123-426614174999"
+          ],
+          "nextCursor": "987fcdeb-51a2-43d7-b123-426614174999"
+        }
+        """
+)
+@Builder
+public record FollowIdsPageResponseDto(
+    @Schema(
+        description = "User identifiers in ascending order",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    List<UUID> ids,
+
+    @Schema(
+        description = "Value to pass as 'after' to get the next page, or null if this is the last page",
+        example = "987fcdeb-51a2-43d7-b123-426614174999",
+        format = "uuid",
+        nullable = true
+    )
+    UUID nextCursor
+) {
+}
\ No newline at end of file
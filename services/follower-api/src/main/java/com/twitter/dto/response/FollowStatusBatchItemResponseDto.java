@@ -0,0 +1,54 @@
+package com.twitter.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for one item of a batch follow status check.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowStatusBatchItemResponse",
+    description = "Follow relationship status for one of the users checked in a batch",
+    example = """
+        {
+          "followingId": "987fcdeb-51a2-43d7-b123-426614174999",
+          "isFollowing": true,
+          "createdAt": "2025-01-20T15:30:00Z"
+        }
+        """
+)
+@Builder
+public record FollowStatusBatchItemResponseDto(
+    @Schema(
+        description = "ID of the checked user (the following)",
+        example = "987fcdeb-51a2-43d7-b123-426614174999",
+        format = "uuid",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    UUID followingId,
+
+    @Schema(
+        description = "Flag indicating whether the follow relationship exists",
+        example = "true",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    boolean isFollowing,
+
+    @Schema(
+        description = "Timestamp when the follow relationship was created (null if relationship does not exist)",
+        example = "2025-01-20T15:30:00Z",
+        format = "date-time",
+        nullable = true,
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+    LocalDateTime createdAt
+) {
+}
\ No newline at end of file
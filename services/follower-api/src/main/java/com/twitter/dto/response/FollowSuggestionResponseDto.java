@@ -0,0 +1,49 @@
+package com.twitter.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for a suggested user to follow.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowSuggestionResponse",
+    description = "User suggested to follow because users the requester follows follow them",
+    example = """
+        {
+          "id": "987fcdeb-51a2-43d7-b123-426614174999",
+          "login": "jane_doe",
+          "mutualFollowsCount": 12
+        }
+        """
+)
+@Builder
+public record FollowSuggestionResponseDto(
+    @Schema(
+        description = "Unique identifier of the suggested user",
+        example = "987fcdeb-51a2-43d7-b123-426614174999",
+        format = "uuid"
+    )
+    UUID id,
+
+    @Schema(
+        description = "Login name of the suggested user",
+        example = "jane_doe",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    String login,
+
+    @Schema(
+        description = "Number of users followed by the requester that follow the suggested user",
+        example = "12",
+        minimum = "1",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    long mutualFollowsCount
+) {
+}
\ No newline at end of file
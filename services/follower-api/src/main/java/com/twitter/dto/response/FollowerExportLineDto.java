@@ -0,0 +1,42 @@
+package com.twitter.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One line of a follower list export.
+ *
+ * @param followerId the ID of the follower
+ * @param createdAt  when the follower started following
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowerExportLine",
+    description = "One follower of the exported user, written as a single line of NDJSON",
+    example = """
+        {"followerId":"123e4567-e89b-12d3-a456-426614174000","createdAt":"2025-01-20T15:30:00Z"}
+        """
+)
+public record FollowerExportLineDto(
+    @Schema(
+        description = "ID of the follower",
+        example = "123e4567-e89b-12d3-a456-426614174000",
+        format = "uuid",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    UUID followerId,
+
+    @Schema(
+        description = "Timestamp when the follow relationship was created",
+        example = "2025-01-20T15:30:00Z",
+        format = "date-time",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+    LocalDateTime createdAt
+) {
+}
\ No newline at end of file
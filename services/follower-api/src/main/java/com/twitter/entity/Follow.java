@@ -31,7 +31,8 @@ import java.util.UUID;
     uniqueConstraints = @UniqueConstraint(
         name = "follows_unique_follower_following",
         columnNames = {"follower_id", "following_id"}
-    )
+    ),
+    indexes = @Index(name = "idx_follows_following_id_follower_id", columnList = "following_id, follower_id")
 )
 @Data
 @Builder
@@ -0,0 +1,58 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing denormalized follow counters of a user.
+ * <p>
+ * Maps to the 'follow_counts' table. The counters are adjusted in the same transaction
+ * as every follow and unfollow, so reading the statistics of a user is a single primary key
+ * lookup instead of counting the rows of the 'follows' table. A background job reconciles
+ * the counters with the 'follows' table to repair any drift.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "follow_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowCount {
+
+    /**
+     * ID of the user the counters belong to.
+     */
+    @Id
+    @Column(name = "user_id", columnDefinition = "UUID")
+    private UUID userId;
+
+    /**
+     * Number of users following this user.
+     */
+    @Column(name = "followers_count", nullable = false)
+    private long followersCount;
+
+    /**
+     * Number of users this user is following.
+     */
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+
+    /**
+     * Timestamp when the counters were last changed.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
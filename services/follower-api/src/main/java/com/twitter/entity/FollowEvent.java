@@ -0,0 +1,84 @@
+package com.twitter.entity;
+
+import com.twitter.common.enums.follow.FollowEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing a follow relationship change waiting in the outbox.
+ * <p>
+ * Maps to the 'follow_events' table. An event is written in the same transaction as the change
+ * of the 'follows' table, so it exists if and only if the change was committed. The event relay
+ * assigns committed events a delivery position in identifier order and delivers them to every
+ * subscriber in position order; events delivered to all subscribers are deleted after the
+ * retention period.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "follow_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowEvent {
+
+    /**
+     * Sequential identifier of the event, assigned when the change is made.
+     */
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 20, nullable = false)
+    private FollowEventType eventType;
+
+    /**
+     * ID of the follower of the changed relationship.
+     */
+    @Column(name = "follower_id", columnDefinition = "UUID", nullable = false)
+    private UUID followerId;
+
+    /**
+     * ID of the followed user of the changed relationship.
+     */
+    @Column(name = "following_id", columnDefinition = "UUID", nullable = false)
+    private UUID followingId;
+
+    /**
+     * Timestamp when the change happened.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Delivery position of the event, null until the relay has sequenced it.
+     * <p>
+     * Unlike identifiers, positions are assigned only to committed events, so a subscriber that has
+     * received every event up to a position never misses an event committed later with a lower
+     * identifier.
+     */
+    @Column(name = "position")
+    private Long position;
+}
\ No newline at end of file
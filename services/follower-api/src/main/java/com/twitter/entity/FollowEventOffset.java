@@ -0,0 +1,57 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing the delivery progress of one follow event subscriber.
+ * <p>
+ * Maps to the 'follow_event_offsets' table. Every subscriber advances its own high-water mark over
+ * the positions of the 'follow_events' table, so a subscriber that keeps failing does not hold back
+ * the others. A relay claims a subscriber for a limited time before delivering to it, which keeps
+ * relays of several service instances from delivering the same batch to one subscriber in parallel.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "follow_event_offsets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowEventOffset {
+
+    /**
+     * Subscriber URL, or {@code application} for in-process listeners.
+     */
+    @Id
+    @Column(name = "subscriber", length = 2048)
+    private String subscriber;
+
+    /**
+     * Position of the last event delivered to the subscriber.
+     */
+    @Column(name = "last_position", nullable = false)
+    private long lastPosition;
+
+    /**
+     * Moment until which a relay is delivering to the subscriber, null when unclaimed.
+     */
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    /**
+     * Timestamp when the offset was last changed.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.twitter.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enumeration of per-item results of a bulk follow or unfollow operation.
+ *
+ * <p>The available statuses:</p>
+ * - <strong>CREATED</strong> - The follow relationship was created
+ * - <strong>ALREADY_FOLLOWING</strong> - The relationship already existed or appeared earlier in the same batch
+ * - <strong>SELF_FOLLOW</strong> - The follower and the followed user are the same user
+ * - <strong>USER_NOT_FOUND</strong> - The follower or the followed user does not exist
+ * - <strong>DELETED</strong> - The follow relationship was removed
+ * - <strong>NOT_FOLLOWING</strong> - There was no relationship to remove
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowBatchItemStatus",
+    description = "Result of a single item of a bulk follow or unfollow operation",
+    example = "CREATED"
+)
+public enum FollowBatchItemStatus {
+
+    /**
+     * The follow relationship was created.
+     */
+    CREATED,
+
+    /**
+     * The follow relationship already existed.
+     */
+    ALREADY_FOLLOWING,
+
+    /**
+     * The user attempted to follow themselves.
+     */
+    SELF_FOLLOW,
+
+    /**
+     * The follower or the followed user does not exist.
+     */
+    USER_NOT_FOUND,
+
+    /**
+     * The follow relationship was removed.
+     */
+    DELETED,
+
+    /**
+     * The follow relationship did not exist.
+     */
+    NOT_FOLLOWING
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.twitter.enums;
+
+/**
+ * Lifecycle state of the in-memory follow graph.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public enum FollowGraphState {
+
+    /**
+     * The graph is turned off by configuration; all reads go to the database.
+     */
+    DISABLED,
+
+    /**
+     * The graph is being loaded from the follows table; reads go to the database.
+     */
+    LOADING,
+
+    /**
+     * The graph is loaded and answers reads from memory.
+     */
+    SERVING,
+
+    /**
+     * The graph outgrew its memory budget and was released; reads go to the database.
+     */
+    OVER_BUDGET,
+
+    /**
+     * Loading the graph failed; reads go to the database.
+     */
+    LOAD_FAILED
+}
\ No newline at end of file
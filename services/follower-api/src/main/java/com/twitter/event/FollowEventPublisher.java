@@ -0,0 +1,74 @@
+package com.twitter.event;
+
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.config.FollowEventProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Delivers batches of follow events to their subscribers.
+ * <p>
+ * Every URL in {@code app.follow-events.subscribers} is a subscriber that receives batches as a JSON
+ * array with an HTTP POST. The in-process {@link #APPLICATION_SUBSCRIBER} receives each event as a
+ * Spring application event, so components of this service can react with an
+ * {@code @EventListener(FollowEventDto.class)}. Any failure is propagated to the caller, which
+ * retries the batch for that subscriber only; subscribers may therefore receive an event more than
+ * once.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowEventPublisher {
+
+    private final RestClient followEventRestClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final FollowEventProperties properties;
+
+    /**
+     * Name of the subscriber that stands for the in-process application event listeners.
+     */
+    public static final String APPLICATION_SUBSCRIBER = "application";
+
+    /**
+     * Returns the names of all subscribers: the configured URLs followed by
+     * {@link #APPLICATION_SUBSCRIBER}.
+     *
+     * @return the subscriber names
+     */
+    public List<String> subscribers() {
+        return Stream.concat(properties.subscribers().stream().map(URI::toString), Stream.of(APPLICATION_SUBSCRIBER))
+            .toList();
+    }
+
+    /**
+     * Delivers a batch of events to one subscriber.
+     *
+     * @param subscriber the subscriber name returned by {@link #subscribers()}
+     * @param events     the events in delivery order
+     */
+    public void publish(String subscriber, List<FollowEventDto> events) {
+        if (APPLICATION_SUBSCRIBER.equals(subscriber)) {
+            events.forEach(applicationEventPublisher::publishEvent);
+            return;
+        }
+
+        log.debug("Sending {} follow events to subscriber {}", events.size(), subscriber);
+        followEventRestClient.post()
+            .uri(URI.create(subscriber))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(events)
+            .retrieve()
+            .toBodilessEntity();
+    }
+}
\ No newline at end of file
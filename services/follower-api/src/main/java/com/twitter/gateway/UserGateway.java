@@ -1,14 +1,25 @@
 package com.twitter.gateway;
 
 import com.twitter.client.UsersApiClient;
+import com.twitter.common.dto.request.user.UserExistsBatchRequestDto;
+import com.twitter.common.dto.request.user.UserLoginBatchRequestDto;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
 import com.twitter.common.dto.response.user.UserResponseDto;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,9 +37,13 @@ public class UserGateway {
 
     /**
      * Checks if a user exists by their identifier.
+     * <p>
+     * A failed call is not reported as "user does not exist": validation would otherwise reject the
+     * requests of every user while users-api is unavailable.
      *
      * @param userId the user identifier to check
-     * @return true if the user exists, false otherwise (including when userId is null or service is unavailable)
+     * @return true if the user exists, false otherwise (including when userId is null)
+     * @throws ResponseStatusException with status 503 if users-api cannot be reached or fails
      */
     public boolean existsUser(UUID userId) {
         if (userId == null) {
@@ -41,10 +56,75 @@ public class UserGateway {
             boolean exists = response.exists();
             log.debug("User {} exists: {}", userId, exists);
             return exists;
-        } catch (Exception ex) {
+        } catch (FeignException.NotFound ex) {
             log.debug("User {} does not exist: {}", userId, ex.getMessage());
             return false;
+        } catch (Exception ex) {
+            log.warn("Failed to check existence of user {}: {}", userId, ex.getMessage());
+            throw new ResponseStatusException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "User existence could not be verified because users-api is unavailable",
+                ex
+            );
+        }
+    }
+
+    /**
+     * Determines which of the given users exist, checking up to
+     * {@link UserExistsBatchRequestDto#MAX_USER_IDS} users per request to users-api.
+     * <p>
+     * Unlike {@link #existsUser}, a failed request is not treated as "user does not exist": bulk
+     * callers would otherwise reject every item of a batch during a users-api outage.
+     *
+     * @param userIds the user identifiers to check
+     * @return the identifiers of the existing users
+     * @throws ResponseStatusException with status 503 if users-api cannot be reached or fails
+     */
+    public Set<UUID> findExistingUserIds(Collection<UUID> userIds) {
+        List<UUID> uniqueIds = List.copyOf(new HashSet<>(userIds));
+        Set<UUID> existingIds = new HashSet<>();
+        for (int from = 0; from < uniqueIds.size(); from += UserExistsBatchRequestDto.MAX_USER_IDS) {
+            List<UUID> chunk = uniqueIds.subList(from, Math.min(from + UserExistsBatchRequestDto.MAX_USER_IDS, uniqueIds.size()));
+            try {
+                existingIds.addAll(usersApiClient.existsUsers(new UserExistsBatchRequestDto(chunk)).existingIds());
+            } catch (Exception ex) {
+                log.warn("Failed to check existence of {} users: {}", chunk.size(), ex.getMessage());
+                throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "User existence could not be verified because users-api is unavailable",
+                    ex
+                );
+            }
         }
+
+        log.debug("{} of {} users exist", existingIds.size(), uniqueIds.size());
+        return existingIds;
+    }
+
+    /**
+     * Retrieves the logins of the given users, resolving up to
+     * {@link UserLoginBatchRequestDto#MAX_USER_IDS} users per request to users-api.
+     * <p>
+     * Like {@link #getUserLogin}, a failed request is not an error: the logins of that chunk are
+     * simply absent, so callers display them as unknown instead of failing the whole list.
+     *
+     * @param userIds the user identifiers
+     * @return the logins of the resolved users keyed by user identifier
+     */
+    public Map<UUID, String> getUserLogins(Collection<UUID> userIds) {
+        List<UUID> uniqueIds = List.copyOf(new HashSet<>(userIds));
+        Map<UUID, String> logins = new HashMap<>();
+        for (int from = 0; from < uniqueIds.size(); from += UserLoginBatchRequestDto.MAX_USER_IDS) {
+            List<UUID> chunk = uniqueIds.subList(from, Math.min(from + UserLoginBatchRequestDto.MAX_USER_IDS, uniqueIds.size()));
+            try {
+                logins.putAll(usersApiClient.getUserLogins(new UserLoginBatchRequestDto(chunk)).logins());
+            } catch (Exception ex) {
+                log.debug("Failed to get logins of {} users: {}", chunk.size(), ex.getMessage());
+            }
+        }
+
+        log.debug("Retrieved logins of {} of {} users", logins.size(), uniqueIds.size());
+        return logins;
     }
 
     /**
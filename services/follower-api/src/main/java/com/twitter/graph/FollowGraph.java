@@ -0,0 +1,692 @@
+package com.twitter.graph;
+
+import com.twitter.common.transaction.AfterCommit;
+import com.twitter.config.FollowGraphProperties;
+import com.twitter.dto.graph.FollowGraphEdge;
+import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
+import com.twitter.dto.response.FollowStatusResponseDto;
+import com.twitter.enums.FollowGraphState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * In-memory adjacency index of all follow relationships.
+ * <p>
+ * User identifiers are mapped to dense int identifiers, and every user keeps the users they follow
+ * and the users following them as sorted int arrays, so a follow check is a binary search and the
+ * counts are array lengths. Creation times of the relationships are kept next to the following
+ * arrays to answer follow status requests without the database.
+ * <p>
+ * The graph is loaded once from the follows table and then kept current by the follow and unfollow
+ * operations, which are applied after their transaction commits. Changes committed while the graph
+ * is loading are queued and replayed on top of the loaded snapshot. Read methods return an empty
+ * {@link Optional} whenever the graph is not serving (disabled, loading, failed or released because
+ * its estimated size exceeded {@code app.follow-graph.memory-budget}), and the caller falls back
+ * to the database.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class FollowGraph {
+
+    /**
+     * Estimated heap cost of a user: the UUID, its hash map entry, the dense id slot and three array headers.
+     */
+    static final long BYTES_PER_USER = 160;
+
+    /**
+     * Estimated heap cost of a relationship: one int in each direction and the creation time.
+     */
+    static final long BYTES_PER_EDGE = 16;
+
+    private static final int[] NO_USERS = new int[0];
+    private static final long[] NO_TIMESTAMPS = new long[0];
+    private static final long UNKNOWN_TIME = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<PendingChange> pendingChanges = new ArrayList<>();
+    private final long memoryBudgetBytes;
+    private final Counter servedReadsCounter;
+    private final Counter unavailableReadsCounter;
+    private final Timer loadTimer;
+    private volatile FollowGraphState state;
+    private final AtomicReference<Adjacency> adjacency = new AtomicReference<>();
+
+    public FollowGraph(FollowGraphProperties properties, MeterRegistry meterRegistry) {
+        this.memoryBudgetBytes = properties.memoryBudget().toBytes();
+        this.state = properties.enabled() ? FollowGraphState.LOADING : FollowGraphState.DISABLED;
+        this.servedReadsCounter = readsCounter(meterRegistry, "served");
+        this.unavailableReadsCounter = readsCounter(meterRegistry, "unavailable");
+        this.loadTimer = Timer.builder("follow.graph.load")
+            .description("Duration of loading the follow graph from the database")
+            .register(meterRegistry);
+        Gauge.builder("follow.graph.users", adjacency, current -> currentSize(current, Adjacency::userCount))
+            .description("Number of users held in the follow graph")
+            .register(meterRegistry);
+        Gauge.builder("follow.graph.edges", adjacency, current -> currentSize(current, Adjacency::edgeCount))
+            .description("Number of follow relationships held in the follow graph")
+            .register(meterRegistry);
+        Gauge.builder("follow.graph.memory", adjacency, current -> currentSize(current, Adjacency::estimatedBytes))
+            .description("Estimated heap occupied by the follow graph")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("follow.graph.serving", adjacency, current -> current.get() != null ? 1 : 0)
+            .description("Whether reads are answered from the follow graph")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current lifecycle state of the graph.
+     *
+     * @return the graph state
+     */
+    public FollowGraphState state() {
+        return state;
+    }
+
+    /**
+     * Loads the graph from the given follow relationships and starts serving reads.
+     * <p>
+     * The stream is consumed without holding the lock; changes committed in the meantime are queued
+     * and replayed once the stream is exhausted. Loading stops as soon as the estimated size exceeds
+     * the memory budget. Failures are logged and leave the graph in {@link FollowGraphState#LOAD_FAILED}.
+     *
+     * @param edges supplier opening the stream of all follow relationships
+     */
+    public void load(Supplier<Stream<FollowGraphEdge>> edges) {
+        if (state == FollowGraphState.DISABLED) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = FollowGraphState.LOADING;
+            adjacency.set(null);
+            pendingChanges.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.nanoTime();
+        Adjacency loaded;
+        try (Stream<FollowGraphEdge> stream = edges.get()) {
+            loaded = Adjacency.load(stream.iterator(), memoryBudgetBytes);
+        } catch (RuntimeException ex) {
+            log.error("Failed to load the follow graph, reads fall back to the database: {}", ex.getMessage(), ex);
+            finishLoad(null, FollowGraphState.LOAD_FAILED);
+            return;
+        } finally {
+            loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (loaded == null) {
+            log.warn("Follow graph exceeds the memory budget of {} bytes, reads fall back to the database",
+                memoryBudgetBytes);
+            finishLoad(null, FollowGraphState.OVER_BUDGET);
+            return;
+        }
+
+        finishLoad(loaded, FollowGraphState.SERVING);
+        if (state != FollowGraphState.SERVING) {
+            return;
+        }
+        log.info("Follow graph loaded: users={}, edges={}, estimatedBytes={}, duration={}ms",
+            loaded.userCount(), loaded.edgeCount(), loaded.estimatedBytes(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * Adds a follow relationship to the graph once the current transaction commits.
+     *
+     * @param followerId  the follower user identifier
+     * @param followingId the followed user identifier
+     * @param createdAt   when the relationship was created
+     */
+    public void onFollow(UUID followerId, UUID followingId, LocalDateTime createdAt) {
+        if (state == FollowGraphState.DISABLED) {
+            return;
+        }
+
+        AfterCommit.run(() -> apply(new PendingChange(followerId, followingId, toMicros(createdAt), true)));
+    }
+
+    /**
+     * Removes a follow relationship from the graph once the current transaction commits.
+     *
+     * @param followerId  the follower user identifier
+     * @param followingId the followed user identifier
+     */
+    public void onUnfollow(UUID followerId, UUID followingId) {
+        if (state == FollowGraphState.DISABLED) {
+            return;
+        }
+
+        AfterCommit.run(() -> apply(new PendingChange(followerId, followingId, UNKNOWN_TIME, false)));
+    }
+
+    /**
+     * Returns the follow status between two users from memory.
+     *
+     * @param followerId  the follower user identifier
+     * @param followingId the followed user identifier
+     * @return the follow status, or empty if the graph is not serving
+     */
+    public Optional<FollowStatusResponseDto> findFollowStatus(UUID followerId, UUID followingId) {
+        lock.readLock().lock();
+        try {
+            if (!isServing()) {
+                return Optional.empty();
+            }
+            Adjacency graph = adjacency.get();
+
+            int follower = graph.denseId(followerId);
+            int following = graph.denseId(followingId);
+            int position = follower < 0 || following < 0
+                ? -1
+                : Arrays.binarySearch(graph.following[follower], following);
+            return Optional.of(FollowStatusResponseDto.builder()
+                .isFollowing(position >= 0)
+                .createdAt(position >= 0 ? fromMicros(graph.followedAt[follower][position]) : null)
+                .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the follow status between a user and each of the given users from memory.
+     *
+     * @param followerId   the follower user identifier
+     * @param followingIds the followed user identifiers
+     * @return one status per requested identifier in the request order, or empty if the graph is not serving
+     */
+    public Optional<List<FollowStatusBatchItemResponseDto>> findFollowStatuses(UUID followerId, List<UUID> followingIds) {
+        lock.readLock().lock();
+        try {
+            if (!isServing()) {
+                return Optional.empty();
+            }
+            Adjacency graph = adjacency.get();
+
+            int follower = graph.denseId(followerId);
+            List<FollowStatusBatchItemResponseDto> statuses = new ArrayList<>(followingIds.size());
+            for (UUID followingId : followingIds) {
+                int following = graph.denseId(followingId);
+                int position = follower < 0 || following < 0
+                    ? -1
+                    : Arrays.binarySearch(graph.following[follower], following);
+                statuses.add(FollowStatusBatchItemResponseDto.builder()
+                    .followingId(followingId)
+                    .isFollowing(position >= 0)
+                    .createdAt(position >= 0 ? fromMicros(graph.followedAt[follower][position]) : null)
+                    .build());
+            }
+            return Optional.of(statuses);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the follower and following counts of a user from memory.
+     *
+     * @param userId the user identifier
+     * @return the follow statistics, or empty if the graph is not serving
+     */
+    public Optional<FollowStatsResponseDto> findFollowStats(UUID userId) {
+        lock.readLock().lock();
+        try {
+            if (!isServing()) {
+                return Optional.empty();
+            }
+            Adjacency graph = adjacency.get();
+
+            int user = graph.denseId(userId);
+            return Optional.of(FollowStatsResponseDto.builder()
+                .followersCount(user < 0 ? 0 : graph.followers[user].length)
+                .followingCount(user < 0 ? 0 : graph.following[user].length)
+                .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the identifiers of all users the given user follows from memory.
+     *
+     * @param userId the follower user identifier
+     * @return identifiers of the followed users in no particular order, or empty if the graph is not serving
+     */
+    public Optional<List<UUID>> findFollowingIds(UUID userId) {
+        lock.readLock().lock();
+        try {
+            if (!isServing()) {
+                return Optional.empty();
+            }
+            Adjacency graph = adjacency.get();
+
+            int user = graph.denseId(userId);
+            if (user < 0) {
+                return Optional.of(List.of());
+            }
+            int[] following = graph.following[user];
+            UUID[] followingIds = new UUID[following.length];
+            for (int i = 0; i < following.length; i++) {
+                followingIds[i] = graph.users[following[i]];
+            }
+            return Optional.of(Arrays.asList(followingIds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a read against the dense-id view of the graph.
+     * <p>
+     * The graph cannot change while the reader runs, so the reader may hand the view to other
+     * threads as long as it waits for them before returning.
+     *
+     * @param reader function computing the result from the graph, or null to decline the read
+     * @param <T>    type of the result
+     * @return the result of the reader, or empty if the graph is not serving or the reader declined
+     */
+    public <T> Optional<T> read(Function<FollowGraphView, T> reader) {
+        lock.readLock().lock();
+        try {
+            if (!isServing()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(reader.apply(adjacency.get()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether reads can be answered and counts the read. Must be called under the read lock.
+     *
+     * @return true if the graph is serving
+     */
+    private boolean isServing() {
+        if (state != FollowGraphState.SERVING) {
+            unavailableReadsCounter.increment();
+            return false;
+        }
+        servedReadsCounter.increment();
+        return true;
+    }
+
+    /**
+     * Publishes the loaded adjacency after replaying the changes queued during the load.
+     *
+     * @param loaded    the loaded adjacency, or null if loading did not succeed
+     * @param nextState the state to switch to
+     */
+    private void finishLoad(Adjacency loaded, FollowGraphState nextState) {
+        lock.writeLock().lock();
+        try {
+            if (loaded != null) {
+                pendingChanges.forEach(change -> change.applyTo(loaded));
+            }
+            pendingChanges.clear();
+            if (loaded != null && loaded.estimatedBytes() > memoryBudgetBytes) {
+                log.warn("Follow graph exceeds the memory budget of {} bytes, reads fall back to the database",
+                    memoryBudgetBytes);
+                nextState = FollowGraphState.OVER_BUDGET;
+            }
+            adjacency.set(nextState == FollowGraphState.SERVING ? loaded : null);
+            state = nextState;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a committed change to the graph or queues it while the graph is loading.
+     *
+     * @param change the committed change
+     */
+    private void apply(PendingChange change) {
+        lock.writeLock().lock();
+        try {
+            switch (state) {
+                case LOADING -> pendingChanges.add(change);
+                case SERVING -> {
+                    Adjacency current = adjacency.get();
+                    change.applyTo(current);
+                    if (current.estimatedBytes() > memoryBudgetBytes) {
+                        log.warn("Follow graph grew over the memory budget of {} bytes and was released, "
+                            + "reads fall back to the database", memoryBudgetBytes);
+                        adjacency.set(null);
+                        state = FollowGraphState.OVER_BUDGET;
+                    }
+                }
+                default -> {
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double currentSize(AtomicReference<Adjacency> adjacency, ToLongFunction<Adjacency> size) {
+        Adjacency current = adjacency.get();
+        return current == null ? 0 : size.applyAsLong(current);
+    }
+
+    private static long toMicros(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return UNKNOWN_TIME;
+        }
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == UNKNOWN_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static Counter readsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("follow.graph.reads")
+            .description("Number of follow graph reads, by whether the graph could answer them")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Follow or unfollow committed while the graph was loading.
+     *
+     * @param followerId      the follower user identifier
+     * @param followingId     the followed user identifier
+     * @param createdAtMicros creation time of a new relationship in microseconds
+     * @param follow          true for a follow, false for an unfollow
+     */
+    private record PendingChange(UUID followerId, UUID followingId, long createdAtMicros, boolean follow) {
+
+        void applyTo(Adjacency adjacency) {
+            if (follow) {
+                adjacency.add(followerId, followingId, createdAtMicros);
+            } else {
+                adjacency.remove(followerId, followingId);
+            }
+        }
+    }
+
+    /**
+     * Dense-id adjacency lists of the graph. Not thread-safe; guarded by the graph lock.
+     */
+    private static final class Adjacency implements FollowGraphView {
+
+        private final Map<UUID, Integer> denseIds;
+        private UUID[] users;
+        private int[][] following;
+        private long[][] followedAt;
+        private int[][] followers;
+        private int userCount;
+        private long edgeCount;
+
+        private Adjacency(int capacity) {
+            this.denseIds = new HashMap<>(capacity * 4 / 3 + 1);
+            this.users = new UUID[capacity];
+            this.following = new int[capacity][];
+            this.followedAt = new long[capacity][];
+            this.followers = new int[capacity][];
+        }
+
+        /**
+         * Loads the adjacency lists from a stream of relationships.
+         * <p>
+         * Relationships are first buffered in flat primitive arrays, then every user's arrays are
+         * allocated with their exact size, filled and sorted.
+         *
+         * @param edges             all follow relationships
+         * @param memoryBudgetBytes the memory budget of the graph
+         * @return the loaded adjacency, or null if it does not fit into the budget
+         */
+        static Adjacency load(Iterator<FollowGraphEdge> edges, long memoryBudgetBytes) {
+            Adjacency adjacency = new Adjacency(INITIAL_CAPACITY);
+            int[] sources = new int[INITIAL_CAPACITY];
+            int[] targets = new int[INITIAL_CAPACITY];
+            long[] times = new long[INITIAL_CAPACITY];
+            int count = 0;
+
+            while (edges.hasNext()) {
+                FollowGraphEdge edge = edges.next();
+                if (count == sources.length) {
+                    int capacity = sources.length * 2;
+                    sources = Arrays.copyOf(sources, capacity);
+                    targets = Arrays.copyOf(targets, capacity);
+                    times = Arrays.copyOf(times, capacity);
+                }
+                sources[count] = adjacency.denseIdOrCreate(edge.followerId());
+                targets[count] = adjacency.denseIdOrCreate(edge.followingId());
+                times[count] = toMicros(edge.createdAt());
+                count++;
+
+                if (adjacency.userCount * BYTES_PER_USER + count * BYTES_PER_EDGE > memoryBudgetBytes) {
+                    return null;
+                }
+            }
+
+            adjacency.index(sources, targets, times, count);
+            return adjacency;
+        }
+
+        int userCount() {
+            return userCount;
+        }
+
+        long edgeCount() {
+            return edgeCount;
+        }
+
+        long estimatedBytes() {
+            return userCount * BYTES_PER_USER + edgeCount * BYTES_PER_EDGE;
+        }
+
+        @Override
+        public int denseId(UUID userId) {
+            Integer denseId = denseIds.get(userId);
+            return denseId == null ? -1 : denseId;
+        }
+
+        @Override
+        public UUID userId(int denseId) {
+            return users[denseId];
+        }
+
+        @Override
+        public int[] following(int denseId) {
+            return following[denseId];
+        }
+
+        @Override
+        public int[] followers(int denseId) {
+            return followers[denseId];
+        }
+
+        void add(UUID followerId, UUID followingId, long createdAtMicros) {
+            int follower = denseIdOrCreate(followerId);
+            int followed = denseIdOrCreate(followingId);
+            int position = Arrays.binarySearch(following[follower], followed);
+            if (position >= 0) {
+                return;
+            }
+
+            int insertAt = -position - 1;
+            following[follower] = insert(following[follower], insertAt, followed);
+            followedAt[follower] = insert(followedAt[follower], insertAt, createdAtMicros);
+            int followerAt = -Arrays.binarySearch(followers[followed], follower) - 1;
+            followers[followed] = insert(followers[followed], followerAt, follower);
+            edgeCount++;
+        }
+
+        void remove(UUID followerId, UUID followingId) {
+            int follower = denseId(followerId);
+            int followed = denseId(followingId);
+            if (follower < 0 || followed < 0) {
+                return;
+            }
+            int position = Arrays.binarySearch(following[follower], followed);
+            if (position < 0) {
+                return;
+            }
+
+            following[follower] = delete(following[follower], position);
+            followedAt[follower] = delete(followedAt[follower], position);
+            int followerAt = Arrays.binarySearch(followers[followed], follower);
+            followers[followed] = delete(followers[followed], followerAt);
+            edgeCount--;
+        }
+
+        private int denseIdOrCreate(UUID userId) {
+            Integer existing = denseIds.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (userCount == users.length) {
+                int capacity = users.length * 2;
+                users = Arrays.copyOf(users, capacity);
+                following = Arrays.copyOf(following, capacity);
+                followedAt = Arrays.copyOf(followedAt, capacity);
+                followers = Arrays.copyOf(followers, capacity);
+            }
+            int denseId = userCount++;
+            users[denseId] = userId;
+            following[denseId] = NO_USERS;
+            followedAt[denseId] = NO_TIMESTAMPS;
+            followers[denseId] = NO_USERS;
+            denseIds.put(userId, denseId);
+            return denseId;
+        }
+
+        private void index(int[] sources, int[] targets, long[] times, int count) {
+            int[] outDegree = new int[userCount];
+            int[] inDegree = new int[userCount];
+            for (int i = 0; i < count; i++) {
+                outDegree[sources[i]]++;
+                inDegree[targets[i]]++;
+            }
+            for (int user = 0; user < userCount; user++) {
+                if (outDegree[user] > 0) {
+                    following[user] = new int[outDegree[user]];
+                    followedAt[user] = new long[outDegree[user]];
+                }
+                if (inDegree[user] > 0) {
+                    followers[user] = new int[inDegree[user]];
+                }
+            }
+
+            Arrays.fill(outDegree, 0);
+            Arrays.fill(inDegree, 0);
+            for (int i = 0; i < count; i++) {
+                int source = sources[i];
+                int target = targets[i];
+                int position = outDegree[source]++;
+                following[source][position] = target;
+                followedAt[source][position] = times[i];
+                followers[target][inDegree[target]++] = source;
+            }
+
+            for (int user = 0; user < userCount; user++) {
+                sortFollowing(user);
+                Arrays.sort(followers[user]);
+            }
+            edgeCount = count;
+        }
+
+        /**
+         * Sorts the following array of a user together with the parallel creation times.
+         *
+         * @param user the dense user identifier
+         */
+        private void sortFollowing(int user) {
+            int[] ids = following[user];
+            if (ids.length < 2) {
+                return;
+            }
+
+            long[] keys = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                keys[i] = ((long) ids[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+
+            long[] times = followedAt[user];
+            int[] sortedIds = new int[ids.length];
+            long[] sortedTimes = new long[ids.length];
+            for (int i = 0; i < keys.length; i++) {
+                sortedIds[i] = (int) (keys[i] >>> 32);
+                sortedTimes[i] = times[(int) keys[i]];
+            }
+            following[user] = sortedIds;
+            followedAt[user] = sortedTimes;
+        }
+
+        private static int[] insert(int[] array, int index, int value) {
+            int[] result = new int[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static long[] insert(long[] array, int index, long value) {
+            long[] result = new long[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static int[] delete(int[] array, int index) {
+            if (array.length == 1) {
+                return NO_USERS;
+            }
+            int[] result = new int[array.length - 1];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+
+        private static long[] delete(long[] array, int index) {
+            if (array.length == 1) {
+                return NO_TIMESTAMPS;
+            }
+            long[] result = new long[array.length - 1];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.twitter.graph;
+
+import com.twitter.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Loads the in-memory follow graph from the follows table once the application is ready.
+ * <p>
+ * Until the load finishes all reads are answered from the database.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.follow-graph", name = "enabled", havingValue = "true")
+public class FollowGraphLoader {
+
+    private final FollowGraph followGraph;
+    private final FollowRepository followRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Loads the graph after the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        log.info("Loading the follow graph from the database");
+        load();
+    }
+
+    /**
+     * Streams all follow relationships in one read-only transaction into the graph.
+     */
+    public void load() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> followGraph.load(followRepository::streamAllEdges));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.twitter.graph;
+
+import java.util.UUID;
+
+/**
+ * Read-only view of the in-memory follow graph in terms of dense user identifiers.
+ * <p>
+ * A view is valid only inside {@link FollowGraph#read}; the returned arrays are shared with
+ * the graph, sorted in ascending order and must not be modified.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowGraphView {
+
+    /**
+     * Returns the dense identifier of a user.
+     *
+     * @param userId the user identifier
+     * @return the dense identifier, or -1 if the user has no relationships
+     */
+    int denseId(UUID userId);
+
+    /**
+     * Returns the user identifier behind a dense identifier.
+     *
+     * @param denseId the dense identifier
+     * @return the user identifier
+     */
+    UUID userId(int denseId);
+
+    /**
+     * Returns the dense identifiers of the users the given user follows.
+     *
+     * @param denseId the dense identifier of the follower
+     * @return sorted dense identifiers of the followed users
+     */
+    int[] following(int denseId);
+
+    /**
+     * Returns the dense identifiers of the users following the given user.
+     *
+     * @param denseId the dense identifier of the followed user
+     * @return sorted dense identifiers of the followers
+     */
+    int[] followers(int denseId);
+}
\ No newline at end of file
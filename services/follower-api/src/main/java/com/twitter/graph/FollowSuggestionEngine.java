@@ -0,0 +1,174 @@
+package com.twitter.graph;
+
+import com.twitter.config.FollowSuggestionProperties;
+import com.twitter.dto.graph.FollowSuggestionCandidate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes friends-of-friends follow suggestions on the in-memory follow graph.
+ * <p>
+ * For a user, every followed user contributes one vote to each user they follow; the users with the
+ * most votes that are not followed yet are suggested. The followed users are split into ranges that
+ * are counted in parallel on a dedicated fork/join pool, each range into its own primitive
+ * {@link IntCountMap}, and the partial maps are merged when the ranges join. The work is bounded:
+ * at most {@code max-first-degree} followed users and {@code max-fan-out} of their followings are
+ * visited, with larger lists sampled evenly.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class FollowSuggestionEngine {
+
+    /**
+     * Number of followed users counted by one fork/join task without splitting further.
+     */
+    private static final int LEAF_SIZE = 32;
+
+    private final FollowGraph followGraph;
+    private final FollowSuggestionProperties properties;
+    private final ForkJoinPool pool;
+    private final Timer computeTimer;
+
+    public FollowSuggestionEngine(FollowGraph followGraph,
+                                  FollowSuggestionProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.followGraph = followGraph;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(properties.parallelism());
+        this.computeTimer = Timer.builder("follow.suggestions.compute")
+            .description("Duration of computing follow suggestions on the follow graph")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Computes follow suggestions for a user.
+     *
+     * @param userId the user identifier
+     * @param limit  maximum number of suggestions
+     * @return suggestions ordered by the number of followed users that follow them, or empty if the
+     * follow graph is not serving
+     */
+    public Optional<List<FollowSuggestionCandidate>> suggest(UUID userId, int limit) {
+        return followGraph.read(view -> computeTimer.record(() -> suggest(view, userId, limit)));
+    }
+
+    /**
+     * Computes follow suggestions for a user on the given graph view.
+     *
+     * @param view   the follow graph view
+     * @param userId the user identifier
+     * @param limit  maximum number of suggestions
+     * @return suggestions ordered by the number of followed users that follow them
+     */
+    List<FollowSuggestionCandidate> suggest(FollowGraphView view, UUID userId, int limit) {
+        int user = view.denseId(userId);
+        if (user < 0) {
+            return List.of();
+        }
+        int[] following = view.following(user);
+        if (following.length == 0) {
+            return List.of();
+        }
+
+        int[] sources = sample(following, properties.maxFirstDegree());
+        IntCountMap votes = pool.invoke(new CountTask(view, sources, 0, sources.length, properties.maxFanOut()));
+        long[] top = votes.topK(limit, candidate -> candidate != user && Arrays.binarySearch(following, candidate) < 0);
+
+        List<FollowSuggestionCandidate> suggestions = new ArrayList<>(top.length);
+        for (long entry : top) {
+            suggestions.add(new FollowSuggestionCandidate(view.userId(IntCountMap.key(entry)), IntCountMap.count(entry)));
+        }
+        log.debug("Computed {} follow suggestions for user: userId={}, firstDegree={}, candidates={}",
+            suggestions.size(), userId, sources.length, votes.size());
+        return suggestions;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Picks at most {@code max} evenly spaced elements of a sorted array.
+     *
+     * @param ids the sorted array
+     * @param max maximum number of elements
+     * @return the array itself if it is small enough, otherwise a sorted sample
+     */
+    static int[] sample(int[] ids, int max) {
+        if (ids.length <= max) {
+            return ids;
+        }
+        int[] sample = new int[max];
+        for (int i = 0; i < max; i++) {
+            sample[i] = ids[(int) ((long) i * ids.length / max)];
+        }
+        return sample;
+    }
+
+    /**
+     * Counts the followings of a range of followed users.
+     */
+    private static final class CountTask extends RecursiveTask<IntCountMap> {
+
+        private final FollowGraphView view;
+        private final int[] sources;
+        private final int from;
+        private final int to;
+        private final int maxFanOut;
+
+        private CountTask(FollowGraphView view, int[] sources, int from, int to, int maxFanOut) {
+            this.view = view;
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.maxFanOut = maxFanOut;
+        }
+
+        @Override
+        protected IntCountMap compute() {
+            if (to - from <= LEAF_SIZE) {
+                return countLeaf();
+            }
+
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(view, sources, from, middle, maxFanOut);
+            CountTask right = new CountTask(view, sources, middle, to, maxFanOut);
+            left.fork();
+            IntCountMap rightVotes = right.compute();
+            IntCountMap leftVotes = left.join();
+            if (leftVotes.size() < rightVotes.size()) {
+                rightVotes.addAll(leftVotes);
+                return rightVotes;
+            }
+            leftVotes.addAll(rightVotes);
+            return leftVotes;
+        }
+
+        private IntCountMap countLeaf() {
+            IntCountMap votes = new IntCountMap(LEAF_SIZE * 8);
+            for (int i = from; i < to; i++) {
+                int[] candidates = view.following(sources[i]);
+                int visited = Math.min(candidates.length, maxFanOut);
+                for (int j = 0; j < visited; j++) {
+                    votes.increment(candidates[(int) ((long) j * candidates.length / visited)]);
+                }
+            }
+            return votes;
+        }
+    }
+}
\ No newline at end of file
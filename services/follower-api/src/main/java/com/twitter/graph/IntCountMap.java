@@ -0,0 +1,225 @@
+package com.twitter.graph;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-addressing map from non-negative int keys to int counters.
+ * <p>
+ * Keys and counters are kept in two flat arrays with linear probing, so counting millions of
+ * dense user identifiers allocates no boxed objects. Not thread-safe.
+ *
+ * @author geron
+ * @version 1.0
+ */
+final class IntCountMap {
+
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] counts;
+    private int size;
+    private int mask;
+
+    /**
+     * Creates a map sized for the expected number of distinct keys.
+     *
+     * @param expectedSize expected number of distinct keys
+     */
+    IntCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Adds the given amount to the counter of a key.
+     *
+     * @param key    non-negative key
+     * @param amount amount to add
+     */
+    void add(int key, int amount) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                counts[slot] += amount;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        counts[slot] = amount;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Increments the counter of a key by one.
+     *
+     * @param key non-negative key
+     */
+    void increment(int key) {
+        add(key, 1);
+    }
+
+    /**
+     * Returns the counter of a key.
+     *
+     * @param key non-negative key
+     * @return the counter, or 0 if the key is absent
+     */
+    int get(int key) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Adds all counters of another map to this map.
+     *
+     * @param other the map to merge into this one
+     */
+    void addAll(IntCountMap other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != EMPTY) {
+                add(other.keys[slot], other.counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return number of keys
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Selects the keys with the highest counters with a bounded min-heap.
+     * <p>
+     * Every entry is packed into a long as {@code count << 32 | key}, so ordering the packed values
+     * orders the entries by counter and then by key. Ties are broken in favour of the larger key.
+     *
+     * @param limit  maximum number of entries to return
+     * @param filter predicate a key must satisfy to be selected
+     * @return packed entries ordered by counter descending
+     */
+    long[] topK(int limit, IntPredicate filter) {
+        long[] heap = new long[Math.min(limit, size)];
+        int heapSize = 0;
+        for (int slot = 0; slot < keys.length && heap.length > 0; slot++) {
+            int key = keys[slot];
+            if (key == EMPTY || !filter.test(key)) {
+                continue;
+            }
+
+            long entry = ((long) counts[slot] << 32) | key;
+            if (heapSize < heap.length) {
+                heap[heapSize] = entry;
+                siftUp(heap, heapSize++);
+            } else if (entry > heap[0]) {
+                heap[0] = entry;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        long[] top = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(top);
+        for (int i = 0, j = top.length - 1; i < j; i++, j--) {
+            long swap = top[i];
+            top[i] = top[j];
+            top[j] = swap;
+        }
+        return top;
+    }
+
+    /**
+     * Extracts the key from a packed entry returned by {@link #topK}.
+     *
+     * @param entry packed entry
+     * @return the key
+     */
+    static int key(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * Extracts the counter from a packed entry returned by {@link #topK}.
+     *
+     * @param entry packed entry
+     * @return the counter
+     */
+    static int count(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        counts = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                add(oldKeys[slot], oldCounts[slot]);
+            }
+        }
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int heapSize) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (right < heapSize && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, smallest, index);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        long value = heap[i];
+        heap[i] = heap[j];
+        heap[j] = value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.twitter.graph;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Intersection of sorted identifier sequences.
+ * <p>
+ * Sequences of similar size are intersected with a linear merge. When one side is much larger than
+ * the other, every element of the smaller side is located in the larger one by galloping: the search
+ * window doubles from the last match and is then binary searched, so the work is
+ * {@code O(small * log(large / small))} instead of {@code O(small + large)}.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public final class SortedIntersection {
+
+    /**
+     * Order of UUID values in PostgreSQL: both halves compared as unsigned numbers. It differs from
+     * {@link UUID#compareTo}, which compares the halves as signed numbers.
+     */
+    public static final Comparator<UUID> UUID_ORDER = Comparator
+        .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+        .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    /**
+     * Size ratio of the larger to the smaller side above which galloping is used instead of merging.
+     */
+    public static final int GALLOP_RATIO = 32;
+
+    private SortedIntersection() {
+    }
+
+    /**
+     * Returns the elements present in both sorted arrays.
+     *
+     * @param a sorted array without duplicates
+     * @param b sorted array without duplicates
+     * @return sorted common elements
+     */
+    public static int[] intersect(int[] a, int[] b) {
+        int[] small = a.length <= b.length ? a : b;
+        int[] large = small == a ? b : a;
+        if (small.length == 0) {
+            return new int[0];
+        }
+        return (long) small.length * GALLOP_RATIO < large.length ? gallop(small, large) : merge(small, large);
+    }
+
+    /**
+     * Lazily intersects two sorted iterators with a linear merge.
+     * <p>
+     * Only the current element of each side is held, so the iterators may be backed by database
+     * cursors of any size.
+     *
+     * @param a          sorted iterator without duplicates
+     * @param b          sorted iterator without duplicates
+     * @param comparator the order of both iterators
+     * @param <T>        element type
+     * @return iterator over the common elements in the same order
+     */
+    public static <T> Iterator<T> intersect(Iterator<T> a, Iterator<T> b, Comparator<? super T> comparator) {
+        return new Iterator<>() {
+
+            private T next;
+
+            @Override
+            public boolean hasNext() {
+                if (next != null) {
+                    return true;
+                }
+                if (!a.hasNext() || !b.hasNext()) {
+                    return false;
+                }
+                T left = a.next();
+                T right = b.next();
+                while (true) {
+                    int order = comparator.compare(left, right);
+                    if (order == 0) {
+                        next = left;
+                        return true;
+                    }
+                    if (order < 0) {
+                        if (!a.hasNext()) {
+                            return false;
+                        }
+                        left = a.next();
+                    } else {
+                        if (!b.hasNext()) {
+                            return false;
+                        }
+                        right = b.next();
+                    }
+                }
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    static int[] merge(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    static int[] gallop(int[] small, int[] large) {
+        int[] result = new int[small.length];
+        int size = 0;
+        int from = 0;
+        for (int value : small) {
+            int step = 1;
+            int to = from;
+            while (to < large.length && large[to] < value) {
+                from = to + 1;
+                to += step;
+                step <<= 1;
+            }
+            int index = Arrays.binarySearch(large, from, Math.min(to + 1, large.length), value);
+            if (index >= 0) {
+                result[size++] = value;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= large.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
\ No newline at end of file
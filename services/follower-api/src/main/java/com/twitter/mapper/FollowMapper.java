@@ -3,8 +3,11 @@ package com.twitter.mapper;
 import com.twitter.common.dto.request.follow.FollowRequestDto;
 import com.twitter.common.dto.response.follow.FollowResponseDto;
 import com.twitter.common.dto.response.follow.FollowingResponseDto;
+import com.twitter.dto.graph.FollowSuggestionCandidate;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
 import com.twitter.dto.response.FollowerResponseDto;
 import com.twitter.entity.Follow;
 import org.mapstruct.Mapper;
@@ -71,6 +74,17 @@ public interface FollowMapper {
     @Mapping(target = "createdAt", source = "follow.createdAt")
     FollowStatusResponseDto toFollowStatusResponseDto(Follow follow);
 
+    /**
+     * Converts an existing Follow entity to an item of a batch follow status check.
+     *
+     * @param follow existing Follow entity
+     * @return batch item with isFollowing=true and createdAt from the entity
+     */
+    @Mapping(target = "followingId", source = "follow.followingId")
+    @Mapping(target = "isFollowing", constant = "true")
+    @Mapping(target = "createdAt", source = "follow.createdAt")
+    FollowStatusBatchItemResponseDto toFollowStatusBatchItemResponseDto(Follow follow);
+
     /**
      * Converts follower and following counts to FollowStatsResponseDto.
      *
@@ -81,4 +95,16 @@ public interface FollowMapper {
     @Mapping(target = "followersCount", source = "followersCount")
     @Mapping(target = "followingCount", source = "followingCount")
     FollowStatsResponseDto toFollowStatsResponseDto(long followersCount, long followingCount);
+
+    /**
+     * Converts a suggestion candidate and user login to FollowSuggestionResponseDto.
+     *
+     * @param candidate suggestion candidate computed on the follow graph or in the database
+     * @param login     login of the suggested user
+     * @return DTO containing the follow suggestion
+     */
+    @Mapping(target = "id", source = "candidate.userId")
+    @Mapping(target = "login", source = "login")
+    @Mapping(target = "mutualFollowsCount", source = "candidate.mutualCount")
+    FollowSuggestionResponseDto toFollowSuggestionResponseDto(FollowSuggestionCandidate candidate, String login);
 }
\ No newline at end of file
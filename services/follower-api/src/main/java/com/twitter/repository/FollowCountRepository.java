@@ -0,0 +1,97 @@
+package com.twitter.repository;
+
+import com.twitter.entity.FollowCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface FollowCountRepository extends JpaRepository<FollowCount, UUID> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO follow_counts (user_id, followers_count, following_count, updated_at)
+        VALUES (:userId, GREATEST(:followersDelta, 0), GREATEST(:followingDelta, 0), CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id) DO UPDATE SET
+            followers_count = GREATEST(follow_counts.followers_count + :followersDelta, 0),
+            following_count = GREATEST(follow_counts.following_count + :followingDelta, 0),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    void adjustCounts(@Param("userId") UUID userId,
+                      @Param("followersDelta") long followersDelta,
+                      @Param("followingDelta") long followingDelta);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO follow_counts (user_id, followers_count, following_count, updated_at)
+        SELECT d.user_id, d.followers_delta, d.following_delta, CURRENT_TIMESTAMP
+        FROM unnest(:userIds, :followersDeltas, :followingDeltas) AS d(user_id, followers_delta, following_delta)
+        ORDER BY d.user_id
+        ON CONFLICT (user_id) DO UPDATE SET
+            followers_count = follow_counts.followers_count + EXCLUDED.followers_count,
+            following_count = follow_counts.following_count + EXCLUDED.following_count,
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    void incrementCounts(@Param("userIds") UUID[] userIds,
+                         @Param("followersDeltas") long[] followersDeltas,
+                         @Param("followingDeltas") long[] followingDeltas);
+
+    @Query(value = """
+        SELECT fc.user_id FROM follow_counts fc
+        WHERE fc.user_id = ANY(:userIds)
+        ORDER BY fc.user_id
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<UUID> lockCounts(@Param("userIds") UUID[] userIds);
+
+    @Modifying
+    @Query(value = """
+        UPDATE follow_counts fc SET
+            followers_count = GREATEST(fc.followers_count - d.followers_delta, 0),
+            following_count = GREATEST(fc.following_count - d.following_delta, 0),
+            updated_at = CURRENT_TIMESTAMP
+        FROM unnest(:userIds, :followersDeltas, :followingDeltas) AS d(user_id, followers_delta, following_delta)
+        WHERE fc.user_id = d.user_id
+        """, nativeQuery = true)
+    void decrementCounts(@Param("userIds") UUID[] userIds,
+                         @Param("followersDeltas") long[] followersDeltas,
+                         @Param("followingDeltas") long[] followingDeltas);
+
+    @Query(value = """
+        SELECT fc.user_id FROM follow_counts fc
+        WHERE fc.user_id > :afterUserId
+        ORDER BY fc.user_id
+        LIMIT :batchSize
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<UUID> lockNextUserIds(@Param("afterUserId") UUID afterUserId, @Param("batchSize") int batchSize);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+        UPDATE follow_counts fc SET
+            followers_count = actual.followers_count,
+            following_count = actual.following_count,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT ids.user_id,
+                (SELECT count(*) FROM follows f WHERE f.following_id = ids.user_id) AS followers_count,
+                (SELECT count(*) FROM follows f WHERE f.follower_id = ids.user_id) AS following_count
+            FROM unnest(:userIds) AS ids(user_id)
+        ) AS actual
+        WHERE fc.user_id = actual.user_id
+          AND (fc.followers_count <> actual.followers_count OR fc.following_count <> actual.following_count)
+        """, nativeQuery = true)
+    int reconcileCounts(@Param("userIds") UUID[] userIds);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO follow_counts (user_id, followers_count, following_count, updated_at)
+        SELECT f.user_id, 0, 0, CURRENT_TIMESTAMP
+        FROM (SELECT follower_id AS user_id FROM follows UNION SELECT following_id FROM follows) f
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertMissingCounts();
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.twitter.repository;
+
+import com.twitter.entity.FollowEventOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface FollowEventOffsetRepository extends JpaRepository<FollowEventOffset, String> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO follow_event_offsets (subscriber, last_position, updated_at)
+        VALUES (:subscriber, 0, CURRENT_TIMESTAMP)
+        ON CONFLICT (subscriber) DO NOTHING
+        """, nativeQuery = true)
+    void insertIfAbsent(@Param("subscriber") String subscriber);
+
+    @Query(value = """
+        UPDATE follow_event_offsets o SET claimed_until = :claimedUntil
+        WHERE o.subscriber = :subscriber
+          AND (o.claimed_until IS NULL OR o.claimed_until < :now)
+          AND EXISTS (SELECT 1 FROM follow_events fe WHERE fe.position > o.last_position)
+        RETURNING o.*
+        """, nativeQuery = true)
+    Optional<FollowEventOffset> claim(@Param("subscriber") String subscriber,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying
+    @Query(value = """
+        UPDATE follow_event_offsets SET
+            last_position = GREATEST(last_position, :lastPosition),
+            claimed_until = NULL,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE subscriber = :subscriber
+        """, nativeQuery = true)
+    void acknowledge(@Param("subscriber") String subscriber, @Param("lastPosition") long lastPosition);
+
+    @Modifying
+    @Query(value = "UPDATE follow_event_offsets SET claimed_until = NULL WHERE subscriber = :subscriber", nativeQuery = true)
+    void release(@Param("subscriber") String subscriber);
+}
\ No newline at end of file
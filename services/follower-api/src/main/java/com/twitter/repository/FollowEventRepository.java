@@ -0,0 +1,61 @@
+package com.twitter.repository;
+
+import com.twitter.entity.FollowEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface FollowEventRepository extends JpaRepository<FollowEvent, Long> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO follow_events (event_type, follower_id, following_id, created_at)
+        SELECT :eventType, e.follower_id, e.following_id, CURRENT_TIMESTAMP
+        FROM unnest(:followerIds, :followingIds) WITH ORDINALITY AS e(follower_id, following_id, position)
+        ORDER BY e.position
+        """, nativeQuery = true)
+    void appendAll(@Param("eventType") String eventType,
+                   @Param("followerIds") UUID[] followerIds,
+                   @Param("followingIds") UUID[] followingIds);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('follow_events_sequencer'))", nativeQuery = true)
+    boolean tryLockSequencer();
+
+    @Modifying
+    @Query(value = """
+        UPDATE follow_events fe SET position = numbered.position
+        FROM (
+            SELECT unsequenced.id, nextval('follow_event_positions_seq') AS position
+            FROM (
+                SELECT e.id FROM follow_events e
+                WHERE e.position IS NULL
+                ORDER BY e.id
+                LIMIT :batchSize
+            ) unsequenced
+        ) numbered
+        WHERE fe.id = numbered.id
+        """, nativeQuery = true)
+    int sequenceNext(@Param("batchSize") int batchSize);
+
+    @Query("SELECT fe FROM FollowEvent fe WHERE fe.position > :afterPosition ORDER BY fe.position")
+    List<FollowEvent> findSequencedAfter(@Param("afterPosition") long afterPosition, Limit limit);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM follow_events fe
+        WHERE fe.created_at < :createdBefore
+          AND fe.position <= (
+              SELECT MIN(COALESCE(o.last_position, 0))
+              FROM unnest(:subscribers) AS s(subscriber)
+              LEFT JOIN follow_event_offsets o ON o.subscriber = s.subscriber
+          )
+        """, nativeQuery = true)
+    int deleteDeliveredBefore(@Param("createdBefore") LocalDateTime createdBefore,
+                              @Param("subscribers") String[] subscribers);
+}
\ No newline at end of file
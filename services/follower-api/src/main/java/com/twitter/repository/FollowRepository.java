@@ -1,12 +1,23 @@
 package com.twitter.repository;
 
+import com.twitter.dto.graph.FollowGraphEdge;
+import com.twitter.dto.graph.FollowSuggestionCandidateView;
+import com.twitter.dto.response.FollowerExportLineDto;
 import com.twitter.entity.Follow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FollowRepository extends JpaRepository<Follow, UUID> {
 
@@ -21,5 +32,100 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
     long countByFollowingId(UUID followingId);
 
     Optional<Follow> findByFollowerIdAndFollowingId(UUID followerId, UUID followingId);
+
+    @Query(value = "SELECT * FROM follows f WHERE f.follower_id = :followerId AND f.following_id = ANY(:followingIds)", nativeQuery = true)
+    List<Follow> findByFollowerIdAndFollowingIdAny(@Param("followerId") UUID followerId,
+                                                   @Param("followingIds") UUID[] followingIds);
+
+    @Query(value = """
+        INSERT INTO follows (id, follower_id, following_id, created_at)
+        SELECT e.id, e.follower_id, e.following_id, CURRENT_TIMESTAMP
+        FROM unnest(:ids, :followerIds, :followingIds) AS e(id, follower_id, following_id)
+        ORDER BY e.follower_id, e.following_id
+        ON CONFLICT (follower_id, following_id) DO NOTHING
+        RETURNING *
+        """, nativeQuery = true)
+    List<Follow> insertAllIgnoringExisting(@Param("ids") UUID[] ids,
+                                           @Param("followerIds") UUID[] followerIds,
+                                           @Param("followingIds") UUID[] followingIds);
+
+    @Query(value = """
+        DELETE FROM follows f
+        USING unnest(:followerIds, :followingIds) AS e(follower_id, following_id)
+        WHERE f.follower_id = e.follower_id AND f.following_id = e.following_id
+        RETURNING f.*
+        """, nativeQuery = true)
+    List<Follow> deleteAllByFollowerIdAndFollowingId(@Param("followerIds") UUID[] followerIds,
+                                                     @Param("followingIds") UUID[] followingIds);
+
+    @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :followerId")
+    List<UUID> findFollowingIdsByFollowerId(@Param("followerId") UUID followerId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :followerId AND f.followingId > :afterId ORDER BY f.followingId")
+    Stream<UUID> streamFollowingIds(@Param("followerId") UUID followerId, @Param("afterId") UUID afterId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followingId = :followingId AND f.followerId > :afterId ORDER BY f.followerId")
+    Stream<UUID> streamFollowerIds(@Param("followingId") UUID followingId, @Param("afterId") UUID afterId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.twitter.dto.response.FollowerExportLineDto(f.followerId, f.createdAt)
+        FROM Follow f
+        WHERE f.followingId = :followingId AND f.followerId > :afterId
+        ORDER BY f.followerId
+        """)
+    Stream<FollowerExportLineDto> streamFollowerExportLines(@Param("followingId") UUID followingId,
+                                                            @Param("afterId") UUID afterId);
+
+    @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :followerId AND f.followingId IN :ids")
+    List<UUID> findFollowingIdsIn(@Param("followerId") UUID followerId, @Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followingId = :followingId AND f.followerId IN :ids")
+    List<UUID> findFollowerIdsIn(@Param("followingId") UUID followingId, @Param("ids") Collection<UUID> ids);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.twitter.dto.graph.FollowGraphEdge(f.followerId, f.followingId, f.createdAt) FROM Follow f")
+    Stream<FollowGraphEdge> streamAllEdges();
+
+    @Query(value = """
+        SELECT candidate.following_id AS "userId", COUNT(*) AS "mutualCount"
+        FROM (
+            SELECT f1.following_id FROM follows f1
+            WHERE f1.follower_id = :userId
+            ORDER BY f1.following_id
+            LIMIT :maxFirstDegree
+        ) followed
+        CROSS JOIN LATERAL (
+            SELECT f2.following_id FROM follows f2
+            WHERE f2.follower_id = followed.following_id
+            ORDER BY f2.following_id
+            LIMIT :maxFanOut
+        ) candidate
+        WHERE candidate.following_id <> :userId
+          AND NOT EXISTS (
+              SELECT 1 FROM follows f3 WHERE f3.follower_id = :userId AND f3.following_id = candidate.following_id
+          )
+        GROUP BY candidate.following_id
+        ORDER BY COUNT(*) DESC, candidate.following_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<FollowSuggestionCandidateView> findSuggestionCandidates(@Param("userId") UUID userId,
+                                                                 @Param("maxFirstDegree") int maxFirstDegree,
+                                                                 @Param("maxFanOut") int maxFanOut,
+                                                                 @Param("limit") int limit);
 }
 
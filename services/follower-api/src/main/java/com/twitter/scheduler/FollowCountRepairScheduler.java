@@ -0,0 +1,122 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.FollowCountRepairProperties;
+import com.twitter.dto.counts.FollowCountRepairBatchResult;
+import com.twitter.dto.counts.FollowCountRepairRunResult;
+import com.twitter.service.FollowCountRepairService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Background job that reconciles the denormalized follow counters with the follows table.
+ * <p>
+ * Each run first creates missing counter rows and then walks all counter rows in batches of
+ * {@code app.follow-counts.repair.batch-size} ordered by user identifier, committing every batch
+ * separately and pausing between batches. The number of repaired users is logged and exported
+ * as Micrometer meters.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.follow-counts.repair", name = "enabled", havingValue = "true")
+public class FollowCountRepairScheduler {
+
+    private static final UUID FIRST_USER_ID = new UUID(0L, 0L);
+
+    private final FollowCountRepairService followCountRepairService;
+    private final FollowCountRepairProperties properties;
+    private final Counter repairedUsersCounter;
+    private final Timer runTimer;
+
+    public FollowCountRepairScheduler(FollowCountRepairService followCountRepairService,
+                                      FollowCountRepairProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.followCountRepairService = followCountRepairService;
+        this.properties = properties;
+        this.repairedUsersCounter = Counter.builder("follow.counts.repaired")
+            .description("Number of users whose follow counters had drifted and were corrected")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("follow.counts.repair.run")
+            .description("Duration of the follow counters repair runs")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point of the repair job.
+     */
+    @Scheduled(
+        initialDelayString = "${app.follow-counts.repair.initial-delay:PT10M}",
+        fixedDelayString = "${app.follow-counts.repair.interval:PT6H}"
+    )
+    public void repairFollowCounts() {
+        try {
+            runRepair();
+        } catch (Exception ex) {
+            log.error("Follow counters repair run failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Checks the counters of all users once.
+     *
+     * @return aggregated result of the run
+     */
+    public FollowCountRepairRunResult runRepair() {
+        long startedAt = System.nanoTime();
+
+        int createdCounters = followCountRepairService.createMissingCounters();
+        long checkedUsers = 0;
+        long repairedUsers = 0;
+        UUID afterUserId = FIRST_USER_ID;
+
+        while (true) {
+            FollowCountRepairBatchResult batch = followCountRepairService.repairNextBatch(afterUserId, properties.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            checkedUsers += batch.checkedUsers();
+            repairedUsers += batch.repairedUsers();
+            repairedUsersCounter.increment(batch.repairedUsers());
+            afterUserId = batch.lastUserId();
+
+            if (batch.checkedUsers() < properties.batchSize() || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        runTimer.record(duration);
+
+        FollowCountRepairRunResult result = new FollowCountRepairRunResult(createdCounters, checkedUsers,
+            repairedUsers, duration);
+        log.info("Follow counters repair run finished: created={}, checked={}, repaired={}, duration={}ms",
+            result.createdCounters(), result.checkedUsers(), result.repairedUsers(), duration.toMillis());
+        return result;
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (properties.batchPause().isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(properties.batchPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Follow counters repair run interrupted, stopping after the current batch");
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.FollowEventProperties;
+import com.twitter.service.FollowEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background job that relays the follow event outbox to subscribers.
+ * <p>
+ * Every {@code app.follow-events.poll-interval} the job sequences the committed events and then
+ * delivers batches of {@code app.follow-events.batch-size} events to each subscriber until that
+ * subscriber has caught up. A failed batch is retried for its subscriber on the next poll while the
+ * other subscribers keep receiving events. Events delivered to all subscribers and created longer
+ * than {@code app.follow-events.retention} ago are deleted every
+ * {@code app.follow-events.cleanup-interval}.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.follow-events", name = "enabled", havingValue = "true")
+public class FollowEventRelayScheduler {
+
+    private final FollowEventService followEventService;
+    private final FollowEventProperties properties;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+
+    public FollowEventRelayScheduler(FollowEventService followEventService,
+                                     FollowEventProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.followEventService = followEventService;
+        this.properties = properties;
+        this.publishedCounter = Counter.builder("follow.events.published")
+            .description("Number of follow events delivered to subscribers")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("follow.events.publish.failures")
+            .description("Number of follow event relay runs or subscriber deliveries that failed and will be retried")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("follow.events.publish.batch")
+            .description("Duration of publishing one batch of follow events")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point of the relay.
+     */
+    @Scheduled(fixedDelayString = "${app.follow-events.poll-interval:PT1S}")
+    public void relayFollowEvents() {
+        try {
+            relay();
+        } catch (Exception ex) {
+            failureCounter.increment();
+            log.warn("Follow events relay failed and will be retried: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Sequences all committed events and then delivers them to every subscriber.
+     * <p>
+     * A subscriber whose delivery fails is skipped until the next poll.
+     *
+     * @return number of events delivered, summed over the subscribers
+     */
+    public long relay() {
+        int sequenced;
+        do {
+            sequenced = followEventService.sequenceNextBatch(properties.batchSize());
+        } while (sequenced == properties.batchSize());
+
+        long published = 0;
+        for (String subscriber : followEventService.subscribers()) {
+            try {
+                published += relay(subscriber);
+            } catch (Exception ex) {
+                failureCounter.increment();
+                log.warn("Delivering follow events to {} failed, the batch will be retried: {}",
+                    subscriber, ex.getMessage(), ex);
+            }
+        }
+        return published;
+    }
+
+    /**
+     * Delivers batches of events to one subscriber until fewer than a full batch is left.
+     *
+     * @param subscriber the subscriber name
+     * @return number of delivered events
+     */
+    private long relay(String subscriber) {
+        long published = 0;
+        while (true) {
+            Integer batch = batchTimer.record(() -> followEventService.publishNextBatch(subscriber, properties.batchSize()));
+            int count = batch != null ? batch : 0;
+            published += count;
+            publishedCounter.increment(count);
+            if (count < properties.batchSize()) {
+                return published;
+            }
+        }
+    }
+
+    /**
+     * Scheduled cleanup of published events older than the retention period.
+     */
+    @Scheduled(
+        initialDelayString = "${app.follow-events.cleanup-interval:PT1H}",
+        fixedDelayString = "${app.follow-events.cleanup-interval:PT1H}"
+    )
+    public void deletePublishedEvents() {
+        try {
+            followEventService.deletePublishedEvents(LocalDateTime.now().minus(properties.retention()));
+        } catch (Exception ex) {
+            log.error("Follow events cleanup failed: {}", ex.getMessage(), ex);
+        }
+    }
+}
\ No newline at end of file
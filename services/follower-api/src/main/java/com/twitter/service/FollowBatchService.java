@@ -0,0 +1,44 @@
+package com.twitter.service;
+
+import com.twitter.common.dto.request.follow.FollowRequestDto;
+import com.twitter.dto.response.FollowBatchItemResponseDto;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Service interface for bulk follow relationship changes in Twitter microservices.
+ * <p>
+ * Intended for migrations and imports: a whole batch is validated and written with a constant number
+ * of database statements and users-api requests, and every item gets its own result instead of
+ * the whole batch failing on the first invalid item.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowBatchService {
+
+    /**
+     * Creates many follow relationships.
+     * <p>
+     * Self-follows and relationships with users that do not exist are skipped. Relationships that
+     * already exist, or that repeat earlier items of the same batch, are reported as already
+     * following.
+     *
+     * @param requests the relationships to create
+     * @return one result per request, in request order
+     * @throws ResponseStatusException with status 503 if user existence cannot be verified
+     */
+    List<FollowBatchItemResponseDto> followAll(List<FollowRequestDto> requests);
+
+    /**
+     * Removes many follow relationships.
+     * <p>
+     * Relationships that do not exist, or that repeat earlier items of the same batch, are reported
+     * as not following.
+     *
+     * @param requests the relationships to remove
+     * @return one result per request, in request order
+     */
+    List<FollowBatchItemResponseDto> unfollowAll(List<FollowRequestDto> requests);
+}
\ No newline at end of file
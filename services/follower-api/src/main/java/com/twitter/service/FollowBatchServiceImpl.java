@@ -0,0 +1,238 @@
+package com.twitter.service;
+
+import com.twitter.cache.FollowSuggestionCache;
+import com.twitter.common.dto.request.follow.FollowRequestDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.dto.response.FollowBatchItemResponseDto;
+import com.twitter.entity.Follow;
+import com.twitter.enums.FollowBatchItemStatus;
+import com.twitter.gateway.UserGateway;
+import com.twitter.graph.FollowGraph;
+import com.twitter.graph.SortedIntersection;
+import com.twitter.repository.FollowCountRepository;
+import com.twitter.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Implementation of the bulk follow relationship service.
+ * <p>
+ * A batch costs one users-api request per {@code 1000} distinct users, one multi-row
+ * {@code INSERT ... ON CONFLICT DO NOTHING} or {@code DELETE ... USING unnest(...)} statement and
+ * one statement for the follow counters, independent of the number of items. Relationships and
+ * counter rows are written in database order of their user identifiers, the same order the single
+ * follow operations use, so concurrent batches cannot deadlock on them.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowBatchServiceImpl implements FollowBatchService {
+
+    private static final Comparator<Edge> EDGE_ORDER = Comparator
+        .comparing(Edge::followerId, SortedIntersection.UUID_ORDER)
+        .thenComparing(Edge::followingId, SortedIntersection.UUID_ORDER);
+
+    private final FollowRepository followRepository;
+    private final FollowCountRepository followCountRepository;
+    private final UserGateway userGateway;
+    private final FollowGraph followGraph;
+    private final FollowSuggestionCache followSuggestionCache;
+    private final FollowEventService followEventService;
+
+    /**
+     * @see FollowBatchService#followAll
+     */
+    @Override
+    @Transactional
+    public List<FollowBatchItemResponseDto> followAll(List<FollowRequestDto> requests) {
+        log.debug("Creating {} follow relationships in bulk", requests.size());
+
+        Set<UUID> userIds = new HashSet<>();
+        for (FollowRequestDto request : requests) {
+            if (!request.followerId().equals(request.followingId())) {
+                userIds.add(request.followerId());
+                userIds.add(request.followingId());
+            }
+        }
+        Set<UUID> existingUserIds = userIds.isEmpty() ? Set.of() : userGateway.findExistingUserIds(userIds);
+
+        Set<Edge> candidates = new HashSet<>();
+        for (FollowRequestDto request : requests) {
+            if (!request.followerId().equals(request.followingId())
+                && existingUserIds.contains(request.followerId())
+                && existingUserIds.contains(request.followingId())) {
+                candidates.add(Edge.of(request));
+            }
+        }
+        Set<Edge> created = insert(candidates);
+
+        List<FollowBatchItemResponseDto> results = new ArrayList<>(requests.size());
+        for (FollowRequestDto request : requests) {
+            FollowBatchItemStatus status;
+            if (request.followerId().equals(request.followingId())) {
+                status = FollowBatchItemStatus.SELF_FOLLOW;
+            } else if (!existingUserIds.contains(request.followerId()) || !existingUserIds.contains(request.followingId())) {
+                status = FollowBatchItemStatus.USER_NOT_FOUND;
+            } else if (created.remove(Edge.of(request))) {
+                status = FollowBatchItemStatus.CREATED;
+            } else {
+                status = FollowBatchItemStatus.ALREADY_FOLLOWING;
+            }
+            results.add(toResult(request, status));
+        }
+
+        log.info("Bulk follow processed {} items, created {} relationships", requests.size(),
+            results.stream().filter(result -> result.status() == FollowBatchItemStatus.CREATED).count());
+        return results;
+    }
+
+    /**
+     * @see FollowBatchService#unfollowAll
+     */
+    @Override
+    @Transactional
+    public List<FollowBatchItemResponseDto> unfollowAll(List<FollowRequestDto> requests) {
+        log.debug("Removing {} follow relationships in bulk", requests.size());
+
+        Set<Edge> candidates = new HashSet<>();
+        for (FollowRequestDto request : requests) {
+            candidates.add(Edge.of(request));
+        }
+        Set<Edge> deleted = delete(candidates);
+
+        List<FollowBatchItemResponseDto> results = new ArrayList<>(requests.size());
+        for (FollowRequestDto request : requests) {
+            results.add(toResult(request, deleted.remove(Edge.of(request))
+                ? FollowBatchItemStatus.DELETED
+                : FollowBatchItemStatus.NOT_FOLLOWING));
+        }
+
+        log.info("Bulk unfollow processed {} items, removed {} relationships", requests.size(),
+            results.stream().filter(result -> result.status() == FollowBatchItemStatus.DELETED).count());
+        return results;
+    }
+
+    private Set<Edge> insert(Set<Edge> candidates) {
+        if (candidates.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<Edge> edges = sorted(candidates);
+        UUID[] ids = new UUID[edges.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+        List<Follow> follows = followRepository.insertAllIgnoringExisting(ids, followerIds(edges), followingIds(edges));
+
+        Map<UUID, long[]> deltas = new TreeMap<>(SortedIntersection.UUID_ORDER);
+        Set<Edge> created = new HashSet<>();
+        for (Follow follow : follows) {
+            created.add(new Edge(follow.getFollowerId(), follow.getFollowingId()));
+            deltas.computeIfAbsent(follow.getFollowingId(), id -> new long[2])[0]++;
+            deltas.computeIfAbsent(follow.getFollowerId(), id -> new long[2])[1]++;
+            followGraph.onFollow(follow.getFollowerId(), follow.getFollowingId(), follow.getCreatedAt());
+            followSuggestionCache.invalidate(follow.getFollowerId());
+        }
+        if (!deltas.isEmpty()) {
+            Counts counts = Counts.of(deltas);
+            followCountRepository.incrementCounts(counts.userIds(), counts.followersDeltas(), counts.followingDeltas());
+            followEventService.recordAll(FollowEventType.FOLLOWED, follows);
+        }
+        return created;
+    }
+
+    private Set<Edge> delete(Set<Edge> candidates) {
+        List<Edge> edges = sorted(candidates);
+        List<Follow> follows = followRepository.deleteAllByFollowerIdAndFollowingId(followerIds(edges), followingIds(edges));
+
+        Map<UUID, long[]> deltas = new TreeMap<>(SortedIntersection.UUID_ORDER);
+        Set<Edge> deleted = new HashSet<>();
+        for (Follow follow : follows) {
+            deleted.add(new Edge(follow.getFollowerId(), follow.getFollowingId()));
+            deltas.computeIfAbsent(follow.getFollowingId(), id -> new long[2])[0]++;
+            deltas.computeIfAbsent(follow.getFollowerId(), id -> new long[2])[1]++;
+            followGraph.onUnfollow(follow.getFollowerId(), follow.getFollowingId());
+            followSuggestionCache.invalidate(follow.getFollowerId());
+        }
+        if (!deltas.isEmpty()) {
+            Counts counts = Counts.of(deltas);
+            followCountRepository.lockCounts(counts.userIds());
+            followCountRepository.decrementCounts(counts.userIds(), counts.followersDeltas(), counts.followingDeltas());
+            followEventService.recordAll(FollowEventType.UNFOLLOWED, follows);
+        }
+        return deleted;
+    }
+
+    private static List<Edge> sorted(Set<Edge> edges) {
+        List<Edge> sorted = new ArrayList<>(edges);
+        sorted.sort(EDGE_ORDER);
+        return sorted;
+    }
+
+    private static UUID[] followerIds(List<Edge> edges) {
+        return edges.stream().map(Edge::followerId).toArray(UUID[]::new);
+    }
+
+    private static UUID[] followingIds(List<Edge> edges) {
+        return edges.stream().map(Edge::followingId).toArray(UUID[]::new);
+    }
+
+    private static FollowBatchItemResponseDto toResult(FollowRequestDto request, FollowBatchItemStatus status) {
+        return FollowBatchItemResponseDto.builder()
+            .followerId(request.followerId())
+            .followingId(request.followingId())
+            .status(status)
+            .build();
+    }
+
+    /**
+     * A follow relationship of a batch.
+     *
+     * @param followerId  the follower user identifier
+     * @param followingId the followed user identifier
+     */
+    private record Edge(UUID followerId, UUID followingId) {
+
+        static Edge of(FollowRequestDto request) {
+            return new Edge(request.followerId(), request.followingId());
+        }
+    }
+
+    /**
+     * Follow counter changes of a batch as parallel arrays ordered by user identifier.
+     *
+     * @param userIds         the user identifiers
+     * @param followersDeltas change of the followers counter of each user
+     * @param followingDeltas change of the following counter of each user
+     */
+    private record Counts(UUID[] userIds, long[] followersDeltas, long[] followingDeltas) {
+
+        static Counts of(Map<UUID, long[]> deltas) {
+            UUID[] userIds = new UUID[deltas.size()];
+            long[] followersDeltas = new long[deltas.size()];
+            long[] followingDeltas = new long[deltas.size()];
+            int i = 0;
+            for (Map.Entry<UUID, long[]> entry : deltas.entrySet()) {
+                userIds[i] = entry.getKey();
+                followersDeltas[i] = entry.getValue()[0];
+                followingDeltas[i] = entry.getValue()[1];
+                i++;
+            }
+            return new Counts(userIds, followersDeltas, followingDeltas);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.twitter.service;
+
+import com.twitter.dto.counts.FollowCountRepairBatchResult;
+
+import java.util.UUID;
+
+/**
+ * Service interface for reconciling the denormalized follow counters with the follows table.
+ * <p>
+ * The counters are adjusted in the same transaction as every follow and unfollow, so they
+ * only drift when the follows table is changed bypassing the service. This service detects
+ * and corrects such drift in small batches.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowCountRepairService {
+
+    /**
+     * Creates zero counter rows for users that have follow relationships but no counters yet.
+     * <p>
+     * The created rows are corrected by the following calls to {@link #repairNextBatch}.
+     *
+     * @return number of created counter rows
+     */
+    int createMissingCounters();
+
+    /**
+     * Reconciles the counters of the next batch of users.
+     * <p>
+     * This method performs the following operations in a single transaction:
+     * 1. Locks the counter rows of the next users ordered by user identifier
+     * 2. Recounts the followers and following of these users in the follows table
+     * 3. Overwrites the counters that differ from the recounted values
+     * <p>
+     * Because the counter rows are locked before recounting, a concurrent follow either is
+     * already committed and included in the recount, or adjusts the counter after the batch
+     * commits, so no increment is lost.
+     *
+     * @param afterUserId only users with a greater identifier are checked
+     * @param batchSize   maximum number of users to check
+     * @return result of the batch, empty if there are no users left
+     */
+    FollowCountRepairBatchResult repairNextBatch(UUID afterUserId, int batchSize);
+}
\ No newline at end of file
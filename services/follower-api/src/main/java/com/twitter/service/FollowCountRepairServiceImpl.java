@@ -0,0 +1,57 @@
+package com.twitter.service;
+
+import com.twitter.dto.counts.FollowCountRepairBatchResult;
+import com.twitter.repository.FollowCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the follow counters repair service.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowCountRepairServiceImpl implements FollowCountRepairService {
+
+    private final FollowCountRepository followCountRepository;
+
+    /**
+     * @see FollowCountRepairService#createMissingCounters
+     */
+    @Override
+    @Transactional
+    public int createMissingCounters() {
+        int created = followCountRepository.insertMissingCounts();
+        if (created > 0) {
+            log.warn("Created {} missing follow counter rows", created);
+        }
+        return created;
+    }
+
+    /**
+     * @see FollowCountRepairService#repairNextBatch
+     */
+    @Override
+    @Transactional
+    public FollowCountRepairBatchResult repairNextBatch(UUID afterUserId, int batchSize) {
+        List<UUID> userIds = followCountRepository.lockNextUserIds(afterUserId, batchSize);
+        if (userIds.isEmpty()) {
+            return FollowCountRepairBatchResult.empty();
+        }
+
+        int repaired = followCountRepository.reconcileCounts(userIds.toArray(UUID[]::new));
+        if (repaired > 0) {
+            log.warn("Repaired drifted follow counters of {} users", repaired);
+        }
+
+        return new FollowCountRepairBatchResult(userIds.size(), repaired, userIds.getLast());
+    }
+}
\ No newline at end of file
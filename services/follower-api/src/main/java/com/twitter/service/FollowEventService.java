@@ -0,0 +1,108 @@
+package com.twitter.service;
+
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.entity.Follow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the follow event outbox.
+ * <p>
+ * Every follow change is recorded in the {@code follow_events} table in the transaction that makes
+ * the change, so an event exists if and only if the change is committed. A relay later assigns the
+ * committed events delivery positions in identifier order and delivers them to every subscriber in
+ * position order, tracking a separate high-water mark per subscriber.
+ * <p>
+ * The events of one follower are delivered in the order their changes were committed: the record
+ * methods are called after the counter row of the follower has been locked, so two transactions
+ * changing the follows of the same follower assign event identifiers in their commit order.
+ * Delivery is at-least-once; subscribers deduplicate by event identifier.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowEventService {
+
+    /**
+     * Records that a follow relationship was created.
+     * <p>
+     * Must be called inside the transaction that created the relationship, after the follow
+     * counters of the follower have been adjusted. Does nothing when the outbox is disabled.
+     *
+     * @param followerId  the follower identifier
+     * @param followingId the followed user identifier
+     */
+    void recordFollow(UUID followerId, UUID followingId);
+
+    /**
+     * Records that a follow relationship was removed.
+     * <p>
+     * Must be called inside the transaction that removed the relationship, after the follow
+     * counters of the follower have been adjusted. Does nothing when the outbox is disabled.
+     *
+     * @param followerId  the follower identifier
+     * @param followingId the unfollowed user identifier
+     */
+    void recordUnfollow(UUID followerId, UUID followingId);
+
+    /**
+     * Records one event of the given type for each relationship, in list order, with a single
+     * statement.
+     * <p>
+     * The same transaction requirements as for {@link #recordFollow} apply.
+     *
+     * @param type    the event type
+     * @param follows the created or removed relationships
+     */
+    void recordAll(FollowEventType type, List<Follow> follows);
+
+    /**
+     * Assigns delivery positions to the next batch of committed events in identifier order.
+     * <p>
+     * Positions are assigned by one relay at a time and only to committed events, so positions
+     * become visible in increasing order and a subscriber high-water mark never skips an event.
+     * While another relay is sequencing, this method does nothing.
+     *
+     * @param batchSize maximum number of events to sequence
+     * @return number of sequenced events
+     */
+    int sequenceNextBatch(int batchSize);
+
+    /**
+     * Returns the names of the subscribers that events are delivered to.
+     *
+     * @return the subscriber names
+     */
+    List<String> subscribers();
+
+    /**
+     * Delivers the next batch of events after the high-water mark of one subscriber.
+     * <p>
+     * This method performs the following operations:
+     * 1. Claims the subscriber for {@code app.follow-events.claim-timeout} and reads the batch in
+     * a short transaction
+     * 2. Delivers the batch outside any transaction
+     * 3. Advances the high-water mark of the subscriber and releases the claim in a second short
+     * transaction
+     * <p>
+     * If delivery fails, the claim is released and the same batch is delivered again by the next
+     * call; other subscribers are not affected. While another relay holds the claim, this method
+     * delivers nothing.
+     *
+     * @param subscriber the subscriber name
+     * @param batchSize  maximum number of events to deliver
+     * @return number of delivered events
+     */
+    int publishNextBatch(String subscriber, int batchSize);
+
+    /**
+     * Deletes the events created before the given moment that have been delivered to every
+     * subscriber.
+     *
+     * @param createdBefore delivered events created before this moment are deleted
+     * @return number of deleted events
+     */
+    int deletePublishedEvents(LocalDateTime createdBefore);
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.twitter.service;
+
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.config.FollowEventProperties;
+import com.twitter.entity.Follow;
+import com.twitter.entity.FollowEvent;
+import com.twitter.entity.FollowEventOffset;
+import com.twitter.event.FollowEventPublisher;
+import com.twitter.repository.FollowEventOffsetRepository;
+import com.twitter.repository.FollowEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of the follow event outbox service.
+ * <p>
+ * Delivery to a subscriber is not wrapped in a transaction: a slow or unreachable subscriber then
+ * holds neither row locks nor a database connection, only the claim on its own offset row.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowEventServiceImpl implements FollowEventService {
+
+    private final FollowEventRepository followEventRepository;
+    private final FollowEventOffsetRepository followEventOffsetRepository;
+    private final FollowEventPublisher followEventPublisher;
+    private final FollowEventProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * @see FollowEventService#recordFollow
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordFollow(UUID followerId, UUID followingId) {
+        record(FollowEventType.FOLLOWED, followerId, followingId);
+    }
+
+    /**
+     * @see FollowEventService#recordUnfollow
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUnfollow(UUID followerId, UUID followingId) {
+        record(FollowEventType.UNFOLLOWED, followerId, followingId);
+    }
+
+    /**
+     * @see FollowEventService#recordAll
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(FollowEventType type, List<Follow> follows) {
+        if (!properties.enabled() || follows.isEmpty()) {
+            return;
+        }
+
+        UUID[] followerIds = new UUID[follows.size()];
+        UUID[] followingIds = new UUID[follows.size()];
+        for (int i = 0; i < follows.size(); i++) {
+            followerIds[i] = follows.get(i).getFollowerId();
+            followingIds[i] = follows.get(i).getFollowingId();
+        }
+        followEventRepository.appendAll(type.name(), followerIds, followingIds);
+    }
+
+    /**
+     * @see FollowEventService#sequenceNextBatch
+     */
+    @Override
+    @Transactional
+    public int sequenceNextBatch(int batchSize) {
+        if (!followEventRepository.tryLockSequencer()) {
+            log.debug("Follow events are being sequenced by another relay");
+            return 0;
+        }
+
+        return followEventRepository.sequenceNext(batchSize);
+    }
+
+    /**
+     * @see FollowEventService#subscribers
+     */
+    @Override
+    public List<String> subscribers() {
+        return followEventPublisher.subscribers();
+    }
+
+    /**
+     * @see FollowEventService#publishNextBatch
+     */
+    @Override
+    public int publishNextBatch(String subscriber, int batchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<FollowEvent> events = transactionTemplate.execute(status -> claimNextBatch(subscriber, batchSize));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            followEventPublisher.publish(subscriber, events.stream().map(FollowEventServiceImpl::toDto).toList());
+        } catch (RuntimeException ex) {
+            transactionTemplate.executeWithoutResult(status -> followEventOffsetRepository.release(subscriber));
+            throw ex;
+        }
+
+        long lastPosition = events.getLast().getPosition();
+        transactionTemplate.executeWithoutResult(status -> followEventOffsetRepository.acknowledge(subscriber, lastPosition));
+
+        log.debug("Published follow events: subscriber={}, count={}, lastPosition={}",
+            subscriber, events.size(), lastPosition);
+        return events.size();
+    }
+
+    /**
+     * @see FollowEventService#deletePublishedEvents
+     */
+    @Override
+    @Transactional
+    public int deletePublishedEvents(LocalDateTime createdBefore) {
+        int deleted = followEventRepository.deleteDeliveredBefore(createdBefore,
+            followEventPublisher.subscribers().toArray(String[]::new));
+        log.info("Deleted {} delivered follow events created before {}", deleted, createdBefore);
+        return deleted;
+    }
+
+    /**
+     * Claims a subscriber and reads the events after its high-water mark.
+     *
+     * @param subscriber the subscriber name
+     * @param batchSize  maximum number of events to read
+     * @return the events in position order, empty if the subscriber is claimed by another relay or
+     * has received every sequenced event
+     */
+    private List<FollowEvent> claimNextBatch(String subscriber, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        followEventOffsetRepository.insertIfAbsent(subscriber);
+        Optional<FollowEventOffset> offset = followEventOffsetRepository.claim(subscriber, now,
+            now.plus(properties.claimTimeout()));
+        if (offset.isEmpty()) {
+            return List.of();
+        }
+
+        return followEventRepository.findSequencedAfter(offset.get().getLastPosition(), Limit.of(batchSize));
+    }
+
+    private void record(FollowEventType type, UUID followerId, UUID followingId) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        followEventRepository.save(FollowEvent.builder()
+            .eventType(type)
+            .followerId(followerId)
+            .followingId(followingId)
+            .build());
+    }
+
+    private static FollowEventDto toDto(FollowEvent event) {
+        return FollowEventDto.builder()
+            .id(event.getId())
+            .type(event.getEventType())
+            .followerId(event.getFollowerId())
+            .followingId(event.getFollowingId())
+            .occurredAt(event.getCreatedAt())
+            .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.twitter.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Service interface for exporting complete follow lists in Twitter microservices.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowExportService {
+
+    /**
+     * Writes all followers of a user to the output as NDJSON, one follower per line.
+     * <p>
+     * Followers are read from a database cursor in ascending order of follower ID and written as
+     * they arrive, so memory use does not depend on the number of followers. An interrupted export
+     * can be resumed by passing the follower ID of the last line received.
+     *
+     * @param userId  the ID of the user whose followers should be exported
+     * @param afterId follower ID of the last line of an interrupted export, or null to start from the beginning
+     * @param output  the stream to write NDJSON lines to
+     * @return number of lines written
+     * @throws IOException if writing to the output fails, for example when the client disconnects
+     */
+    long exportFollowers(UUID userId, UUID afterId, OutputStream output) throws IOException;
+}
\ No newline at end of file
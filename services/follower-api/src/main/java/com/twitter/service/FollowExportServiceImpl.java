@@ -0,0 +1,80 @@
+package com.twitter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.twitter.dto.response.FollowerExportLineDto;
+import com.twitter.repository.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the follow export service.
+ * <p>
+ * The export runs in one read-only transaction, so the PostgreSQL driver keeps a server-side
+ * cursor open and fetches rows in fixed-size batches. Rows are mapped straight to export lines
+ * without loading entities, and the output is flushed after every batch so the client receives
+ * data while the export is still running.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class FollowExportServiceImpl implements FollowExportService {
+
+    /**
+     * Cursor preceding every user identifier in the database order.
+     */
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    /**
+     * Number of lines written between flushes, equal to the cursor fetch size.
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final FollowRepository followRepository;
+    private final ObjectWriter lineWriter;
+
+    public FollowExportServiceImpl(FollowRepository followRepository, ObjectMapper objectMapper) {
+        this.followRepository = followRepository;
+        this.lineWriter = objectMapper.writerFor(FollowerExportLineDto.class);
+    }
+
+    /**
+     * @see FollowExportService#exportFollowers
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportFollowers(UUID userId, UUID afterId, OutputStream output) throws IOException {
+        log.debug("Exporting followers for user: userId={}, afterId={}", userId, afterId);
+
+        long lines = 0;
+        try (Stream<FollowerExportLineDto> followers = followRepository.streamFollowerExportLines(
+            userId, afterId != null ? afterId : FIRST_ID)) {
+            Iterator<FollowerExportLineDto> iterator = followers.iterator();
+            while (iterator.hasNext()) {
+                output.write(lineWriter.writeValueAsBytes(iterator.next()));
+                output.write(LINE_SEPARATOR);
+                if (++lines % FLUSH_INTERVAL == 0) {
+                    output.flush();
+                }
+            }
+            output.flush();
+        } catch (IOException e) {
+            log.warn("Follower export interrupted after {} lines: userId={}, reason={}", lines, userId, e.getMessage());
+            throw e;
+        }
+
+        log.info("Exported {} followers for user: userId={}", lines, userId);
+        return lines;
+    }
+}
\ No newline at end of file
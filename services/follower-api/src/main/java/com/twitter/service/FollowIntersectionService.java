@@ -0,0 +1,51 @@
+package com.twitter.service;
+
+import com.twitter.dto.response.FollowIdsPageResponseDto;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+/**
+ * Service interface for intersections of follow relationships in Twitter microservices.
+ * <p>
+ * Results are identifiers in ascending order, paged with a keyset cursor so that the intersection
+ * of large accounts can be read through without materializing either side.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowIntersectionService {
+
+    /**
+     * Default number of identifiers in a page.
+     */
+    int DEFAULT_LIMIT = 100;
+
+    /**
+     * Maximum number of identifiers in a page.
+     */
+    int MAX_LIMIT = 1000;
+
+    /**
+     * Retrieves the mutual follows of a user: users the user follows who follow the user back.
+     *
+     * @param userId  the ID of the user
+     * @param afterId cursor returned with the previous page, or null for the first page
+     * @param limit   maximum number of identifiers, between 1 and {@link #MAX_LIMIT}
+     * @return page of user identifiers in ascending order
+     * @throws ResponseStatusException with 400 status if the limit is out of range
+     */
+    FollowIdsPageResponseDto getMutualFollows(UUID userId, UUID afterId, int limit);
+
+    /**
+     * Retrieves the common followers of two users: users following both of them.
+     *
+     * @param userId      the ID of the first user
+     * @param otherUserId the ID of the second user
+     * @param afterId     cursor returned with the previous page, or null for the first page
+     * @param limit       maximum number of identifiers, between 1 and {@link #MAX_LIMIT}
+     * @return page of user identifiers in ascending order
+     * @throws ResponseStatusException with 400 status if the limit is out of range
+     */
+    FollowIdsPageResponseDto getCommonFollowers(UUID userId, UUID otherUserId, UUID afterId, int limit);
+}
\ No newline at end of file
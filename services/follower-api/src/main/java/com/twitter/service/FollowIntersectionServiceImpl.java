@@ -0,0 +1,247 @@
+package com.twitter.service;
+
+import com.twitter.dto.response.FollowIdsPageResponseDto;
+import com.twitter.entity.FollowCount;
+import com.twitter.graph.FollowGraph;
+import com.twitter.graph.FollowGraphView;
+import com.twitter.graph.SortedIntersection;
+import com.twitter.repository.FollowCountRepository;
+import com.twitter.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the follow intersection service.
+ * <p>
+ * When the in-memory follow graph is serving, the sorted adjacency arrays are intersected in memory.
+ * Dense identifiers are not in database order, so a page keeps only the {@code limit + 1} smallest
+ * common identifiers after the cursor in a bounded heap instead of sorting the whole intersection.
+ * Every page still intersects the whole arrays, so the graph is only used while the smaller side has
+ * at most {@link #GRAPH_MAX_SMALLER_SIDE} identifiers; paging through larger intersections would
+ * cost quadratic time in memory. Otherwise both sides are read from the database as streams ordered by user identifier through the
+ * {@code follows} indexes. Sides of similar size are merged; when one side is at least
+ * {@link SortedIntersection#GALLOP_RATIO} times larger, only the smaller side is streamed and its
+ * identifiers are probed in the larger one in batches, which keeps the work proportional to the
+ * smaller account.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowIntersectionServiceImpl implements FollowIntersectionService {
+
+    /**
+     * Cursor preceding every user identifier in the database order.
+     */
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    /**
+     * Number of identifiers of the smaller side probed in the larger side with one query.
+     */
+    private static final int PROBE_BATCH_SIZE = 500;
+
+    /**
+     * Size of the smaller side above which pages are read from the database with a cursor instead
+     * of intersecting the adjacency arrays of the graph.
+     */
+    static final int GRAPH_MAX_SMALLER_SIDE = 10_000;
+
+    private final FollowRepository followRepository;
+    private final FollowCountRepository followCountRepository;
+    private final FollowGraph followGraph;
+
+    /**
+     * @see FollowIntersectionService#getMutualFollows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FollowIdsPageResponseDto getMutualFollows(UUID userId, UUID afterId, int limit) {
+        log.debug("Retrieving mutual follows for user: userId={}, afterId={}, limit={}", userId, afterId, limit);
+        validateLimit(limit);
+
+        FollowCount counts = findCounts(userId);
+        FollowIdsPageResponseDto page = intersect(
+            new Side(userId, Relation.FOLLOWING, counts.getFollowingCount()),
+            new Side(userId, Relation.FOLLOWERS, counts.getFollowersCount()),
+            afterId, limit);
+
+        log.info("Retrieved {} mutual follows for user: userId={}", page.ids().size(), userId);
+        return page;
+    }
+
+    /**
+     * @see FollowIntersectionService#getCommonFollowers
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FollowIdsPageResponseDto getCommonFollowers(UUID userId, UUID otherUserId, UUID afterId, int limit) {
+        log.debug("Retrieving common followers of users: userId={}, otherUserId={}, afterId={}, limit={}",
+            userId, otherUserId, afterId, limit);
+        validateLimit(limit);
+
+        FollowIdsPageResponseDto page = intersect(
+            new Side(userId, Relation.FOLLOWERS, findCounts(userId).getFollowersCount()),
+            new Side(otherUserId, Relation.FOLLOWERS, findCounts(otherUserId).getFollowersCount()),
+            afterId, limit);
+
+        log.info("Retrieved {} common followers of users: userId={}, otherUserId={}",
+            page.ids().size(), userId, otherUserId);
+        return page;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                String.format("Page limit must be between 1 and %d, but was %d", MAX_LIMIT, limit)
+            );
+        }
+    }
+
+    private FollowCount findCounts(UUID userId) {
+        return followCountRepository.findById(userId)
+            .orElseGet(() -> FollowCount.builder().userId(userId).followersCount(0L).followingCount(0L).build());
+    }
+
+    private FollowIdsPageResponseDto intersect(Side left, Side right, UUID afterId, int limit) {
+        UUID cursor = afterId != null ? afterId : FIRST_ID;
+        return followGraph.read(view -> intersectInGraph(view, left, right, cursor, limit))
+            .orElseGet(() -> {
+                Side small = left.size() <= right.size() ? left : right;
+                Side large = small == left ? right : left;
+                if (small.size() * SortedIntersection.GALLOP_RATIO < large.size()) {
+                    log.debug("Probing {} identifiers in {} identifiers", small.size(), large.size());
+                    return probe(small, large, cursor, limit);
+                }
+                return merge(left, right, cursor, limit);
+            });
+    }
+
+    private FollowIdsPageResponseDto intersectInGraph(FollowGraphView view, Side left, Side right, UUID cursor, int limit) {
+        int[] leftIds = denseIds(view, left);
+        int[] rightIds = denseIds(view, right);
+        if (Math.min(leftIds.length, rightIds.length) > GRAPH_MAX_SMALLER_SIDE) {
+            log.debug("Reading intersection of {} and {} identifiers from the database", leftIds.length, rightIds.length);
+            return null;
+        }
+
+        int[] common = SortedIntersection.intersect(leftIds, rightIds);
+        PriorityQueue<UUID> smallest = new PriorityQueue<>(limit + 1, SortedIntersection.UUID_ORDER.reversed());
+        for (int denseId : common) {
+            UUID id = view.userId(denseId);
+            if (SortedIntersection.UUID_ORDER.compare(id, cursor) <= 0) {
+                continue;
+            }
+            if (smallest.size() <= limit) {
+                smallest.add(id);
+            } else if (SortedIntersection.UUID_ORDER.compare(id, smallest.peek()) < 0) {
+                smallest.poll();
+                smallest.add(id);
+            }
+        }
+        List<UUID> ids = new ArrayList<>(smallest);
+        ids.sort(SortedIntersection.UUID_ORDER);
+        return toPage(ids, limit);
+    }
+
+    private FollowIdsPageResponseDto merge(Side left, Side right, UUID cursor, int limit) {
+        try (Stream<UUID> leftIds = stream(left, cursor); Stream<UUID> rightIds = stream(right, cursor)) {
+            Iterator<UUID> common = SortedIntersection.intersect(
+                leftIds.iterator(), rightIds.iterator(), SortedIntersection.UUID_ORDER);
+            List<UUID> ids = new ArrayList<>(limit + 1);
+            while (ids.size() <= limit && common.hasNext()) {
+                ids.add(common.next());
+            }
+            return toPage(ids, limit);
+        }
+    }
+
+    private FollowIdsPageResponseDto probe(Side small, Side large, UUID cursor, int limit) {
+        try (Stream<UUID> candidates = stream(small, cursor)) {
+            Iterator<UUID> iterator = candidates.iterator();
+            List<UUID> ids = new ArrayList<>(limit + 1);
+            List<UUID> batch = new ArrayList<>(PROBE_BATCH_SIZE);
+            while (ids.size() <= limit && iterator.hasNext()) {
+                batch.clear();
+                while (batch.size() < PROBE_BATCH_SIZE && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+
+                Set<UUID> present = new HashSet<>(retain(large, batch));
+                for (int i = 0; i < batch.size() && ids.size() <= limit; i++) {
+                    if (present.contains(batch.get(i))) {
+                        ids.add(batch.get(i));
+                    }
+                }
+            }
+            return toPage(ids, limit);
+        }
+    }
+
+    private static FollowIdsPageResponseDto toPage(List<UUID> ids, int limit) {
+        if (ids.size() <= limit) {
+            return FollowIdsPageResponseDto.builder()
+                .ids(List.copyOf(ids))
+                .build();
+        }
+        List<UUID> page = List.copyOf(ids.subList(0, limit));
+        return FollowIdsPageResponseDto.builder()
+            .ids(page)
+            .nextCursor(page.getLast())
+            .build();
+    }
+
+    private static int[] denseIds(FollowGraphView view, Side side) {
+        int denseId = view.denseId(side.userId());
+        if (denseId < 0) {
+            return new int[0];
+        }
+        return side.relation() == Relation.FOLLOWING ? view.following(denseId) : view.followers(denseId);
+    }
+
+    private Stream<UUID> stream(Side side, UUID cursor) {
+        return side.relation() == Relation.FOLLOWING
+            ? followRepository.streamFollowingIds(side.userId(), cursor)
+            : followRepository.streamFollowerIds(side.userId(), cursor);
+    }
+
+    private List<UUID> retain(Side side, Collection<UUID> ids) {
+        return side.relation() == Relation.FOLLOWING
+            ? followRepository.findFollowingIdsIn(side.userId(), ids)
+            : followRepository.findFollowerIdsIn(side.userId(), ids);
+    }
+
+    /**
+     * Direction of the relationships of a user that make up one side of an intersection.
+     */
+    private enum Relation {
+        FOLLOWING,
+        FOLLOWERS
+    }
+
+    /**
+     * One side of an intersection.
+     *
+     * @param userId   the user whose relationships are intersected
+     * @param relation direction of the relationships
+     * @param size     expected number of relationships, used to pick the intersection strategy
+     */
+    private record Side(UUID userId, Relation relation, long size) {
+    }
+}
\ No newline at end of file
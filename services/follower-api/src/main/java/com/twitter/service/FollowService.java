@@ -8,12 +8,14 @@ import com.twitter.common.exception.validation.UniquenessValidationException;
 import com.twitter.dto.filter.FollowerFilter;
 import com.twitter.dto.filter.FollowingFilter;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
 import com.twitter.dto.response.FollowerResponseDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedModel;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -82,6 +84,19 @@ public interface FollowService {
      */
     FollowStatusResponseDto getFollowStatus(UUID followerId, UUID followingId);
 
+    /**
+     * Retrieves the status of the follow relationships between a user and several other users.
+     * <p>
+     * The statuses are answered from the in-memory follow graph when it is serving, otherwise
+     * with a single database query. The result contains exactly one item per requested identifier,
+     * in the order of the request (duplicates included).
+     *
+     * @param followerId   the ID of the user who is following (the follower)
+     * @param followingIds the IDs of the users to check
+     * @return list of follow statuses in request order
+     */
+    List<FollowStatusBatchItemResponseDto> getFollowStatuses(UUID followerId, List<UUID> followingIds);
+
     /**
      * Retrieves follow statistics for a specific user.
      * <p>
@@ -92,4 +107,15 @@ public interface FollowService {
      * @return FollowStatsResponseDto containing followers count and following count
      */
     FollowStatsResponseDto getFollowStats(UUID userId);
+
+    /**
+     * Retrieves the identifiers of all users that a specific user is following.
+     * <p>
+     * Unlike {@link #getFollowing}, the result is not paginated and contains no user logins,
+     * which makes it suitable for building timelines and other fan-in queries.
+     *
+     * @param userId the ID of the user whose followed users should be retrieved
+     * @return identifiers of the followed users in no particular order
+     */
+    List<UUID> getFollowingIds(UUID userId);
 }
\ No newline at end of file
@@ -1,16 +1,21 @@
 package com.twitter.service;
 
+import com.twitter.cache.FollowSuggestionCache;
 import com.twitter.dto.filter.FollowerFilter;
 import com.twitter.dto.filter.FollowingFilter;
 import com.twitter.common.dto.request.follow.FollowRequestDto;
 import com.twitter.common.dto.response.follow.FollowResponseDto;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
 import com.twitter.dto.response.FollowerResponseDto;
 import com.twitter.common.dto.response.follow.FollowingResponseDto;
 import com.twitter.entity.Follow;
 import com.twitter.gateway.UserGateway;
+import com.twitter.graph.FollowGraph;
+import com.twitter.graph.SortedIntersection;
 import com.twitter.mapper.FollowMapper;
+import com.twitter.repository.FollowCountRepository;
 import com.twitter.repository.FollowRepository;
 import com.twitter.validation.FollowValidator;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +33,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,9 +50,13 @@ import java.util.stream.Collectors;
 public class FollowServiceImpl implements FollowService {
 
     private final FollowRepository followRepository;
+    private final FollowCountRepository followCountRepository;
     private final FollowMapper followMapper;
     private final FollowValidator followValidator;
     private final UserGateway userGateway;
+    private final FollowGraph followGraph;
+    private final FollowSuggestionCache followSuggestionCache;
+    private final FollowEventService followEventService;
 
     /**
      * @see FollowService#follow
@@ -60,6 +71,10 @@ public class FollowServiceImpl implements FollowService {
 
         Follow follow = followMapper.toFollow(request);
         Follow savedFollow = followRepository.saveAndFlush(follow);
+        adjustFollowCounts(savedFollow.getFollowerId(), savedFollow.getFollowingId(), 1);
+        followEventService.recordFollow(savedFollow.getFollowerId(), savedFollow.getFollowingId());
+        followGraph.onFollow(savedFollow.getFollowerId(), savedFollow.getFollowingId(), savedFollow.getCreatedAt());
+        followSuggestionCache.invalidate(savedFollow.getFollowerId());
 
         log.info("Successfully created follow relationship: id={}, followerId={}, followingId={}",
             savedFollow.getId(), savedFollow.getFollowerId(), savedFollow.getFollowingId());
@@ -86,6 +101,10 @@ public class FollowServiceImpl implements FollowService {
             });
 
         followRepository.delete(follow);
+        adjustFollowCounts(followerId, followingId, -1);
+        followEventService.recordUnfollow(followerId, followingId);
+        followGraph.onUnfollow(followerId, followingId);
+        followSuggestionCache.invalidate(followerId);
 
         log.info("Successfully removed follow relationship: id={}, followerId={}, followingId={}",
             follow.getId(), followerId, followingId);
@@ -181,12 +200,44 @@ public class FollowServiceImpl implements FollowService {
     public FollowStatusResponseDto getFollowStatus(UUID followerId, UUID followingId) {
         log.debug("Checking follow relationship status: followerId={}, followingId={}", followerId, followingId);
 
-        return followRepository.findByFollowerIdAndFollowingId(followerId, followingId)
-            .map(followMapper::toFollowStatusResponseDto)
-            .orElseGet(() -> FollowStatusResponseDto.builder()
-                .isFollowing(false)
-                .createdAt(null)
-                .build());
+        return followGraph.findFollowStatus(followerId, followingId)
+            .orElseGet(() -> followRepository.findByFollowerIdAndFollowingId(followerId, followingId)
+                .map(followMapper::toFollowStatusResponseDto)
+                .orElseGet(() -> FollowStatusResponseDto.builder()
+                    .isFollowing(false)
+                    .createdAt(null)
+                    .build()));
+    }
+
+    /**
+     * @see FollowService#getFollowStatuses
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FollowStatusBatchItemResponseDto> getFollowStatuses(UUID followerId, List<UUID> followingIds) {
+        log.debug("Checking {} follow relationships: followerId={}", followingIds.size(), followerId);
+
+        return followGraph.findFollowStatuses(followerId, followingIds)
+            .orElseGet(() -> {
+                UUID[] uniqueIds = followingIds.stream()
+                    .distinct()
+                    .toArray(UUID[]::new);
+                Map<UUID, Follow> followsByFollowingId = followRepository
+                    .findByFollowerIdAndFollowingIdAny(followerId, uniqueIds).stream()
+                    .collect(Collectors.toMap(Follow::getFollowingId, Function.identity()));
+
+                return followingIds.stream()
+                    .map(followingId -> {
+                        Follow follow = followsByFollowingId.get(followingId);
+                        return follow != null
+                            ? followMapper.toFollowStatusBatchItemResponseDto(follow)
+                            : FollowStatusBatchItemResponseDto.builder()
+                                .followingId(followingId)
+                                .isFollowing(false)
+                                .build();
+                    })
+                    .toList();
+            });
     }
 
     /**
@@ -197,9 +248,45 @@ public class FollowServiceImpl implements FollowService {
     public FollowStatsResponseDto getFollowStats(UUID userId) {
         log.debug("Retrieving follow statistics for user: userId={}", userId);
 
-        long followersCount = followRepository.countByFollowingId(userId);
-        long followingCount = followRepository.countByFollowerId(userId);
+        return followGraph.findFollowStats(userId)
+            .orElseGet(() -> followCountRepository.findById(userId)
+                .map(counts -> followMapper.toFollowStatsResponseDto(counts.getFollowersCount(), counts.getFollowingCount()))
+                .orElseGet(() -> followMapper.toFollowStatsResponseDto(0L, 0L)));
+    }
+
+    /**
+     * @see FollowService#getFollowingIds
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> getFollowingIds(UUID userId) {
+        log.debug("Retrieving following identifiers for user: userId={}", userId);
+
+        List<UUID> followingIds = followGraph.findFollowingIds(userId)
+            .orElseGet(() -> followRepository.findFollowingIdsByFollowerId(userId));
 
-        return followMapper.toFollowStatsResponseDto(followersCount, followingCount);
+        log.info("Retrieved {} following identifiers for user: userId={}", followingIds.size(), userId);
+        return followingIds;
+    }
+
+    /**
+     * Adjusts the denormalized follow counters of both users of a relationship.
+     * <p>
+     * The counter rows are always updated in {@link SortedIntersection#UUID_ORDER}, the order in
+     * which the database compares user identifiers, so concurrent follows between the same users
+     * and the counters repair job lock the rows in one order and cannot deadlock.
+     *
+     * @param followerId  the follower user identifier
+     * @param followingId the followed user identifier
+     * @param delta       +1 for a new relationship, -1 for a removed one
+     */
+    private void adjustFollowCounts(UUID followerId, UUID followingId, long delta) {
+        if (SortedIntersection.UUID_ORDER.compare(followerId, followingId) < 0) {
+            followCountRepository.adjustCounts(followerId, 0, delta);
+            followCountRepository.adjustCounts(followingId, delta, 0);
+        } else {
+            followCountRepository.adjustCounts(followingId, delta, 0);
+            followCountRepository.adjustCounts(followerId, 0, delta);
+        }
     }
 }
\ No newline at end of file
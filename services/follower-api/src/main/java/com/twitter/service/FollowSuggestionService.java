@@ -0,0 +1,42 @@
+package com.twitter.service;
+
+import com.twitter.dto.response.FollowSuggestionResponseDto;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for "who to follow" suggestions in Twitter microservices.
+ * <p>
+ * Users are suggested by second-degree overlap: the more users followed by the requester follow
+ * someone, the higher that user is ranked. Users already followed and the requester are excluded.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface FollowSuggestionService {
+
+    /**
+     * Default number of suggestions returned when no limit is requested.
+     */
+    int DEFAULT_LIMIT = 10;
+
+    /**
+     * Maximum number of suggestions that can be requested.
+     */
+    int MAX_LIMIT = 50;
+
+    /**
+     * Retrieves follow suggestions for a user.
+     * <p>
+     * Suggestions are computed on the in-memory follow graph when it is serving, otherwise with a
+     * database query, and cached per user for a configured time.
+     *
+     * @param userId the ID of the user to compute suggestions for
+     * @param limit  maximum number of suggestions, between 1 and {@link #MAX_LIMIT}
+     * @return suggestions ordered by the number of followed users that follow them, descending
+     * @throws ResponseStatusException with 400 status if the limit is out of range
+     */
+    List<FollowSuggestionResponseDto> getSuggestions(UUID userId, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.twitter.service;
+
+import com.twitter.cache.FollowSuggestionCache;
+import com.twitter.config.FollowSuggestionProperties;
+import com.twitter.dto.graph.FollowSuggestionCandidate;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
+import com.twitter.gateway.UserGateway;
+import com.twitter.graph.FollowSuggestionEngine;
+import com.twitter.mapper.FollowMapper;
+import com.twitter.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the follow suggestions service.
+ * <p>
+ * Suggestions are read without a surrounding transaction so that the database connection is not
+ * held while the logins of the suggested users are resolved in users-api.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowSuggestionServiceImpl implements FollowSuggestionService {
+
+    private final FollowSuggestionEngine followSuggestionEngine;
+    private final FollowSuggestionCache followSuggestionCache;
+    private final FollowRepository followRepository;
+    private final FollowMapper followMapper;
+    private final UserGateway userGateway;
+    private final FollowSuggestionProperties properties;
+
+    /**
+     * @see FollowSuggestionService#getSuggestions
+     */
+    @Override
+    public List<FollowSuggestionResponseDto> getSuggestions(UUID userId, int limit) {
+        log.debug("Retrieving follow suggestions for user: userId={}, limit={}", userId, limit);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST,
+                String.format("Suggestions limit must be between 1 and %d, but was %d", MAX_LIMIT, limit)
+            );
+        }
+
+        List<FollowSuggestionResponseDto> suggestions = followSuggestionCache.get(userId, this::computeSuggestions);
+        List<FollowSuggestionResponseDto> result = suggestions.subList(0, Math.min(limit, suggestions.size()));
+
+        log.info("Retrieved {} follow suggestions for user: userId={}", result.size(), userId);
+        return result;
+    }
+
+    /**
+     * Computes the maximum number of suggestions for a user, on the follow graph if it is serving
+     * and with a database query otherwise, and resolves their logins with one batch request.
+     * <p>
+     * The database query applies the same {@code max-first-degree} and {@code max-fan-out} caps as
+     * the graph, so its cost per user stays bounded; unlike the graph it counts the first followings
+     * in identifier order instead of an even sample.
+     *
+     * @param userId the user identifier
+     * @return suggestions with resolved logins
+     */
+    private List<FollowSuggestionResponseDto> computeSuggestions(UUID userId) {
+        List<FollowSuggestionCandidate> candidates = followSuggestionEngine.suggest(userId, MAX_LIMIT)
+            .orElseGet(() -> {
+                log.debug("Follow graph is not serving, computing suggestions in the database: userId={}", userId);
+                return followRepository.findSuggestionCandidates(userId, properties.maxFirstDegree(),
+                        properties.maxFanOut(), MAX_LIMIT).stream()
+                    .map(view -> new FollowSuggestionCandidate(view.getUserId(), view.getMutualCount()))
+                    .toList();
+            });
+
+        Map<UUID, String> logins = userGateway.getUserLogins(candidates.stream()
+            .map(FollowSuggestionCandidate::userId)
+            .toList());
+        return candidates.stream()
+            .map(candidate -> followMapper.toFollowSuggestionResponseDto(candidate,
+                logins.getOrDefault(candidate.userId(), "unknown")))
+            .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.twitter.cache;
+
+import com.twitter.config.FollowSuggestionProperties;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowSuggestionCacheTest {
+
+    private final UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private FollowSuggestionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FollowSuggestionCache(new FollowSuggestionProperties(1, 10, 10, Duration.ofMinutes(10), 100),
+            new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<FollowSuggestionResponseDto> load(UUID id) {
+        loads.incrementAndGet();
+        return List.of();
+    }
+
+    @Test
+    void get_WhenCached_ShouldNotLoadAgain() {
+        cache.get(userId, this::load);
+        cache.get(userId, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenInvalidatedDuringLoad_ShouldNotCacheLoadedSuggestions() {
+        cache.get(userId, id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+        cache.get(userId, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldRemoveOnlyAfterCommit() {
+        cache.get(userId, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate(userId);
+
+        cache.get(userId, this::load);
+        assertThat(loads.get()).isEqualTo(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(userId, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
\ No newline at end of file
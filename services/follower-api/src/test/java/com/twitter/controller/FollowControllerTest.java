@@ -3,7 +3,10 @@ package com.twitter.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.twitter.common.dto.request.follow.FollowRequestDto;
 import com.twitter.common.dto.response.follow.FollowResponseDto;
+import com.twitter.dto.request.FollowBatchRequestDto;
+import com.twitter.dto.request.FollowStatusBatchRequestDto;
 import com.twitter.entity.Follow;
+import com.twitter.repository.FollowCountRepository;
 import com.twitter.repository.FollowRepository;
 import com.twitter.testconfig.BaseIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +18,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +43,9 @@ public class FollowControllerTest extends BaseIntegrationTest {
     @Autowired
     private FollowRepository followRepository;
 
+    @Autowired
+    private FollowCountRepository followCountRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -83,6 +92,8 @@ public class FollowControllerTest extends BaseIntegrationTest {
 
     /**
      * Creates and saves a follow relationship in the database for testing.
+     * <p>
+     * Follow counters of both users are adjusted the same way the service does it.
      *
      * @param followerId  the follower user ID
      * @param followingId the following user ID
@@ -93,7 +104,10 @@ public class FollowControllerTest extends BaseIntegrationTest {
             .followerId(followerId)
             .followingId(followingId)
             .build();
-        return followRepository.saveAndFlush(follow);
+        Follow saved = followRepository.saveAndFlush(follow);
+        followCountRepository.adjustCounts(followingId, 1, 0);
+        followCountRepository.adjustCounts(followerId, 0, 1);
+        return saved;
     }
 
     @Nested
@@ -257,14 +271,14 @@ public class FollowControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void createFollow_WhenUsersApiReturns500_ShouldHandleGracefully() throws Exception {
+        void createFollow_WhenUsersApiReturns500_ShouldReturn503ServiceUnavailable() throws Exception {
             setupUserExistsStubWithError(testFollowerId, 500);
             FollowRequestDto request = createValidRequest(testFollowerId, testFollowingId);
 
             mockMvc.perform(post("/api/v1/follows")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict())
+                .andExpect(status().isServiceUnavailable())
                 .andExpect(jsonPath("$.type").exists());
 
             assertThat(getFollowCount()).isEqualTo(0);
@@ -311,6 +325,102 @@ public class FollowControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    class CreateFollowsTests {
+
+        private UUID user1Id;
+        private UUID user2Id;
+        private UUID user3Id;
+
+        @BeforeEach
+        void setUp() {
+            user1Id = UUID.randomUUID();
+            user2Id = UUID.randomUUID();
+            user3Id = UUID.randomUUID();
+        }
+
+        @Test
+        void createFollows_WithMixedItems_ShouldReturnPerItemResultsAndUpdateCounters() throws Exception {
+            setupUsersExistBatchStub(user1Id, user2Id);
+            createAndSaveFollow(user2Id, user1Id);
+            FollowBatchRequestDto request = new FollowBatchRequestDto(List.of(
+                createValidRequest(user1Id, user2Id),
+                createValidRequest(user2Id, user1Id),
+                createValidRequest(user1Id, user1Id),
+                createValidRequest(user1Id, user3Id)
+            ));
+
+            mockMvc.perform(post("/api/v1/follows/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("ALREADY_FOLLOWING"))
+                .andExpect(jsonPath("$[2].status").value("SELF_FOLLOW"))
+                .andExpect(jsonPath("$[3].status").value("USER_NOT_FOUND"));
+
+            assertThat(verifyFollowInDatabase(user1Id, user2Id)).isTrue();
+            assertThat(getFollowCount()).isEqualTo(2);
+            assertThat(followCountRepository.findById(user1Id).orElseThrow().getFollowersCount()).isEqualTo(1);
+            assertThat(followCountRepository.findById(user1Id).orElseThrow().getFollowingCount()).isEqualTo(1);
+        }
+
+        @Test
+        void createFollows_WhenUsersApiFails_ShouldReturn503AndCreateNothing() throws Exception {
+            FollowBatchRequestDto request = new FollowBatchRequestDto(List.of(createValidRequest(user1Id, user2Id)));
+
+            mockMvc.perform(post("/api/v1/follows/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable());
+
+            assertThat(getFollowCount()).isEqualTo(0);
+        }
+
+        @Test
+        void createFollows_WithEmptyList_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(post("/api/v1/follows/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"follows\":[]}"))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void createFollows_WithNullFollowerId_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(post("/api/v1/follows/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"follows\":[{\"followerId\":null,\"followingId\":\"" + user2Id + "\"}]}"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class DeleteFollowsTests {
+
+        @Test
+        void deleteFollows_WithExistingAndMissingRelationships_ShouldReturnPerItemResults() throws Exception {
+            UUID user1Id = UUID.randomUUID();
+            UUID user2Id = UUID.randomUUID();
+            UUID user3Id = UUID.randomUUID();
+            createAndSaveFollow(user1Id, user2Id);
+            FollowBatchRequestDto request = new FollowBatchRequestDto(List.of(
+                createValidRequest(user1Id, user2Id),
+                createValidRequest(user1Id, user3Id)
+            ));
+
+            mockMvc.perform(post("/api/v1/follows/batch/delete")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DELETED"))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOLLOWING"));
+
+            assertThat(getFollowCount()).isEqualTo(0);
+            assertThat(followCountRepository.findById(user2Id).orElseThrow().getFollowersCount()).isEqualTo(0);
+        }
+    }
+
     @Nested
     class GetFollowersTests {
 
@@ -465,6 +575,63 @@ public class FollowControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    class ExportFollowersTests {
+
+        private UUID testUserId;
+        private UUID follower1Id;
+        private UUID follower2Id;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+            follower1Id = UUID.fromString("10000000-0000-0000-0000-000000000001");
+            follower2Id = UUID.fromString("f0000000-0000-0000-0000-000000000002");
+        }
+
+        @Test
+        void exportFollowers_WhenFollowersExist_ShouldStreamNdjsonInFollowerIdOrder() throws Exception {
+            createAndSaveFollow(follower2Id, testUserId);
+            createAndSaveFollow(follower1Id, testUserId);
+
+            MvcResult result = mockMvc.perform(get("/api/v1/follows/{userId}/followers/export", testUserId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("followerId").asText()).isEqualTo(follower1Id.toString());
+            assertThat(objectMapper.readTree(lines[1]).get("followerId").asText()).isEqualTo(follower2Id.toString());
+        }
+
+        @Test
+        void exportFollowers_WithCursor_ShouldResumeAfterLastFollower() throws Exception {
+            createAndSaveFollow(follower1Id, testUserId);
+            createAndSaveFollow(follower2Id, testUserId);
+
+            MvcResult result = mockMvc.perform(get("/api/v1/follows/{userId}/followers/export", testUserId)
+                    .param("after", follower1Id.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            assertThat(body.split("\n")).hasSize(1);
+            assertThat(body).contains(follower2Id.toString()).doesNotContain(follower1Id.toString());
+        }
+    }
+
     @Nested
     class GetFollowingTests {
 
@@ -679,6 +846,72 @@ public class FollowControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    class GetFollowStatusesTests {
+
+        private UUID testFollowerId;
+        private UUID followedId;
+        private UUID notFollowedId;
+
+        @BeforeEach
+        void setUp() {
+            testFollowerId = UUID.randomUUID();
+            followedId = UUID.randomUUID();
+            notFollowedId = UUID.randomUUID();
+        }
+
+        @Test
+        void getFollowStatuses_WithValidRequest_ShouldReturn200OkWithStatusesInRequestOrder() throws Exception {
+            createAndSaveFollow(testFollowerId, followedId);
+            FollowStatusBatchRequestDto request = FollowStatusBatchRequestDto.builder()
+                .followingIds(List.of(notFollowedId, followedId))
+                .build();
+
+            mockMvc.perform(post("/api/v1/follows/{followerId}/status/batch", testFollowerId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].followingId").value(notFollowedId.toString()))
+                .andExpect(jsonPath("$[0].isFollowing").value(false))
+                .andExpect(jsonPath("$[0].createdAt").isEmpty())
+                .andExpect(jsonPath("$[1].followingId").value(followedId.toString()))
+                .andExpect(jsonPath("$[1].isFollowing").value(true))
+                .andExpect(jsonPath("$[1].createdAt").isNotEmpty());
+        }
+
+        @Test
+        void getFollowStatuses_WithEmptyList_ShouldReturn400BadRequest() throws Exception {
+            FollowStatusBatchRequestDto request = FollowStatusBatchRequestDto.builder()
+                .followingIds(List.of())
+                .build();
+
+            mockMvc.perform(post("/api/v1/follows/{followerId}/status/batch", testFollowerId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+        }
+
+        @Test
+        void getFollowStatuses_WithTooManyIds_ShouldReturn400BadRequest() throws Exception {
+            List<UUID> followingIds = new ArrayList<>();
+            for (int i = 0; i <= FollowStatusBatchRequestDto.MAX_FOLLOWING_IDS; i++) {
+                followingIds.add(UUID.randomUUID());
+            }
+            FollowStatusBatchRequestDto request = FollowStatusBatchRequestDto.builder()
+                .followingIds(followingIds)
+                .build();
+
+            mockMvc.perform(post("/api/v1/follows/{followerId}/status/batch", testFollowerId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+        }
+    }
+
     @Nested
     class GetFollowStatsTests {
 
@@ -761,4 +994,236 @@ public class FollowControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.detail").exists());
         }
     }
+
+    @Nested
+    class GetFollowingIdsTests {
+
+        private UUID testUserId;
+        private UUID following1Id;
+        private UUID following2Id;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+            following1Id = UUID.randomUUID();
+            following2Id = UUID.randomUUID();
+        }
+
+        @Test
+        void getFollowingIds_WhenFollowingExist_ShouldReturn200OkWithIds() throws Exception {
+            createAndSaveFollow(testUserId, following1Id);
+            createAndSaveFollow(testUserId, following2Id);
+            createAndSaveFollow(following1Id, testUserId);
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/following/ids", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@ == '%s')]", following1Id.toString()).exists())
+                .andExpect(jsonPath("$[?(@ == '%s')]", following2Id.toString()).exists());
+        }
+
+        @Test
+        void getFollowingIds_WhenNoFollowingExist_ShouldReturn200OkWithEmptyList() throws Exception {
+            mockMvc.perform(get("/api/v1/follows/{userId}/following/ids", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(0));
+        }
+
+        @Test
+        void getFollowingIds_WithInvalidUserIdFormat_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/follows/{userId}/following/ids", "invalid-uuid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Nested
+    class GetFollowSuggestionsTests {
+
+        private UUID testUserId;
+        private UUID followed1Id;
+        private UUID followed2Id;
+        private UUID suggested1Id;
+        private UUID suggested2Id;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+            followed1Id = UUID.randomUUID();
+            followed2Id = UUID.randomUUID();
+            suggested1Id = UUID.randomUUID();
+            suggested2Id = UUID.randomUUID();
+        }
+
+        @Test
+        void getFollowSuggestions_WhenFriendsOfFriendsExist_ShouldReturn200OkRankedByMutualFollows() throws Exception {
+            createAndSaveFollow(testUserId, followed1Id);
+            createAndSaveFollow(testUserId, followed2Id);
+            createAndSaveFollow(followed1Id, suggested1Id);
+            createAndSaveFollow(followed2Id, suggested1Id);
+            createAndSaveFollow(followed2Id, suggested2Id);
+            createAndSaveFollow(followed2Id, testUserId);
+            setupUserByIdStub(suggested1Id, "suggested1");
+            setupUserByIdStub(suggested2Id, "suggested2");
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/suggestions", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(suggested1Id.toString()))
+                .andExpect(jsonPath("$[0].login").value("suggested1"))
+                .andExpect(jsonPath("$[0].mutualFollowsCount").value(2))
+                .andExpect(jsonPath("$[1].id").value(suggested2Id.toString()))
+                .andExpect(jsonPath("$[1].mutualFollowsCount").value(1));
+        }
+
+        @Test
+        void getFollowSuggestions_WithLimit_ShouldReturnAtMostLimitSuggestions() throws Exception {
+            createAndSaveFollow(testUserId, followed1Id);
+            createAndSaveFollow(followed1Id, suggested1Id);
+            createAndSaveFollow(followed1Id, suggested2Id);
+            setupUserByIdStub(suggested1Id, "suggested1");
+            setupUserByIdStub(suggested2Id, "suggested2");
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/suggestions", testUserId)
+                    .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        }
+
+        @Test
+        void getFollowSuggestions_WhenUserFollowsNobody_ShouldReturn200OkWithEmptyList() throws Exception {
+            mockMvc.perform(get("/api/v1/follows/{userId}/suggestions", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        }
+
+        @Test
+        void getFollowSuggestions_WithLimitOutOfRange_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/follows/{userId}/suggestions", testUserId)
+                    .param("limit", "51"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Nested
+    class GetMutualFollowsTests {
+
+        private UUID testUserId;
+        private UUID mutual1Id;
+        private UUID mutual2Id;
+        private UUID followedOnlyId;
+        private UUID followerOnlyId;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+            mutual1Id = UUID.fromString("10000000-0000-0000-0000-000000000001");
+            mutual2Id = UUID.fromString("f0000000-0000-0000-0000-000000000002");
+            followedOnlyId = UUID.randomUUID();
+            followerOnlyId = UUID.randomUUID();
+        }
+
+        @Test
+        void getMutualFollows_WhenMutualFollowsExist_ShouldReturn200OkWithIdsInOrder() throws Exception {
+            createAndSaveFollow(testUserId, mutual2Id);
+            createAndSaveFollow(testUserId, mutual1Id);
+            createAndSaveFollow(testUserId, followedOnlyId);
+            createAndSaveFollow(mutual1Id, testUserId);
+            createAndSaveFollow(mutual2Id, testUserId);
+            createAndSaveFollow(followerOnlyId, testUserId);
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/mutual", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.ids.length()").value(2))
+                .andExpect(jsonPath("$.ids[0]").value(mutual1Id.toString()))
+                .andExpect(jsonPath("$.ids[1]").value(mutual2Id.toString()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void getMutualFollows_WithLimitAndCursor_ShouldReturnNextPage() throws Exception {
+            createAndSaveFollow(testUserId, mutual1Id);
+            createAndSaveFollow(testUserId, mutual2Id);
+            createAndSaveFollow(mutual1Id, testUserId);
+            createAndSaveFollow(mutual2Id, testUserId);
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/mutual", testUserId)
+                    .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids[0]").value(mutual1Id.toString()))
+                .andExpect(jsonPath("$.nextCursor").value(mutual1Id.toString()));
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/mutual", testUserId)
+                    .param("after", mutual1Id.toString())
+                    .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids.length()").value(1))
+                .andExpect(jsonPath("$.ids[0]").value(mutual2Id.toString()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void getMutualFollows_WithLimitOutOfRange_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/follows/{userId}/mutual", testUserId)
+                    .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Nested
+    class GetCommonFollowersTests {
+
+        private UUID firstUserId;
+        private UUID secondUserId;
+        private UUID commonFollowerId;
+        private UUID otherFollowerId;
+
+        @BeforeEach
+        void setUp() {
+            firstUserId = UUID.randomUUID();
+            secondUserId = UUID.randomUUID();
+            commonFollowerId = UUID.randomUUID();
+            otherFollowerId = UUID.randomUUID();
+        }
+
+        @Test
+        void getCommonFollowers_WhenCommonFollowersExist_ShouldReturn200OkWithIds() throws Exception {
+            createAndSaveFollow(commonFollowerId, firstUserId);
+            createAndSaveFollow(commonFollowerId, secondUserId);
+            createAndSaveFollow(otherFollowerId, firstUserId);
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/common-followers/{otherUserId}", firstUserId, secondUserId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.ids.length()").value(1))
+                .andExpect(jsonPath("$.ids[0]").value(commonFollowerId.toString()));
+        }
+
+        @Test
+        void getCommonFollowers_WhenNoCommonFollowers_ShouldReturn200OkWithEmptyList() throws Exception {
+            createAndSaveFollow(otherFollowerId, firstUserId);
+
+            mockMvc.perform(get("/api/v1/follows/{userId}/common-followers/{otherUserId}", firstUserId, secondUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids.length()").value(0));
+        }
+
+        @Test
+        void getCommonFollowers_WithInvalidCursorFormat_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/follows/{userId}/common-followers/{otherUserId}", firstUserId, secondUserId)
+                    .param("after", "invalid-uuid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+        }
+    }
 }
\ No newline at end of file
@@ -1,24 +1,39 @@
 package com.twitter.gateway;
 
 import com.twitter.client.UsersApiClient;
+import com.twitter.common.dto.request.user.UserExistsBatchRequestDto;
+import com.twitter.common.dto.request.user.UserLoginBatchRequestDto;
+import com.twitter.common.dto.response.user.UserExistsBatchResponseDto;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
+import com.twitter.common.dto.response.user.UserLoginBatchResponseDto;
 import com.twitter.common.dto.response.user.UserResponseDto;
 import com.twitter.common.enums.user.UserRole;
 import com.twitter.common.enums.user.UserStatus;
+import feign.FeignException;
+import feign.Request;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -70,17 +85,130 @@ class UserGatewayTest {
         }
 
         @Test
-        void existsUser_WhenExceptionOccurs_ShouldReturnFalse() {
+        void existsUser_WhenUsersApiReturnsNotFound_ShouldReturnFalse() {
             UUID validUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-            RuntimeException runtimeException = new RuntimeException("Service unavailable");
+            Request request = Request.create(Request.HttpMethod.GET, "/api/v1/users/" + validUserId + "/exists",
+                Map.of(), null, StandardCharsets.UTF_8, null);
 
-            when(usersApiClient.existsUser(validUserId)).thenThrow(runtimeException);
+            when(usersApiClient.existsUser(validUserId))
+                .thenThrow(new FeignException.NotFound("Not Found", request, null, Map.of()));
 
             boolean result = userGateway.existsUser(validUserId);
 
             assertThat(result).isFalse();
             verify(usersApiClient, times(1)).existsUser(eq(validUserId));
         }
+
+        @Test
+        void existsUser_WhenExceptionOccurs_ShouldThrowServiceUnavailable() {
+            UUID validUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            RuntimeException runtimeException = new RuntimeException("Service unavailable");
+
+            when(usersApiClient.existsUser(validUserId)).thenThrow(runtimeException);
+
+            assertThatThrownBy(() -> userGateway.existsUser(validUserId))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            verify(usersApiClient, times(1)).existsUser(eq(validUserId));
+        }
+    }
+
+    @Nested
+    class FindExistingUserIdsTests {
+
+        @Test
+        void findExistingUserIds_WhenSomeUsersExist_ShouldReturnOnlyExistingIds() {
+            UUID existingUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            UUID missingUserId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            when(usersApiClient.existsUsers(any())).thenReturn(new UserExistsBatchResponseDto(List.of(existingUserId)));
+
+            Set<UUID> result = userGateway.findExistingUserIds(List.of(existingUserId, missingUserId, existingUserId));
+
+            assertThat(result).containsExactly(existingUserId);
+            ArgumentCaptor<UserExistsBatchRequestDto> captor = ArgumentCaptor.forClass(UserExistsBatchRequestDto.class);
+            verify(usersApiClient).existsUsers(captor.capture());
+            assertThat(captor.getValue().userIds()).containsExactlyInAnyOrder(existingUserId, missingUserId);
+        }
+
+        @Test
+        void findExistingUserIds_WithMoreUsersThanOneRequestAllows_ShouldSplitIntoChunks() {
+            List<UUID> userIds = Stream.generate(UUID::randomUUID)
+                .limit(UserExistsBatchRequestDto.MAX_USER_IDS * 2L + 1)
+                .toList();
+            when(usersApiClient.existsUsers(any()))
+                .thenAnswer(invocation -> new UserExistsBatchResponseDto(
+                    invocation.<UserExistsBatchRequestDto>getArgument(0).userIds()));
+
+            Set<UUID> result = userGateway.findExistingUserIds(userIds);
+
+            assertThat(result).containsExactlyInAnyOrderElementsOf(userIds);
+            verify(usersApiClient, times(3)).existsUsers(any());
+        }
+
+        @Test
+        void findExistingUserIds_WhenUsersApiFails_ShouldThrowServiceUnavailable() {
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            when(usersApiClient.existsUsers(any())).thenThrow(new RuntimeException("Connection refused"));
+
+            assertThatThrownBy(() -> userGateway.findExistingUserIds(List.of(userId)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+    }
+
+    @Nested
+    class GetUserLoginsTests {
+
+        @Test
+        void getUserLogins_WhenSomeUsersExist_ShouldReturnOnlyResolvedLogins() {
+            UUID existingUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            UUID missingUserId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            when(usersApiClient.getUserLogins(any()))
+                .thenReturn(new UserLoginBatchResponseDto(Map.of(existingUserId, "testuser")));
+
+            Map<UUID, String> result = userGateway.getUserLogins(List.of(existingUserId, missingUserId, existingUserId));
+
+            assertThat(result).containsExactly(Map.entry(existingUserId, "testuser"));
+            ArgumentCaptor<UserLoginBatchRequestDto> captor = ArgumentCaptor.forClass(UserLoginBatchRequestDto.class);
+            verify(usersApiClient).getUserLogins(captor.capture());
+            assertThat(captor.getValue().userIds()).containsExactlyInAnyOrder(existingUserId, missingUserId);
+        }
+
+        @Test
+        void getUserLogins_WithMoreUsersThanOneRequestAllows_ShouldSplitIntoChunks() {
+            List<UUID> userIds = Stream.generate(UUID::randomUUID)
+                .limit(UserLoginBatchRequestDto.MAX_USER_IDS + 1L)
+                .toList();
+            when(usersApiClient.getUserLogins(any()))
+                .thenAnswer(invocation -> new UserLoginBatchResponseDto(
+                    invocation.<UserLoginBatchRequestDto>getArgument(0).userIds().stream()
+                        .collect(Collectors.toMap(id -> id, UUID::toString))));
+
+            Map<UUID, String> result = userGateway.getUserLogins(userIds);
+
+            assertThat(result).containsOnlyKeys(userIds);
+            verify(usersApiClient, times(2)).getUserLogins(any());
+        }
+
+        @Test
+        void getUserLogins_WhenUsersApiFails_ShouldReturnEmptyMap() {
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            when(usersApiClient.getUserLogins(any())).thenThrow(new RuntimeException("Connection refused"));
+
+            Map<UUID, String> result = userGateway.getUserLogins(List.of(userId));
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        void getUserLogins_WithNoUsers_ShouldNotCallUsersApi() {
+            Map<UUID, String> result = userGateway.getUserLogins(List.of());
+
+            assertThat(result).isEmpty();
+            verifyNoInteractions(usersApiClient);
+        }
     }
 
     @Nested
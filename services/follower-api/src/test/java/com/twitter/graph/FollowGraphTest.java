@@ -0,0 +1,217 @@
+package com.twitter.graph;
+
+import com.twitter.config.FollowGraphProperties;
+import com.twitter.dto.graph.FollowGraphEdge;
+import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
+import com.twitter.dto.response.FollowStatusResponseDto;
+import com.twitter.enums.FollowGraphState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FollowGraph graph;
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        graph = new FollowGraph(new FollowGraphProperties(true, DataSize.ofMegabytes(16)), meterRegistry);
+        alice = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        bob = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+        carol = UUID.fromString("456e7890-e89b-12d3-a456-426614174111");
+        createdAt = LocalDateTime.of(2025, 1, 20, 15, 30, 0, 123_456_000);
+    }
+
+    @Nested
+    class LoadTests {
+
+        @Test
+        void load_WithRelationships_ShouldServeReadsFromMemory() {
+            graph.load(() -> Stream.of(
+                new FollowGraphEdge(alice, bob, createdAt),
+                new FollowGraphEdge(alice, carol, createdAt.plusDays(1)),
+                new FollowGraphEdge(carol, bob, createdAt)
+            ));
+
+            assertThat(graph.state()).isEqualTo(FollowGraphState.SERVING);
+            assertThat(graph.findFollowStatus(alice, carol)).contains(FollowStatusResponseDto.builder()
+                .isFollowing(true)
+                .createdAt(createdAt.plusDays(1))
+                .build());
+            assertThat(graph.findFollowStatus(bob, alice)).contains(FollowStatusResponseDto.builder()
+                .isFollowing(false)
+                .build());
+            assertThat(graph.findFollowStats(bob)).contains(stats(2, 0));
+            assertThat(graph.findFollowStats(alice)).contains(stats(0, 2));
+            assertThat(graph.findFollowingIds(alice).orElseThrow()).containsExactlyInAnyOrder(bob, carol);
+            assertThat(meterRegistry.get("follow.graph.edges").gauge().value()).isEqualTo(3);
+            assertThat(meterRegistry.get("follow.graph.users").gauge().value()).isEqualTo(3);
+        }
+
+        @Test
+        void load_WithManyRelationships_ShouldKeepCreationTimesAlignedWithSortedIds() {
+            List<FollowGraphEdge> edges = new ArrayList<>();
+            List<UUID> followed = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                UUID followedId = UUID.randomUUID();
+                followed.add(followedId);
+                edges.add(new FollowGraphEdge(alice, followedId, createdAt.plusSeconds(i)));
+            }
+
+            graph.load(edges::stream);
+
+            for (int i = 0; i < followed.size(); i += 97) {
+                assertThat(graph.findFollowStatus(alice, followed.get(i)).orElseThrow().createdAt())
+                    .isEqualTo(createdAt.plusSeconds(i));
+            }
+            assertThat(graph.findFollowStats(alice)).contains(stats(0, 2_000));
+        }
+
+        @Test
+        void load_WhenChangesAreCommittedDuringLoad_ShouldReplayThemOnTopOfSnapshot() {
+            graph.load(() -> {
+                graph.onUnfollow(alice, bob);
+                graph.onFollow(carol, alice, createdAt);
+                return Stream.of(new FollowGraphEdge(alice, bob, createdAt));
+            });
+
+            assertThat(graph.findFollowStatus(alice, bob).orElseThrow().isFollowing()).isFalse();
+            assertThat(graph.findFollowStatus(carol, alice).orElseThrow().isFollowing()).isTrue();
+            assertThat(graph.findFollowStats(alice)).contains(stats(1, 0));
+        }
+
+        @Test
+        void load_WhenGraphExceedsMemoryBudget_ShouldFallBackToDatabase() {
+            FollowGraph smallGraph = new FollowGraph(
+                new FollowGraphProperties(true, DataSize.ofBytes(FollowGraph.BYTES_PER_USER * 2)),
+                new SimpleMeterRegistry());
+
+            smallGraph.load(() -> Stream.of(
+                new FollowGraphEdge(alice, bob, createdAt),
+                new FollowGraphEdge(alice, carol, createdAt)
+            ));
+
+            assertThat(smallGraph.state()).isEqualTo(FollowGraphState.OVER_BUDGET);
+            assertThat(smallGraph.findFollowStatus(alice, bob)).isEmpty();
+            assertThat(smallGraph.findFollowStats(alice)).isEmpty();
+        }
+
+        @Test
+        void load_WhenStreamFails_ShouldFallBackToDatabase() {
+            graph.load(() -> {
+                throw new IllegalStateException("Database unavailable");
+            });
+
+            assertThat(graph.state()).isEqualTo(FollowGraphState.LOAD_FAILED);
+            assertThat(graph.findFollowingIds(alice)).isEmpty();
+            assertThat(meterRegistry.get("follow.graph.reads").tag("result", "unavailable").counter().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        void load_WhenGraphIsDisabled_ShouldNotServeReads() {
+            FollowGraph disabledGraph = new FollowGraph(
+                new FollowGraphProperties(false, DataSize.ofMegabytes(16)), new SimpleMeterRegistry());
+
+            disabledGraph.load(() -> Stream.of(new FollowGraphEdge(alice, bob, createdAt)));
+
+            assertThat(disabledGraph.state()).isEqualTo(FollowGraphState.DISABLED);
+            assertThat(disabledGraph.findFollowStatus(alice, bob)).isEmpty();
+        }
+    }
+
+    @Nested
+    class MutationTests {
+
+        @BeforeEach
+        void setUp() {
+            graph.load(() -> Stream.of(new FollowGraphEdge(alice, bob, createdAt)));
+        }
+
+        @Test
+        void onFollow_ShouldAddRelationshipInBothDirections() {
+            graph.onFollow(carol, bob, createdAt);
+            graph.onFollow(bob, carol, createdAt);
+
+            assertThat(graph.findFollowStats(bob)).contains(stats(2, 1));
+            assertThat(graph.findFollowStats(carol)).contains(stats(1, 1));
+            assertThat(graph.findFollowingIds(bob).orElseThrow()).containsExactly(carol);
+        }
+
+        @Test
+        void onFollow_WhenRelationshipExists_ShouldKeepOriginalCreationTime() {
+            graph.onFollow(alice, bob, createdAt.plusDays(1));
+
+            assertThat(graph.findFollowStatus(alice, bob).orElseThrow().createdAt()).isEqualTo(createdAt);
+            assertThat(graph.findFollowStats(bob)).contains(stats(1, 0));
+        }
+
+        @Test
+        void onUnfollow_ShouldRemoveRelationshipInBothDirections() {
+            graph.onUnfollow(alice, bob);
+
+            assertThat(graph.findFollowStatus(alice, bob).orElseThrow().isFollowing()).isFalse();
+            assertThat(graph.findFollowStats(alice)).contains(stats(0, 0));
+            assertThat(graph.findFollowStats(bob)).contains(stats(0, 0));
+            assertThat(graph.findFollowingIds(alice).orElseThrow()).isEmpty();
+        }
+
+        @Test
+        void findFollowStatuses_ShouldAnswerEachUserInRequestOrder() {
+            graph.onFollow(alice, carol, createdAt.plusDays(1));
+            UUID unknown = UUID.randomUUID();
+
+            List<FollowStatusBatchItemResponseDto> statuses = graph.findFollowStatuses(alice, List.of(carol, unknown, bob))
+                .orElseThrow();
+
+            assertThat(statuses).extracting(FollowStatusBatchItemResponseDto::followingId).containsExactly(carol, unknown, bob);
+            assertThat(statuses).extracting(FollowStatusBatchItemResponseDto::isFollowing).containsExactly(true, false, true);
+            assertThat(statuses.get(0).createdAt()).isEqualTo(createdAt.plusDays(1));
+            assertThat(statuses.get(1).createdAt()).isNull();
+        }
+
+        @Test
+        void onUnfollow_WhenUsersAreUnknown_ShouldIgnoreChange() {
+            graph.onUnfollow(carol, UUID.randomUUID());
+
+            assertThat(graph.findFollowStats(bob)).contains(stats(1, 0));
+        }
+
+        @Test
+        void onFollow_WhenGraphOutgrowsMemoryBudget_ShouldReleaseGraph() {
+            FollowGraph smallGraph = new FollowGraph(
+                new FollowGraphProperties(true, DataSize.ofBytes(FollowGraph.BYTES_PER_USER * 2 + FollowGraph.BYTES_PER_EDGE)),
+                new SimpleMeterRegistry());
+            smallGraph.load(() -> Stream.of(new FollowGraphEdge(alice, bob, createdAt)));
+
+            smallGraph.onFollow(alice, carol, createdAt);
+
+            assertThat(smallGraph.state()).isEqualTo(FollowGraphState.OVER_BUDGET);
+            assertThat(smallGraph.findFollowStats(alice)).isEmpty();
+        }
+    }
+
+    private static FollowStatsResponseDto stats(long followersCount, long followingCount) {
+        return FollowStatsResponseDto.builder()
+            .followersCount(followersCount)
+            .followingCount(followingCount)
+            .build();
+    }
+}
\ No newline at end of file
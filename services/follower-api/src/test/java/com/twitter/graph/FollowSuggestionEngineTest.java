@@ -0,0 +1,205 @@
+package com.twitter.graph;
+
+import com.twitter.config.FollowGraphProperties;
+import com.twitter.config.FollowSuggestionProperties;
+import com.twitter.dto.graph.FollowGraphEdge;
+import com.twitter.dto.graph.FollowSuggestionCandidate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowSuggestionEngineTest {
+
+    private FollowGraph graph;
+    private FollowSuggestionEngine engine;
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+    private UUID dave;
+    private UUID erin;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        graph = new FollowGraph(new FollowGraphProperties(true, DataSize.ofGigabytes(1)), new SimpleMeterRegistry());
+        engine = new FollowSuggestionEngine(graph, properties(1000, 2000), new SimpleMeterRegistry());
+        alice = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        bob = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+        carol = UUID.fromString("456e7890-e89b-12d3-a456-426614174111");
+        dave = UUID.fromString("789e0123-e89b-12d3-a456-426614174222");
+        erin = UUID.fromString("321e6547-e89b-12d3-a456-426614174333");
+        createdAt = LocalDateTime.of(2025, 1, 20, 15, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Nested
+    class SuggestTests {
+
+        @Test
+        void suggest_ShouldRankUsersByNumberOfFollowedUsersFollowingThem() {
+            graph.load(() -> Stream.of(
+                edge(alice, bob),
+                edge(alice, carol),
+                edge(bob, dave),
+                edge(carol, dave),
+                edge(carol, erin)
+            ));
+
+            List<FollowSuggestionCandidate> result = engine.suggest(alice, 10).orElseThrow();
+
+            assertThat(result).containsExactly(
+                new FollowSuggestionCandidate(dave, 2),
+                new FollowSuggestionCandidate(erin, 1)
+            );
+        }
+
+        @Test
+        void suggest_ShouldExcludeUserAndAlreadyFollowedUsers() {
+            graph.load(() -> Stream.of(
+                edge(alice, bob),
+                edge(alice, carol),
+                edge(bob, carol),
+                edge(bob, alice),
+                edge(carol, dave)
+            ));
+
+            List<FollowSuggestionCandidate> result = engine.suggest(alice, 10).orElseThrow();
+
+            assertThat(result).containsExactly(new FollowSuggestionCandidate(dave, 1));
+        }
+
+        @Test
+        void suggest_ShouldReturnAtMostLimitSuggestions() {
+            graph.load(() -> Stream.of(
+                edge(alice, bob),
+                edge(bob, carol),
+                edge(bob, dave),
+                edge(bob, erin)
+            ));
+
+            assertThat(engine.suggest(alice, 2).orElseThrow()).hasSize(2);
+        }
+
+        @Test
+        void suggest_WhenUserIsUnknown_ShouldReturnEmptyList() {
+            graph.load(() -> Stream.of(edge(alice, bob)));
+
+            assertThat(engine.suggest(UUID.randomUUID(), 10)).contains(List.of());
+        }
+
+        @Test
+        void suggest_WhenFirstDegreeExceedsLimit_ShouldCountSampleInParallel() {
+            List<FollowGraphEdge> edges = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                UUID followed = UUID.randomUUID();
+                edges.add(edge(alice, followed));
+                edges.add(edge(followed, dave));
+            }
+            graph.load(edges::stream);
+            FollowSuggestionEngine sampling = new FollowSuggestionEngine(graph, properties(100, 2000), new SimpleMeterRegistry());
+
+            try {
+                assertThat(sampling.suggest(alice, 10).orElseThrow())
+                    .containsExactly(new FollowSuggestionCandidate(dave, 100));
+            } finally {
+                sampling.shutdown();
+            }
+        }
+
+        @Test
+        void suggest_WhenGraphIsNotServing_ShouldReturnEmpty() {
+            graph.load(() -> {
+                throw new IllegalStateException("Database unavailable");
+            });
+
+            assertThat(engine.suggest(alice, 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    class SampleTests {
+
+        @Test
+        void sample_WhenArrayIsSmall_ShouldReturnSameArray() {
+            int[] ids = {1, 2, 3};
+
+            assertThat(FollowSuggestionEngine.sample(ids, 3)).isSameAs(ids);
+        }
+
+        @Test
+        void sample_WhenArrayIsLarge_ShouldPickEvenlySpacedSortedElements() {
+            int[] ids = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+            assertThat(FollowSuggestionEngine.sample(ids, 5)).containsExactly(0, 2, 4, 6, 8);
+        }
+    }
+
+    /**
+     * Measures suggestion latency on a synthetic power-law graph with about a million edges.
+     * Run with the {@code FOLLOW_SUGGESTIONS_BENCHMARK=true} environment variable.
+     */
+    @Nested
+    @EnabledIfEnvironmentVariable(named = "FOLLOW_SUGGESTIONS_BENCHMARK", matches = "true")
+    class BenchmarkTests {
+
+        private static final int USERS = 100_000;
+        private static final int EDGES = 1_000_000;
+        private static final int RUNS = 200;
+
+        @Test
+        void suggest_OnPowerLawGraph_ShouldReportLatency() {
+            UUID[] users = new UUID[USERS];
+            for (int i = 0; i < USERS; i++) {
+                users[i] = new UUID(0L, i + 1L);
+            }
+            Random random = new Random(42);
+            graph.load(() -> Stream.generate(() -> new FollowGraphEdge(
+                    users[random.nextInt(USERS)], users[powerLawIndex(random)], createdAt))
+                .limit(EDGES));
+
+            long[] nanos = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                UUID userId = users[random.nextInt(USERS)];
+                long start = System.nanoTime();
+                engine.suggest(userId, 50);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+
+            System.out.printf("Follow suggestions over %d edges: p50=%s, p99=%s, max=%s%n", EDGES,
+                Duration.ofNanos(nanos[RUNS / 2]), Duration.ofNanos(nanos[RUNS * 99 / 100]), Duration.ofNanos(nanos[RUNS - 1]));
+            assertThat(nanos[RUNS / 2]).isPositive();
+        }
+
+        private static int powerLawIndex(Random random) {
+            return (int) Math.min(USERS - 1, Math.floor(Math.pow(USERS, random.nextDouble())) - 1);
+        }
+    }
+
+    private FollowGraphEdge edge(UUID followerId, UUID followingId) {
+        return new FollowGraphEdge(followerId, followingId, createdAt);
+    }
+
+    private static FollowSuggestionProperties properties(int maxFirstDegree, int maxFanOut) {
+        return new FollowSuggestionProperties(2, maxFirstDegree, maxFanOut, Duration.ofMinutes(10), 10_000);
+    }
+}
\ No newline at end of file
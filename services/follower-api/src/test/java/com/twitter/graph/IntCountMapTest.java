@@ -0,0 +1,94 @@
+package com.twitter.graph;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntCountMapTest {
+
+    @Nested
+    class CountTests {
+
+        @Test
+        void increment_WithRepeatedKeys_ShouldCountEachKey() {
+            IntCountMap map = new IntCountMap(4);
+
+            map.increment(3);
+            map.increment(7);
+            map.increment(3);
+
+            assertThat(map.get(3)).isEqualTo(2);
+            assertThat(map.get(7)).isEqualTo(1);
+            assertThat(map.get(5)).isZero();
+            assertThat(map.size()).isEqualTo(2);
+        }
+
+        @Test
+        void increment_WhenMapGrowsBeyondInitialCapacity_ShouldKeepAllCounters() {
+            IntCountMap map = new IntCountMap(1);
+
+            for (int key = 0; key < 10_000; key++) {
+                map.add(key, key % 5 + 1);
+            }
+
+            assertThat(map.size()).isEqualTo(10_000);
+            for (int key = 0; key < 10_000; key += 37) {
+                assertThat(map.get(key)).isEqualTo(key % 5 + 1);
+            }
+        }
+
+        @Test
+        void addAll_ShouldSumCountersOfBothMaps() {
+            IntCountMap left = new IntCountMap(4);
+            left.add(1, 2);
+            left.add(2, 1);
+            IntCountMap right = new IntCountMap(4);
+            right.add(2, 3);
+            right.add(4, 5);
+
+            left.addAll(right);
+
+            assertThat(left.get(1)).isEqualTo(2);
+            assertThat(left.get(2)).isEqualTo(4);
+            assertThat(left.get(4)).isEqualTo(5);
+            assertThat(left.size()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class TopKTests {
+
+        @Test
+        void topK_ShouldReturnHighestCountersInDescendingOrder() {
+            IntCountMap map = new IntCountMap(16);
+            for (int key = 0; key < 100; key++) {
+                map.add(key, key);
+            }
+
+            long[] top = map.topK(3, key -> true);
+
+            assertThat(Arrays.stream(top).mapToInt(IntCountMap::key).toArray()).containsExactly(99, 98, 97);
+            assertThat(Arrays.stream(top).mapToInt(IntCountMap::count).toArray()).containsExactly(99, 98, 97);
+        }
+
+        @Test
+        void topK_ShouldSkipKeysRejectedByFilter() {
+            IntCountMap map = new IntCountMap(16);
+            map.add(1, 10);
+            map.add(2, 20);
+            map.add(3, 30);
+
+            long[] top = map.topK(5, key -> key != 3);
+
+            assertThat(Arrays.stream(top).mapToInt(IntCountMap::key).toArray()).containsExactly(2, 1);
+        }
+
+        @Test
+        void topK_WhenMapIsEmpty_ShouldReturnEmptyArray() {
+            assertThat(new IntCountMap(16).topK(10, key -> true)).isEmpty();
+        }
+    }
+}
\ No newline at end of file
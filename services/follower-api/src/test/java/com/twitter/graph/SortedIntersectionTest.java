@@ -0,0 +1,89 @@
+package com.twitter.graph;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedIntersectionTest {
+
+    @Nested
+    class ArrayIntersectTests {
+
+        @Test
+        void intersect_WithSimilarSizes_ShouldReturnCommonElements() {
+            int[] result = SortedIntersection.intersect(new int[]{1, 3, 5, 7, 9}, new int[]{2, 3, 4, 7, 10});
+
+            assertThat(result).containsExactly(3, 7);
+        }
+
+        @Test
+        void intersect_WithSkewedSizes_ShouldReturnCommonElements() {
+            int[] large = IntStream.range(0, 10_000).map(i -> i * 2).toArray();
+
+            int[] result = SortedIntersection.intersect(new int[]{-1, 0, 7, 998, 19_998, 30_000}, large);
+
+            assertThat(result).containsExactly(0, 998, 19_998);
+        }
+
+        @Test
+        void intersect_WhenOneSideIsEmpty_ShouldReturnEmptyArray() {
+            assertThat(SortedIntersection.intersect(new int[0], new int[]{1, 2})).isEmpty();
+        }
+
+        @Test
+        void gallop_ShouldMatchMergeOnRandomInput() {
+            Random random = new Random(7);
+            for (int run = 0; run < 100; run++) {
+                int[] small = randomSortedSet(random, random.nextInt(50), 5_000);
+                int[] large = randomSortedSet(random, 2_000, 5_000);
+
+                assertThat(SortedIntersection.gallop(small, large)).containsExactly(SortedIntersection.merge(small, large));
+            }
+        }
+    }
+
+    @Nested
+    class IteratorIntersectTests {
+
+        @Test
+        void intersect_ShouldLazilyReturnCommonElementsInOrder() {
+            Iterator<Integer> result = SortedIntersection.intersect(
+                List.of(1, 2, 4, 8, 16).iterator(), List.of(2, 3, 4, 5, 16, 17).iterator(), Integer::compare);
+
+            List<Integer> common = new ArrayList<>();
+            result.forEachRemaining(common::add);
+            assertThat(common).containsExactly(2, 4, 16);
+        }
+
+        @Test
+        void intersect_WithUuidOrder_ShouldTreatHalvesAsUnsigned() {
+            UUID low = new UUID(1L, 0L);
+            UUID high = new UUID(-1L, 0L);
+
+            assertThat(SortedIntersection.UUID_ORDER.compare(low, high)).isNegative();
+            assertThat(low.compareTo(high)).isPositive();
+
+            Iterator<UUID> result = SortedIntersection.intersect(
+                List.of(low, high).iterator(), List.of(high).iterator(), SortedIntersection.UUID_ORDER);
+            assertThat(result.next()).isEqualTo(high);
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
+
+    private static int[] randomSortedSet(Random random, int size, int bound) {
+        TreeSet<Integer> values = new TreeSet<>();
+        while (values.size() < size) {
+            values.add(random.nextInt(bound));
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
\ No newline at end of file
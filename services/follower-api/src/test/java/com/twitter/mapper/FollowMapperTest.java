@@ -3,8 +3,11 @@ package com.twitter.mapper;
 import com.twitter.common.dto.request.follow.FollowRequestDto;
 import com.twitter.common.dto.response.follow.FollowResponseDto;
 import com.twitter.common.dto.response.follow.FollowingResponseDto;
+import com.twitter.dto.graph.FollowSuggestionCandidate;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
 import com.twitter.dto.response.FollowerResponseDto;
 import com.twitter.entity.Follow;
 import org.junit.jupiter.api.Nested;
@@ -255,4 +258,44 @@ class FollowMapperTest {
             assertThat(result.followingCount()).isEqualTo(followingCount);
         }
     }
+
+    @Nested
+    class ToFollowStatusBatchItemResponseDtoTests {
+
+        @Test
+        void toFollowStatusBatchItemResponseDto_WithValidFollow_ShouldMapCorrectly() {
+            UUID followingId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 20, 15, 30, 0);
+            Follow follow = Follow.builder()
+                .id(UUID.fromString("456e7890-e89b-12d3-a456-426614174111"))
+                .followerId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+                .followingId(followingId)
+                .createdAt(createdAt)
+                .build();
+
+            FollowStatusBatchItemResponseDto result = followMapper.toFollowStatusBatchItemResponseDto(follow);
+
+            assertThat(result).isNotNull();
+            assertThat(result.followingId()).isEqualTo(followingId);
+            assertThat(result.isFollowing()).isTrue();
+            assertThat(result.createdAt()).isEqualTo(createdAt);
+        }
+    }
+
+    @Nested
+    class ToFollowSuggestionResponseDtoTests {
+
+        @Test
+        void toFollowSuggestionResponseDto_WithValidData_ShouldMapCorrectly() {
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            FollowSuggestionCandidate candidate = new FollowSuggestionCandidate(userId, 7L);
+
+            FollowSuggestionResponseDto result = followMapper.toFollowSuggestionResponseDto(candidate, "testuser");
+
+            assertThat(result).isNotNull();
+            assertThat(result.id()).isEqualTo(userId);
+            assertThat(result.login()).isEqualTo("testuser");
+            assertThat(result.mutualFollowsCount()).isEqualTo(7L);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.FollowCountRepairProperties;
+import com.twitter.dto.counts.FollowCountRepairBatchResult;
+import com.twitter.dto.counts.FollowCountRepairRunResult;
+import com.twitter.service.FollowCountRepairService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowCountRepairSchedulerTest {
+
+    @Mock
+    private FollowCountRepairService followCountRepairService;
+
+    private MeterRegistry meterRegistry;
+
+    private FollowCountRepairScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        FollowCountRepairProperties properties = new FollowCountRepairProperties(true, 2, Duration.ZERO);
+        scheduler = new FollowCountRepairScheduler(followCountRepairService, properties, meterRegistry);
+    }
+
+    @Nested
+    class RunRepairTests {
+
+        @Test
+        void runRepair_WhenBatchesAreFull_ShouldContinueFromLastUserUntilPartialBatch() {
+            UUID firstUserId = new UUID(0L, 0L);
+            UUID lastUserOfFirstBatch = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(followCountRepairService.createMissingCounters()).thenReturn(1);
+            when(followCountRepairService.repairNextBatch(eq(firstUserId), eq(2)))
+                .thenReturn(new FollowCountRepairBatchResult(2, 1, lastUserOfFirstBatch));
+            when(followCountRepairService.repairNextBatch(eq(lastUserOfFirstBatch), eq(2)))
+                .thenReturn(new FollowCountRepairBatchResult(1, 1, UUID.randomUUID()));
+
+            FollowCountRepairRunResult result = scheduler.runRepair();
+
+            assertThat(result.createdCounters()).isEqualTo(1);
+            assertThat(result.checkedUsers()).isEqualTo(3);
+            assertThat(result.repairedUsers()).isEqualTo(2);
+            verify(followCountRepairService, times(2)).repairNextBatch(any(), eq(2));
+        }
+
+        @Test
+        void runRepair_WhenNoCounters_ShouldStopAfterFirstBatch() {
+            when(followCountRepairService.repairNextBatch(any(), eq(2)))
+                .thenReturn(FollowCountRepairBatchResult.empty());
+
+            FollowCountRepairRunResult result = scheduler.runRepair();
+
+            assertThat(result.checkedUsers()).isZero();
+            assertThat(result.repairedUsers()).isZero();
+            verify(followCountRepairService, times(1)).repairNextBatch(any(), eq(2));
+        }
+
+        @Test
+        void runRepair_ShouldRecordMetrics() {
+            when(followCountRepairService.repairNextBatch(any(), eq(2)))
+                .thenReturn(new FollowCountRepairBatchResult(1, 1, UUID.randomUUID()));
+
+            scheduler.runRepair();
+
+            assertThat(meterRegistry.get("follow.counts.repaired").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("follow.counts.repair.run").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class RepairFollowCountsTests {
+
+        @Test
+        void repairFollowCounts_WhenServiceFails_ShouldNotPropagateException() {
+            when(followCountRepairService.createMissingCounters()).thenThrow(new RuntimeException("Database unavailable"));
+
+            scheduler.repairFollowCounts();
+
+            verify(followCountRepairService, never()).repairNextBatch(any(), anyInt());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.FollowEventProperties;
+import com.twitter.service.FollowEventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowEventRelaySchedulerTest {
+
+    @Mock
+    private FollowEventService followEventService;
+
+    private MeterRegistry meterRegistry;
+
+    private FollowEventRelayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        FollowEventProperties properties = new FollowEventProperties(true, 2, List.of(), Duration.ofSeconds(1),
+            Duration.ofMinutes(1), Duration.ofDays(7));
+        scheduler = new FollowEventRelayScheduler(followEventService, properties, meterRegistry);
+    }
+
+    @Nested
+    class RelayTests {
+
+        @Test
+        void relay_WhenSequencedBatchesAreFull_ShouldSequenceUntilPartialBatch() {
+            when(followEventService.sequenceNextBatch(2)).thenReturn(2, 2, 0);
+            when(followEventService.subscribers()).thenReturn(List.of());
+
+            scheduler.relay();
+
+            verify(followEventService, times(3)).sequenceNextBatch(2);
+        }
+
+        @Test
+        void relay_WhenBatchesAreFull_ShouldPublishUntilPartialBatch() {
+            when(followEventService.subscribers()).thenReturn(List.of("application"));
+            when(followEventService.publishNextBatch("application", 2)).thenReturn(2, 2, 1);
+
+            long published = scheduler.relay();
+
+            assertThat(published).isEqualTo(5);
+            verify(followEventService, times(3)).publishNextBatch("application", 2);
+            assertThat(meterRegistry.get("follow.events.published").counter().count()).isEqualTo(5);
+        }
+
+        @Test
+        void relay_WhenOutboxIsEmpty_ShouldStopAfterFirstBatch() {
+            when(followEventService.subscribers()).thenReturn(List.of("application"));
+            when(followEventService.publishNextBatch("application", 2)).thenReturn(0);
+
+            assertThat(scheduler.relay()).isZero();
+            verify(followEventService, times(1)).publishNextBatch("application", 2);
+        }
+
+        @Test
+        void relay_WhenOneSubscriberFails_ShouldStillDeliverToOthers() {
+            when(followEventService.subscribers()).thenReturn(List.of("http://down/events", "application"));
+            when(followEventService.publishNextBatch("http://down/events", 2))
+                .thenThrow(new IllegalStateException("subscriber is down"));
+            when(followEventService.publishNextBatch("application", 2)).thenReturn(1);
+
+            long published = scheduler.relay();
+
+            assertThat(published).isEqualTo(1);
+            assertThat(meterRegistry.get("follow.events.publish.failures").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        void relayFollowEvents_WhenSequencingFails_ShouldCountFailureAndNotThrow() {
+            when(followEventService.sequenceNextBatch(2)).thenThrow(new IllegalStateException("database is down"));
+
+            scheduler.relayFollowEvents();
+
+            assertThat(meterRegistry.get("follow.events.publish.failures").counter().count()).isEqualTo(1);
+            verify(followEventService, never()).publishNextBatch(any(), anyInt());
+        }
+    }
+
+    @Nested
+    class DeletePublishedEventsTests {
+
+        @Test
+        void deletePublishedEvents_ShouldDeleteEventsOlderThanRetention() {
+            LocalDateTime before = LocalDateTime.now().minusDays(7);
+
+            scheduler.deletePublishedEvents();
+
+            verify(followEventService).deletePublishedEvents(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(LocalDateTime.now().minusDays(6))));
+            verify(followEventService, never()).publishNextBatch(any(), anyInt());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+package com.twitter.service;
+
+import com.twitter.cache.FollowSuggestionCache;
+import com.twitter.common.dto.request.follow.FollowRequestDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.dto.response.FollowBatchItemResponseDto;
+import com.twitter.entity.Follow;
+import com.twitter.enums.FollowBatchItemStatus;
+import com.twitter.gateway.UserGateway;
+import com.twitter.graph.FollowGraph;
+import com.twitter.repository.FollowCountRepository;
+import com.twitter.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowBatchServiceImplTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowCountRepository followCountRepository;
+
+    @Mock
+    private UserGateway userGateway;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private FollowSuggestionCache followSuggestionCache;
+
+    @Mock
+    private FollowEventService followEventService;
+
+    @InjectMocks
+    private FollowBatchServiceImpl followBatchService;
+
+    private UUID user1Id;
+    private UUID user2Id;
+    private UUID user3Id;
+    private UUID missingUserId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        user1Id = UUID.fromString("10000000-0000-0000-0000-000000000001");
+        user2Id = UUID.fromString("20000000-0000-0000-0000-000000000002");
+        user3Id = UUID.fromString("f0000000-0000-0000-0000-000000000003");
+        missingUserId = UUID.fromString("40000000-0000-0000-0000-000000000004");
+        createdAt = LocalDateTime.of(2025, 1, 20, 15, 30, 0);
+    }
+
+    private FollowRequestDto request(UUID followerId, UUID followingId) {
+        return FollowRequestDto.builder()
+            .followerId(followerId)
+            .followingId(followingId)
+            .build();
+    }
+
+    private Follow follow(UUID followerId, UUID followingId) {
+        return Follow.builder()
+            .id(UUID.randomUUID())
+            .followerId(followerId)
+            .followingId(followingId)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    private static List<FollowBatchItemStatus> statuses(List<FollowBatchItemResponseDto> results) {
+        return results.stream().map(FollowBatchItemResponseDto::status).toList();
+    }
+
+    @Nested
+    class FollowAllTests {
+
+        @Test
+        void followAll_WithMixedItems_ShouldReturnOneResultPerItemInRequestOrder() {
+            when(userGateway.findExistingUserIds(any())).thenReturn(Set.of(user1Id, user2Id, user3Id));
+            when(followRepository.insertAllIgnoringExisting(any(), any(), any()))
+                .thenReturn(List.of(follow(user1Id, user2Id)));
+
+            List<FollowBatchItemResponseDto> results = followBatchService.followAll(List.of(
+                request(user1Id, user2Id),
+                request(user1Id, user1Id),
+                request(user1Id, missingUserId),
+                request(user1Id, user3Id),
+                request(user1Id, user2Id)
+            ));
+
+            assertThat(statuses(results)).containsExactly(
+                FollowBatchItemStatus.CREATED,
+                FollowBatchItemStatus.SELF_FOLLOW,
+                FollowBatchItemStatus.USER_NOT_FOUND,
+                FollowBatchItemStatus.ALREADY_FOLLOWING,
+                FollowBatchItemStatus.ALREADY_FOLLOWING
+            );
+            assertThat(results.get(2).followingId()).isEqualTo(missingUserId);
+        }
+
+        @Test
+        void followAll_ShouldInsertDistinctValidEdgesInDatabaseOrderWithOneStatement() {
+            when(userGateway.findExistingUserIds(any())).thenReturn(Set.of(user1Id, user2Id, user3Id));
+            when(followRepository.insertAllIgnoringExisting(any(), any(), any())).thenReturn(List.of());
+
+            followBatchService.followAll(List.of(
+                request(user3Id, user1Id),
+                request(user1Id, user3Id),
+                request(user1Id, user2Id),
+                request(user1Id, user2Id),
+                request(user2Id, user2Id)
+            ));
+
+            ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+            ArgumentCaptor<UUID[]> followerIds = ArgumentCaptor.forClass(UUID[].class);
+            ArgumentCaptor<UUID[]> followingIds = ArgumentCaptor.forClass(UUID[].class);
+            verify(followRepository).insertAllIgnoringExisting(ids.capture(), followerIds.capture(), followingIds.capture());
+            assertThat(ids.getValue()).hasSize(3).doesNotContainNull();
+            assertThat(followerIds.getValue()).containsExactly(user1Id, user1Id, user3Id);
+            assertThat(followingIds.getValue()).containsExactly(user2Id, user3Id, user1Id);
+            verify(userGateway).findExistingUserIds(Set.of(user1Id, user2Id, user3Id));
+        }
+
+        @Test
+        void followAll_WhenRelationshipsCreated_ShouldIncrementCountersInDatabaseOrder() {
+            when(userGateway.findExistingUserIds(any())).thenReturn(Set.of(user1Id, user2Id, user3Id));
+            List<Follow> created = List.of(follow(user3Id, user1Id), follow(user1Id, user2Id));
+            when(followRepository.insertAllIgnoringExisting(any(), any(), any())).thenReturn(created);
+
+            followBatchService.followAll(List.of(request(user3Id, user1Id), request(user1Id, user2Id)));
+
+            var inOrder = inOrder(followCountRepository, followEventService);
+            inOrder.verify(followCountRepository).incrementCounts(
+                new UUID[]{user1Id, user2Id, user3Id},
+                new long[]{1, 1, 0},
+                new long[]{1, 0, 1});
+            inOrder.verify(followEventService).recordAll(FollowEventType.FOLLOWED, created);
+            verify(followGraph).onFollow(user3Id, user1Id, createdAt);
+            verify(followGraph).onFollow(user1Id, user2Id, createdAt);
+            verify(followSuggestionCache).invalidate(user3Id);
+            verify(followSuggestionCache).invalidate(user1Id);
+        }
+
+        @Test
+        void followAll_WhenNothingCreated_ShouldNotTouchCountersGraphOrCache() {
+            when(userGateway.findExistingUserIds(any())).thenReturn(Set.of(user1Id, user2Id));
+            when(followRepository.insertAllIgnoringExisting(any(), any(), any())).thenReturn(List.of());
+
+            List<FollowBatchItemResponseDto> results = followBatchService.followAll(List.of(request(user1Id, user2Id)));
+
+            assertThat(statuses(results)).containsExactly(FollowBatchItemStatus.ALREADY_FOLLOWING);
+            verifyNoInteractions(followCountRepository, followGraph, followSuggestionCache, followEventService);
+        }
+
+        @Test
+        void followAll_WithOnlySelfFollows_ShouldNotCallUsersApiOrDatabase() {
+            List<FollowBatchItemResponseDto> results = followBatchService.followAll(List.of(request(user1Id, user1Id)));
+
+            assertThat(statuses(results)).containsExactly(FollowBatchItemStatus.SELF_FOLLOW);
+            verifyNoInteractions(userGateway, followRepository, followCountRepository);
+        }
+
+        @Test
+        void followAll_WhenUsersApiUnavailable_ShouldPropagateWithoutWriting() {
+            when(userGateway.findExistingUserIds(any()))
+                .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "users-api is unavailable"));
+
+            assertThatThrownBy(() -> followBatchService.followAll(List.of(request(user1Id, user2Id))))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            verifyNoInteractions(followRepository, followCountRepository);
+        }
+    }
+
+    @Nested
+    class UnfollowAllTests {
+
+        @Test
+        void unfollowAll_WithMixedItems_ShouldReturnOneResultPerItemInRequestOrder() {
+            when(followRepository.deleteAllByFollowerIdAndFollowingId(any(), any()))
+                .thenReturn(List.of(follow(user1Id, user2Id)));
+
+            List<FollowBatchItemResponseDto> results = followBatchService.unfollowAll(List.of(
+                request(user1Id, user3Id),
+                request(user1Id, user2Id),
+                request(user1Id, user2Id)
+            ));
+
+            assertThat(statuses(results)).containsExactly(
+                FollowBatchItemStatus.NOT_FOLLOWING,
+                FollowBatchItemStatus.DELETED,
+                FollowBatchItemStatus.NOT_FOLLOWING
+            );
+            verifyNoInteractions(userGateway);
+        }
+
+        @Test
+        void unfollowAll_WhenRelationshipsDeleted_ShouldLockAndDecrementCountersInDatabaseOrder() {
+            List<Follow> deleted = List.of(follow(user3Id, user1Id), follow(user1Id, user2Id));
+            when(followRepository.deleteAllByFollowerIdAndFollowingId(any(), any())).thenReturn(deleted);
+
+            followBatchService.unfollowAll(List.of(request(user3Id, user1Id), request(user1Id, user2Id)));
+
+            UUID[] userIds = {user1Id, user2Id, user3Id};
+            var inOrder = inOrder(followCountRepository, followEventService);
+            inOrder.verify(followCountRepository).lockCounts(userIds);
+            inOrder.verify(followCountRepository).decrementCounts(userIds, new long[]{1, 1, 0}, new long[]{1, 0, 1});
+            inOrder.verify(followEventService).recordAll(FollowEventType.UNFOLLOWED, deleted);
+            verify(followGraph).onUnfollow(user3Id, user1Id);
+            verify(followGraph).onUnfollow(user1Id, user2Id);
+            verify(followSuggestionCache).invalidate(user1Id);
+        }
+
+        @Test
+        void unfollowAll_WhenNothingDeleted_ShouldNotTouchCounters() {
+            when(followRepository.deleteAllByFollowerIdAndFollowingId(any(), any())).thenReturn(List.of());
+
+            followBatchService.unfollowAll(List.of(request(user1Id, user2Id)));
+
+            verifyNoInteractions(followCountRepository, followGraph, followSuggestionCache);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.twitter.service;
+
+import com.twitter.dto.counts.FollowCountRepairBatchResult;
+import com.twitter.repository.FollowCountRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowCountRepairServiceImplTest {
+
+    @Mock
+    private FollowCountRepository followCountRepository;
+
+    @InjectMocks
+    private FollowCountRepairServiceImpl followCountRepairService;
+
+    @Nested
+    class RepairNextBatchTests {
+
+        @Test
+        void repairNextBatch_WhenUsersExist_ShouldReconcileLockedUsers() {
+            UUID afterUserId = new UUID(0L, 0L);
+            UUID userId1 = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            UUID userId2 = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(followCountRepository.lockNextUserIds(afterUserId, 100)).thenReturn(List.of(userId1, userId2));
+            when(followCountRepository.reconcileCounts(any(UUID[].class))).thenReturn(1);
+
+            FollowCountRepairBatchResult result = followCountRepairService.repairNextBatch(afterUserId, 100);
+
+            assertThat(result.checkedUsers()).isEqualTo(2);
+            assertThat(result.repairedUsers()).isEqualTo(1);
+            assertThat(result.lastUserId()).isEqualTo(userId2);
+            verify(followCountRepository, times(1)).reconcileCounts(eq(new UUID[]{userId1, userId2}));
+        }
+
+        @Test
+        void repairNextBatch_WhenNoUsersLeft_ShouldReturnEmptyResult() {
+            UUID afterUserId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(followCountRepository.lockNextUserIds(afterUserId, 100)).thenReturn(List.of());
+
+            FollowCountRepairBatchResult result = followCountRepairService.repairNextBatch(afterUserId, 100);
+
+            assertThat(result.isEmpty()).isTrue();
+            verify(followCountRepository, never()).reconcileCounts(any());
+        }
+    }
+
+    @Nested
+    class CreateMissingCountersTests {
+
+        @Test
+        void createMissingCounters_ShouldReturnNumberOfCreatedRows() {
+            when(followCountRepository.insertMissingCounts()).thenReturn(3);
+
+            int created = followCountRepairService.createMissingCounters();
+
+            assertThat(created).isEqualTo(3);
+        }
+    }
+}
\ No newline at end of file
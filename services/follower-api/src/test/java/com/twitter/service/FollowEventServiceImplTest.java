@@ -0,0 +1,225 @@
+package com.twitter.service;
+
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.config.FollowEventProperties;
+import com.twitter.entity.Follow;
+import com.twitter.entity.FollowEvent;
+import com.twitter.entity.FollowEventOffset;
+import com.twitter.event.FollowEventPublisher;
+import com.twitter.repository.FollowEventOffsetRepository;
+import com.twitter.repository.FollowEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowEventServiceImplTest {
+
+    @Mock
+    private FollowEventRepository followEventRepository;
+
+    @Mock
+    private FollowEventOffsetRepository followEventOffsetRepository;
+
+    @Mock
+    private FollowEventPublisher followEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UUID followerId;
+    private UUID followingId;
+
+    @BeforeEach
+    void setUp() {
+        followerId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        followingId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+    }
+
+    private FollowEventServiceImpl service(boolean enabled) {
+        FollowEventProperties properties = new FollowEventProperties(enabled, 500, List.of(), Duration.ofSeconds(5),
+            Duration.ofMinutes(1), Duration.ofDays(7));
+        return new FollowEventServiceImpl(followEventRepository, followEventOffsetRepository, followEventPublisher,
+            properties, transactionManager);
+    }
+
+    private FollowEvent event(long id, FollowEventType type) {
+        return FollowEvent.builder()
+            .id(id)
+            .position(id + 10)
+            .eventType(type)
+            .followerId(followerId)
+            .followingId(followingId)
+            .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+            .build();
+    }
+
+    @Nested
+    class RecordTests {
+
+        @Test
+        void recordFollow_WhenEnabled_ShouldSaveFollowedEvent() {
+            service(true).recordFollow(followerId, followingId);
+
+            ArgumentCaptor<FollowEvent> captor = ArgumentCaptor.forClass(FollowEvent.class);
+            verify(followEventRepository).save(captor.capture());
+            assertThat(captor.getValue().getEventType()).isEqualTo(FollowEventType.FOLLOWED);
+            assertThat(captor.getValue().getFollowerId()).isEqualTo(followerId);
+            assertThat(captor.getValue().getFollowingId()).isEqualTo(followingId);
+            assertThat(captor.getValue().getPosition()).isNull();
+        }
+
+        @Test
+        void recordUnfollow_WhenDisabled_ShouldNotWrite() {
+            service(false).recordUnfollow(followerId, followingId);
+
+            verifyNoInteractions(followEventRepository);
+        }
+
+        @Test
+        void recordAll_ShouldAppendEventsInListOrder() {
+            UUID otherFollowingId = UUID.randomUUID();
+            List<Follow> follows = List.of(
+                Follow.builder().followerId(followerId).followingId(followingId).build(),
+                Follow.builder().followerId(followerId).followingId(otherFollowingId).build()
+            );
+
+            service(true).recordAll(FollowEventType.UNFOLLOWED, follows);
+
+            verify(followEventRepository).appendAll("UNFOLLOWED",
+                new UUID[]{followerId, followerId}, new UUID[]{followingId, otherFollowingId});
+        }
+
+        @Test
+        void recordAll_WithNoFollows_ShouldNotWrite() {
+            service(true).recordAll(FollowEventType.FOLLOWED, List.of());
+
+            verifyNoInteractions(followEventRepository);
+        }
+    }
+
+    @Nested
+    class SequenceNextBatchTests {
+
+        @Test
+        void sequenceNextBatch_WhenSequencerIsFree_ShouldSequenceEvents() {
+            when(followEventRepository.tryLockSequencer()).thenReturn(true);
+            when(followEventRepository.sequenceNext(500)).thenReturn(3);
+
+            assertThat(service(true).sequenceNextBatch(500)).isEqualTo(3);
+        }
+
+        @Test
+        void sequenceNextBatch_WhenAnotherRelayIsSequencing_ShouldDoNothing() {
+            when(followEventRepository.tryLockSequencer()).thenReturn(false);
+
+            assertThat(service(true).sequenceNextBatch(500)).isZero();
+            verify(followEventRepository, never()).sequenceNext(anyInt());
+        }
+    }
+
+    @Nested
+    class PublishNextBatchTests {
+
+        private static final String SUBSCRIBER = "http://localhost:8082/api/v1/follow-events";
+
+        private void claimed(long lastPosition) {
+            when(followEventOffsetRepository.claim(eq(SUBSCRIBER), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(FollowEventOffset.builder().subscriber(SUBSCRIBER).lastPosition(lastPosition).build()));
+        }
+
+        @Test
+        void publishNextBatch_ShouldDeliverEventsAfterOffsetAndAdvanceIt() {
+            claimed(10L);
+            when(followEventRepository.findSequencedAfter(10L, Limit.of(500)))
+                .thenReturn(List.of(event(1L, FollowEventType.FOLLOWED), event(2L, FollowEventType.UNFOLLOWED)));
+
+            int published = service(true).publishNextBatch(SUBSCRIBER, 500);
+
+            assertThat(published).isEqualTo(2);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<FollowEventDto>> captor = ArgumentCaptor.forClass(List.class);
+            var inOrder = inOrder(followEventOffsetRepository, followEventPublisher);
+            inOrder.verify(followEventOffsetRepository).insertIfAbsent(SUBSCRIBER);
+            inOrder.verify(followEventOffsetRepository).claim(eq(SUBSCRIBER), any(), any());
+            inOrder.verify(followEventPublisher).publish(eq(SUBSCRIBER), captor.capture());
+            inOrder.verify(followEventOffsetRepository).acknowledge(SUBSCRIBER, 12L);
+            assertThat(captor.getValue()).extracting(FollowEventDto::id).containsExactly(1L, 2L);
+            assertThat(captor.getValue()).extracting(FollowEventDto::type)
+                .containsExactly(FollowEventType.FOLLOWED, FollowEventType.UNFOLLOWED);
+            assertThat(captor.getValue().getFirst().occurredAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0));
+        }
+
+        @Test
+        void publishNextBatch_ShouldDeliverOutsideTheClaimAndAcknowledgeTransactions() {
+            claimed(10L);
+            when(followEventRepository.findSequencedAfter(10L, Limit.of(500)))
+                .thenReturn(List.of(event(1L, FollowEventType.FOLLOWED)));
+
+            service(true).publishNextBatch(SUBSCRIBER, 500);
+
+            var inOrder = inOrder(transactionManager, followEventPublisher);
+            inOrder.verify(transactionManager).commit(any());
+            inOrder.verify(followEventPublisher).publish(eq(SUBSCRIBER), anyList());
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(transactionManager).commit(any());
+        }
+
+        @Test
+        void publishNextBatch_WhenSubscriberIsClaimedOrUpToDate_ShouldReturnZero() {
+            when(followEventOffsetRepository.claim(eq(SUBSCRIBER), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+            assertThat(service(true).publishNextBatch(SUBSCRIBER, 500)).isZero();
+            verifyNoInteractions(followEventPublisher);
+            verify(followEventRepository, never()).findSequencedAfter(anyLong(), any());
+        }
+
+        @Test
+        void publishNextBatch_WhenDeliveryFails_ShouldReleaseClaimWithoutAdvancingOffset() {
+            claimed(10L);
+            when(followEventRepository.findSequencedAfter(10L, Limit.of(500)))
+                .thenReturn(List.of(event(1L, FollowEventType.FOLLOWED)));
+            doThrow(new IllegalStateException("subscriber is down")).when(followEventPublisher).publish(eq(SUBSCRIBER), anyList());
+
+            assertThatThrownBy(() -> service(true).publishNextBatch(SUBSCRIBER, 500))
+                .isInstanceOf(IllegalStateException.class);
+            verify(followEventOffsetRepository).release(SUBSCRIBER);
+            verify(followEventOffsetRepository, never()).acknowledge(any(), anyLong());
+        }
+    }
+
+    @Nested
+    class DeletePublishedEventsTests {
+
+        @Test
+        void deletePublishedEvents_ShouldDeleteEventsDeliveredToEverySubscriber() {
+            LocalDateTime createdBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+            when(followEventPublisher.subscribers()).thenReturn(List.of(PublishNextBatchTests.SUBSCRIBER, "application"));
+            when(followEventRepository.deleteDeliveredBefore(createdBefore,
+                new String[]{PublishNextBatchTests.SUBSCRIBER, "application"})).thenReturn(4);
+
+            assertThat(service(true).deletePublishedEvents(createdBefore)).isEqualTo(4);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.twitter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twitter.dto.response.FollowerExportLineDto;
+import com.twitter.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowExportServiceImplTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    private FollowExportServiceImpl followExportService;
+
+    private UUID testUserId;
+    private UUID follower1Id;
+    private UUID follower2Id;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        followExportService = new FollowExportServiceImpl(followRepository, objectMapper);
+        testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        follower1Id = UUID.fromString("456e7890-e89b-12d3-a456-426614174111");
+        follower2Id = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+        createdAt = LocalDateTime.of(2025, 1, 20, 15, 30, 0);
+    }
+
+    @Nested
+    class ExportFollowersTests {
+
+        @Test
+        void exportFollowers_WithFollowers_ShouldWriteOneJsonLinePerFollower() throws IOException {
+            when(followRepository.streamFollowerExportLines(testUserId, new UUID(0L, 0L))).thenReturn(Stream.of(
+                new FollowerExportLineDto(follower1Id, createdAt),
+                new FollowerExportLineDto(follower2Id, createdAt.plusDays(1))
+            ));
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            long lines = followExportService.exportFollowers(testUserId, null, output);
+
+            assertThat(lines).isEqualTo(2);
+            assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"followerId\":\"" + follower1Id + "\",\"createdAt\":\"2025-01-20T15:30:00Z\"}\n" +
+                    "{\"followerId\":\"" + follower2Id + "\",\"createdAt\":\"2025-01-21T15:30:00Z\"}\n");
+        }
+
+        @Test
+        void exportFollowers_WithCursor_ShouldResumeAfterLastFollower() throws IOException {
+            when(followRepository.streamFollowerExportLines(testUserId, follower1Id))
+                .thenReturn(Stream.of(new FollowerExportLineDto(follower2Id, createdAt)));
+
+            long lines = followExportService.exportFollowers(testUserId, follower1Id, new ByteArrayOutputStream());
+
+            assertThat(lines).isEqualTo(1);
+        }
+
+        @Test
+        void exportFollowers_WhenClientDisconnects_ShouldCloseCursorAndRethrow() {
+            AtomicBoolean closed = new AtomicBoolean();
+            when(followRepository.streamFollowerExportLines(testUserId, new UUID(0L, 0L))).thenReturn(
+                IntStream.range(0, 5_000)
+                    .mapToObj(i -> new FollowerExportLineDto(UUID.randomUUID(), createdAt))
+                    .onClose(() -> closed.set(true)));
+            OutputStream output = new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            assertThatThrownBy(() -> followExportService.exportFollowers(testUserId, null, output))
+                .isInstanceOf(IOException.class);
+            assertThat(closed).isTrue();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,244 @@
+package com.twitter.service;
+
+import com.twitter.config.FollowGraphProperties;
+import com.twitter.dto.graph.FollowGraphEdge;
+import com.twitter.dto.response.FollowIdsPageResponseDto;
+import com.twitter.entity.FollowCount;
+import com.twitter.graph.FollowGraph;
+import com.twitter.graph.SortedIntersection;
+import com.twitter.repository.FollowCountRepository;
+import com.twitter.repository.FollowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowIntersectionServiceImplTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowCountRepository followCountRepository;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @InjectMocks
+    private FollowIntersectionServiceImpl followIntersectionService;
+
+    private UUID testUserId;
+    private UUID otherUserId;
+    private UUID id1;
+    private UUID id2;
+    private UUID id3;
+    private UUID id4;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        otherUserId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+        id1 = new UUID(1L, 1L);
+        id2 = new UUID(1L, 2L);
+        id3 = new UUID(1L, 3L);
+        id4 = new UUID(1L, 4L);
+    }
+
+    @Nested
+    class GetMutualFollowsTests {
+
+        @Test
+        void getMutualFollows_WithSimilarSides_ShouldMergeSortedStreams() {
+            when(followGraph.read(any())).thenReturn(Optional.empty());
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.of(counts(testUserId, 3, 3)));
+            when(followRepository.streamFollowingIds(testUserId, FIRST_ID)).thenReturn(Stream.of(id1, id2, id4));
+            when(followRepository.streamFollowerIds(testUserId, FIRST_ID)).thenReturn(Stream.of(id2, id3, id4));
+
+            FollowIdsPageResponseDto result = followIntersectionService.getMutualFollows(testUserId, null, 100);
+
+            assertThat(result.ids()).containsExactly(id2, id4);
+            assertThat(result.nextCursor()).isNull();
+            verify(followRepository, never()).findFollowerIdsIn(any(), any());
+        }
+
+        @Test
+        void getMutualFollows_WhenMoreResultsExist_ShouldReturnCursor() {
+            when(followGraph.read(any())).thenReturn(Optional.empty());
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.of(counts(testUserId, 3, 3)));
+            when(followRepository.streamFollowingIds(testUserId, id1)).thenReturn(Stream.of(id2, id3, id4));
+            when(followRepository.streamFollowerIds(testUserId, id1)).thenReturn(Stream.of(id2, id3, id4));
+
+            FollowIdsPageResponseDto result = followIntersectionService.getMutualFollows(testUserId, id1, 2);
+
+            assertThat(result.ids()).containsExactly(id2, id3);
+            assertThat(result.nextCursor()).isEqualTo(id3);
+        }
+
+        @Test
+        void getMutualFollows_WhenGraphIsServing_ShouldNotQueryDatabase() {
+            FollowIdsPageResponseDto page = FollowIdsPageResponseDto.builder().ids(List.of(id1)).build();
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.empty());
+            when(followGraph.read(any())).thenReturn(Optional.of(page));
+
+            FollowIdsPageResponseDto result = followIntersectionService.getMutualFollows(testUserId, null, 100);
+
+            assertThat(result).isSameAs(page);
+            verifyNoInteractions(followRepository);
+        }
+
+        @Test
+        void getMutualFollows_OnFollowGraph_ShouldReturnPageInDatabaseOrder() {
+            UUID high = new UUID(-1L, 0L);
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 20, 15, 30);
+            FollowGraph graph = new FollowGraph(
+                new FollowGraphProperties(true, DataSize.ofMegabytes(16)), new SimpleMeterRegistry());
+            graph.load(() -> Stream.of(
+                new FollowGraphEdge(testUserId, high, createdAt),
+                new FollowGraphEdge(testUserId, id4, createdAt),
+                new FollowGraphEdge(testUserId, id3, createdAt),
+                new FollowGraphEdge(testUserId, id1, createdAt),
+                new FollowGraphEdge(high, testUserId, createdAt),
+                new FollowGraphEdge(id1, testUserId, createdAt),
+                new FollowGraphEdge(id2, testUserId, createdAt),
+                new FollowGraphEdge(id4, testUserId, createdAt)
+            ));
+            FollowIntersectionServiceImpl service = new FollowIntersectionServiceImpl(
+                followRepository, followCountRepository, graph);
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.empty());
+
+            FollowIdsPageResponseDto firstPage = service.getMutualFollows(testUserId, null, 2);
+            FollowIdsPageResponseDto secondPage = service.getMutualFollows(testUserId, firstPage.nextCursor(), 2);
+
+            assertThat(firstPage.ids()).containsExactly(id1, id4);
+            assertThat(firstPage.nextCursor()).isEqualTo(id4);
+            assertThat(secondPage.ids()).containsExactly(high);
+            assertThat(secondPage.nextCursor()).isNull();
+            verifyNoInteractions(followRepository);
+        }
+
+        @Test
+        void getMutualFollows_OnFollowGraphWithManyCommonIds_ShouldPageThroughAllInDatabaseOrder() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 20, 15, 30);
+            List<UUID> common = new ArrayList<>();
+            List<FollowGraphEdge> edges = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                UUID id = new UUID((long) (i * 7919 % 50) << 58, i + 1L);
+                common.add(id);
+                edges.add(new FollowGraphEdge(testUserId, id, createdAt));
+                edges.add(new FollowGraphEdge(id, testUserId, createdAt));
+            }
+            common.sort(SortedIntersection.UUID_ORDER);
+            FollowGraph graph = new FollowGraph(
+                new FollowGraphProperties(true, DataSize.ofMegabytes(16)), new SimpleMeterRegistry());
+            graph.load(edges::stream);
+            FollowIntersectionServiceImpl service = new FollowIntersectionServiceImpl(
+                followRepository, followCountRepository, graph);
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.empty());
+
+            List<UUID> collected = new ArrayList<>();
+            UUID cursor = null;
+            do {
+                FollowIdsPageResponseDto page = service.getMutualFollows(testUserId, cursor, 7);
+                assertThat(page.ids()).hasSizeLessThanOrEqualTo(7);
+                collected.addAll(page.ids());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            assertThat(collected).containsExactlyElementsOf(common);
+        }
+
+        @Test
+        void getMutualFollows_OnFollowGraphWithLargeSides_ShouldReadPageFromDatabase() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 20, 15, 30);
+            List<FollowGraphEdge> edges = new ArrayList<>();
+            for (int i = 0; i <= FollowIntersectionServiceImpl.GRAPH_MAX_SMALLER_SIDE; i++) {
+                UUID id = new UUID(1L, i + 1L);
+                edges.add(new FollowGraphEdge(testUserId, id, createdAt));
+                edges.add(new FollowGraphEdge(id, testUserId, createdAt));
+            }
+            FollowGraph graph = new FollowGraph(
+                new FollowGraphProperties(true, DataSize.ofMegabytes(16)), new SimpleMeterRegistry());
+            graph.load(edges::stream);
+            FollowIntersectionServiceImpl service = new FollowIntersectionServiceImpl(
+                followRepository, followCountRepository, graph);
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.empty());
+            when(followRepository.streamFollowingIds(testUserId, FIRST_ID)).thenReturn(Stream.of(id1, id2));
+            when(followRepository.streamFollowerIds(testUserId, FIRST_ID)).thenReturn(Stream.of(id2));
+
+            FollowIdsPageResponseDto result = service.getMutualFollows(testUserId, null, 100);
+
+            assertThat(result.ids()).containsExactly(id2);
+        }
+
+        @Test
+        void getMutualFollows_WithLimitOutOfRange_ShouldThrowBadRequest() {
+            assertThatThrownBy(() -> followIntersectionService.getMutualFollows(testUserId, null, 1001))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(exception -> assertThat(((ResponseStatusException) exception).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST));
+
+            verifyNoInteractions(followRepository, followCountRepository, followGraph);
+        }
+    }
+
+    @Nested
+    class GetCommonFollowersTests {
+
+        @Test
+        void getCommonFollowers_WithSkewedSides_ShouldProbeSmallerSideInLargerSide() {
+            when(followGraph.read(any())).thenReturn(Optional.empty());
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.of(counts(testUserId, 3, 0)));
+            when(followCountRepository.findById(otherUserId)).thenReturn(Optional.of(counts(otherUserId, 1_000_000, 0)));
+            when(followRepository.streamFollowerIds(testUserId, FIRST_ID)).thenReturn(Stream.of(id1, id2, id3));
+            when(followRepository.findFollowerIdsIn(eq(otherUserId), eq(List.of(id1, id2, id3))))
+                .thenReturn(List.of(id3, id1));
+
+            FollowIdsPageResponseDto result = followIntersectionService.getCommonFollowers(testUserId, otherUserId, null, 100);
+
+            assertThat(result.ids()).containsExactly(id1, id3);
+            verify(followRepository, never()).streamFollowerIds(eq(otherUserId), any());
+        }
+
+        @Test
+        void getCommonFollowers_WhenCountersAreMissing_ShouldMergeSortedStreams() {
+            when(followGraph.read(any())).thenReturn(Optional.empty());
+            when(followCountRepository.findById(any())).thenReturn(Optional.empty());
+            when(followRepository.streamFollowerIds(testUserId, FIRST_ID)).thenReturn(Stream.of(id1, id3));
+            when(followRepository.streamFollowerIds(otherUserId, FIRST_ID)).thenReturn(Stream.of(id3));
+
+            FollowIdsPageResponseDto result = followIntersectionService.getCommonFollowers(testUserId, otherUserId, null, 100);
+
+            assertThat(result.ids()).containsExactly(id3);
+        }
+    }
+
+    private static FollowCount counts(UUID userId, long followersCount, long followingCount) {
+        return FollowCount.builder()
+            .userId(userId)
+            .followersCount(followersCount)
+            .followingCount(followingCount)
+            .build();
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.twitter.service;
 
+import com.twitter.cache.FollowSuggestionCache;
 import com.twitter.common.dto.request.follow.FollowRequestDto;
 import com.twitter.common.dto.response.follow.FollowResponseDto;
 import com.twitter.common.dto.response.follow.FollowingResponseDto;
@@ -8,17 +9,22 @@ import com.twitter.common.exception.validation.UniquenessValidationException;
 import com.twitter.dto.filter.FollowerFilter;
 import com.twitter.dto.filter.FollowingFilter;
 import com.twitter.dto.response.FollowStatsResponseDto;
+import com.twitter.dto.response.FollowStatusBatchItemResponseDto;
 import com.twitter.dto.response.FollowStatusResponseDto;
 import com.twitter.dto.response.FollowerResponseDto;
 import com.twitter.entity.Follow;
+import com.twitter.entity.FollowCount;
 import com.twitter.gateway.UserGateway;
+import com.twitter.graph.FollowGraph;
 import com.twitter.mapper.FollowMapper;
+import com.twitter.repository.FollowCountRepository;
 import com.twitter.repository.FollowRepository;
 import com.twitter.validation.FollowValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,6 +49,9 @@ class FollowServiceImplTest {
     @Mock
     private FollowRepository followRepository;
 
+    @Mock
+    private FollowCountRepository followCountRepository;
+
     @Mock
     private FollowMapper followMapper;
 
@@ -52,6 +61,15 @@ class FollowServiceImplTest {
     @Mock
     private UserGateway userGateway;
 
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private FollowSuggestionCache followSuggestionCache;
+
+    @Mock
+    private FollowEventService followEventService;
+
     @InjectMocks
     private FollowServiceImpl followService;
 
@@ -127,6 +145,33 @@ class FollowServiceImplTest {
             verify(followMapper, times(1)).toFollowResponseDto(eq(savedFollow));
         }
 
+        @Test
+        void follow_WithValidData_ShouldIncrementCountersInUserIdOrder() {
+            doNothing().when(followValidator).validateForFollow(validRequestDto);
+            when(followMapper.toFollow(validRequestDto)).thenReturn(mappedFollow);
+            when(followRepository.saveAndFlush(mappedFollow)).thenReturn(savedFollow);
+
+            followService.follow(validRequestDto);
+
+            InOrder inOrder = inOrder(followCountRepository, followEventService);
+            inOrder.verify(followCountRepository).adjustCounts(eq(testFollowerId), eq(0L), eq(1L));
+            inOrder.verify(followCountRepository).adjustCounts(eq(testFollowingId), eq(1L), eq(0L));
+            inOrder.verify(followEventService).recordFollow(eq(testFollowerId), eq(testFollowingId));
+            verifyNoMoreInteractions(followCountRepository);
+        }
+
+        @Test
+        void follow_WithValidData_ShouldAddRelationshipToFollowGraph() {
+            doNothing().when(followValidator).validateForFollow(validRequestDto);
+            when(followMapper.toFollow(validRequestDto)).thenReturn(mappedFollow);
+            when(followRepository.saveAndFlush(mappedFollow)).thenReturn(savedFollow);
+
+            followService.follow(validRequestDto);
+
+            verify(followGraph, times(1)).onFollow(eq(testFollowerId), eq(testFollowingId), eq(savedFollow.getCreatedAt()));
+            verify(followSuggestionCache, times(1)).invalidate(eq(testFollowerId));
+        }
+
         @Test
         void follow_WhenSelfFollow_ShouldThrowBusinessRuleValidationException() {
             BusinessRuleValidationException validationException = new BusinessRuleValidationException(
@@ -235,6 +280,11 @@ class FollowServiceImplTest {
             verify(followRepository, times(1))
                 .findByFollowerIdAndFollowingId(eq(testFollowerId), eq(testFollowingId));
             verify(followRepository, times(1)).delete(eq(existingFollow));
+            verify(followCountRepository, times(1)).adjustCounts(eq(testFollowerId), eq(0L), eq(-1L));
+            verify(followCountRepository, times(1)).adjustCounts(eq(testFollowingId), eq(-1L), eq(0L));
+            verify(followGraph, times(1)).onUnfollow(eq(testFollowerId), eq(testFollowingId));
+            verify(followSuggestionCache, times(1)).invalidate(eq(testFollowerId));
+            verify(followEventService, times(1)).recordUnfollow(eq(testFollowerId), eq(testFollowingId));
         }
 
         @Test
@@ -255,6 +305,7 @@ class FollowServiceImplTest {
             verify(followRepository, times(1))
                 .findByFollowerIdAndFollowingId(eq(testFollowerId), eq(testFollowingId));
             verify(followRepository, never()).delete(any());
+            verifyNoInteractions(followCountRepository, followGraph, followSuggestionCache, followEventService);
         }
     }
 
@@ -766,6 +817,17 @@ class FollowServiceImplTest {
                 .toFollowStatusResponseDto(eq(existingFollow));
         }
 
+        @Test
+        void getFollowStatus_WhenFollowGraphIsServing_ShouldNotQueryDatabase() {
+            when(followGraph.findFollowStatus(testFollowerId, testFollowingId))
+                .thenReturn(Optional.of(statusResponseDto));
+
+            FollowStatusResponseDto result = followService.getFollowStatus(testFollowerId, testFollowingId);
+
+            assertThat(result).isEqualTo(statusResponseDto);
+            verifyNoInteractions(followRepository, followMapper);
+        }
+
         @Test
         void getFollowStatus_WhenFollowDoesNotExist_ShouldNotCallMapper() {
             when(followRepository.findByFollowerIdAndFollowingId(testFollowerId, testFollowingId))
@@ -779,6 +841,66 @@ class FollowServiceImplTest {
         }
     }
 
+    @Nested
+    class GetFollowStatusesTests {
+
+        private UUID testFollowerId;
+        private UUID followedId;
+        private UUID notFollowedId;
+        private Follow existingFollow;
+        private FollowStatusBatchItemResponseDto followedItem;
+
+        @BeforeEach
+        void setUp() {
+            testFollowerId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            followedId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            notFollowedId = UUID.fromString("456e7890-e89b-12d3-a456-426614174111");
+
+            existingFollow = Follow.builder()
+                .id(UUID.fromString("789e0123-e89b-12d3-a456-426614174222"))
+                .followerId(testFollowerId)
+                .followingId(followedId)
+                .createdAt(LocalDateTime.of(2025, 1, 20, 15, 30, 0))
+                .build();
+
+            followedItem = FollowStatusBatchItemResponseDto.builder()
+                .followingId(followedId)
+                .isFollowing(true)
+                .createdAt(LocalDateTime.of(2025, 1, 20, 15, 30, 0))
+                .build();
+        }
+
+        @Test
+        void getFollowStatuses_WhenGraphIsNotServing_ShouldQueryUniqueIdsOnceAndKeepRequestOrder() {
+            when(followGraph.findFollowStatuses(eq(testFollowerId), any())).thenReturn(Optional.empty());
+            when(followRepository.findByFollowerIdAndFollowingIdAny(testFollowerId, new UUID[]{notFollowedId, followedId}))
+                .thenReturn(List.of(existingFollow));
+            when(followMapper.toFollowStatusBatchItemResponseDto(existingFollow)).thenReturn(followedItem);
+
+            List<FollowStatusBatchItemResponseDto> result = followService.getFollowStatuses(
+                testFollowerId, List.of(notFollowedId, followedId, notFollowedId));
+
+            assertThat(result).hasSize(3);
+            assertThat(result.get(0).followingId()).isEqualTo(notFollowedId);
+            assertThat(result.get(0).isFollowing()).isFalse();
+            assertThat(result.get(0).createdAt()).isNull();
+            assertThat(result.get(1)).isEqualTo(followedItem);
+            assertThat(result.get(2).followingId()).isEqualTo(notFollowedId);
+            verify(followRepository, times(1)).findByFollowerIdAndFollowingIdAny(any(), any());
+        }
+
+        @Test
+        void getFollowStatuses_WhenGraphIsServing_ShouldNotQueryDatabase() {
+            List<FollowStatusBatchItemResponseDto> statuses = List.of(followedItem);
+            when(followGraph.findFollowStatuses(testFollowerId, List.of(followedId))).thenReturn(Optional.of(statuses));
+
+            List<FollowStatusBatchItemResponseDto> result = followService.getFollowStatuses(testFollowerId, List.of(followedId));
+
+            assertThat(result).isSameAs(statuses);
+            verifyNoInteractions(followRepository);
+        }
+    }
+
     @Nested
     class GetFollowStatsTests {
 
@@ -795,15 +917,38 @@ class FollowServiceImplTest {
                 .build();
         }
 
+        @Test
+        void getFollowStats_WhenCountersRowMissing_ShouldReturnZeros() {
+            FollowStatsResponseDto zeroStats = FollowStatsResponseDto.builder()
+                .followersCount(0L)
+                .followingCount(0L)
+                .build();
+
+            when(followCountRepository.findById(testUserId)).thenReturn(Optional.empty());
+            when(followMapper.toFollowStatsResponseDto(0L, 0L)).thenReturn(zeroStats);
+
+            FollowStatsResponseDto result = followService.getFollowStats(testUserId);
+
+            assertThat(result.followersCount()).isZero();
+            assertThat(result.followingCount()).isZero();
+            verifyNoInteractions(followRepository);
+        }
+
+        private FollowCount followCount(long followersCount, long followingCount) {
+            return FollowCount.builder()
+                .userId(testUserId)
+                .followersCount(followersCount)
+                .followingCount(followingCount)
+                .build();
+        }
+
         @Test
         void getFollowStats_WithValidData_ShouldReturnFollowStatsResponseDto() {
             long followersCount = 150L;
             long followingCount = 75L;
 
-            when(followRepository.countByFollowingId(testUserId))
-                .thenReturn(followersCount);
-            when(followRepository.countByFollowerId(testUserId))
-                .thenReturn(followingCount);
+            when(followCountRepository.findById(testUserId))
+                .thenReturn(Optional.of(followCount(followersCount, followingCount)));
             when(followMapper.toFollowStatsResponseDto(followersCount, followingCount))
                 .thenReturn(statsResponseDto);
 
@@ -824,10 +969,8 @@ class FollowServiceImplTest {
                 .followingCount(0L)
                 .build();
 
-            when(followRepository.countByFollowingId(testUserId))
-                .thenReturn(followersCount);
-            when(followRepository.countByFollowerId(testUserId))
-                .thenReturn(followingCount);
+            when(followCountRepository.findById(testUserId))
+                .thenReturn(Optional.of(followCount(followersCount, followingCount)));
             when(followMapper.toFollowStatsResponseDto(followersCount, followingCount))
                 .thenReturn(zeroStats);
 
@@ -838,26 +981,78 @@ class FollowServiceImplTest {
             assertThat(result.followingCount()).isEqualTo(0L);
         }
 
+        @Test
+        void getFollowStats_WhenFollowGraphIsServing_ShouldNotQueryDatabase() {
+            when(followGraph.findFollowStats(testUserId)).thenReturn(Optional.of(statsResponseDto));
+
+            FollowStatsResponseDto result = followService.getFollowStats(testUserId);
+
+            assertThat(result).isEqualTo(statsResponseDto);
+            verifyNoInteractions(followCountRepository, followRepository, followMapper);
+        }
+
         @Test
         void getFollowStats_WithValidData_ShouldCallEachDependencyExactlyOnce() {
             long followersCount = 150L;
             long followingCount = 75L;
 
-            when(followRepository.countByFollowingId(testUserId))
-                .thenReturn(followersCount);
-            when(followRepository.countByFollowerId(testUserId))
-                .thenReturn(followingCount);
+            when(followCountRepository.findById(testUserId))
+                .thenReturn(Optional.of(followCount(followersCount, followingCount)));
             when(followMapper.toFollowStatsResponseDto(followersCount, followingCount))
                 .thenReturn(statsResponseDto);
 
             followService.getFollowStats(testUserId);
 
-            verify(followRepository, times(1))
-                .countByFollowingId(eq(testUserId));
-            verify(followRepository, times(1))
-                .countByFollowerId(eq(testUserId));
+            verify(followCountRepository, times(1)).findById(eq(testUserId));
+            verifyNoInteractions(followRepository);
             verify(followMapper, times(1))
                 .toFollowStatsResponseDto(eq(followersCount), eq(followingCount));
         }
     }
+
+    @Nested
+    class GetFollowingIdsTests {
+
+        private UUID testUserId;
+        private List<UUID> followingIds;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            followingIds = List.of(
+                UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999"),
+                UUID.fromString("456e7890-e89b-12d3-a456-426614174111")
+            );
+        }
+
+        @Test
+        void getFollowingIds_WhenFollowGraphIsServing_ShouldReturnIdsFromGraph() {
+            when(followGraph.findFollowingIds(testUserId)).thenReturn(Optional.of(followingIds));
+
+            List<UUID> result = followService.getFollowingIds(testUserId);
+
+            assertThat(result).containsExactlyElementsOf(followingIds);
+            verifyNoInteractions(followRepository);
+        }
+
+        @Test
+        void getFollowingIds_WhenFollowGraphIsNotServing_ShouldQueryDatabase() {
+            when(followGraph.findFollowingIds(testUserId)).thenReturn(Optional.empty());
+            when(followRepository.findFollowingIdsByFollowerId(testUserId)).thenReturn(followingIds);
+
+            List<UUID> result = followService.getFollowingIds(testUserId);
+
+            assertThat(result).containsExactlyElementsOf(followingIds);
+            verify(followRepository, times(1)).findFollowingIdsByFollowerId(eq(testUserId));
+        }
+
+        @Test
+        void getFollowingIds_WhenUserFollowsNobody_ShouldReturnEmptyList() {
+            when(followRepository.findFollowingIdsByFollowerId(testUserId)).thenReturn(List.of());
+
+            List<UUID> result = followService.getFollowingIds(testUserId);
+
+            assertThat(result).isEmpty();
+        }
+    }
 }
\ No newline at end of file
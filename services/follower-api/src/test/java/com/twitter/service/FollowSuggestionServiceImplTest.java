@@ -0,0 +1,144 @@
+package com.twitter.service;
+
+import com.twitter.cache.FollowSuggestionCache;
+import com.twitter.config.FollowSuggestionProperties;
+import com.twitter.dto.graph.FollowSuggestionCandidate;
+import com.twitter.dto.graph.FollowSuggestionCandidateView;
+import com.twitter.dto.response.FollowSuggestionResponseDto;
+import com.twitter.gateway.UserGateway;
+import com.twitter.graph.FollowSuggestionEngine;
+import com.twitter.mapper.FollowMapper;
+import com.twitter.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowSuggestionServiceImplTest {
+
+    @Mock
+    private FollowSuggestionEngine followSuggestionEngine;
+
+    @Mock
+    private FollowSuggestionCache followSuggestionCache;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowMapper followMapper;
+
+    @Mock
+    private UserGateway userGateway;
+
+    private FollowSuggestionServiceImpl followSuggestionService;
+
+    @BeforeEach
+    void setUpService() {
+        FollowSuggestionProperties properties = new FollowSuggestionProperties(4, 1000, 2000, Duration.ofMinutes(10), 10000);
+        followSuggestionService = new FollowSuggestionServiceImpl(followSuggestionEngine, followSuggestionCache,
+            followRepository, followMapper, userGateway, properties);
+    }
+
+    @Nested
+    class GetSuggestionsTests {
+
+        private UUID testUserId;
+        private UUID suggestedUserId;
+        private FollowSuggestionCandidate candidate;
+        private FollowSuggestionResponseDto suggestion;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            suggestedUserId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            candidate = new FollowSuggestionCandidate(suggestedUserId, 3L);
+            suggestion = FollowSuggestionResponseDto.builder()
+                .id(suggestedUserId)
+                .login("suggesteduser")
+                .mutualFollowsCount(3L)
+                .build();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void getSuggestions_WhenGraphIsServing_ShouldComputeSuggestionsOnGraph() {
+            when(followSuggestionCache.get(eq(testUserId), any()))
+                .thenAnswer(invocation -> ((Function<UUID, List<FollowSuggestionResponseDto>>) invocation.getArgument(1))
+                    .apply(testUserId));
+            when(followSuggestionEngine.suggest(testUserId, FollowSuggestionService.MAX_LIMIT))
+                .thenReturn(Optional.of(List.of(candidate)));
+            when(userGateway.getUserLogins(List.of(suggestedUserId))).thenReturn(Map.of(suggestedUserId, "suggesteduser"));
+            when(followMapper.toFollowSuggestionResponseDto(candidate, "suggesteduser")).thenReturn(suggestion);
+
+            List<FollowSuggestionResponseDto> result = followSuggestionService.getSuggestions(testUserId, 10);
+
+            assertThat(result).containsExactly(suggestion);
+            verifyNoInteractions(followRepository);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void getSuggestions_WhenGraphIsNotServing_ShouldFallBackToDatabase() {
+            when(followSuggestionCache.get(eq(testUserId), any()))
+                .thenAnswer(invocation -> ((Function<UUID, List<FollowSuggestionResponseDto>>) invocation.getArgument(1))
+                    .apply(testUserId));
+            when(followSuggestionEngine.suggest(testUserId, FollowSuggestionService.MAX_LIMIT)).thenReturn(Optional.empty());
+            FollowSuggestionCandidateView view = mock(FollowSuggestionCandidateView.class);
+            when(view.getUserId()).thenReturn(suggestedUserId);
+            when(view.getMutualCount()).thenReturn(3L);
+            when(followRepository.findSuggestionCandidates(testUserId, 1000, 2000, FollowSuggestionService.MAX_LIMIT))
+                .thenReturn(List.of(view));
+            when(userGateway.getUserLogins(List.of(suggestedUserId))).thenReturn(Map.of());
+            when(followMapper.toFollowSuggestionResponseDto(candidate, "unknown")).thenReturn(suggestion);
+
+            List<FollowSuggestionResponseDto> result = followSuggestionService.getSuggestions(testUserId, 10);
+
+            assertThat(result).containsExactly(suggestion);
+        }
+
+        @Test
+        void getSuggestions_WhenCached_ShouldReturnAtMostLimitSuggestions() {
+            FollowSuggestionResponseDto other = FollowSuggestionResponseDto.builder()
+                .id(UUID.randomUUID())
+                .login("otheruser")
+                .mutualFollowsCount(1L)
+                .build();
+            when(followSuggestionCache.get(eq(testUserId), any())).thenReturn(List.of(suggestion, other));
+
+            List<FollowSuggestionResponseDto> result = followSuggestionService.getSuggestions(testUserId, 1);
+
+            assertThat(result).containsExactly(suggestion);
+            verifyNoInteractions(followSuggestionEngine, followRepository, userGateway);
+        }
+
+        @Test
+        void getSuggestions_WithLimitOutOfRange_ShouldThrowBadRequest() {
+            assertThatThrownBy(() -> followSuggestionService.getSuggestions(testUserId, 0))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(exception -> assertThat(((ResponseStatusException) exception).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST));
+            assertThatThrownBy(() -> followSuggestionService.getSuggestions(testUserId, FollowSuggestionService.MAX_LIMIT + 1))
+                .isInstanceOf(ResponseStatusException.class);
+
+            verifyNoInteractions(followSuggestionCache);
+        }
+    }
+}
\ No newline at end of file
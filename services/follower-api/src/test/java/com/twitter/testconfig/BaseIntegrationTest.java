@@ -8,7 +8,9 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
@@ -106,6 +108,28 @@ public abstract class BaseIntegrationTest {
         );
     }
 
+    /**
+     * Sets up WireMock stub for batch user existence check.
+     *
+     * @param existingUserIds the user IDs reported as existing, whatever IDs are requested
+     */
+    protected void setupUsersExistBatchStub(UUID... existingUserIds) {
+        if (wireMockServer == null) {
+            return;
+        }
+
+        String ids = Arrays.stream(existingUserIds)
+            .map(id -> "\"" + id + "\"")
+            .collect(Collectors.joining(","));
+        wireMockServer.stubFor(
+            post(urlEqualTo("/api/v1/users/exists/batch"))
+                .willReturn(aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody("{\"existingIds\":[" + ids + "]}"))
+        );
+    }
+
     /**
      * Sets up WireMock stub for user existence check with error response.
      *
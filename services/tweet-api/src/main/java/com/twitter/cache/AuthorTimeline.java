@@ -0,0 +1,250 @@
+package com.twitter.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable window over the most recent timeline entries of one author.
+ * <p>
+ * An entry is either an active tweet of the author or a retweet by the author of an active tweet.
+ * Each entry takes four consecutive slots of a single {@code long[]}: the activity time in
+ * microseconds (the creation time of the tweet or of the retweet), the two halves of the tweet
+ * identifier and a retweet flag. Entries are ordered newest first, ties broken by tweet identifier
+ * descending. Besides the window, the total number of entries of the author is kept, so it is known
+ * whether the window holds all of them.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public final class AuthorTimeline {
+
+    /**
+     * Window of an author without timeline entries.
+     */
+    public static final AuthorTimeline EMPTY = new AuthorTimeline(new long[0], 0L);
+
+    private static final int SLOTS = 4;
+    private static final long TWEET = 0L;
+    private static final long RETWEET = 1L;
+
+    private final long[] slots;
+    private final long total;
+
+    private AuthorTimeline(long[] slots, long total) {
+        this.slots = slots;
+        this.total = total;
+    }
+
+    /**
+     * Creates a window from the most recent tweets of an author.
+     *
+     * @param tweetIds   the tweet identifiers in any order
+     * @param createdAts the creation times, in the same order as the identifiers
+     * @param total      the total number of active tweets of the author
+     * @return the window
+     */
+    public static AuthorTimeline of(List<UUID> tweetIds, List<LocalDateTime> createdAts, long total) {
+        return of(tweetIds, createdAts, Collections.nCopies(tweetIds.size(), false), total, tweetIds.size());
+    }
+
+    /**
+     * Creates a window from the most recent tweets and retweets of an author.
+     * <p>
+     * When more entries than {@code capacity} are given, only the newest ones are kept.
+     *
+     * @param tweetIds    the tweet identifiers in any order
+     * @param activityAts the creation times of the tweets or retweets, in the same order
+     * @param retweets    whether each entry is a retweet by the author, in the same order
+     * @param total       the total number of entries of the author
+     * @param capacity    maximum number of entries in the window
+     * @return the window
+     */
+    public static AuthorTimeline of(List<UUID> tweetIds, List<LocalDateTime> activityAts, List<Boolean> retweets,
+                                    long total, int capacity) {
+        long[] unsorted = new long[tweetIds.size() * SLOTS];
+        for (int i = 0; i < tweetIds.size(); i++) {
+            unsorted[i * SLOTS] = toMicros(activityAts.get(i));
+            unsorted[i * SLOTS + 1] = tweetIds.get(i).getMostSignificantBits();
+            unsorted[i * SLOTS + 2] = tweetIds.get(i).getLeastSignificantBits();
+            unsorted[i * SLOTS + 3] = retweets.get(i) ? RETWEET : TWEET;
+        }
+        AuthorTimeline source = new AuthorTimeline(unsorted, total);
+        Integer[] order = new Integer[tweetIds.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (left, right) -> compare(source, left, source, right));
+
+        int size = Math.min(order.length, capacity);
+        long[] slots = new long[size * SLOTS];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(unsorted, order[i] * SLOTS, slots, i * SLOTS, SLOTS);
+        }
+        return new AuthorTimeline(slots, Math.max(total, tweetIds.size()));
+    }
+
+    /**
+     * Converts a creation time to the microseconds used for ordering.
+     *
+     * @param createdAt the creation time
+     * @return microseconds since the epoch, in UTC
+     */
+    public static long toMicros(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    /**
+     * Converts microseconds used for ordering back to a time.
+     *
+     * @param micros microseconds since the epoch, in UTC
+     * @return the time
+     */
+    public static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the number of entries in the window.
+     *
+     * @return the window size
+     */
+    public int size() {
+        return slots.length / SLOTS;
+    }
+
+    /**
+     * Returns the total number of entries of the author.
+     *
+     * @return the total number of tweets and retweets
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Checks whether the window holds every entry of the author.
+     *
+     * @return true if no older entry exists outside the window
+     */
+    public boolean isComplete() {
+        return size() == total;
+    }
+
+    /**
+     * Returns the earliest creation time from which the window is known to hold every tweet.
+     *
+     * @return {@link Long#MIN_VALUE} for a complete window, otherwise one microsecond after the
+     * oldest entry in the window, since older entries with the same time may have been left out
+     */
+    public long coveredFromMicros() {
+        return isComplete() ? Long.MIN_VALUE : createdAtMicros(size() - 1) + 1;
+    }
+
+    /**
+     * Returns the activity time of an entry in the window.
+     *
+     * @param index position in the window, 0 is the newest entry
+     * @return creation time of the tweet or retweet in microseconds
+     */
+    public long createdAtMicros(int index) {
+        return slots[index * SLOTS];
+    }
+
+    /**
+     * Returns the identifier of the tweet of an entry in the window.
+     *
+     * @param index position in the window, 0 is the newest entry
+     * @return the tweet identifier, for a retweet the identifier of the original tweet
+     */
+    public UUID tweetId(int index) {
+        return new UUID(slots[index * SLOTS + 1], slots[index * SLOTS + 2]);
+    }
+
+    /**
+     * Checks whether an entry in the window is a retweet by the author.
+     *
+     * @param index position in the window, 0 is the newest entry
+     * @return true for a retweet, false for a tweet of the author
+     */
+    public boolean isRetweet(int index) {
+        return slots[index * SLOTS + 3] == RETWEET;
+    }
+
+    /**
+     * Compares two entries of possibly different windows in timeline order.
+     *
+     * @return a negative number if the first entry comes first in the timeline
+     */
+    static int compare(AuthorTimeline left, int leftIndex, AuthorTimeline right, int rightIndex) {
+        int order = Long.compare(right.slots[rightIndex * SLOTS], left.slots[leftIndex * SLOTS]);
+        if (order == 0) {
+            order = Long.compareUnsigned(right.slots[rightIndex * SLOTS + 1], left.slots[leftIndex * SLOTS + 1]);
+        }
+        if (order == 0) {
+            order = Long.compareUnsigned(right.slots[rightIndex * SLOTS + 2], left.slots[leftIndex * SLOTS + 2]);
+        }
+        return order;
+    }
+
+    /**
+     * Returns a window that also contains a newly created tweet.
+     * <p>
+     * Adding a tweet that is already in the window returns the window unchanged, so a creation
+     * that was already loaded from the database is not counted twice. When the window exceeds its
+     * capacity, the oldest entry is dropped.
+     *
+     * @param tweetId   the tweet identifier
+     * @param createdAt the creation time
+     * @param capacity  maximum number of entries in the window
+     * @return the updated window
+     */
+    public AuthorTimeline withTweet(UUID tweetId, LocalDateTime createdAt, int capacity) {
+        return withEntry(tweetId, createdAt, TWEET, capacity);
+    }
+
+    /**
+     * Returns a window that also contains a new retweet by the author.
+     * <p>
+     * Behaves like {@link #withTweet}; the retweeted tweet is never a tweet of the author, since
+     * users cannot retweet their own tweets.
+     *
+     * @param tweetId     the identifier of the retweeted tweet
+     * @param retweetedAt the creation time of the retweet
+     * @param capacity    maximum number of entries in the window
+     * @return the updated window
+     */
+    public AuthorTimeline withRetweet(UUID tweetId, LocalDateTime retweetedAt, int capacity) {
+        return withEntry(tweetId, retweetedAt, RETWEET, capacity);
+    }
+
+    private AuthorTimeline withEntry(UUID tweetId, LocalDateTime activityAt, long kind, int capacity) {
+        long micros = toMicros(activityAt);
+        long msb = tweetId.getMostSignificantBits();
+        long lsb = tweetId.getLeastSignificantBits();
+        int position = 0;
+        for (int i = 0; i < size(); i++) {
+            if (slots[i * SLOTS + 1] == msb && slots[i * SLOTS + 2] == lsb) {
+                return this;
+            }
+            if (createdAtMicros(i) > micros
+                || createdAtMicros(i) == micros && (Long.compareUnsigned(slots[i * SLOTS + 1], msb) > 0
+                || slots[i * SLOTS + 1] == msb && Long.compareUnsigned(slots[i * SLOTS + 2], lsb) > 0)) {
+                position = i + 1;
+            }
+        }
+
+        long[] result = new long[slots.length + SLOTS];
+        System.arraycopy(slots, 0, result, 0, position * SLOTS);
+        result[position * SLOTS] = micros;
+        result[position * SLOTS + 1] = msb;
+        result[position * SLOTS + 2] = lsb;
+        result[position * SLOTS + 3] = kind;
+        System.arraycopy(slots, position * SLOTS, result, (position + 1) * SLOTS, slots.length - position * SLOTS);
+        int size = Math.min(size() + 1, capacity);
+        return new AuthorTimeline(size * SLOTS == result.length ? result : Arrays.copyOf(result, size * SLOTS),
+            total + 1);
+    }
+}
\ No newline at end of file
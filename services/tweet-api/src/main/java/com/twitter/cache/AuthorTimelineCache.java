@@ -0,0 +1,222 @@
+package com.twitter.cache;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import com.twitter.common.cache.VersionStripes;
+import com.twitter.common.transaction.AfterCommit;
+import com.twitter.config.AuthorTimelineProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of the recent tweets and retweets of each author, used to merge timelines.
+ * <p>
+ * Each author has an {@link AuthorTimeline} holding at most {@code app.author-timelines.ring-capacity}
+ * recent entries and the total number of entries. Tweets and retweets created on this instance are
+ * added to the cached window after the transaction commits; deleting a tweet or removing a retweet
+ * drops the window of its author, because the window cannot be refilled from memory. Windows of users
+ * who retweeted a deleted tweet keep its entry until they expire; merged pages that hit such an entry
+ * are read from the database instead. Windows older than {@code app.author-timelines.ttl} are
+ * reloaded, which bounds the staleness caused by writes on other instances.
+ * <p>
+ * A load reads the database without locks, so a tweet committed while the load is running could be
+ * missed by it. Every write bumps a version stripe of its author, and a loaded window is installed only
+ * if the stripe did not change since the load started.
+ * <p>
+ * Windows of at most {@code app.author-timelines.max-authors} authors are kept; the windows of the
+ * authors that were merged least recently are evicted first.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AuthorTimelineCache {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final BoundedTtlCache<UUID, Entry> entries;
+    private final VersionStripes versions = new VersionStripes(VERSION_STRIPES);
+    private final AuthorTimelineProperties properties;
+    private final long ttlNanos;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer loadTimer;
+
+    public AuthorTimelineCache(AuthorTimelineProperties properties, MeterRegistry meterRegistry) {
+        this.entries = new BoundedTtlCache<>(properties.maxAuthors(), Entry::isExpired);
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+        this.hitCounter = requestsCounter(meterRegistry, "hit");
+        this.missCounter = requestsCounter(meterRegistry, "miss");
+        this.loadTimer = Timer.builder("author.timeline.cache.load")
+            .description("Latency of loading author windows from the database")
+            .register(meterRegistry);
+        Gauge.builder("author.timeline.cache.size", entries, BoundedTtlCache::size)
+            .description("Number of authors whose recent tweets are cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a timeline page starting at the given offset can be merged from the windows.
+     *
+     * @param offset the page offset
+     * @return true if the cache is enabled and the offset is not deeper than the configured maximum
+     */
+    public boolean canMerge(long offset) {
+        return properties.enabled() && offset <= properties.maxMergeOffset();
+    }
+
+    /**
+     * Returns the maximum number of recent entries a loader has to provide per author.
+     *
+     * @return the window capacity
+     */
+    public int ringCapacity() {
+        return properties.ringCapacity();
+    }
+
+    /**
+     * Returns the windows of the given authors, loading the missing and expired ones in one call.
+     *
+     * @param authorIds the author identifiers
+     * @param loader    function loading the windows of the given authors from the database; an author
+     *                  without tweets may be absent from the result
+     * @return the windows in the order of the identifiers
+     */
+    public List<AuthorTimeline> getAll(List<UUID> authorIds, Function<List<UUID>, Map<UUID, AuthorTimeline>> loader) {
+        long now = System.nanoTime();
+        Map<UUID, AuthorTimeline> timelines = new HashMap<>(authorIds.size() * 2);
+        List<UUID> missedIds = new ArrayList<>();
+        for (UUID authorId : authorIds) {
+            Entry current = entries.get(authorId);
+            if (current != null && !current.isExpired(now)) {
+                timelines.put(authorId, current.timeline());
+            } else {
+                missedIds.add(authorId);
+            }
+        }
+        hitCounter.increment(authorIds.size() - missedIds.size());
+
+        if (!missedIds.isEmpty()) {
+            missCounter.increment(missedIds.size());
+            long[] loadVersions = new long[missedIds.size()];
+            for (int i = 0; i < missedIds.size(); i++) {
+                loadVersions[i] = versions.get(missedIds.get(i));
+            }
+
+            long startedAt = System.nanoTime();
+            Map<UUID, AuthorTimeline> loaded = loader.apply(missedIds);
+            loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            for (int i = 0; i < missedIds.size(); i++) {
+                UUID authorId = missedIds.get(i);
+                AuthorTimeline timeline = loaded.getOrDefault(authorId, AuthorTimeline.EMPTY);
+                timelines.put(authorId, timeline);
+                long loadVersion = loadVersions[i];
+                entries.compute(authorId, (id, current) -> versions.get(id) == loadVersion
+                    ? new Entry(timeline, startedAt + ttlNanos)
+                    : current);
+            }
+            log.debug("Loaded recent tweets of {} authors", missedIds.size());
+        }
+
+        return authorIds.stream()
+            .map(timelines::get)
+            .toList();
+    }
+
+    /**
+     * Adds a created tweet to the window of its author once the current transaction commits.
+     *
+     * @param authorId  the author identifier
+     * @param tweetId   the tweet identifier
+     * @param createdAt the creation time of the tweet
+     */
+    public void onTweetCreated(UUID authorId, UUID tweetId, LocalDateTime createdAt) {
+        AfterCommit.run(() -> {
+            versions.increment(authorId);
+            entries.computeIfPresent(authorId, (id, current) -> new Entry(
+                current.timeline().withTweet(tweetId, createdAt, properties.ringCapacity()),
+                current.expiresAtNanos()));
+        });
+    }
+
+    /**
+     * Drops the window of the author of a deleted tweet once the current transaction commits.
+     *
+     * @param authorId the author identifier
+     */
+    public void onTweetDeleted(UUID authorId) {
+        AfterCommit.run(() -> {
+            versions.increment(authorId);
+            entries.remove(authorId);
+        });
+    }
+
+    /**
+     * Adds a retweet to the window of the retweeting user once the current transaction commits.
+     *
+     * @param userId      the identifier of the user who retweeted
+     * @param tweetId     the identifier of the retweeted tweet
+     * @param retweetedAt the creation time of the retweet
+     */
+    public void onRetweeted(UUID userId, UUID tweetId, LocalDateTime retweetedAt) {
+        AfterCommit.run(() -> {
+            versions.increment(userId);
+            entries.computeIfPresent(userId, (id, current) -> new Entry(
+                current.timeline().withRetweet(tweetId, retweetedAt, properties.ringCapacity()),
+                current.expiresAtNanos()));
+        });
+    }
+
+    /**
+     * Drops the window of a user whose retweet was removed once the current transaction commits.
+     *
+     * @param userId the identifier of the user who removed the retweet
+     */
+    public void onRetweetRemoved(UUID userId) {
+        onTweetDeleted(userId);
+    }
+
+    /**
+     * Returns the number of authors with a cached window.
+     *
+     * @return number of cache entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("author.timeline.cache.requests")
+            .description("Number of author window lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cached window of an author.
+     *
+     * @param timeline       the window
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the window is reloaded
+     */
+    private record Entry(AuthorTimeline timeline, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
\ No newline at end of file
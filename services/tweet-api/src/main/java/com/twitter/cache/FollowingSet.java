@@ -0,0 +1,177 @@
+package com.twitter.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable sorted set of user identifiers backed by a single {@code long[]}.
+ * <p>
+ * Every identifier takes two consecutive slots, the most and the least significant bits, so a set
+ * costs 16 bytes per user instead of a {@link UUID} object and a reference per element.
+ * Identifiers are ordered as unsigned numbers, the order PostgreSQL uses for UUID values.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public final class FollowingSet {
+
+    private static final FollowingSet EMPTY = new FollowingSet(new long[0]);
+
+    private final long[] bits;
+
+    private FollowingSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Creates a set of the given identifiers.
+     *
+     * @param ids identifiers in any order, duplicates are ignored
+     * @return the set
+     */
+    public static FollowingSet of(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+
+        UUID[] sorted = ids.toArray(UUID[]::new);
+        Arrays.sort(sorted, FollowingSet::compare);
+        long[] bits = new long[sorted.length * 2];
+        int size = 0;
+        for (UUID id : sorted) {
+            if (size > 0 && bits[2 * size - 2] == id.getMostSignificantBits()
+                && bits[2 * size - 1] == id.getLeastSignificantBits()) {
+                continue;
+            }
+            bits[2 * size] = id.getMostSignificantBits();
+            bits[2 * size + 1] = id.getLeastSignificantBits();
+            size++;
+        }
+        return new FollowingSet(size * 2 == bits.length ? bits : Arrays.copyOf(bits, size * 2));
+    }
+
+    /**
+     * Returns the empty set.
+     *
+     * @return the empty set
+     */
+    public static FollowingSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of identifiers.
+     *
+     * @return the set size
+     */
+    public int size() {
+        return bits.length / 2;
+    }
+
+    /**
+     * Checks whether the set has no identifiers.
+     *
+     * @return true if the set is empty
+     */
+    public boolean isEmpty() {
+        return bits.length == 0;
+    }
+
+    /**
+     * Checks whether the set contains an identifier.
+     *
+     * @param id the identifier
+     * @return true if the identifier is present
+     */
+    public boolean contains(UUID id) {
+        return indexOf(id) >= 0;
+    }
+
+    /**
+     * Returns a set that also contains the given identifier.
+     *
+     * @param id the identifier to add
+     * @return this set if the identifier is already present, otherwise a new set
+     */
+    public FollowingSet with(UUID id) {
+        int index = indexOf(id);
+        if (index >= 0) {
+            return this;
+        }
+
+        int position = -index - 1;
+        long[] result = new long[bits.length + 2];
+        System.arraycopy(bits, 0, result, 0, position * 2);
+        result[position * 2] = id.getMostSignificantBits();
+        result[position * 2 + 1] = id.getLeastSignificantBits();
+        System.arraycopy(bits, position * 2, result, position * 2 + 2, bits.length - position * 2);
+        return new FollowingSet(result);
+    }
+
+    /**
+     * Returns a set without the given identifier.
+     *
+     * @param id the identifier to remove
+     * @return this set if the identifier is absent, otherwise a new set
+     */
+    public FollowingSet without(UUID id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return this;
+        }
+
+        long[] result = new long[bits.length - 2];
+        System.arraycopy(bits, 0, result, 0, index * 2);
+        System.arraycopy(bits, index * 2 + 2, result, index * 2, bits.length - index * 2 - 2);
+        return new FollowingSet(result);
+    }
+
+    /**
+     * Returns the identifiers as a list.
+     *
+     * @return identifiers in ascending order
+     */
+    public List<UUID> toList() {
+        List<UUID> ids = new ArrayList<>(size());
+        for (int i = 0; i < bits.length; i += 2) {
+            ids.add(new UUID(bits[i], bits[i + 1]));
+        }
+        return ids;
+    }
+
+    /**
+     * Binary searches the identifier.
+     *
+     * @param id the identifier
+     * @return the position of the identifier, or {@code -(insertion point) - 1} if it is absent
+     */
+    private int indexOf(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = Long.compareUnsigned(bits[middle * 2], msb);
+            if (order == 0) {
+                order = Long.compareUnsigned(bits[middle * 2 + 1], lsb);
+            }
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(UUID left, UUID right) {
+        int order = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return order != 0 ? order : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package com.twitter.cache;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.config.FollowingCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of the users followed by each timeline reader.
+ * <p>
+ * Sets are stored as {@link FollowingSet}, 16 bytes per followed user. Follow events delivered by
+ * follower-api are applied to the cached sets in place, so a set stays current without reloading.
+ * A set older than {@code app.following-cache.ttl} is still served, and a single background refresh
+ * is started for it; only a user without a cached set, or with a set older than
+ * {@code app.following-cache.max-stale}, waits for follower-api. If a refresh fails, the cached set
+ * keeps being served, so a follower-api outage degrades timelines to slightly stale ones instead of
+ * empty ones. Concurrent misses for the same user are coalesced into one load.
+ * <p>
+ * At most {@code app.following-cache.max-size} sets are kept; when the cache is full, sets older than
+ * the TTL are dropped before the sets of the users who read their timelines least recently.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class FollowingSetCache {
+
+    private final BoundedTtlCache<UUID, Entry> entries;
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+    private final FollowingCacheProperties properties;
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final ExecutorService refreshExecutor;
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter appliedEventCounter;
+    private final Timer loadTimer;
+
+    public FollowingSetCache(FollowingCacheProperties properties, MeterRegistry meterRegistry) {
+        long ttlNanos = properties.ttl().toNanos();
+        this.entries = new BoundedTtlCache<>(properties.maxSize(),
+            (entry, now) -> entry.isLoaded() && entry.isOlderThan(now, ttlNanos));
+        this.properties = properties;
+        this.ttlNanos = ttlNanos;
+        this.maxStaleNanos = Math.max(properties.maxStale().toNanos(), ttlNanos);
+        this.refreshExecutor = Executors.newFixedThreadPool(properties.refreshThreads());
+        this.hitCounter = requestsCounter(meterRegistry, "hit");
+        this.staleCounter = requestsCounter(meterRegistry, "stale");
+        this.missCounter = requestsCounter(meterRegistry, "miss");
+        this.refreshFailureCounter = Counter.builder("following.cache.refresh.failures")
+            .description("Number of background refreshes that failed and left a stale set in the cache")
+            .register(meterRegistry);
+        this.appliedEventCounter = Counter.builder("following.cache.events")
+            .description("Number of follow events applied to cached following sets")
+            .register(meterRegistry);
+        this.loadTimer = Timer.builder("following.cache.load")
+            .description("Latency of loading a following set from follower-api")
+            .register(meterRegistry);
+        Gauge.builder("following.cache.size", entries, BoundedTtlCache::size)
+            .description("Number of users whose following set is cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached following set of a user or loads it with the given loader.
+     *
+     * @param userId the user identifier
+     * @param loader function loading the identifiers of the followed users from follower-api
+     * @return the users followed by the user
+     * @throws RuntimeException whatever the loader throws when no usable set is cached
+     */
+    public FollowingSet get(UUID userId, Function<UUID, List<UUID>> loader) {
+        if (!properties.enabled()) {
+            return FollowingSet.of(loader.apply(userId));
+        }
+
+        while (true) {
+            long now = System.nanoTime();
+            Entry current = entries.get(userId);
+            if (current != null && !current.isLoaded()) {
+                hitCounter.increment();
+                return current.await();
+            }
+            if (current != null && !current.isOlderThan(now, maxStaleNanos)) {
+                if (current.isOlderThan(now, ttlNanos)) {
+                    staleCounter.increment();
+                    refreshInBackground(userId, current, loader);
+                } else {
+                    hitCounter.increment();
+                }
+                return current.value().join();
+            }
+
+            Entry created = new Entry(new CompletableFuture<>(), now, 0L);
+            boolean installed = current == null
+                ? entries.putIfAbsent(userId, created) == null
+                : entries.replace(userId, current, created);
+            if (installed) {
+                missCounter.increment();
+                return load(userId, created, loader);
+            }
+        }
+    }
+
+    /**
+     * Applies follow events to the cached sets of their followers.
+     * <p>
+     * Events of users without a cached set are ignored, and an event is applied only if its
+     * identifier is greater than that of the last event applied to the set, so redelivered events
+     * have no effect. A set that is being loaded is dropped, because the load may have read the
+     * state before the event.
+     *
+     * @param events the events ordered by identifier
+     */
+    public void apply(List<FollowEventDto> events) {
+        for (FollowEventDto event : events) {
+            entries.computeIfPresent(event.followerId(), (userId, current) -> {
+                if (!current.isLoaded()) {
+                    return null;
+                }
+                if (event.id() <= current.lastEventId()) {
+                    return current;
+                }
+
+                appliedEventCounter.increment();
+                FollowingSet following = current.value().join();
+                FollowingSet updated = event.type() == FollowEventType.FOLLOWED
+                    ? following.with(event.followingId())
+                    : following.without(event.followingId());
+                return new Entry(CompletableFuture.completedFuture(updated), current.loadedAtNanos(), event.id());
+            });
+        }
+    }
+
+    /**
+     * Removes the cached set of a user.
+     *
+     * @param userId the user identifier
+     */
+    public void invalidate(UUID userId) {
+        entries.remove(userId);
+    }
+
+    /**
+     * Returns the number of cached sets, including sets that are being loaded.
+     *
+     * @return number of cache entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads the set and publishes the result to the callers waiting for the entry.
+     *
+     * @param userId the user identifier
+     * @param entry  the entry installed by the current caller
+     * @param loader function loading the identifiers from follower-api
+     * @return the loaded set
+     */
+    private FollowingSet load(UUID userId, Entry entry, Function<UUID, List<UUID>> loader) {
+        long startedAt = System.nanoTime();
+        try {
+            FollowingSet following = FollowingSet.of(loader.apply(userId));
+            entry.value().complete(following);
+            return following;
+        } catch (RuntimeException | Error ex) {
+            entries.remove(userId, entry);
+            entry.value().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Starts a background reload of an expired set unless one is already running for the user.
+     * <p>
+     * The reloaded set replaces the entry only if no event has been applied to it meanwhile;
+     * otherwise the entry keeps its age and is refreshed again on a later read.
+     *
+     * @param userId  the user identifier
+     * @param current the expired entry
+     * @param loader  function loading the identifiers from follower-api
+     */
+    private void refreshInBackground(UUID userId, Entry current, Function<UUID, List<UUID>> loader) {
+        if (!refreshing.add(userId)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    FollowingSet following = FollowingSet.of(loader.apply(userId));
+                    entries.replace(userId, current,
+                        new Entry(CompletableFuture.completedFuture(following), startedAt, current.lastEventId()));
+                } catch (RuntimeException ex) {
+                    refreshFailureCounter.increment();
+                    log.warn("Failed to refresh following set, serving the cached one: userId={}, error: {}",
+                        userId, ex.getMessage());
+                } finally {
+                    loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    refreshing.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(userId);
+        }
+    }
+
+    private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("following.cache.requests")
+            .description("Number of following set cache lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cache entry holding the pending or completed load of a following set.
+     *
+     * @param value         the load result shared by all callers waiting for the set
+     * @param loadedAtNanos value of {@link System#nanoTime()} when the load started
+     * @param lastEventId   identifier of the last follow event applied to the set
+     */
+    private record Entry(CompletableFuture<FollowingSet> value, long loadedAtNanos, long lastEventId) {
+
+        boolean isOlderThan(long now, long ageNanos) {
+            return now - loadedAtNanos >= ageNanos;
+        }
+
+        boolean isLoaded() {
+            return value.isDone() && !value.isCompletedExceptionally();
+        }
+
+        FollowingSet await() {
+            try {
+                return value.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+    }
+}
\ No newline at end of file
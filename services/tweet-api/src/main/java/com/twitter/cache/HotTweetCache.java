@@ -0,0 +1,275 @@
+package com.twitter.cache;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import com.twitter.common.cache.VersionStripes;
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.common.transaction.AfterCommit;
+import com.twitter.config.TweetCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of active tweets keyed by tweet identifier.
+ * <p>
+ * Concurrent misses for the same tweet are coalesced: the first caller loads the tweet while
+ * the others wait for the same result, so a burst of reads on a viral tweet triggers exactly one
+ * database load. Only existing tweets are cached. Invalidation and refresh requested inside a
+ * transaction are applied after the commit, so a concurrent reader cannot put back the state
+ * that is being replaced. At most {@code app.tweet.cache.max-size} tweets are kept in a
+ * {@link BoundedTtlCache}, which drops the least recently read tweets first.
+ * <p>
+ * Hits, misses, evictions, load latency, size and hit ratio are exported as Micrometer meters.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+public class HotTweetCache {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final BoundedTtlCache<UUID, Entry> entries;
+    private final VersionStripes versions = new VersionStripes(VERSION_STRIPES);
+    private final TweetCacheProperties properties;
+    private final long ttlNanos;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer loadTimer;
+
+    public HotTweetCache(TweetCacheProperties properties, MeterRegistry meterRegistry) {
+        this.entries = new BoundedTtlCache<>(properties.maxSize(), Entry::isExpired);
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+        Counter hits = requestsCounter(meterRegistry, "hit");
+        Counter misses = requestsCounter(meterRegistry, "miss");
+        this.hitCounter = hits;
+        this.missCounter = misses;
+        FunctionCounter.builder("tweet.cache.evictions", entries, BoundedTtlCache::evictionCount)
+            .description("Number of tweets evicted from the cache because it was full")
+            .register(meterRegistry);
+        this.loadTimer = Timer.builder("tweet.cache.load")
+            .description("Latency of loading a tweet into the cache on a miss")
+            .register(meterRegistry);
+        Gauge.builder("tweet.cache.size", entries, BoundedTtlCache::size)
+            .description("Number of tweets currently held in the cache")
+            .register(meterRegistry);
+        Gauge.builder("tweet.cache.hit.ratio", hits, counter -> hitRatio(counter, misses))
+            .description("Share of cache lookups served without a database load")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached tweet or loads it with the given loader on a miss.
+     * <p>
+     * Concurrent callers that miss on the same tweet wait for a single invocation of the loader.
+     * Empty results are returned to every waiting caller but are not cached.
+     *
+     * @param tweetId the tweet identifier
+     * @param loader  function loading the active tweet from the database
+     * @return the active tweet, or empty if it does not exist or is deleted
+     */
+    public Optional<TweetResponseDto> get(UUID tweetId, Function<UUID, Optional<TweetResponseDto>> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(tweetId);
+        }
+
+        while (true) {
+            long now = System.nanoTime();
+            Entry current = entries.get(tweetId);
+            if (current != null && !current.isExpired(now)) {
+                hitCounter.increment();
+                return current.await();
+            }
+
+            Entry created = new Entry(new CompletableFuture<>(), now + ttlNanos);
+            boolean installed = current == null
+                ? entries.putIfAbsent(tweetId, created) == null
+                : entries.replace(tweetId, current, created);
+            if (installed) {
+                missCounter.increment();
+                return load(tweetId, created, loader);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached tweet without loading it.
+     * <p>
+     * A tweet that is still being loaded by another caller is reported as absent.
+     *
+     * @param tweetId the tweet identifier
+     * @return the cached tweet, or empty on a miss
+     */
+    public Optional<TweetResponseDto> getIfPresent(UUID tweetId) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+
+        Entry current = entries.get(tweetId);
+        if (current == null || current.isExpired(System.nanoTime()) || !current.isLoaded()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return current.value().join();
+    }
+
+    /**
+     * Returns the change version of a tweet, to be read before the tweet is loaded elsewhere.
+     *
+     * @param tweetId the tweet identifier
+     * @return the version to pass to {@link #putIfUnchanged}
+     */
+    public long version(UUID tweetId) {
+        return versions.get(tweetId);
+    }
+
+    /**
+     * Puts an active tweet loaded elsewhere into the cache unless it was refreshed or invalidated
+     * since its version was read.
+     * <p>
+     * A load without locks may read a tweet just before an update or a deletion commits; skipping
+     * the put keeps that stale state from being served for the whole TTL.
+     *
+     * @param tweet   the active tweet
+     * @param version the version read by {@link #version} before the tweet was loaded
+     */
+    public void putIfUnchanged(TweetResponseDto tweet, long version) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        long expiresAtNanos = System.nanoTime() + ttlNanos;
+        entries.compute(tweet.id(), (tweetId, current) -> versions.get(tweetId) == version
+            ? Entry.loaded(tweet, expiresAtNanos)
+            : current);
+    }
+
+    /**
+     * Replaces the cached tweet with a fresh state if the tweet is cached.
+     * <p>
+     * Inside a transaction the refresh is applied after the commit.
+     *
+     * @param tweet the fresh state of the tweet
+     */
+    public void refresh(TweetResponseDto tweet) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        AfterCommit.run(() -> {
+            versions.increment(tweet.id());
+            entries.computeIfPresent(tweet.id(),
+                (tweetId, current) -> Entry.loaded(tweet, System.nanoTime() + ttlNanos));
+        });
+    }
+
+    /**
+     * Removes the tweet from the cache.
+     * <p>
+     * Inside a transaction the tweet is removed after the commit.
+     *
+     * @param tweetId the tweet identifier
+     */
+    public void invalidate(UUID tweetId) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        AfterCommit.run(() -> {
+            versions.increment(tweetId);
+            entries.remove(tweetId);
+        });
+    }
+
+    /**
+     * Returns the number of cached tweets, including tweets that are being loaded.
+     *
+     * @return number of cache entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Loads the tweet and publishes the result to the callers waiting for the entry.
+     *
+     * @param tweetId the tweet identifier
+     * @param entry   the entry installed by the current caller
+     * @param loader  function loading the tweet from the database
+     * @return the loaded tweet
+     */
+    private Optional<TweetResponseDto> load(UUID tweetId, Entry entry,
+                                            Function<UUID, Optional<TweetResponseDto>> loader) {
+        long startedAt = System.nanoTime();
+        try {
+            Optional<TweetResponseDto> tweet = loader.apply(tweetId);
+            entry.value().complete(tweet);
+            if (tweet.isEmpty()) {
+                entries.remove(tweetId, entry);
+            }
+            return tweet;
+        } catch (RuntimeException | Error ex) {
+            entries.remove(tweetId, entry);
+            entry.value().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static double hitRatio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tweet.cache.requests")
+            .description("Number of tweet cache lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cache entry holding the pending or completed load of a tweet.
+     *
+     * @param value          the load result shared by all callers waiting for the tweet
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the entry is stale
+     */
+    private record Entry(CompletableFuture<Optional<TweetResponseDto>> value, long expiresAtNanos) {
+
+        static Entry loaded(TweetResponseDto tweet, long expiresAtNanos) {
+            return new Entry(CompletableFuture.completedFuture(Optional.of(tweet)), expiresAtNanos);
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        boolean isLoaded() {
+            return value.isDone() && !value.isCompletedExceptionally();
+        }
+
+        Optional<TweetResponseDto> await() {
+            try {
+                return value.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.twitter.cache;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import com.twitter.config.TimelineRankingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of ranked timelines keyed by the reader.
+ * <p>
+ * A ranked timeline is cached as the ordered identifiers of all its candidates for
+ * {@code app.timeline-ranking.cache-ttl}, so every page of a timeline is cut from the same ranking
+ * and paging does not skip or repeat tweets whose scores changed in between. At most
+ * {@code app.timeline-ranking.cache-max-size} readers are cached, and the readers who paged least
+ * recently are evicted first.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+public class RankedTimelineCache {
+
+    private final BoundedTtlCache<UUID, Entry> entries;
+    private final long ttlNanos;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RankedTimelineCache(TimelineRankingProperties properties, MeterRegistry meterRegistry) {
+        this.entries = new BoundedTtlCache<>(properties.cacheMaxSize(), Entry::isExpired);
+        this.ttlNanos = properties.cacheTtl().toNanos();
+        this.hitCounter = requestsCounter(meterRegistry, "hit");
+        this.missCounter = requestsCounter(meterRegistry, "miss");
+        Gauge.builder("timeline.ranking.cache.size", entries, BoundedTtlCache::size)
+            .description("Number of readers whose ranked timelines are cached")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached ranked timeline of a reader or ranks it with the given loader on a miss.
+     *
+     * @param userId the reader identifier
+     * @param loader function ranking the timeline of the reader
+     * @return identifiers of the ranked tweets, highest score first
+     */
+    public List<UUID> get(UUID userId, Function<UUID, List<UUID>> loader) {
+        long now = System.nanoTime();
+        Entry current = entries.get(userId);
+        if (current != null && !current.isExpired(now)) {
+            hitCounter.increment();
+            return current.tweetIds();
+        }
+
+        missCounter.increment();
+        List<UUID> tweetIds = List.copyOf(loader.apply(userId));
+        entries.put(userId, new Entry(tweetIds, now + ttlNanos));
+        return tweetIds;
+    }
+
+    /**
+     * Removes the cached ranked timeline of a reader.
+     *
+     * @param userId the reader identifier
+     */
+    public void invalidate(UUID userId) {
+        entries.remove(userId);
+    }
+
+    /**
+     * Returns the number of readers whose ranked timelines are cached.
+     *
+     * @return number of cache entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("timeline.ranking.cache.requests")
+            .description("Number of ranked timeline cache lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cached ranked timeline of a reader.
+     *
+     * @param tweetIds       identifiers of the ranked tweets
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the entry is stale
+     */
+    private record Entry(List<UUID> tweetIds, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
\ No newline at end of file
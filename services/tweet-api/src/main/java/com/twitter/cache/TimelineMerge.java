@@ -0,0 +1,119 @@
+package com.twitter.cache;
+
+import com.twitter.dto.timeline.TimelineEntry;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Heap-based k-way merge of author windows into one timeline page.
+ * <p>
+ * The windows are merged newest first through a binary min-heap of window cursors ordered by
+ * their current entry, so a page of {@code limit} entries after {@code offset} costs
+ * {@code O(k + (offset + limit) * log k)} for {@code k} windows. Only entries that are not older
+ * than the coverage of every incomplete window can be emitted, because an older entry of an
+ * incomplete window may precede them; when the page cannot be filled from such entries, the merge
+ * gives up and the caller reads the page from the database.
+ * <p>
+ * A tweet reaches the timeline once: through its newest entry, either the original tweet or the
+ * latest retweet by a followed user. Later entries of an already merged tweet, including the
+ * skipped ones, are dropped without counting towards the offset or the page.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public final class TimelineMerge {
+
+    private TimelineMerge() {
+    }
+
+    /**
+     * Merges a page of timeline entries from the given windows.
+     *
+     * @param authorIds the followed authors, in the same order as their windows
+     * @param timelines the windows of the followed authors
+     * @param offset    number of entries to skip
+     * @param limit     maximum number of entries to return
+     * @return entries of the page in timeline order, or empty if the windows do not cover it
+     */
+    public static Optional<List<TimelineEntry>> merge(List<UUID> authorIds, List<AuthorTimeline> timelines,
+                                                      long offset, int limit) {
+        long cutoff = Long.MIN_VALUE;
+        int[] heap = new int[timelines.size()];
+        int[] cursors = new int[timelines.size()];
+        int heapSize = 0;
+        for (int i = 0; i < timelines.size(); i++) {
+            AuthorTimeline timeline = timelines.get(i);
+            cutoff = Math.max(cutoff, timeline.coveredFromMicros());
+            if (timeline.size() > 0) {
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, timelines, cursors);
+        }
+
+        List<TimelineEntry> page = new ArrayList<>(limit);
+        Set<UUID> merged = new HashSet<>();
+        long skipped = 0;
+        while (page.size() < limit && heapSize > 0) {
+            int top = heap[0];
+            AuthorTimeline timeline = timelines.get(top);
+            int cursor = cursors[top];
+            if (timeline.createdAtMicros(cursor) < cutoff) {
+                return Optional.empty();
+            }
+
+            UUID tweetId = timeline.tweetId(cursor);
+            if (merged.add(tweetId)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    page.add(timeline.isRetweet(cursor)
+                        ? new TimelineEntry(tweetId, authorIds.get(top), AuthorTimeline.fromMicros(timeline.createdAtMicros(cursor)))
+                        : TimelineEntry.tweet(tweetId));
+                }
+            }
+
+            cursors[top] = cursor + 1;
+            if (cursors[top] == timeline.size()) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, 0, timelines, cursors);
+        }
+
+        if (page.size() < limit && cutoff != Long.MIN_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(page);
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int index, List<AuthorTimeline> timelines, int[] cursors) {
+        while (true) {
+            int first = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && precedes(heap[left], heap[first], timelines, cursors)) {
+                first = left;
+            }
+            if (right < heapSize && precedes(heap[right], heap[first], timelines, cursors)) {
+                first = right;
+            }
+            if (first == index) {
+                return;
+            }
+            int swap = heap[first];
+            heap[first] = heap[index];
+            heap[index] = swap;
+            index = first;
+        }
+    }
+
+    private static boolean precedes(int left, int right, List<AuthorTimeline> timelines, int[] cursors) {
+        return AuthorTimeline.compare(timelines.get(left), cursors[left], timelines.get(right), cursors[right]) < 0;
+    }
+}
\ No newline at end of file
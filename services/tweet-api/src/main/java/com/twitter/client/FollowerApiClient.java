@@ -1,13 +1,10 @@
 package com.twitter.client;
 
-import com.twitter.common.dto.response.follow.FollowingResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.cloud.openfeign.SpringQueryMap;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,15 +21,11 @@ import java.util.UUID;
 public interface FollowerApiClient {
 
     /**
-     * Retrieves a paginated list of users that the specified user is following.
+     * Retrieves the identifiers of all users that the specified user is following.
      *
-     * @param userId   the unique identifier of the user whose following list to retrieve
-     * @param pageable pagination parameters (page, size, sorting)
-     * @return PagedModel containing paginated list of FollowingResponseDto with metadata
+     * @param userId the unique identifier of the user whose following list to retrieve
+     * @return identifiers of the followed users
      */
-    @GetMapping("/{userId}/following")
-    Page<FollowingResponseDto> getFollowing(
-        @PathVariable("userId") UUID userId,
-        @SpringQueryMap Pageable pageable
-    );
+    @GetMapping("/{userId}/following/ids")
+    List<UUID> getFollowingIds(@PathVariable("userId") UUID userId);
 }
\ No newline at end of file
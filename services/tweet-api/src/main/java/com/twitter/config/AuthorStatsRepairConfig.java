@@ -0,0 +1,17 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class for the author activity summary repair job.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(AuthorStatsRepairProperties.class)
+public class AuthorStatsRepairConfig {
+}
\ No newline at end of file
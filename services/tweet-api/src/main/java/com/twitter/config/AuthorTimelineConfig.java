@@ -0,0 +1,15 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-process windows of recent tweets of followed authors.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(AuthorTimelineProperties.class)
+public class AuthorTimelineConfig {
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process windows of recent tweets and retweets of followed authors.
+ *
+ * @param enabled        whether timelines are merged from cached windows; when disabled every timeline page is read from the database
+ * @param ringCapacity   maximum number of recent tweets and retweets kept per author
+ * @param maxAuthors     maximum number of authors with a cached window
+ * @param ttl            age after which a window is reloaded, bounding staleness caused by other instances
+ * @param maxMergeOffset maximum page offset served from the windows; deeper pages are read from the database
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.author-timelines")
+public record AuthorTimelineProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("100")
+    int ringCapacity,
+
+    @DefaultValue("20000")
+    int maxAuthors,
+
+    @DefaultValue("1m")
+    Duration ttl,
+
+    @DefaultValue("100")
+    int maxMergeOffset
+) {
+}
\ No newline at end of file
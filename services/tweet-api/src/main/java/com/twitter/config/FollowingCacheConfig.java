@@ -0,0 +1,15 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-process cache of the users followed by timeline readers.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(FollowingCacheProperties.class)
+public class FollowingCacheConfig {
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process cache of the users followed by timeline readers.
+ *
+ * @param enabled        whether following sets are cached; when disabled every timeline read calls follower-api
+ * @param maxSize        maximum number of cached users
+ * @param ttl            age after which a cached set is refreshed in the background
+ * @param maxStale       maximum age of a set served while follower-api cannot be reached
+ * @param refreshThreads number of threads refreshing expired sets
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.following-cache")
+public record FollowingCacheProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("50000")
+    int maxSize,
+
+    @DefaultValue("1m")
+    Duration ttl,
+
+    @DefaultValue("24h")
+    Duration maxStale,
+
+    @DefaultValue("2")
+    int refreshThreads
+) {
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the hashtag backfill job.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(HashtagBackfillProperties.class)
+public class HashtagBackfillConfig {
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the hashtag backfill job.
+ *
+ * @param enabled          whether the background backfill job is scheduled
+ * @param batchSize        maximum number of tweets indexed in one transaction
+ * @param batchPause       pause between two batches, used to limit the load on the database
+ * @param maxBatchesPerRun maximum number of batches processed by a single run
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.tweet.hashtag-backfill")
+public record HashtagBackfillProperties(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("500")
+    int batchSize,
+
+    @DefaultValue("200ms")
+    Duration batchPause,
+
+    @DefaultValue("200")
+    int maxBatchesPerRun
+) {
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for engagement-ranked timelines.
+ *
+ * @param maxCandidates          maximum number of recent tweets ranked per timeline, at most 65536
+ * @param maxCandidatesPerAuthor maximum number of recent tweets of one followed user among the candidates
+ * @param maxAge                 age after which a tweet is no longer a candidate
+ * @param halfLife               age at which the recency factor of a score halves
+ * @param velocityOffset         time added to the age of a tweet when its engagement velocity is computed,
+ *                               so brand-new tweets with a single like do not dominate
+ * @param likeWeight             engagement added by a like
+ * @param retweetWeight          engagement added by a retweet
+ * @param cacheTtl               how long a ranked timeline is served from the cache
+ * @param cacheMaxSize           maximum number of cached ranked timelines
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.timeline-ranking")
+public record TimelineRankingProperties(
+    @DefaultValue("2000")
+    int maxCandidates,
+
+    @DefaultValue("50")
+    int maxCandidatesPerAuthor,
+
+    @DefaultValue("48h")
+    Duration maxAge,
+
+    @DefaultValue("6h")
+    Duration halfLife,
+
+    @DefaultValue("2h")
+    Duration velocityOffset,
+
+    @DefaultValue("1.0")
+    double likeWeight,
+
+    @DefaultValue("2.0")
+    double retweetWeight,
+
+    @DefaultValue("30s")
+    Duration cacheTtl,
+
+    @DefaultValue("10000")
+    int cacheMaxSize
+) {
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the live timeline streams.
+ *
+ * @param maxConnections    maximum number of open streams per instance
+ * @param bufferSize        maximum number of events waiting to be written to one stream before it is closed
+ * @param timeout           time after which a stream is closed and the client has to reconnect
+ * @param heartbeatInterval interval between heartbeat comments that keep idle streams open through proxies
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.timeline-stream")
+public record TimelineStreamProperties(
+    @DefaultValue("50000")
+    int maxConnections,
+
+    @DefaultValue("64")
+    int bufferSize,
+
+    @DefaultValue("30m")
+    Duration timeout,
+
+    @DefaultValue("PT30S")
+    Duration heartbeatInterval
+) {
+}
\ No newline at end of file
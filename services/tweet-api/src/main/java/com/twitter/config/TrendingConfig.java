@@ -0,0 +1,33 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Configuration class for trending hashtags and tweets.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(TrendingProperties.class)
+public class TrendingConfig {
+
+    /**
+     * HTTP client used to send the local trending snapshot to the other instances.
+     *
+     * @param builder    the auto-configured RestClient builder
+     * @param properties trending properties
+     * @return RestClient with the peer request timeout applied
+     */
+    @Bean
+    public RestClient trendingRestClient(RestClient.Builder builder, TrendingProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.requestTimeout());
+        requestFactory.setReadTimeout(properties.requestTimeout());
+        return builder.requestFactory(requestFactory).build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for trending hashtags and tweets.
+ *
+ * @param enabled         whether events are counted and the trending lists are refreshed
+ * @param window          length of the sliding window trends are counted over
+ * @param buckets         number of time buckets the window is split into
+ * @param sketchDepth     number of hash rows of each Count-Min Sketch
+ * @param sketchWidth     number of counters per row of each Count-Min Sketch
+ * @param topK            maximum number of hashtags and tweets served by the trending endpoint
+ * @param likeWeight      score added to a tweet by a like
+ * @param retweetWeight   score added to a tweet by a retweet
+ * @param instanceId      identifier of this instance in snapshots, generated when empty
+ * @param peers           URLs of the other instances that receive the local snapshot
+ * @param snapshotTtl     how long a snapshot received from another instance is merged
+ * @param requestTimeout  connect and read timeout of a request to a peer
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.trending")
+public record TrendingProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("1h")
+    Duration window,
+
+    @DefaultValue("12")
+    int buckets,
+
+    @DefaultValue("4")
+    int sketchDepth,
+
+    @DefaultValue("8192")
+    int sketchWidth,
+
+    @DefaultValue("50")
+    int topK,
+
+    @DefaultValue("1")
+    int likeWeight,
+
+    @DefaultValue("3")
+    int retweetWeight,
+
+    @DefaultValue("")
+    String instanceId,
+
+    @DefaultValue
+    List<URI> peers,
+
+    @DefaultValue("1m")
+    Duration snapshotTtl,
+
+    @DefaultValue("2s")
+    Duration requestTimeout
+) {
+}
\ No newline at end of file
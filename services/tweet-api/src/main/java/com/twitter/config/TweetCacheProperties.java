@@ -0,0 +1,28 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process cache of hot tweets.
+ *
+ * @param enabled whether tweets are cached; when disabled every read goes to the database
+ * @param maxSize maximum number of cached tweets
+ * @param ttl     how long a cached tweet is served before it is loaded again
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.tweet.cache")
+public record TweetCacheProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("10000")
+    int maxSize,
+
+    @DefaultValue("5m")
+    Duration ttl
+) {
+}
\ No newline at end of file
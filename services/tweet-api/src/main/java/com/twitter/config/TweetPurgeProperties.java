@@ -0,0 +1,36 @@
+package com.twitter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the soft-deleted tweets purge job.
+ *
+ * @param enabled          whether the background purge job is scheduled
+ * @param retention        how long a soft-deleted tweet stays in the hot tables before it is archived
+ * @param batchSize        maximum number of tweets moved to the archive in one transaction
+ * @param batchPause       pause between two batches, used to limit the load on the database
+ * @param maxBatchesPerRun maximum number of batches processed by a single run
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.tweet.purge")
+public record TweetPurgeProperties(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("30d")
+    Duration retention,
+
+    @DefaultValue("500")
+    int batchSize,
+
+    @DefaultValue("200ms")
+    Duration batchPause,
+
+    @DefaultValue("200")
+    int maxBatchesPerRun
+) {
+}
\ No newline at end of file
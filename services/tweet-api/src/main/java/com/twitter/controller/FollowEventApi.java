@@ -0,0 +1,44 @@
+package com.twitter.controller;
+
+import com.twitter.common.dto.event.FollowEventDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * OpenAPI interface for receiving follow events from follower-api.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Tag(name = "Follow Events", description = "Internal API receiving follow change events from follower-api")
+public interface FollowEventApi {
+
+    /**
+     * Receives a batch of follow events and applies them to the cached following sets and the
+     * open timeline streams.
+     * <p>
+     * Called by the follower-api outbox relay. Events are ordered by identifier and may be
+     * delivered more than once; already applied events are ignored.
+     *
+     * @param events the follow events ordered by identifier
+     * @return ResponseEntity with HTTP 204 No Content status
+     */
+    @Operation(
+        summary = "Receive follow events",
+        description = "Receives a batch of follow events from the follower-api outbox relay and applies them " +
+            "to the cached following sets used by timelines. Events may be delivered more than once; " +
+            "already applied events are ignored."
+    )
+    @ApiResponse(
+        responseCode = "204",
+        description = "Events applied successfully"
+    )
+    ResponseEntity<Void> receiveFollowEvents(
+        @Parameter(description = "Follow events ordered by identifier", required = true)
+        List<FollowEventDto> events);
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.twitter.controller;
+
+import com.twitter.cache.FollowingSetCache;
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.stream.TimelineStreamHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller receiving follow events delivered by follower-api.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/follow-events")
+@RequiredArgsConstructor
+public class FollowEventController implements FollowEventApi {
+
+    private final FollowingSetCache followingSetCache;
+    private final TimelineStreamHub timelineStreamHub;
+
+    /**
+     * @see FollowEventApi#receiveFollowEvents
+     */
+    @PostMapping
+    @Override
+    public ResponseEntity<Void> receiveFollowEvents(@RequestBody List<FollowEventDto> events) {
+        log.debug("Received {} follow events", events.size());
+        followingSetCache.apply(events);
+        timelineStreamHub.apply(events);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
\ No newline at end of file
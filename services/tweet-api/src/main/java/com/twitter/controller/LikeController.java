@@ -3,6 +3,7 @@ package com.twitter.controller;
 import com.twitter.common.aspect.LoggableRequest;
 import com.twitter.common.dto.request.like.LikeTweetRequestDto;
 import com.twitter.common.dto.response.like.LikeResponseDto;
+import com.twitter.common.ratelimit.RateLimited;
 import com.twitter.service.LikeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class LikeController implements LikeApi {
      * @see LikeApi#likeTweet
      */
     @LoggableRequest
+    @RateLimited(endpoint = "likes-create", key = "#likeTweetRequest.userId()")
     @PostMapping("/{tweetId}/like")
     @Override
     public ResponseEntity<LikeResponseDto> likeTweet(
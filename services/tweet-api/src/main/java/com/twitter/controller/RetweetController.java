@@ -3,6 +3,7 @@ package com.twitter.controller;
 import com.twitter.common.aspect.LoggableRequest;
 import com.twitter.common.dto.request.retweet.RetweetRequestDto;
 import com.twitter.common.dto.response.retweet.RetweetResponseDto;
+import com.twitter.common.ratelimit.RateLimited;
 import com.twitter.service.RetweetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class RetweetController implements RetweetApi {
      * @see RetweetApi#retweetTweet
      */
     @LoggableRequest
+    @RateLimited(endpoint = "retweets-create", key = "#retweetRequest.userId()")
     @PostMapping("/{tweetId}/retweet")
     @Override
     public ResponseEntity<RetweetResponseDto> retweetTweet(
@@ -0,0 +1,87 @@
+package com.twitter.controller;
+
+import com.twitter.common.exception.validation.FormatValidationException;
+import com.twitter.dto.response.TrendingResponseDto;
+import com.twitter.dto.trending.TrendingSnapshotDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * OpenAPI interface for trending hashtags and tweets.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Tag(name = "Trending", description = "API for trending hashtags and tweets")
+public interface TrendingApi {
+
+    /**
+     * Retrieves the hashtags and tweets with the most activity in the sliding window.
+     * <p>
+     * Hashtags are scored by the number of tweets using them, tweets by their weighted likes and
+     * retweets. Scores are approximate and merged across all instances; the lists are refreshed
+     * about once a second.
+     *
+     * @param limit the maximum number of hashtags and of tweets
+     * @return trending hashtags and tweets, highest score first
+     * @throws FormatValidationException if the limit is out of range
+     */
+    @Operation(
+        summary = "Get trending hashtags and tweets",
+        description = "Retrieves the hashtags and tweets with the most activity in the sliding window " +
+            "(one hour by default). Hashtags are scored by the number of new tweets using them, tweets by " +
+            "their weighted likes and retweets. Scores are approximate and merged across all instances."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Trending lists retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TrendingResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limit out of range"
+        )
+    })
+    TrendingResponseDto getTrending(
+        @Parameter(description = "Maximum number of hashtags and of tweets, from 1 to app.trending.top-k", example = "10")
+        int limit);
+
+    /**
+     * Receives the trending snapshot of another instance.
+     * <p>
+     * The snapshot replaces the previous one of the same instance and is merged into the trending
+     * lists until it expires.
+     *
+     * @param snapshot the snapshot
+     * @return ResponseEntity with HTTP 204 No Content status
+     */
+    @Operation(
+        summary = "Receive trending snapshot",
+        description = "Internal endpoint receiving the heaviest hashtags and tweets counted by another " +
+            "tweet-api instance. The snapshot replaces the previous one of that instance and is merged " +
+            "into the trending lists until it expires."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Snapshot accepted"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Snapshot without instance ID, with missing entries or with more than 1000 entries in a list"
+        )
+    })
+    ResponseEntity<Void> receiveSnapshot(
+        @Parameter(description = "Trending snapshot of another instance", required = true)
+        TrendingSnapshotDto snapshot);
+}
\ No newline at end of file
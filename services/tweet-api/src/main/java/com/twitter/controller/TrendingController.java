@@ -0,0 +1,52 @@
+package com.twitter.controller;
+
+import com.twitter.common.aspect.LoggableRequest;
+import com.twitter.dto.response.TrendingResponseDto;
+import com.twitter.dto.trending.TrendingSnapshotDto;
+import com.twitter.trending.TrendingAggregator;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for trending hashtags and tweets.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/trending")
+@RequiredArgsConstructor
+public class TrendingController implements TrendingApi {
+
+    private final TrendingAggregator trendingAggregator;
+
+    /**
+     * @see TrendingApi#getTrending
+     */
+    @LoggableRequest
+    @GetMapping
+    @Override
+    public TrendingResponseDto getTrending(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return trendingAggregator.getTrending(limit);
+    }
+
+    /**
+     * @see TrendingApi#receiveSnapshot
+     */
+    @PostMapping("/snapshots")
+    @Override
+    public ResponseEntity<Void> receiveSnapshot(@RequestBody @Valid TrendingSnapshotDto snapshot) {
+        trendingAggregator.accept(snapshot);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
\ No newline at end of file
@@ -4,9 +4,17 @@ import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.request.tweet.DeleteTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.common.exception.validation.BusinessRuleValidationException;
+import com.twitter.common.exception.validation.FormatValidationException;
+import com.twitter.dto.request.BatchGetTweetsRequestDto;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.dto.response.HashtagFeedResponseDto;
+import com.twitter.dto.response.TweetBatchItemResponseDto;
+import com.twitter.dto.response.TweetSearchResponseDto;
+import com.twitter.enums.TimelineMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,7 +24,9 @@ import jakarta.validation.ConstraintViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -83,6 +93,117 @@ public interface TweetApi {
         )
         UUID tweetId);
 
+    /**
+     * Retrieves several tweets by their identifiers in one request.
+     * <p>
+     * Accepts up to 100 tweet identifiers and loads them with a single database query.
+     * The response contains one item per requested identifier in the request order. Each item
+     * is marked as FOUND, DELETED or NOT_FOUND; tweet data is returned only for FOUND items.
+     *
+     * @param batchGetTweetsRequest DTO containing the identifiers of the tweets to retrieve
+     * @return ResponseEntity containing the batch items with HTTP 200 status
+     * @throws ConstraintViolationException if the list is empty, too long or contains null identifiers
+     */
+    @Operation(
+        summary = "Get tweets by IDs",
+        description = "Retrieves up to 100 tweets by their identifiers in one request. " +
+            "The response contains one item per requested identifier in the request order. " +
+            "Each item is marked as FOUND, DELETED or NOT_FOUND; tweet data is returned only for FOUND items."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Tweets retrieved successfully",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = TweetBatchItemResponseDto.class))
+        )
+    )
+    ResponseEntity<List<TweetBatchItemResponseDto>> getTweetsByIds(
+        @Parameter(description = "Identifiers of the tweets to retrieve", required = true)
+        BatchGetTweetsRequestDto batchGetTweetsRequest);
+
+    /**
+     * Searches tweets by content.
+     * <p>
+     * The query uses the web search syntax: words, quoted phrases, {@code or} and {@code -} for
+     * exclusion. Results are ordered by relevance; deleted tweets are excluded. The next page is
+     * requested with the cursor returned with the previous one.
+     *
+     * @param query  the search query
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param limit  the maximum number of tweets in the page
+     * @return page of matching tweets with the cursor of the next page
+     * @throws FormatValidationException if the query, the cursor or the limit is invalid
+     */
+    @Operation(
+        summary = "Search tweets",
+        description = "Searches tweet content with full-text search. The query supports words, quoted phrases, " +
+            "'or' and '-' for exclusion. Results are ordered by relevance, deleted tweets are excluded. " +
+            "Pass the returned nextCursor as 'cursor' to get the next page."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Search results retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TweetSearchResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty or too long query, malformed cursor or limit out of range"
+        )
+    })
+    TweetSearchResponseDto searchTweets(
+        @Parameter(description = "Search query, up to 200 characters", required = true, example = "postgres \"full-text\"")
+        String query,
+        @Parameter(description = "Cursor returned with the previous page")
+        String cursor,
+        @Parameter(description = "Maximum number of tweets in the page, from 1 to 100", example = "20")
+        int limit);
+
+    /**
+     * Retrieves the latest tweets with a hashtag.
+     * <p>
+     * The hashtag is case-insensitive and may be given without the leading '#'. Tweets are ordered
+     * from newest to oldest; deleted tweets are excluded. The next page is requested with the cursor
+     * returned with the previous one.
+     *
+     * @param tag    the hashtag
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param limit  the maximum number of tweets in the page
+     * @return page of tweets with the hashtag and the cursor of the next page
+     * @throws FormatValidationException if the hashtag, the cursor or the limit is invalid
+     */
+    @Operation(
+        summary = "Get tweets with a hashtag",
+        description = "Retrieves the latest tweets with a hashtag from the hashtag index, newest first. " +
+            "The hashtag is case-insensitive and is given without the leading '#'. " +
+            "Pass the returned nextCursor as 'cursor' to get the next page."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Hashtag feed retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = HashtagFeedResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid hashtag, malformed cursor or limit out of range"
+        )
+    })
+    HashtagFeedResponseDto getHashtagTweets(
+        @Parameter(description = "Hashtag without the leading '#'", required = true, example = "java")
+        String tag,
+        @Parameter(description = "Cursor returned with the previous page")
+        String cursor,
+        @Parameter(description = "Maximum number of tweets in the page, from 1 to 100", example = "20")
+        int limit);
+
     /**
      * Updates an existing tweet with new content.
      * <p>
@@ -160,9 +281,11 @@ public interface TweetApi {
      * <p>
      * Tweets are sorted by creation date in descending order (newest first). Deleted tweets
      * (soft delete) are automatically excluded from the results. Supports pagination with
-     * page, size, and sort parameters.
+     * page, size, and sort parameters. When viewerId is specified, each tweet carries
+     * likedByViewer and retweetedByViewer flags.
      *
      * @param userId   the unique identifier of the user whose tweets to retrieve
+     * @param viewerId the unique identifier of the viewer to compute viewer state for (optional)
      * @param pageable pagination parameters (page, size, sorting)
      * @return PagedModel containing paginated list of tweets with metadata
      */
@@ -172,6 +295,7 @@ public interface TweetApi {
             "Tweets are sorted by creation date in descending order (newest first). " +
             "Deleted tweets (soft delete) are excluded from the results. " +
             "Supports pagination with page, size, and sort parameters. " +
+            "When viewerId is specified, each tweet carries likedByViewer and retweetedByViewer flags. " +
             "Default pagination: page=0, size=20, sort=createdAt,DESC."
     )
     @ApiResponses(value = {
@@ -191,19 +315,65 @@ public interface TweetApi {
             example = "123e4567-e89b-12d3-a456-426614174000"
         )
         UUID userId,
+        @Parameter(
+            description = "Unique identifier of the viewer to compute likedByViewer and retweetedByViewer flags for",
+            example = "987e6543-e21b-43d2-b654-321987654321"
+        )
+        UUID viewerId,
         @Parameter(description = "Pagination parameters (page, size, sorting)")
         Pageable pageable);
 
+    /**
+     * Retrieves the activity summary of an author for a profile header.
+     * <p>
+     * The summary contains the number of active tweets, the total likes and retweets they received
+     * and the creation time of the latest tweet. It is maintained incrementally, so the request reads
+     * a single row. An author without tweets gets a zero summary.
+     *
+     * @param userId the unique identifier of the author
+     * @return the activity summary of the author
+     */
+    @Operation(
+        summary = "Get author stats",
+        description = "Retrieves the activity summary of an author for a profile header: " +
+            "number of active tweets, total likes and retweets received and the latest tweet time. " +
+            "The summary is maintained incrementally with every tweet, like and retweet, " +
+            "so the request reads a single row. An author without tweets gets a zero summary."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Author stats retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AuthorStatsResponseDto.class)
+            )
+        )
+    })
+    AuthorStatsResponseDto getAuthorStats(
+        @Parameter(
+            description = "Unique identifier of the author",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId);
+
     /**
      * Retrieves a paginated timeline (news feed) of tweets for a specific user.
      * <p>
      * This endpoint retrieves tweets from all users that the specified user is following.
-     * The timeline includes tweets from all followed users, sorted by creation date in
-     * descending order (newest first). Deleted tweets (soft delete) are automatically
+     * The timeline includes tweets from all followed users and tweets they retweeted, sorted by
+     * the creation date of the tweet or retweet in descending order (newest first). A retweeted
+     * tweet appears once, attributed to the latest retweet. Deleted tweets (soft delete) are automatically
      * excluded from the results. Supports pagination with page, size, and sort parameters.
      * If the user has no following relationships, an empty page is returned (not an error).
+     * When viewerId is specified, each tweet carries likedByViewer and retweetedByViewer flags.
+     * In RANKED mode the recent tweets of the followed users are ordered by a score combining
+     * recency with likes and retweets per hour instead, and the sort parameter is ignored.
      *
      * @param userId   the unique identifier of the user whose timeline to retrieve
+     * @param viewerId the unique identifier of the viewer to compute viewer state for (optional)
+     * @param mode     the ordering of the timeline, LATEST by default
      * @param pageable pagination parameters (page, size, sorting)
      * @return PagedModel containing paginated list of tweets with metadata
      * @throws BusinessRuleValidationException if userId is null or user doesn't exist
@@ -213,10 +383,14 @@ public interface TweetApi {
         summary = "Get user timeline with pagination",
         description = "Retrieves a paginated timeline (news feed) of tweets for a specific user. " +
             "The timeline includes tweets from all users that the specified user is following. " +
-            "Tweets are sorted by creation date in descending order (newest first). " +
+            "Tweets retweeted by followed users are included once, with retweetedBy and retweetedAt of the latest retweet. " +
+            "Entries are sorted by the creation date of the tweet or retweet in descending order (newest first). " +
             "Deleted tweets (soft delete) are excluded from the results. " +
             "Supports pagination with page, size, and sort parameters. " +
             "If the user has no following relationships, an empty page is returned (not an error). " +
+            "When viewerId is specified, each tweet carries likedByViewer and retweetedByViewer flags. " +
+            "With mode=RANKED, recent tweets are ordered by a score combining recency with likes and retweets " +
+            "per hour; the ranking is cached for a short time and the sort parameter is ignored. " +
             "Default pagination: page=0, size=20, sort=createdAt,DESC."
     )
     @ApiResponse(
@@ -234,6 +408,51 @@ public interface TweetApi {
             example = "123e4567-e89b-12d3-a456-426614174000"
         )
         UUID userId,
+        @Parameter(
+            description = "Unique identifier of the viewer to compute likedByViewer and retweetedByViewer flags for",
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID viewerId,
+        @Parameter(description = "Ordering of the timeline", example = "RANKED")
+        TimelineMode mode,
         @Parameter(description = "Pagination parameters (page, size, sorting)")
         Pageable pageable);
+
+    /**
+     * Opens a Server-Sent Events stream of the timeline of a specific user.
+     * <p>
+     * Tweets created by the users the specified user follows are pushed as {@code tweet} events
+     * carrying the tweet as JSON. Only tweets created after the stream is opened are pushed.
+     * A client that falls too far behind is disconnected and has to reconnect and catch up
+     * through the paged timeline.
+     *
+     * @param userId the unique identifier of the user whose timeline to stream
+     * @return the event stream
+     * @throws BusinessRuleValidationException if userId is null or user doesn't exist
+     */
+    @Operation(
+        summary = "Stream user timeline",
+        description = "Opens a Server-Sent Events stream pushing tweets created by the users that the specified user " +
+            "is following. Each tweet is sent as a 'tweet' event with the tweet as JSON data. " +
+            "Only tweets created after the stream is opened are pushed. " +
+            "Slow clients are disconnected and should reconnect and catch up through the paged timeline."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream opened",
+            content = @Content(mediaType = "text/event-stream")
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many open streams or follower-api is unavailable"
+        )
+    })
+    SseEmitter streamTimeline(
+        @Parameter(
+            description = "Unique identifier of the user whose timeline to stream",
+            required = true,
+            example = "123e4567-e89b-12d3-a456-426614174000"
+        )
+        UUID userId);
 }
\ No newline at end of file
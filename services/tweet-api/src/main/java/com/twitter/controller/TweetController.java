@@ -4,7 +4,15 @@ import com.twitter.common.aspect.LoggableRequest;
 import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.request.tweet.DeleteTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.common.ratelimit.RateLimited;
+import com.twitter.dto.request.BatchGetTweetsRequestDto;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.dto.response.HashtagFeedResponseDto;
+import com.twitter.dto.response.TweetBatchItemResponseDto;
+import com.twitter.dto.response.TweetSearchResponseDto;
+import com.twitter.enums.TimelineMode;
+import com.twitter.service.TimelineStreamService;
 import com.twitter.service.TweetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,9 +23,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -33,11 +44,13 @@ import java.util.UUID;
 public class TweetController implements TweetApi {
 
     private final TweetService tweetService;
+    private final TimelineStreamService timelineStreamService;
 
     /**
      * @see TweetApi#createTweet
      */
     @LoggableRequest
+    @RateLimited(endpoint = "tweets-create", key = "#createTweetRequest.userId()")
     @PostMapping
     @Override
     public ResponseEntity<TweetResponseDto> createTweet(
@@ -59,6 +72,44 @@ public class TweetController implements TweetApi {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * @see TweetApi#getTweetsByIds
+     */
+    @LoggableRequest
+    @PostMapping("/batch")
+    @Override
+    public ResponseEntity<List<TweetBatchItemResponseDto>> getTweetsByIds(
+        @RequestBody @Valid BatchGetTweetsRequestDto batchGetTweetsRequest) {
+        List<TweetBatchItemResponseDto> tweets = tweetService.getTweetsByIds(batchGetTweetsRequest.tweetIds());
+        return ResponseEntity.ok(tweets);
+    }
+
+    /**
+     * @see TweetApi#searchTweets
+     */
+    @LoggableRequest
+    @GetMapping("/search")
+    @Override
+    public TweetSearchResponseDto searchTweets(
+        @RequestParam("q") String query,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return tweetService.searchTweets(query, cursor, limit);
+    }
+
+    /**
+     * @see TweetApi#getHashtagTweets
+     */
+    @LoggableRequest
+    @GetMapping("/hashtags/{tag}")
+    @Override
+    public HashtagFeedResponseDto getHashtagTweets(
+        @PathVariable("tag") String tag,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return tweetService.getHashtagTweets(tag, cursor, limit);
+    }
+
     /**
      * @see TweetApi#updateTweet
      */
@@ -93,11 +144,22 @@ public class TweetController implements TweetApi {
     @Override
     public PagedModel<TweetResponseDto> getUserTweets(
         @PathVariable("userId") UUID userId,
+        @RequestParam(value = "viewerId", required = false) UUID viewerId,
         @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<TweetResponseDto> tweets = tweetService.getUserTweets(userId, pageable);
+        Page<TweetResponseDto> tweets = tweetService.getUserTweets(userId, viewerId, pageable);
         return new PagedModel<>(tweets);
     }
 
+    /**
+     * @see TweetApi#getAuthorStats
+     */
+    @LoggableRequest
+    @GetMapping("/user/{userId}/stats")
+    @Override
+    public AuthorStatsResponseDto getAuthorStats(@PathVariable("userId") UUID userId) {
+        return tweetService.getAuthorStats(userId);
+    }
+
     /**
      * @see TweetApi#getTimeline
      */
@@ -106,8 +168,21 @@ public class TweetController implements TweetApi {
     @Override
     public PagedModel<TweetResponseDto> getTimeline(
         @PathVariable("userId") UUID userId,
+        @RequestParam(value = "viewerId", required = false) UUID viewerId,
+        @RequestParam(value = "mode", defaultValue = "LATEST") TimelineMode mode,
         @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<TweetResponseDto> timeline = tweetService.getTimeline(userId, pageable);
+        Page<TweetResponseDto> timeline = mode == TimelineMode.RANKED
+            ? tweetService.getRankedTimeline(userId, viewerId, pageable)
+            : tweetService.getTimeline(userId, viewerId, pageable);
         return new PagedModel<>(timeline);
     }
+
+    /**
+     * @see TweetApi#streamTimeline
+     */
+    @GetMapping(value = "/timeline/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public SseEmitter streamTimeline(@PathVariable("userId") UUID userId) {
+        return timelineStreamService.streamTimeline(userId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.twitter.dto.hashtag;
+
+/**
+ * Result of indexing a single batch of tweets by the hashtag backfill job.
+ *
+ * @param indexedTweets   number of tweets whose hashtags were indexed
+ * @param indexedHashtags number of hashtag index rows inserted
+ * @author geron
+ * @version 1.0
+ */
+public record HashtagBackfillBatchResult(
+    int indexedTweets,
+    int indexedHashtags
+) {
+
+    /**
+     * Creates a result for a batch that found nothing to index.
+     *
+     * @return empty batch result
+     */
+    public static HashtagBackfillBatchResult empty() {
+        return new HashtagBackfillBatchResult(0, 0);
+    }
+
+    /**
+     * Checks whether the batch indexed any tweets.
+     *
+     * @return true if no tweets were indexed
+     */
+    public boolean isEmpty() {
+        return indexedTweets == 0;
+    }
+}
\ No newline at end of file
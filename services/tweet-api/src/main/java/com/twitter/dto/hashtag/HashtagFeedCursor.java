@@ -0,0 +1,64 @@
+package com.twitter.dto.hashtag;
+
+import com.twitter.common.exception.validation.FormatValidationException;
+import com.twitter.entity.TweetHashtag;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a hashtag feed ordered by creation time descending and identifier descending.
+ * <p>
+ * The cursor is passed to clients as an opaque URL-safe string and matches the primary key order
+ * of the {@code tweet_hashtags} table, so the next page is read with a range scan that starts
+ * right after the last returned tweet.
+ *
+ * @param createdAt creation timestamp of the last returned tweet
+ * @param tweetId   identifier of the last returned tweet
+ * @author geron
+ * @version 1.0
+ */
+public record HashtagFeedCursor(LocalDateTime createdAt, UUID tweetId) {
+
+    /**
+     * Creates the cursor positioned after a hashtag index row.
+     *
+     * @param hashtag the last returned index row
+     * @return the cursor
+     */
+    public static HashtagFeedCursor after(TweetHashtag hashtag) {
+        return new HashtagFeedCursor(hashtag.getCreatedAt(), hashtag.getTweetId());
+    }
+
+    /**
+     * Encodes the cursor for a client.
+     *
+     * @return opaque URL-safe cursor
+     */
+    public String encode() {
+        String value = createdAt + "|" + tweetId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param cursor the opaque cursor
+     * @return the cursor
+     * @throws FormatValidationException if the cursor is malformed
+     */
+    public static HashtagFeedCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new HashtagFeedCursor(
+                LocalDateTime.parse(value.substring(0, separator)),
+                UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new FormatValidationException("cursor", "INVALID_CURSOR", "Hashtag feed cursor is malformed");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.twitter.dto.purge;
+
+/**
+ * Result of purging a single batch of soft-deleted tweets.
+ *
+ * @param archivedTweets  number of tweets copied to the archive table
+ * @param deletedTweets   number of tweets removed from the tweets table
+ * @param deletedLikes    number of likes removed together with the tweets
+ * @param deletedRetweets number of retweets removed together with the tweets
+ * @param reclaimedBytes  estimated size of the removed rows in bytes
+ * @author geron
+ * @version 1.0
+ */
+public record TweetPurgeBatchResult(
+    int archivedTweets,
+    int deletedTweets,
+    int deletedLikes,
+    int deletedRetweets,
+    long reclaimedBytes
+) {
+
+    /**
+     * Creates a result for a batch that found nothing to purge.
+     *
+     * @return empty batch result
+     */
+    public static TweetPurgeBatchResult empty() {
+        return new TweetPurgeBatchResult(0, 0, 0, 0, 0L);
+    }
+
+    /**
+     * Checks whether the batch purged any tweets.
+     *
+     * @return true if no tweets were removed
+     */
+    public boolean isEmpty() {
+        return deletedTweets == 0;
+    }
+}
\ No newline at end of file
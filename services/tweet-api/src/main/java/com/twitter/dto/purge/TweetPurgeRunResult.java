@@ -0,0 +1,27 @@
+package com.twitter.dto.purge;
+
+import java.time.Duration;
+
+/**
+ * Aggregated result of one purge job run.
+ *
+ * @param batches         number of processed batches
+ * @param archivedTweets  total number of tweets copied to the archive table
+ * @param deletedTweets   total number of tweets removed from the tweets table
+ * @param deletedLikes    total number of removed likes
+ * @param deletedRetweets total number of removed retweets
+ * @param reclaimedBytes  estimated total size of the removed rows in bytes
+ * @param duration        wall-clock duration of the run
+ * @author geron
+ * @version 1.0
+ */
+public record TweetPurgeRunResult(
+    int batches,
+    long archivedTweets,
+    long deletedTweets,
+    long deletedLikes,
+    long deletedRetweets,
+    long reclaimedBytes,
+    Duration duration
+) {
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.twitter.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for retrieving several tweets in one request.
+ *
+ * @param tweetIds the identifiers of the tweets to retrieve (1-100 items, order is preserved in the response)
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "BatchGetTweetsRequest",
+    description = "Data structure for retrieving several tweets by their identifiers",
+    example = """
+        {
+          "tweetIds": [
+            "123e4567-e89b-12d3-a456-426614174000",
+            "223e4567-e89b-12d3-a456-426614174001"
+          ]
+        }
+        """
+)
+@Builder
+public record BatchGetTweetsRequestDto(
+    @ArraySchema(
+        schema = @Schema(format = "uuid", example = "123e4567-e89b-12d3-a456-426614174000"),
+        minItems = 1,
+        maxItems = BatchGetTweetsRequestDto.MAX_TWEET_IDS
+    )
+    @NotEmpty(message = "Tweet IDs cannot be empty")
+    @Size(max = BatchGetTweetsRequestDto.MAX_TWEET_IDS, message = "No more than 100 tweet IDs can be requested at once")
+    List<@NotNull(message = "Tweet ID cannot be null") UUID> tweetIds
+) {
+
+    /**
+     * Maximum number of tweet identifiers accepted in one request.
+     */
+    public static final int MAX_TWEET_IDS = 100;
+}
\ No newline at end of file
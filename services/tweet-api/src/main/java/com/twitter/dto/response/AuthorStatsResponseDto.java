@@ -0,0 +1,73 @@
+package com.twitter.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for the activity summary of an author shown in a profile header.
+ *
+ * @param userId           the author identifier
+ * @param tweetsCount      number of active tweets
+ * @param likesReceived    number of likes on the active tweets
+ * @param retweetsReceived number of retweets of the active tweets
+ * @param lastTweetAt      creation time of the latest active tweet, or null without tweets
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "AuthorStatsResponse",
+    description = "Activity summary of an author returned by the API",
+    example = """
+        {
+          "userId": "987fcdeb-51a2-43d7-b123-426614174111",
+          "tweetsCount": 42,
+          "likesReceived": 1280,
+          "retweetsReceived": 97,
+          "lastTweetAt": "2025-01-21T20:30:00Z"
+        }
+        """
+)
+@Builder
+public record AuthorStatsResponseDto(
+    @Schema(
+        description = "ID of the author",
+        example = "987fcdeb-51a2-43d7-b123-426614174111",
+        format = "uuid"
+    )
+    UUID userId,
+
+    @Schema(
+        description = "Number of active tweets of the author",
+        example = "42",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    long tweetsCount,
+
+    @Schema(
+        description = "Total number of likes on the active tweets of the author",
+        example = "1280",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    long likesReceived,
+
+    @Schema(
+        description = "Total number of retweets of the active tweets of the author",
+        example = "97",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    long retweetsReceived,
+
+    @Schema(
+        description = "Creation time of the latest active tweet. Null if the author has no tweets.",
+        example = "2025-01-21T20:30:00Z",
+        format = "date-time",
+        nullable = true
+    )
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+    LocalDateTime lastTweetAt
+) {
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.twitter.dto.response;
+
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of a hashtag feed with a keyset cursor.
+ *
+ * @param tag        the normalized hashtag without the leading '#'
+ * @param tweets     the tweets with the hashtag, newest first
+ * @param nextCursor cursor of the next page, or null if this is the last page
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "HashtagFeedResponse",
+    description = "Page of the latest tweets with a hashtag, with a cursor for the next page",
+    example = """
+        {
+          "tag": "java",
+          "tweets": [
+            {
+              "id": "123e4567-e89b-12d3-a456-426614174000",
+              "userId": "987fcdeb-51a2-43d7-b123-426614174111",
+              "content": "Virtual threads are here #Java",
+              "createdAt": "2025-01-21T20:30:00Z",
+              "updatedAt": "2025-01-21T20:30:00Z",
+              "isDeleted": false,
+              "deletedAt": null
+            }
+          ],
+          "nextCursor": "MjAyNS0wMS0yMVQyMDozMHwxMjNlNDU2Ny1lODliLTEyZDMtYTQ1Ni00MjY2MTQxNzQwMDA"
+        }
+        """
+)
+@Builder
+public record HashtagFeedResponseDto(
+    @Schema(
+        description = "Normalized hashtag without the leading '#'",
+        example = "java",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    String tag,
+
+    @Schema(
+        description = "Tweets with the hashtag, newest first",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    List<TweetResponseDto> tweets,
+
+    @Schema(
+        description = "Value to pass as 'cursor' to get the next page, or null if this is the last page",
+        nullable = true
+    )
+    String nextCursor
+) {
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.twitter.dto.response;
+
+import com.twitter.dto.trending.TrendingHashtagDto;
+import com.twitter.dto.trending.TrendingTweetDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO with the trending hashtags and tweets of the trending window.
+ *
+ * @param hashtags trending hashtags, highest score first
+ * @param tweets   trending tweets, highest score first
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "TrendingResponse",
+    description = "Trending hashtags and tweets of the trending window, highest score first",
+    example = """
+        {
+          "hashtags": [
+            { "tag": "java", "score": 1520 },
+            { "tag": "spring", "score": 944 }
+          ],
+          "tweets": [
+            { "tweetId": "123e4567-e89b-12d3-a456-426614174000", "score": 870 }
+          ]
+        }
+        """
+)
+public record TrendingResponseDto(
+    @Schema(description = "Trending hashtags, highest score first", requiredMode = Schema.RequiredMode.REQUIRED)
+    List<TrendingHashtagDto> hashtags,
+
+    @Schema(description = "Trending tweets, highest score first", requiredMode = Schema.RequiredMode.REQUIRED)
+    List<TrendingTweetDto> tweets
+) {
+}
\ No newline at end of file
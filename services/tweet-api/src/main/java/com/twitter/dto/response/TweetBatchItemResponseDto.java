@@ -0,0 +1,59 @@
+package com.twitter.dto.response;
+
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.enums.TweetBatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for a single item of a batch tweet lookup.
+ *
+ * @param id     the requested tweet identifier
+ * @param status the lookup status of the tweet
+ * @param tweet  the tweet data, present only when the status is FOUND
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "TweetBatchItemResponse",
+    description = "Result of a batch tweet lookup for one requested identifier",
+    example = """
+        {
+          "id": "123e4567-e89b-12d3-a456-426614174000",
+          "status": "FOUND",
+          "tweet": {
+            "id": "123e4567-e89b-12d3-a456-426614174000",
+            "userId": "987fcdeb-51a2-43d7-b123-426614174111",
+            "content": "This is a sample tweet content",
+            "createdAt": "2025-01-21T20:30:00Z",
+            "updatedAt": "2025-01-21T20:30:00Z",
+            "isDeleted": false,
+            "deletedAt": null
+          }
+        }
+        """
+)
+@Builder
+public record TweetBatchItemResponseDto(
+    @Schema(
+        description = "The requested tweet identifier",
+        example = "123e4567-e89b-12d3-a456-426614174000",
+        format = "uuid"
+    )
+    UUID id,
+
+    @Schema(
+        description = "Lookup status of the tweet",
+        example = "FOUND"
+    )
+    TweetBatchItemStatus status,
+
+    @Schema(
+        description = "Tweet data, null when the tweet is deleted or does not exist",
+        nullable = true
+    )
+    TweetResponseDto tweet
+) {
+}
\ No newline at end of file
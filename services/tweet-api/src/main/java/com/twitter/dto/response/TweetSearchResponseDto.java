@@ -0,0 +1,51 @@
+package com.twitter.dto.response;
+
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of full-text search results with a keyset cursor.
+ *
+ * @param tweets     the matching tweets, most relevant first
+ * @param nextCursor cursor of the next page, or null if this is the last page
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "TweetSearchResponse",
+    description = "Page of tweets matching a search query ordered by relevance, with a cursor for the next page",
+    example = """
+        {
+          "tweets": [
+            {
+              "id": "123e4567-e89b-12d3-a456-426614174000",
+              "userId": "987fcdeb-51a2-43d7-b123-426614174111",
+              "content": "Postgres full-text search is fast",
+              "createdAt": "2025-01-21T20:30:00Z",
+              "updatedAt": "2025-01-21T20:30:00Z",
+              "isDeleted": false,
+              "deletedAt": null
+            }
+          ],
+          "nextCursor": "M2Q4OGY0N2Q6MTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAw"
+        }
+        """
+)
+@Builder
+public record TweetSearchResponseDto(
+    @Schema(
+        description = "Matching tweets, most relevant first",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    List<TweetResponseDto> tweets,
+
+    @Schema(
+        description = "Value to pass as 'cursor' to get the next page, or null if this is the last page",
+        nullable = true
+    )
+    String nextCursor
+) {
+}
\ No newline at end of file
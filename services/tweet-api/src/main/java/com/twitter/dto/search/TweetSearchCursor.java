@@ -0,0 +1,59 @@
+package com.twitter.dto.search;
+
+import com.twitter.common.exception.validation.FormatValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in search results ordered by relevance descending and identifier descending.
+ * <p>
+ * The cursor is passed to clients as an opaque URL-safe string. The relevance is encoded by its
+ * bits, so the next page continues exactly after the last returned tweet.
+ *
+ * @param rank relevance of the last returned tweet
+ * @param id   identifier of the last returned tweet
+ * @author geron
+ * @version 1.0
+ */
+public record TweetSearchCursor(float rank, UUID id) {
+
+    /**
+     * Creates the cursor positioned after a search hit.
+     *
+     * @param hit the last returned hit
+     * @return the cursor
+     */
+    public static TweetSearchCursor after(TweetSearchHit hit) {
+        return new TweetSearchCursor(hit.getRank(), hit.getId());
+    }
+
+    /**
+     * Encodes the cursor for a client.
+     *
+     * @return opaque URL-safe cursor
+     */
+    public String encode() {
+        String value = Integer.toHexString(Float.floatToIntBits(rank)) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param cursor the opaque cursor
+     * @return the cursor
+     * @throws FormatValidationException if the cursor is malformed
+     */
+    public static TweetSearchCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(value.substring(0, separator), 16));
+            return new TweetSearchCursor(rank, UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new FormatValidationException("cursor", "INVALID_CURSOR", "Search cursor is malformed");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.twitter.dto.search;
+
+import java.util.UUID;
+
+/**
+ * Projection of a tweet matching a full-text search query.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface TweetSearchHit {
+
+    /**
+     * Returns the tweet identifier.
+     *
+     * @return the tweet identifier
+     */
+    UUID getId();
+
+    /**
+     * Returns the relevance of the tweet computed by {@code ts_rank}.
+     *
+     * @return the relevance, higher is more relevant
+     */
+    float getRank();
+}
\ No newline at end of file
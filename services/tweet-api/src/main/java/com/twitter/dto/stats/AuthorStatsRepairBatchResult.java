@@ -0,0 +1,37 @@
+package com.twitter.dto.stats;
+
+import java.util.UUID;
+
+/**
+ * Result of reconciling the activity summaries of one batch of authors.
+ *
+ * @param checkedAuthors  number of authors whose summaries were compared with the tweets table
+ * @param repairedAuthors number of authors whose summaries had drifted and were corrected
+ * @param lastUserId      identifier of the last checked author, used as the start of the next batch
+ * @author geron
+ * @version 1.0
+ */
+public record AuthorStatsRepairBatchResult(
+    int checkedAuthors,
+    int repairedAuthors,
+    UUID lastUserId
+) {
+
+    /**
+     * Creates a result for a batch with no authors left to check.
+     *
+     * @return empty batch result
+     */
+    public static AuthorStatsRepairBatchResult empty() {
+        return new AuthorStatsRepairBatchResult(0, 0, null);
+    }
+
+    /**
+     * Checks whether the batch had no authors to check.
+     *
+     * @return true if no authors were checked
+     */
+    public boolean isEmpty() {
+        return checkedAuthors == 0;
+    }
+}
\ No newline at end of file
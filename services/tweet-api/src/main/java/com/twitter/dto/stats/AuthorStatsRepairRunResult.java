@@ -0,0 +1,21 @@
+package com.twitter.dto.stats;
+
+import java.time.Duration;
+
+/**
+ * Aggregated result of one author activity summary repair run.
+ *
+ * @param createdSummaries number of missing summary rows created for authors with tweets
+ * @param checkedAuthors   total number of authors whose summaries were checked
+ * @param repairedAuthors  total number of authors whose summaries were corrected
+ * @param duration         wall-clock duration of the run
+ * @author geron
+ * @version 1.0
+ */
+public record AuthorStatsRepairRunResult(
+    int createdSummaries,
+    long checkedAuthors,
+    long repairedAuthors,
+    Duration duration
+) {
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.twitter.dto.timeline;
+
+import java.util.UUID;
+
+/**
+ * Number of active tweets of an author, or of retweets of active tweets by a user.
+ *
+ * @param userId the author or retweeting user identifier
+ * @param count  number of tweets, or retweets of tweets, that are not deleted
+ * @author geron
+ * @version 1.0
+ */
+public record AuthorTweetCount(UUID userId, long count) {
+}
\ No newline at end of file
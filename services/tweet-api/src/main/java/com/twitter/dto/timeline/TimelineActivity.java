@@ -0,0 +1,52 @@
+package com.twitter.dto.timeline;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of one tweet or retweet by a followed user, read by the timeline union queries.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface TimelineActivity {
+
+    /**
+     * Returns the user who created the tweet or the retweet.
+     *
+     * @return the user identifier
+     */
+    UUID getUserId();
+
+    /**
+     * Returns the tweet identifier, for a retweet the identifier of the original tweet.
+     *
+     * @return the tweet identifier
+     */
+    UUID getTweetId();
+
+    /**
+     * Returns the creation time of the tweet or the retweet.
+     *
+     * @return the activity time
+     */
+    LocalDateTime getActivityAt();
+
+    /**
+     * Returns whether the row is a retweet.
+     *
+     * @return true for a retweet, false for an original tweet
+     */
+    boolean getRetweet();
+
+    /**
+     * Converts the row to a timeline entry attributed to the retweeter.
+     *
+     * @return the timeline entry
+     */
+    default TimelineEntry toEntry() {
+        return getRetweet()
+            ? new TimelineEntry(getTweetId(), getUserId(), getActivityAt())
+            : TimelineEntry.tweet(getTweetId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.twitter.dto.timeline;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a recent tweet of a followed user considered for a ranked timeline.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface TimelineCandidate {
+
+    /**
+     * Returns the tweet identifier.
+     *
+     * @return the tweet identifier
+     */
+    UUID getId();
+
+    /**
+     * Returns the creation time of the tweet.
+     *
+     * @return the creation time
+     */
+    LocalDateTime getCreatedAt();
+
+    /**
+     * Returns the number of likes of the tweet.
+     *
+     * @return the number of likes
+     */
+    int getLikesCount();
+
+    /**
+     * Returns the number of retweets of the tweet.
+     *
+     * @return the number of retweets
+     */
+    int getRetweetsCount();
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.twitter.dto.timeline;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entry of a home timeline: a tweet of a followed user or a tweet retweeted by one.
+ *
+ * @param tweetId     the tweet identifier, for a retweet the identifier of the original tweet
+ * @param retweetedBy the followed user who retweeted the tweet, or null for an original tweet
+ * @param retweetedAt the creation time of the retweet, or null for an original tweet
+ * @author geron
+ * @version 1.0
+ */
+public record TimelineEntry(UUID tweetId, UUID retweetedBy, LocalDateTime retweetedAt) {
+
+    /**
+     * Creates the entry of an original tweet.
+     *
+     * @param tweetId the tweet identifier
+     * @return the entry
+     */
+    public static TimelineEntry tweet(UUID tweetId) {
+        return new TimelineEntry(tweetId, null, null);
+    }
+
+    /**
+     * Checks whether the entry appears because a followed user retweeted the tweet.
+     *
+     * @return true for a retweet entry
+     */
+    public boolean isRetweet() {
+        return retweetedBy != null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.twitter.dto.trending;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Trending hashtag with its score in the trending window.
+ *
+ * @param tag   the normalized hashtag without the leading '#'
+ * @param score estimated number of uses of the hashtag in the window
+ * @author geron
+ * @version 1.0
+ */
+@Schema(name = "TrendingHashtag", description = "Trending hashtag with its score in the trending window")
+public record TrendingHashtagDto(
+    @Schema(description = "Normalized hashtag without the leading '#'", example = "java")
+    @NotBlank(message = "Hashtag cannot be empty")
+    String tag,
+
+    @Schema(description = "Estimated number of uses of the hashtag in the window", example = "1520")
+    long score
+) {
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.twitter.dto.trending;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Local trending counts of one tweet-api instance, exchanged between instances.
+ * <p>
+ * A receiving instance keeps at most its own top-k entries of each list.
+ *
+ * @param instanceId identifier of the instance that produced the snapshot
+ * @param hashtags   heaviest hashtags counted by the instance, heaviest first
+ * @param tweets     heaviest tweets counted by the instance, heaviest first
+ * @author geron
+ * @version 1.0
+ */
+@Schema(name = "TrendingSnapshot", description = "Local trending counts of one tweet-api instance")
+public record TrendingSnapshotDto(
+    @Schema(description = "Identifier of the instance that produced the snapshot", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "Instance ID cannot be empty")
+    String instanceId,
+
+    @Schema(description = "Heaviest hashtags counted by the instance", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Hashtags cannot be null")
+    @Size(max = TrendingSnapshotDto.MAX_ENTRIES, message = "No more than 1000 hashtags can be sent at once")
+    List<@NotNull(message = "Hashtag cannot be null") @Valid TrendingHashtagDto> hashtags,
+
+    @Schema(description = "Heaviest tweets counted by the instance", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Tweets cannot be null")
+    @Size(max = TrendingSnapshotDto.MAX_ENTRIES, message = "No more than 1000 tweets can be sent at once")
+    List<@NotNull(message = "Tweet cannot be null") @Valid TrendingTweetDto> tweets
+) {
+
+    /**
+     * Maximum number of hashtags and of tweets accepted in one snapshot.
+     */
+    public static final int MAX_ENTRIES = 1000;
+}
\ No newline at end of file
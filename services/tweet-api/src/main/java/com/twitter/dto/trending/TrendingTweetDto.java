@@ -0,0 +1,25 @@
+package com.twitter.dto.trending;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Trending tweet with its engagement score in the trending window.
+ *
+ * @param tweetId the tweet identifier
+ * @param score   estimated weighted number of likes and retweets of the tweet in the window
+ * @author geron
+ * @version 1.0
+ */
+@Schema(name = "TrendingTweet", description = "Trending tweet with its engagement score in the trending window")
+public record TrendingTweetDto(
+    @Schema(description = "Tweet identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+    @NotNull(message = "Tweet ID cannot be null")
+    UUID tweetId,
+
+    @Schema(description = "Estimated weighted number of likes and retweets in the window", example = "870")
+    long score
+) {
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing the denormalized activity summary of an author.
+ * <p>
+ * Maps to the 'author_stats' table. The summary is adjusted in the same transaction as every
+ * tweet creation and deletion, like, unlike, retweet and retweet removal, so rendering a profile
+ * header is a single primary key lookup instead of aggregating the 'tweets' table.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "author_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorStats {
+
+    /**
+     * ID of the author the summary belongs to.
+     */
+    @Id
+    @Column(name = "user_id", columnDefinition = "UUID")
+    private UUID userId;
+
+    /**
+     * Number of active tweets of the author.
+     */
+    @Column(name = "tweets_count", nullable = false)
+    private long tweetsCount;
+
+    /**
+     * Number of likes on the active tweets of the author.
+     */
+    @Column(name = "likes_received", nullable = false)
+    private long likesReceived;
+
+    /**
+     * Number of retweets of the active tweets of the author.
+     */
+    @Column(name = "retweets_received", nullable = false)
+    private long retweetsReceived;
+
+    /**
+     * Creation time of the latest active tweet of the author, null if there is none.
+     */
+    @Column(name = "last_tweet_at")
+    private LocalDateTime lastTweetAt;
+
+    /**
+     * Timestamp when the summary was last changed.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing an archived tweet in the database.
+ * <p>
+ * Soft-deleted tweets that are older than the configured retention window are moved
+ * from the hot 'tweets' table into 'tweets_archive' by the purge job. Rows are written
+ * with native bulk statements, so this entity is mainly used for schema validation
+ * and read access to archived data.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "tweets_archive")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TweetArchive {
+
+    /**
+     * Identifier of the original tweet.
+     */
+    @Id
+    @Column(name = "id", columnDefinition = "UUID")
+    private UUID id;
+
+    /**
+     * ID of the user who created the original tweet.
+     */
+    @Column(name = "user_id", columnDefinition = "UUID", nullable = false)
+    private UUID userId;
+
+    /**
+     * Content of the original tweet.
+     */
+    @Column(name = "content", length = 280, nullable = false)
+    private String content;
+
+    /**
+     * Timestamp when the original tweet was created.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the original tweet was last updated.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Timestamp when the original tweet was soft deleted.
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * Likes count of the tweet at the moment of archiving.
+     */
+    @Column(name = "likes_count", nullable = false)
+    private Integer likesCount;
+
+    /**
+     * Retweets count of the tweet at the moment of archiving.
+     */
+    @Column(name = "retweets_count", nullable = false)
+    private Integer retweetsCount;
+
+    /**
+     * Timestamp when the tweet was moved to the archive.
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
\ No newline at end of file
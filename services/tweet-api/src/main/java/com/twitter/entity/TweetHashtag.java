@@ -0,0 +1,75 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing one hashtag of an active tweet in the inverted hashtag index.
+ * <p>
+ * The primary key (tag, createdAt, tweetId) orders the rows of a tag by creation time, so the
+ * latest tweets with a tag are read with a range scan of the primary key index. The creation time
+ * is copied from the tweet; rows are removed when the tweet is soft-deleted.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(
+    name = "tweet_hashtags",
+    indexes = {
+        @Index(name = "idx_tweet_hashtags_tweet_id", columnList = "tweet_id")
+    }
+)
+@IdClass(TweetHashtag.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TweetHashtag {
+
+    /**
+     * Normalized hashtag without the leading '#'.
+     */
+    @Id
+    @Column(name = "tag", length = 100)
+    private String tag;
+
+    /**
+     * Creation timestamp of the tweet.
+     */
+    @Id
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * ID of the tweet containing the hashtag.
+     */
+    @Id
+    @Column(name = "tweet_id", columnDefinition = "UUID")
+    private UUID tweetId;
+
+    /**
+     * Composite primary key of {@link TweetHashtag}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private String tag;
+        private LocalDateTime createdAt;
+        private UUID tweetId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing the progress of the hashtag backfill job.
+ * <p>
+ * The backfill walks the tweets table in identifier order. The checkpoint stores the identifier of
+ * the last indexed tweet and is updated in the same transaction as each batch, so after a restart
+ * the job resumes right after the last committed batch. Once the end of the table is reached the
+ * checkpoint is marked completed and later runs do nothing.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "tweet_hashtag_backfill_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TweetHashtagBackfillCheckpoint {
+
+    /**
+     * Name of the job that owns this checkpoint.
+     */
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    /**
+     * Identifier of the last indexed tweet.
+     */
+    @Column(name = "last_tweet_id", columnDefinition = "UUID", nullable = false)
+    private UUID lastTweetId;
+
+    /**
+     * Whether the whole tweets table has been indexed.
+     */
+    @Builder.Default
+    @Column(name = "completed", nullable = false)
+    private Boolean completed = false;
+
+    /**
+     * Timestamp when the checkpoint was last moved forward.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.twitter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing the progress of the soft-deleted tweets purge job.
+ * <p>
+ * The checkpoint stores the keyset position (deletedAt, tweetId) of the last purged tweet.
+ * It is updated in the same transaction as each purged batch, so after a restart the job
+ * resumes right after the last committed batch instead of rescanning the tweets table.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Entity
+@Table(name = "tweet_purge_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TweetPurgeCheckpoint {
+
+    /**
+     * Name of the job that owns this checkpoint.
+     */
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    /**
+     * Deletion timestamp of the last purged tweet.
+     */
+    @Column(name = "last_deleted_at", nullable = false)
+    private LocalDateTime lastDeletedAt;
+
+    /**
+     * Identifier of the last purged tweet.
+     */
+    @Column(name = "last_tweet_id", columnDefinition = "UUID", nullable = false)
+    private UUID lastTweetId;
+
+    /**
+     * Timestamp when the checkpoint was last moved forward.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
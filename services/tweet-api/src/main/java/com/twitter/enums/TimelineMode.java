@@ -0,0 +1,31 @@
+package com.twitter.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enumeration of timeline orderings.
+ *
+ * <p>The available modes:</p>
+ * - <strong>LATEST</strong> - Tweets of followed users from newest to oldest
+ * - <strong>RANKED</strong> - Recent tweets of followed users ordered by recency and engagement velocity
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "TimelineMode",
+    description = "Ordering of a timeline",
+    example = "LATEST"
+)
+public enum TimelineMode {
+
+    /**
+     * Newest tweets first.
+     */
+    LATEST,
+
+    /**
+     * Tweets with the highest engagement score first.
+     */
+    RANKED
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.twitter.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enumeration of per-item statuses in a batch tweet lookup.
+ *
+ * <p>The available statuses:</p>
+ * - <strong>FOUND</strong> - The tweet exists and is returned in the item
+ * - <strong>DELETED</strong> - The tweet exists but has been soft deleted
+ * - <strong>NOT_FOUND</strong> - No tweet with the requested identifier exists
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "TweetBatchItemStatus",
+    description = "Status of a single tweet in a batch lookup",
+    example = "FOUND"
+)
+public enum TweetBatchItemStatus {
+
+    /**
+     * The tweet exists and is active.
+     */
+    FOUND,
+
+    /**
+     * The tweet exists but has been soft deleted.
+     */
+    DELETED,
+
+    /**
+     * The tweet does not exist.
+     */
+    NOT_FOUND
+}
\ No newline at end of file
@@ -1,15 +1,12 @@
 package com.twitter.gateway;
 
 import com.twitter.client.FollowerApiClient;
-import com.twitter.common.dto.response.follow.FollowingResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,48 +24,24 @@ public class FollowerGateway {
     private final FollowerApiClient followerApiClient;
 
     /**
-     * Retrieves a list of user identifiers that the specified user is following.
+     * Retrieves the identifiers of all users that the specified user is following with one request.
+     * <p>
+     * A failure is not reported as an empty list, because callers cache the result and an empty
+     * following list would hide the whole timeline of the user.
      *
      * @param userId the unique identifier of the user whose following list to retrieve
-     * @return list of user identifiers (followingIds) that the user is following.
-     * Returns an empty list if the user has no following relationships,
-     * if the user ID is null, or if an error occurs while communicating with follower-api
+     * @return identifiers of the followed users
+     * @throws ResponseStatusException with 503 status if follower-api cannot be reached
      */
-    public List<UUID> getFollowingUserIds(UUID userId) {
-        if (userId == null) {
-            log.warn("Attempted to retrieve following list for null user ID");
-            return new ArrayList<>();
-        }
-
+    public List<UUID> getFollowingIds(UUID userId) {
         try {
-            log.debug("Retrieving following list for user: userId={}", userId);
-            List<UUID> allFollowingIds = new ArrayList<>();
-            int page = 0;
-            int size = 100;
-            int pageFollowingIdsSize;
-
-            do {
-                Pageable pageable = PageRequest.of(page, size);
-                Page<FollowingResponseDto> pageResult = followerApiClient.getFollowing(userId, pageable);
-
-                List<UUID> pageFollowingIds = pageResult.getContent().stream()
-                    .map(FollowingResponseDto::id)
-                    .toList();
-                pageFollowingIdsSize = pageFollowingIds.size();
-                allFollowingIds.addAll(pageFollowingIds);
-
-                log.debug("Retrieved {} following users from page {} for user: userId={}, total so far: {}",
-                    pageFollowingIdsSize, page, userId, allFollowingIds.size());
-
-                page++;
-            } while (pageFollowingIdsSize >= size);
-
-            log.info("Retrieved {} total following users for user: userId={}", allFollowingIds.size(), userId);
-            return allFollowingIds;
+            log.debug("Retrieving following ids for user: userId={}", userId);
+            List<UUID> followingIds = followerApiClient.getFollowingIds(userId);
+            log.debug("Retrieved {} following ids for user: userId={}", followingIds.size(), userId);
+            return followingIds;
         } catch (Exception ex) {
-            log.warn("Failed to retrieve following list for user: userId={}, error: {}",
-                userId, ex.getMessage(), ex);
-            return new ArrayList<>();
+            log.warn("Failed to retrieve following ids for user: userId={}, error: {}", userId, ex.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "follower-api is unavailable", ex);
         }
     }
 }
\ No newline at end of file
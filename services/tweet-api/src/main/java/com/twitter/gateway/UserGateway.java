@@ -2,9 +2,12 @@ package com.twitter.gateway;
 
 import com.twitter.client.UsersApiClient;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.UUID;
 
@@ -23,9 +26,13 @@ public class UserGateway {
 
     /**
      * Checks if a user exists by their identifier.
+     * <p>
+     * A failed call is not reported as "user does not exist": validation would otherwise reject the
+     * requests of every user while users-api is unavailable.
      *
      * @param userId the user identifier to check
-     * @return true if the user exists, false otherwise
+     * @return true if the user exists, false otherwise (including when userId is null)
+     * @throws ResponseStatusException with status 503 if users-api cannot be reached or fails
      */
     public boolean existsUser(UUID userId) {
         if (userId == null) {
@@ -38,9 +45,16 @@ public class UserGateway {
             boolean exists = response.exists();
             log.debug("User {} exists: {}", userId, exists);
             return exists;
-        } catch (Exception ex) {
+        } catch (FeignException.NotFound ex) {
             log.debug("User {} does not exist: {}", userId, ex.getMessage());
             return false;
+        } catch (Exception ex) {
+            log.warn("Failed to check existence of user {}: {}", userId, ex.getMessage());
+            throw new ResponseStatusException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "User existence could not be verified because users-api is unavailable",
+                ex
+            );
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.twitter.hashtag;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts and normalizes hashtags of tweet content.
+ * <p>
+ * A hashtag is a '#' followed by letters, digits and underscores that is not glued to a preceding
+ * word, so {@code a#b} and HTML entities such as {@code &#39;} are ignored. Tags consisting only of
+ * digits are not hashtags. Tags are normalized with NFKC and lower-cased, so {@code #Java} and
+ * {@code #JAVA} land on the same index entry.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public final class HashtagExtractor {
+
+    /**
+     * Maximum length of a normalized tag; longer tags are not indexed.
+     */
+    public static final int MAX_TAG_LENGTH = 100;
+
+    private static final Pattern HASHTAG = Pattern.compile("(?<![\\p{L}\\p{M}\\p{N}_&#])[#＃]([\\p{L}\\p{M}\\p{N}_]+)");
+    private static final Pattern TAG = Pattern.compile("[\\p{L}\\p{M}\\p{N}_]*[\\p{L}\\p{M}_][\\p{L}\\p{M}\\p{N}_]*");
+
+    private HashtagExtractor() {
+    }
+
+    /**
+     * Returns the distinct normalized hashtags of tweet content in order of appearance.
+     *
+     * @param content the tweet content
+     * @return normalized tags without the leading '#'
+     */
+    public static List<String> extract(String content) {
+        if (content == null || content.indexOf('#') < 0 && content.indexOf('＃') < 0) {
+            return List.of();
+        }
+
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find()) {
+            normalize(matcher.group(1)).ifPresent(tags::add);
+        }
+        return List.copyOf(tags);
+    }
+
+    /**
+     * Normalizes a tag given by a client, with or without the leading '#'.
+     *
+     * @param tag the tag
+     * @return the normalized tag, or empty if it is not a valid hashtag
+     */
+    public static Optional<String> normalize(String tag) {
+        if (tag == null) {
+            return Optional.empty();
+        }
+        String normalized = Normalizer.normalize(tag.strip(), Normalizer.Form.NFKC);
+        if (normalized.startsWith("#")) {
+            normalized = normalized.substring(1);
+        }
+        normalized = normalized.toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_TAG_LENGTH || !TAG.matcher(normalized).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(normalized);
+    }
+}
\ No newline at end of file
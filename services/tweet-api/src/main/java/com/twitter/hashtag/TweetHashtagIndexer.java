@@ -0,0 +1,74 @@
+package com.twitter.hashtag;
+
+import com.twitter.entity.Tweet;
+import com.twitter.repository.TweetHashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the inverted hashtag index of the {@code tweet_hashtags} table.
+ * <p>
+ * All methods must be called inside the transaction that writes the tweets, after the tweets are
+ * flushed, so the index never diverges from the committed tweets. The hashtags of many tweets are
+ * written with a single statement.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TweetHashtagIndexer {
+
+    private final TweetHashtagRepository tweetHashtagRepository;
+
+    /**
+     * Adds the hashtags of the given tweets to the index.
+     *
+     * @param tweets flushed active tweets
+     * @return number of index rows inserted
+     */
+    public int index(Collection<Tweet> tweets) {
+        List<String> tags = new ArrayList<>();
+        List<UUID> tweetIds = new ArrayList<>();
+        for (Tweet tweet : tweets) {
+            for (String tag : HashtagExtractor.extract(tweet.getContent())) {
+                tags.add(tag);
+                tweetIds.add(tweet.getId());
+            }
+        }
+        if (tags.isEmpty()) {
+            return 0;
+        }
+        return tweetHashtagRepository.insertAll(tags.toArray(String[]::new), tweetIds.toArray(UUID[]::new));
+    }
+
+    /**
+     * Replaces the indexed hashtags of the given tweets with the hashtags of their current content.
+     *
+     * @param tweets flushed active tweets
+     * @return number of index rows inserted
+     */
+    public int reindex(Collection<Tweet> tweets) {
+        if (tweets.isEmpty()) {
+            return 0;
+        }
+        remove(tweets.stream().map(Tweet::getId).toList());
+        return index(tweets);
+    }
+
+    /**
+     * Removes the given tweets from the index.
+     *
+     * @param tweetIds identifiers of the tweets
+     */
+    public void remove(Collection<UUID> tweetIds) {
+        if (!tweetIds.isEmpty()) {
+            tweetHashtagRepository.deleteAllByTweetIdIn(tweetIds);
+        }
+    }
+}
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.twitter.mapper;
 import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.entity.AuthorStats;
 import com.twitter.entity.Tweet;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -47,4 +49,12 @@ public interface TweetMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     void updateTweetFromUpdateDto(UpdateTweetRequestDto updateDto, @MappingTarget Tweet tweet);
+
+    /**
+     * Converts AuthorStats entity to AuthorStatsResponseDto.
+     *
+     * @param authorStats activity summary of an author from database
+     * @return DTO containing the activity summary for client response
+     */
+    AuthorStatsResponseDto toAuthorStatsResponseDto(AuthorStats authorStats);
 }
\ No newline at end of file
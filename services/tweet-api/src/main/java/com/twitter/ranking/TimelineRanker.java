@@ -0,0 +1,138 @@
+package com.twitter.ranking;
+
+import com.twitter.config.TimelineRankingProperties;
+import com.twitter.dto.timeline.TimelineCandidate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Orders the recent tweets of followed users by recency and engagement velocity.
+ * <p>
+ * The score of a tweet of age {@code a} hours with {@code l} likes and {@code r} retweets is
+ * <pre>
+ * 2^(-a / half-life) * (1 + (like-weight * l + retweet-weight * r) / (a + velocity-offset))
+ * </pre>
+ * i.e. a recency decay multiplied by one plus the engagement gained per hour. Scores are computed in
+ * one pass over primitive arrays, and each score is packed with its candidate index into a
+ * {@code long} whose order is the order of the scores, so ordering the candidates is a single
+ * {@link Arrays#sort(long[])} without boxing or comparators.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+public class TimelineRanker {
+
+    /**
+     * Maximum number of candidates, limited by the bits reserved for the index in a packed score.
+     */
+    public static final int MAX_CANDIDATES = 1 << 16;
+
+    private static final long INDEX_MASK = MAX_CANDIDATES - 1;
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    private final TimelineRankingProperties properties;
+    private final double decayPerHour;
+    private final double velocityOffsetHours;
+    private final Timer rankTimer;
+
+    public TimelineRanker(TimelineRankingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.decayPerHour = Math.log(2) / (properties.halfLife().toMillis() / MILLIS_PER_HOUR);
+        this.velocityOffsetHours = properties.velocityOffset().toMillis() / MILLIS_PER_HOUR;
+        this.rankTimer = Timer.builder("timeline.ranking.rank")
+            .description("Duration of scoring and ordering the candidates of a ranked timeline")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the maximum number of candidates a loader has to provide.
+     *
+     * @return the candidate limit
+     */
+    public int maxCandidates() {
+        return Math.min(properties.maxCandidates(), MAX_CANDIDATES);
+    }
+
+    /**
+     * Returns the maximum number of candidates of one author a loader has to provide.
+     *
+     * @return the per-author candidate limit
+     */
+    public int maxCandidatesPerAuthor() {
+        return properties.maxCandidatesPerAuthor();
+    }
+
+    /**
+     * Returns the creation time before which tweets are no longer candidates.
+     *
+     * @param now the current time
+     * @return the oldest creation time of a candidate
+     */
+    public LocalDateTime candidatesSince(LocalDateTime now) {
+        return now.minus(properties.maxAge());
+    }
+
+    /**
+     * Orders candidate tweets by score.
+     *
+     * @param candidates the candidates, at most {@link #maxCandidates()}, ordered from newest to oldest
+     * @param now        the current time
+     * @return identifiers of the candidates, highest score first; equal scores keep the input order
+     */
+    public List<UUID> rank(List<TimelineCandidate> candidates, LocalDateTime now) {
+        int size = Math.min(candidates.size(), MAX_CANDIDATES);
+        long nowMillis = now.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long[] ageMillis = new long[size];
+        int[] likes = new int[size];
+        int[] retweets = new int[size];
+        for (int i = 0; i < size; i++) {
+            TimelineCandidate candidate = candidates.get(i);
+            ageMillis[i] = nowMillis - candidate.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            likes[i] = candidate.getLikesCount();
+            retweets[i] = candidate.getRetweetsCount();
+        }
+
+        int[] order = rankTimer.record(() -> order(ageMillis, likes, retweets));
+        List<UUID> tweetIds = new ArrayList<>(order.length);
+        for (int index : order) {
+            tweetIds.add(candidates.get(index).getId());
+        }
+        return tweetIds;
+    }
+
+    /**
+     * Orders candidates given as parallel arrays by score.
+     *
+     * @param ageMillis age of each candidate in milliseconds
+     * @param likes     number of likes of each candidate
+     * @param retweets  number of retweets of each candidate
+     * @return candidate indexes, highest score first; equal scores are ordered by index
+     */
+    int[] order(long[] ageMillis, int[] likes, int[] retweets) {
+        int size = ageMillis.length;
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            double ageHours = Math.max(0L, ageMillis[i]) / MILLIS_PER_HOUR;
+            double engagement = properties.likeWeight() * likes[i] + properties.retweetWeight() * retweets[i];
+            double score = Math.exp(-decayPerHour * ageHours) * (1.0 + engagement / (ageHours + velocityOffsetHours));
+            packed[i] = (Double.doubleToRawLongBits(score) & ~INDEX_MASK) | (INDEX_MASK - i);
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) (INDEX_MASK - (packed[size - 1 - i] & INDEX_MASK));
+        }
+        return order;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.twitter.repository;
+
+import com.twitter.entity.AuthorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, UUID> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO author_stats (user_id, tweets_count, likes_received, retweets_received, last_tweet_at, updated_at)
+        VALUES (:userId, 1, 0, 0, :createdAt, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id) DO UPDATE SET
+            tweets_count = author_stats.tweets_count + 1,
+            last_tweet_at = GREATEST(author_stats.last_tweet_at, EXCLUDED.last_tweet_at),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    void recordTweet(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = """
+        UPDATE author_stats s SET
+            tweets_count = GREATEST(s.tweets_count - 1, 0),
+            likes_received = GREATEST(s.likes_received - :likesCount, 0),
+            retweets_received = GREATEST(s.retweets_received - :retweetsCount, 0),
+            last_tweet_at = (
+                SELECT t.created_at FROM tweets t
+                WHERE t.user_id = s.user_id AND t.is_deleted = false
+                ORDER BY t.created_at DESC
+                LIMIT 1
+            ),
+            updated_at = CURRENT_TIMESTAMP
+        WHERE s.user_id = :userId
+        """, nativeQuery = true)
+    void removeTweet(@Param("userId") UUID userId,
+                     @Param("likesCount") long likesCount,
+                     @Param("retweetsCount") long retweetsCount);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO author_stats (user_id, tweets_count, likes_received, retweets_received, updated_at)
+        VALUES (:userId, 0, GREATEST(:likesDelta, 0), GREATEST(:retweetsDelta, 0), CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id) DO UPDATE SET
+            likes_received = GREATEST(author_stats.likes_received + :likesDelta, 0),
+            retweets_received = GREATEST(author_stats.retweets_received + :retweetsDelta, 0),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    void adjustEngagement(@Param("userId") UUID userId,
+                          @Param("likesDelta") long likesDelta,
+                          @Param("retweetsDelta") long retweetsDelta);
+
+    @Query(value = """
+        SELECT s.user_id FROM author_stats s
+        WHERE s.user_id > :afterUserId
+        ORDER BY s.user_id
+        LIMIT :batchSize
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<UUID> lockNextUserIds(@Param("afterUserId") UUID afterUserId, @Param("batchSize") int batchSize);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+        UPDATE author_stats s SET
+            tweets_count = actual.tweets_count,
+            likes_received = actual.likes_received,
+            retweets_received = actual.retweets_received,
+            last_tweet_at = actual.last_tweet_at,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT ids.user_id, agg.tweets_count, agg.likes_received, agg.retweets_received, agg.last_tweet_at
+            FROM unnest(:userIds) AS ids(user_id)
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS tweets_count,
+                    COALESCE(SUM(t.likes_count), 0) AS likes_received,
+                    COALESCE(SUM(t.retweets_count), 0) AS retweets_received,
+                    MAX(t.created_at) AS last_tweet_at
+                FROM tweets t
+                WHERE t.user_id = ids.user_id AND t.is_deleted = false
+            ) AS agg
+        ) AS actual
+        WHERE s.user_id = actual.user_id
+          AND (s.tweets_count <> actual.tweets_count
+            OR s.likes_received <> actual.likes_received
+            OR s.retweets_received <> actual.retweets_received
+            OR s.last_tweet_at IS DISTINCT FROM actual.last_tweet_at)
+        """, nativeQuery = true)
+    int reconcileStats(@Param("userIds") UUID[] userIds);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO author_stats (user_id, tweets_count, likes_received, retweets_received, updated_at)
+        SELECT DISTINCT t.user_id, 0, 0, 0, CURRENT_TIMESTAMP
+        FROM tweets t
+        WHERE t.is_deleted = false
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertMissingStats();
+}
\ No newline at end of file
@@ -4,8 +4,13 @@ import com.twitter.entity.Like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,5 +21,15 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
 
     boolean existsByTweetIdAndUserId(UUID tweetId, UUID userId);
 
+    @Query(value = "SELECT l.tweet_id FROM tweet_likes l WHERE l.user_id = :userId AND l.tweet_id = ANY(:tweetIds)", nativeQuery = true)
+    List<UUID> findTweetIdsByUserIdAndTweetIdAny(@Param("userId") UUID userId, @Param("tweetIds") UUID[] tweetIds);
+
     Page<Like> findByTweetIdOrderByCreatedAtDesc(UUID tweetId, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(SUM(pg_column_size(l.*)), 0) FROM tweet_likes l WHERE l.tweet_id IN (:tweetIds)", nativeQuery = true)
+    long sumRowSizeByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM tweet_likes WHERE tweet_id IN (:tweetIds)", nativeQuery = true)
+    int deleteAllByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package com.twitter.repository;
 
+import com.twitter.dto.timeline.AuthorTweetCount;
 import com.twitter.entity.Retweet;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,5 +22,23 @@ public interface RetweetRepository extends JpaRepository<Retweet, UUID> {
 
     boolean existsByTweetIdAndUserId(UUID tweetId, UUID userId);
 
+    @Query(value = "SELECT r.tweet_id FROM tweet_retweets r WHERE r.user_id = :userId AND r.tweet_id = ANY(:tweetIds)", nativeQuery = true)
+    List<UUID> findTweetIdsByUserIdAndTweetIdAny(@Param("userId") UUID userId, @Param("tweetIds") UUID[] tweetIds);
+
     Page<Retweet> findByTweetIdOrderByCreatedAtDesc(UUID tweetId, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(SUM(pg_column_size(r.*)), 0) FROM tweet_retweets r WHERE r.tweet_id IN (:tweetIds)", nativeQuery = true)
+    long sumRowSizeByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Query("""
+        SELECT new com.twitter.dto.timeline.AuthorTweetCount(r.userId, COUNT(r))
+        FROM Retweet r, Tweet t
+        WHERE t.id = r.tweetId AND r.userId IN :userIds AND t.isDeleted = false
+        GROUP BY r.userId
+        """)
+    List<AuthorTweetCount> countActiveByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM tweet_retweets WHERE tweet_id IN (:tweetIds)", nativeQuery = true)
+    int deleteAllByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.twitter.repository;
+
+import com.twitter.entity.TweetArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface TweetArchiveRepository extends JpaRepository<TweetArchive, UUID> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO tweets_archive (id, user_id, content, created_at, updated_at, deleted_at,
+                                    likes_count, retweets_count, archived_at)
+        SELECT t.id, t.user_id, t.content, t.created_at, t.updated_at, t.deleted_at,
+               t.likes_count, t.retweets_count, CURRENT_TIMESTAMP
+        FROM tweets t
+        WHERE t.id IN (:tweetIds)
+        ON CONFLICT (id) DO NOTHING
+        """, nativeQuery = true)
+    int archiveTweets(@Param("tweetIds") Collection<UUID> tweetIds);
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.twitter.repository;
+
+import com.twitter.entity.TweetHashtagBackfillCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TweetHashtagBackfillCheckpointRepository extends JpaRepository<TweetHashtagBackfillCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TweetHashtagBackfillCheckpoint> findWithLockByJobName(String jobName);
+}
\ No newline at end of file
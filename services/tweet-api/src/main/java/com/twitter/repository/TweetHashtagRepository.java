@@ -0,0 +1,51 @@
+package com.twitter.repository;
+
+import com.twitter.entity.TweetHashtag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TweetHashtagRepository extends JpaRepository<TweetHashtag, TweetHashtag.Key> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO tweet_hashtags (tag, created_at, tweet_id)
+        SELECT h.tag, t.created_at, t.id
+        FROM unnest(CAST(:tags AS varchar[]), CAST(:tweetIds AS uuid[])) AS h(tag, tweet_id)
+        JOIN tweets t ON t.id = h.tweet_id
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertAll(@Param("tags") String[] tags, @Param("tweetIds") UUID[] tweetIds);
+
+    @Query(value = """
+        SELECT * FROM tweet_hashtags h
+        WHERE h.tag = :tag
+        ORDER BY h.created_at DESC, h.tweet_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TweetHashtag> findLatestByTag(@Param("tag") String tag, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM tweet_hashtags h
+        WHERE h.tag = :tag
+          AND (h.created_at, h.tweet_id) < (CAST(:beforeCreatedAt AS timestamp), CAST(:beforeTweetId AS uuid))
+        ORDER BY h.created_at DESC, h.tweet_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TweetHashtag> findLatestByTagBefore(@Param("tag") String tag,
+                                             @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                             @Param("beforeTweetId") UUID beforeTweetId,
+                                             @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM tweet_hashtags WHERE tweet_id IN (:tweetIds)", nativeQuery = true)
+    int deleteAllByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.twitter.repository;
+
+import com.twitter.entity.TweetPurgeCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TweetPurgeCheckpointRepository extends JpaRepository<TweetPurgeCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TweetPurgeCheckpoint> findWithLockByJobName(String jobName);
+}
\ No newline at end of file
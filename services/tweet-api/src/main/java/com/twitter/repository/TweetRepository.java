@@ -1,11 +1,22 @@
 package com.twitter.repository;
 
+import com.twitter.dto.search.TweetSearchHit;
+import com.twitter.dto.timeline.AuthorTweetCount;
+import com.twitter.dto.timeline.TimelineActivity;
+import com.twitter.dto.timeline.TimelineCandidate;
 import com.twitter.entity.Tweet;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +29,151 @@ public interface TweetRepository extends JpaRepository<Tweet, UUID> {
     Page<Tweet> findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
     Page<Tweet> findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(List<UUID> userIds, Pageable pageable);
+
+    @Query(value = "SELECT * FROM tweets t WHERE t.id = ANY(:ids)", nativeQuery = true)
+    List<Tweet> findAllByIdAny(@Param("ids") UUID[] ids);
+
+    @Query(value = """
+        SELECT author.user_id AS "userId", recent.tweet_id AS "tweetId",
+               recent.activity_at AS "activityAt", recent.retweet AS retweet
+        FROM unnest(:userIds) AS author(user_id)
+        CROSS JOIN LATERAL (
+            (SELECT t.id AS tweet_id, t.created_at AS activity_at, false AS retweet FROM tweets t
+             WHERE t.user_id = author.user_id AND t.is_deleted = false
+             ORDER BY t.created_at DESC, t.id DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT r.tweet_id, r.created_at, true FROM tweet_retweets r
+             JOIN tweets t ON t.id = r.tweet_id AND t.is_deleted = false
+             WHERE r.user_id = author.user_id
+             ORDER BY r.created_at DESC, r.tweet_id DESC
+             LIMIT :limit)
+        ) recent
+        """, nativeQuery = true)
+    List<TimelineActivity> findRecentActivityByUserIdAny(@Param("userIds") UUID[] userIds, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT latest.user_id AS "userId", latest.tweet_id AS "tweetId",
+               latest.activity_at AS "activityAt", latest.retweet AS retweet
+        FROM (
+            SELECT DISTINCT ON (activity.tweet_id) activity.*
+            FROM (
+                (SELECT t.user_id, t.id AS tweet_id, t.created_at AS activity_at, false AS retweet FROM tweets t
+                 WHERE t.user_id = ANY(:userIds) AND t.is_deleted = false
+                 ORDER BY t.created_at DESC, t.id DESC
+                 LIMIT :window)
+                UNION ALL
+                (SELECT retweeted.* FROM (
+                     SELECT DISTINCT ON (recent.tweet_id) recent.user_id, recent.tweet_id, recent.created_at, true
+                     FROM unnest(:userIds) AS retweeter(user_id)
+                     CROSS JOIN LATERAL (
+                         SELECT r.user_id, r.tweet_id, r.created_at FROM tweet_retweets r
+                         JOIN tweets t ON t.id = r.tweet_id AND t.is_deleted = false
+                         WHERE r.user_id = retweeter.user_id
+                         ORDER BY r.created_at DESC, r.tweet_id DESC
+                         LIMIT :window
+                     ) recent
+                     ORDER BY recent.tweet_id, recent.created_at DESC
+                 ) retweeted
+                 ORDER BY retweeted.created_at DESC, retweeted.tweet_id DESC
+                 LIMIT :window)
+            ) activity
+            ORDER BY activity.tweet_id, activity.activity_at DESC
+        ) latest
+        ORDER BY latest.activity_at DESC, latest.tweet_id DESC
+        OFFSET :offset
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TimelineActivity> findTimelinePage(@Param("userIds") UUID[] userIds,
+                                            @Param("window") long window,
+                                            @Param("offset") long offset,
+                                            @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT (SELECT COUNT(*) FROM tweets t
+                WHERE t.user_id = ANY(:userIds) AND t.is_deleted = false)
+             + (SELECT COUNT(*) FROM tweet_retweets r
+                JOIN tweets t ON t.id = r.tweet_id AND t.is_deleted = false
+                WHERE r.user_id = ANY(:userIds))
+        """, nativeQuery = true)
+    long countTimelineActivity(@Param("userIds") UUID[] userIds);
+
+    @Query(value = """
+        SELECT recent.id AS id, recent.created_at AS "createdAt",
+               recent.likes_count AS "likesCount", recent.retweets_count AS "retweetsCount"
+        FROM unnest(:userIds) AS author(user_id)
+        CROSS JOIN LATERAL (
+            SELECT t.id, t.created_at, t.likes_count, t.retweets_count FROM tweets t
+            WHERE t.user_id = author.user_id AND t.is_deleted = false AND t.created_at >= :since
+            ORDER BY t.created_at DESC, t.id DESC
+            LIMIT :perAuthor
+        ) recent
+        ORDER BY recent.created_at DESC, recent.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TimelineCandidate> findTimelineCandidates(@Param("userIds") UUID[] userIds,
+                                                   @Param("since") LocalDateTime since,
+                                                   @Param("perAuthor") int perAuthor,
+                                                   @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT t.id AS id, ts_rank(t.content_tsv, q.query) AS rank
+        FROM tweets t, websearch_to_tsquery('simple', :query) AS q(query)
+        WHERE t.content_tsv @@ q.query AND t.is_deleted = false
+        ORDER BY rank DESC, t.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TweetSearchHit> search(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT t.id AS id, ts_rank(t.content_tsv, q.query) AS rank
+        FROM tweets t, websearch_to_tsquery('simple', :query) AS q(query)
+        WHERE t.content_tsv @@ q.query AND t.is_deleted = false
+          AND (ts_rank(t.content_tsv, q.query), t.id) < (CAST(:afterRank AS real), CAST(:afterId AS uuid))
+        ORDER BY rank DESC, t.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TweetSearchHit> searchAfter(@Param("query") String query,
+                                     @Param("afterRank") float afterRank,
+                                     @Param("afterId") UUID afterId,
+                                     @Param("limit") int limit);
+
+    @Query("""
+        SELECT new com.twitter.dto.timeline.AuthorTweetCount(t.userId, COUNT(t))
+        FROM Tweet t
+        WHERE t.userId IN :userIds AND t.isDeleted = false
+        GROUP BY t.userId
+        """)
+    List<AuthorTweetCount> countActiveByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("""
+        SELECT t FROM Tweet t
+        WHERE t.isDeleted = true
+          AND t.deletedAt < :deletedBefore
+          AND (t.deletedAt > :afterDeletedAt OR (t.deletedAt = :afterDeletedAt AND t.id > :afterId))
+        ORDER BY t.deletedAt, t.id
+        """)
+    List<Tweet> findPurgeCandidates(@Param("deletedBefore") LocalDateTime deletedBefore,
+                                    @Param("afterDeletedAt") LocalDateTime afterDeletedAt,
+                                    @Param("afterId") UUID afterId,
+                                    Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tweet t WHERE t.id = :id")
+    Optional<Tweet> findByIdForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT t FROM Tweet t
+        WHERE t.id > :afterId AND t.isDeleted = false
+        ORDER BY t.id
+        """)
+    List<Tweet> findHashtagBackfillBatch(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(SUM(pg_column_size(t.*)), 0) FROM tweets t WHERE t.id IN (:ids)", nativeQuery = true)
+    long sumRowSizeByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM tweets WHERE id IN (:ids)", nativeQuery = true)
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
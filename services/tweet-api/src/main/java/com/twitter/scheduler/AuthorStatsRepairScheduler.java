@@ -0,0 +1,122 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.AuthorStatsRepairProperties;
+import com.twitter.dto.stats.AuthorStatsRepairBatchResult;
+import com.twitter.dto.stats.AuthorStatsRepairRunResult;
+import com.twitter.service.AuthorStatsRepairService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Background job that reconciles the author activity summaries with the tweets table.
+ * <p>
+ * Each run first creates missing summary rows and then walks all summary rows in batches of
+ * {@code app.tweet.author-stats.repair.batch-size} ordered by user identifier, committing every
+ * batch separately and pausing between batches. The number of repaired authors is logged and
+ * exported as Micrometer meters.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.tweet.author-stats.repair", name = "enabled", havingValue = "true")
+public class AuthorStatsRepairScheduler {
+
+    private static final UUID FIRST_USER_ID = new UUID(0L, 0L);
+
+    private final AuthorStatsRepairService authorStatsRepairService;
+    private final AuthorStatsRepairProperties properties;
+    private final Counter repairedAuthorsCounter;
+    private final Timer runTimer;
+
+    public AuthorStatsRepairScheduler(AuthorStatsRepairService authorStatsRepairService,
+                                      AuthorStatsRepairProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.authorStatsRepairService = authorStatsRepairService;
+        this.properties = properties;
+        this.repairedAuthorsCounter = Counter.builder("author.stats.repaired")
+            .description("Number of authors whose activity summaries had drifted and were corrected")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("author.stats.repair.run")
+            .description("Duration of the author activity summary repair runs")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point of the repair job.
+     */
+    @Scheduled(
+        initialDelayString = "${app.tweet.author-stats.repair.initial-delay:PT15M}",
+        fixedDelayString = "${app.tweet.author-stats.repair.interval:PT6H}"
+    )
+    public void repairAuthorStats() {
+        try {
+            runRepair();
+        } catch (Exception ex) {
+            log.error("Author summaries repair run failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Checks the summaries of all authors once.
+     *
+     * @return aggregated result of the run
+     */
+    public AuthorStatsRepairRunResult runRepair() {
+        long startedAt = System.nanoTime();
+
+        int createdSummaries = authorStatsRepairService.createMissingSummaries();
+        long checkedAuthors = 0;
+        long repairedAuthors = 0;
+        UUID afterUserId = FIRST_USER_ID;
+
+        while (true) {
+            AuthorStatsRepairBatchResult batch = authorStatsRepairService.repairNextBatch(afterUserId, properties.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            checkedAuthors += batch.checkedAuthors();
+            repairedAuthors += batch.repairedAuthors();
+            repairedAuthorsCounter.increment(batch.repairedAuthors());
+            afterUserId = batch.lastUserId();
+
+            if (batch.checkedAuthors() < properties.batchSize() || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        runTimer.record(duration);
+
+        AuthorStatsRepairRunResult result = new AuthorStatsRepairRunResult(createdSummaries, checkedAuthors,
+            repairedAuthors, duration);
+        log.info("Author summaries repair run finished: created={}, checked={}, repaired={}, duration={}ms",
+            result.createdSummaries(), result.checkedAuthors(), result.repairedAuthors(), duration.toMillis());
+        return result;
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (properties.batchPause().isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(properties.batchPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Author summaries repair run interrupted, stopping after the current batch");
+            return false;
+        }
+    }
+}
\ No newline at end of file
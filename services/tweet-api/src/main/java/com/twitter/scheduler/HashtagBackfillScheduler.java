@@ -0,0 +1,109 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.HashtagBackfillProperties;
+import com.twitter.dto.hashtag.HashtagBackfillBatchResult;
+import com.twitter.service.HashtagBackfillService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that indexes the hashtags of tweets created before the hashtag index existed.
+ * <p>
+ * Each run indexes tweets in batches of {@code app.tweet.hashtag-backfill.batch-size}, commits
+ * every batch separately and pauses between batches. Once all tweets are indexed, runs return
+ * immediately, so the job can stay enabled until the next deployment turns it off.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.tweet.hashtag-backfill", name = "enabled", havingValue = "true")
+public class HashtagBackfillScheduler {
+
+    private final HashtagBackfillService hashtagBackfillService;
+    private final HashtagBackfillProperties properties;
+    private final Counter indexedTweetsCounter;
+    private final Counter indexedHashtagsCounter;
+
+    public HashtagBackfillScheduler(HashtagBackfillService hashtagBackfillService,
+                                    HashtagBackfillProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.hashtagBackfillService = hashtagBackfillService;
+        this.properties = properties;
+        this.indexedTweetsCounter = Counter.builder("tweet.hashtag.backfill.tweets")
+            .description("Number of tweets indexed by the hashtag backfill job")
+            .register(meterRegistry);
+        this.indexedHashtagsCounter = Counter.builder("tweet.hashtag.backfill.hashtags")
+            .description("Number of hashtag index rows inserted by the hashtag backfill job")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point of the backfill job.
+     */
+    @Scheduled(
+        initialDelayString = "${app.tweet.hashtag-backfill.initial-delay:PT1M}",
+        fixedDelayString = "${app.tweet.hashtag-backfill.interval:PT10M}"
+    )
+    public void backfillHashtags() {
+        try {
+            runBackfill();
+        } catch (Exception ex) {
+            log.error("Hashtag backfill run failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Runs the backfill until all tweets are indexed or the batch limit is reached.
+     *
+     * @return number of tweets indexed by the run
+     */
+    public long runBackfill() {
+        int batches = 0;
+        long indexedTweets = 0;
+        long indexedHashtags = 0;
+
+        while (batches < properties.maxBatchesPerRun()) {
+            HashtagBackfillBatchResult batch = hashtagBackfillService.backfillNextBatch(properties.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            batches++;
+            indexedTweets += batch.indexedTweets();
+            indexedHashtags += batch.indexedHashtags();
+            indexedTweetsCounter.increment(batch.indexedTweets());
+            indexedHashtagsCounter.increment(batch.indexedHashtags());
+
+            if (batch.indexedTweets() < properties.batchSize() || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        if (batches > 0) {
+            log.info("Hashtag backfill run finished: batches={}, tweets={}, hashtags={}",
+                batches, indexedTweets, indexedHashtags);
+        }
+        return indexedTweets;
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (properties.batchPause().isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(properties.batchPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Hashtag backfill run interrupted, stopping after the current batch");
+            return false;
+        }
+    }
+}
\ No newline at end of file
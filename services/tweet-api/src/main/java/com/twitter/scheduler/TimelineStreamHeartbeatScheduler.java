@@ -0,0 +1,27 @@
+package com.twitter.scheduler;
+
+import com.twitter.stream.TimelineStreamHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that sends heartbeat comments to the open timeline streams.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TimelineStreamHeartbeatScheduler {
+
+    private final TimelineStreamHub timelineStreamHub;
+
+    /**
+     * Queues a heartbeat to every open stream every {@code app.timeline-stream.heartbeat-interval}.
+     */
+    @Scheduled(fixedDelayString = "${app.timeline-stream.heartbeat-interval:PT30S}")
+    public void sendHeartbeats() {
+        timelineStreamHub.sendHeartbeats();
+    }
+}
\ No newline at end of file
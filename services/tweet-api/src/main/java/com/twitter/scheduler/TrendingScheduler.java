@@ -0,0 +1,55 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.TrendingProperties;
+import com.twitter.trending.TrendingAggregator;
+import com.twitter.trending.TrendingSnapshotPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that refreshes the trending lists and exchanges snapshots with the other instances.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.trending", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TrendingScheduler {
+
+    private final TrendingAggregator trendingAggregator;
+    private final TrendingSnapshotPublisher trendingSnapshotPublisher;
+    private final TrendingProperties properties;
+
+    /**
+     * Re-estimates the local counts and merges them with the snapshots of the other instances.
+     */
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval:PT1S}")
+    public void refreshTrending() {
+        try {
+            trendingAggregator.refresh();
+        } catch (Exception ex) {
+            log.error("Trending refresh failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Sends the local snapshot to the other instances.
+     */
+    @Scheduled(
+        initialDelayString = "${app.trending.snapshot-interval:PT10S}",
+        fixedDelayString = "${app.trending.snapshot-interval:PT10S}"
+    )
+    public void publishSnapshot() {
+        if (properties.peers().isEmpty()) {
+            return;
+        }
+
+        int delivered = trendingSnapshotPublisher.publish(trendingAggregator.getLocalSnapshot());
+        log.debug("Trending snapshot sent to {} of {} peers", delivered, properties.peers().size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.TweetPurgeProperties;
+import com.twitter.dto.purge.TweetPurgeBatchResult;
+import com.twitter.dto.purge.TweetPurgeRunResult;
+import com.twitter.service.TweetPurgeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Background job that purges soft-deleted tweets older than the retention window.
+ * <p>
+ * Each run processes tweets in batches of {@code app.tweet.purge.batch-size}, commits every batch
+ * separately and pauses between batches to keep the load on the database predictable. Rows and
+ * bytes reclaimed by each run are logged and exported as Micrometer meters.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.tweet.purge", name = "enabled", havingValue = "true")
+public class TweetPurgeScheduler {
+
+    private final TweetPurgeService tweetPurgeService;
+    private final TweetPurgeProperties properties;
+    private final Counter archivedTweetsCounter;
+    private final Counter deletedTweetsCounter;
+    private final Counter deletedLikesCounter;
+    private final Counter deletedRetweetsCounter;
+    private final Counter reclaimedBytesCounter;
+    private final Timer runTimer;
+
+    public TweetPurgeScheduler(TweetPurgeService tweetPurgeService,
+                               TweetPurgeProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.tweetPurgeService = tweetPurgeService;
+        this.properties = properties;
+        this.archivedTweetsCounter = Counter.builder("tweet.purge.archived")
+            .description("Number of soft-deleted tweets moved to the archive table")
+            .register(meterRegistry);
+        this.deletedTweetsCounter = rowsCounter(meterRegistry, "tweets");
+        this.deletedLikesCounter = rowsCounter(meterRegistry, "tweet_likes");
+        this.deletedRetweetsCounter = rowsCounter(meterRegistry, "tweet_retweets");
+        this.reclaimedBytesCounter = Counter.builder("tweet.purge.reclaimed")
+            .description("Estimated size of the rows removed by the purge job")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("tweet.purge.run")
+            .description("Duration of the soft-deleted tweets purge runs")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point of the purge job.
+     */
+    @Scheduled(
+        initialDelayString = "${app.tweet.purge.initial-delay:PT1M}",
+        fixedDelayString = "${app.tweet.purge.interval:PT1H}"
+    )
+    public void purgeDeletedTweets() {
+        try {
+            runPurge();
+        } catch (Exception ex) {
+            log.error("Soft-deleted tweets purge run failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Runs the purge until there is nothing left to purge or the batch limit is reached.
+     *
+     * @return aggregated result of the run
+     */
+    public TweetPurgeRunResult runPurge() {
+        long startedAt = System.nanoTime();
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(properties.retention());
+
+        int batches = 0;
+        long archivedTweets = 0;
+        long deletedTweets = 0;
+        long deletedLikes = 0;
+        long deletedRetweets = 0;
+        long reclaimedBytes = 0;
+
+        while (batches < properties.maxBatchesPerRun()) {
+            TweetPurgeBatchResult batch = tweetPurgeService.purgeNextBatch(deletedBefore, properties.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            batches++;
+            archivedTweets += batch.archivedTweets();
+            deletedTweets += batch.deletedTweets();
+            deletedLikes += batch.deletedLikes();
+            deletedRetweets += batch.deletedRetweets();
+            reclaimedBytes += batch.reclaimedBytes();
+            recordBatch(batch);
+
+            if (batch.deletedTweets() < properties.batchSize() || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        runTimer.record(duration);
+
+        TweetPurgeRunResult result = new TweetPurgeRunResult(batches, archivedTweets, deletedTweets,
+            deletedLikes, deletedRetweets, reclaimedBytes, duration);
+        log.info("Soft-deleted tweets purge run finished: batches={}, tweets={}, likes={}, retweets={}, reclaimedBytes={}, duration={}ms",
+            result.batches(), result.deletedTweets(), result.deletedLikes(), result.deletedRetweets(),
+            result.reclaimedBytes(), duration.toMillis());
+        return result;
+    }
+
+    private void recordBatch(TweetPurgeBatchResult batch) {
+        archivedTweetsCounter.increment(batch.archivedTweets());
+        deletedTweetsCounter.increment(batch.deletedTweets());
+        deletedLikesCounter.increment(batch.deletedLikes());
+        deletedRetweetsCounter.increment(batch.deletedRetweets());
+        reclaimedBytesCounter.increment(batch.reclaimedBytes());
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (properties.batchPause().isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(properties.batchPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Soft-deleted tweets purge run interrupted, stopping after the current batch");
+            return false;
+        }
+    }
+
+    private static Counter rowsCounter(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("tweet.purge.rows")
+            .description("Number of rows removed by the soft-deleted tweets purge job")
+            .tag("table", table)
+            .register(meterRegistry);
+    }
+}
\ No newline at end of file
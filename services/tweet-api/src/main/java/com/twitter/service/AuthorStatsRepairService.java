@@ -0,0 +1,46 @@
+package com.twitter.service;
+
+import com.twitter.dto.stats.AuthorStatsRepairBatchResult;
+
+import java.util.UUID;
+
+/**
+ * Service interface for reconciling the author activity summaries with the tweets table.
+ * <p>
+ * The summaries are adjusted by deltas in the transactions of tweet, like and retweet changes.
+ * A like or retweet that races with the deletion of its tweet, or a change applied to the tables
+ * bypassing the service, leaves a summary drifted. This service detects and corrects such drift
+ * in small batches.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface AuthorStatsRepairService {
+
+    /**
+     * Creates zero summary rows for authors that have active tweets but no summary yet.
+     * <p>
+     * The created rows are corrected by the following calls to {@link #repairNextBatch}.
+     *
+     * @return number of created summary rows
+     */
+    int createMissingSummaries();
+
+    /**
+     * Reconciles the summaries of the next batch of authors.
+     * <p>
+     * This method performs the following operations in a single transaction:
+     * 1. Locks the summary rows of the next authors ordered by user identifier
+     * 2. Recounts the active tweets of these authors and sums their likes and retweets
+     * 3. Overwrites the summaries that differ from the recounted values
+     * <p>
+     * Because the summary rows are locked before recounting, a concurrent change either is
+     * already committed and included in the recount, or adjusts the summary after the batch
+     * commits, so no delta is lost.
+     *
+     * @param afterUserId only authors with a greater identifier are checked
+     * @param batchSize   maximum number of authors to check
+     * @return result of the batch, empty if there are no authors left
+     */
+    AuthorStatsRepairBatchResult repairNextBatch(UUID afterUserId, int batchSize);
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.twitter.service;
+
+import com.twitter.dto.stats.AuthorStatsRepairBatchResult;
+import com.twitter.repository.AuthorStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the author activity summary repair service.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthorStatsRepairServiceImpl implements AuthorStatsRepairService {
+
+    private final AuthorStatsRepository authorStatsRepository;
+
+    /**
+     * @see AuthorStatsRepairService#createMissingSummaries
+     */
+    @Override
+    @Transactional
+    public int createMissingSummaries() {
+        int created = authorStatsRepository.insertMissingStats();
+        if (created > 0) {
+            log.warn("Created {} missing author summary rows", created);
+        }
+        return created;
+    }
+
+    /**
+     * @see AuthorStatsRepairService#repairNextBatch
+     */
+    @Override
+    @Transactional
+    public AuthorStatsRepairBatchResult repairNextBatch(UUID afterUserId, int batchSize) {
+        List<UUID> userIds = authorStatsRepository.lockNextUserIds(afterUserId, batchSize);
+        if (userIds.isEmpty()) {
+            return AuthorStatsRepairBatchResult.empty();
+        }
+
+        int repaired = authorStatsRepository.reconcileStats(userIds.toArray(UUID[]::new));
+        if (repaired > 0) {
+            log.warn("Repaired drifted activity summaries of {} authors", repaired);
+        }
+
+        return new AuthorStatsRepairBatchResult(userIds.size(), repaired, userIds.getLast());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.twitter.service;
+
+import com.twitter.dto.hashtag.HashtagBackfillBatchResult;
+
+/**
+ * Service interface for indexing the hashtags of tweets created before the hashtag index existed.
+ * <p>
+ * New and updated tweets are indexed when they are written. This service walks the existing active
+ * tweets in small batches and indexes their hashtags, so the tag feeds also cover older tweets.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface HashtagBackfillService {
+
+    /**
+     * Indexes the hashtags of the next batch of tweets.
+     * <p>
+     * This method performs the following operations in a single transaction:
+     * 1. Locks the backfill checkpoint and reads the last indexed tweet
+     * 2. Selects and locks the next active tweets ordered by id
+     * 3. Replaces their index rows with the hashtags of their content
+     * 4. Moves the checkpoint to the last indexed tweet, or marks it completed if nothing was left
+     * <p>
+     * The selected tweets stay locked until the batch commits, so a concurrent update cannot be
+     * overwritten with hashtags of its old content.
+     *
+     * @param batchSize maximum number of tweets to index
+     * @return result of the batch, empty if the backfill is completed
+     */
+    HashtagBackfillBatchResult backfillNextBatch(int batchSize);
+}
\ No newline at end of file
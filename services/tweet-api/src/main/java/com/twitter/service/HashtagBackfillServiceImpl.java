@@ -0,0 +1,70 @@
+package com.twitter.service;
+
+import com.twitter.dto.hashtag.HashtagBackfillBatchResult;
+import com.twitter.entity.Tweet;
+import com.twitter.entity.TweetHashtagBackfillCheckpoint;
+import com.twitter.hashtag.TweetHashtagIndexer;
+import com.twitter.repository.TweetHashtagBackfillCheckpointRepository;
+import com.twitter.repository.TweetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the hashtag backfill service.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HashtagBackfillServiceImpl implements HashtagBackfillService {
+
+    static final String JOB_NAME = "tweet-hashtags-backfill";
+
+    private static final UUID INITIAL_TWEET_ID = new UUID(0L, 0L);
+
+    private final TweetRepository tweetRepository;
+    private final TweetHashtagIndexer tweetHashtagIndexer;
+    private final TweetHashtagBackfillCheckpointRepository checkpointRepository;
+
+    /**
+     * @see HashtagBackfillService#backfillNextBatch
+     */
+    @Override
+    @Transactional
+    public HashtagBackfillBatchResult backfillNextBatch(int batchSize) {
+        TweetHashtagBackfillCheckpoint checkpoint = checkpointRepository.findWithLockByJobName(JOB_NAME)
+            .orElseGet(() -> TweetHashtagBackfillCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .lastTweetId(INITIAL_TWEET_ID)
+                .build());
+        if (checkpoint.getCompleted()) {
+            return HashtagBackfillBatchResult.empty();
+        }
+
+        List<Tweet> tweets = tweetRepository.findHashtagBackfillBatch(checkpoint.getLastTweetId(), PageRequest.of(0, batchSize));
+        if (tweets.isEmpty()) {
+            checkpoint.setCompleted(true);
+            checkpointRepository.saveAndFlush(checkpoint);
+            log.info("Hashtag backfill completed");
+            return HashtagBackfillBatchResult.empty();
+        }
+
+        int indexedHashtags = tweetHashtagIndexer.reindex(tweets);
+
+        Tweet lastTweet = tweets.getLast();
+        checkpoint.setLastTweetId(lastTweet.getId());
+        checkpointRepository.saveAndFlush(checkpoint);
+
+        log.debug("Indexed hashtags of batch: tweets={}, hashtags={}, checkpoint={}",
+            tweets.size(), indexedHashtags, lastTweet.getId());
+        return new HashtagBackfillBatchResult(tweets.size(), indexedHashtags);
+    }
+}
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.twitter.service;
 
+import com.twitter.cache.HotTweetCache;
 import com.twitter.common.dto.request.like.LikeTweetRequestDto;
 import com.twitter.common.dto.response.like.LikeResponseDto;
 import com.twitter.entity.Like;
 import com.twitter.entity.Tweet;
 import com.twitter.mapper.LikeMapper;
+import com.twitter.mapper.TweetMapper;
+import com.twitter.repository.AuthorStatsRepository;
 import com.twitter.repository.LikeRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.trending.TrendingAggregator;
 import com.twitter.validation.LikeValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +40,10 @@ public class LikeServiceImpl implements LikeService {
     private final LikeMapper likeMapper;
     private final LikeValidator likeValidator;
     private final TweetRepository tweetRepository;
+    private final TweetMapper tweetMapper;
+    private final HotTweetCache hotTweetCache;
+    private final TrendingAggregator trendingAggregator;
+    private final AuthorStatsRepository authorStatsRepository;
 
     /**
      * @see LikeService#likeTweet
@@ -52,6 +60,9 @@ public class LikeServiceImpl implements LikeService {
             .orElseThrow(() -> new IllegalStateException("Tweet not found after validation"));
         tweet.incrementLikesCount();
         tweetRepository.saveAndFlush(tweet);
+        authorStatsRepository.adjustEngagement(tweet.getUserId(), 1, 0);
+        hotTweetCache.refresh(tweetMapper.toResponseDto(tweet));
+        trendingAggregator.onTweetLiked(tweetId);
 
         return likeMapper.toLikeResponseDto(savedLike);
     }
@@ -72,6 +83,8 @@ public class LikeServiceImpl implements LikeService {
             .orElseThrow(() -> new IllegalStateException("Tweet not found after validation"));
         tweet.decrementLikesCount();
         tweetRepository.saveAndFlush(tweet);
+        authorStatsRepository.adjustEngagement(tweet.getUserId(), -1, 0);
+        hotTweetCache.refresh(tweetMapper.toResponseDto(tweet));
     }
 
     /**
@@ -1,12 +1,17 @@
 package com.twitter.service;
 
+import com.twitter.cache.AuthorTimelineCache;
+import com.twitter.cache.HotTweetCache;
 import com.twitter.common.dto.request.retweet.RetweetRequestDto;
 import com.twitter.common.dto.response.retweet.RetweetResponseDto;
 import com.twitter.entity.Retweet;
 import com.twitter.entity.Tweet;
 import com.twitter.mapper.RetweetMapper;
+import com.twitter.mapper.TweetMapper;
+import com.twitter.repository.AuthorStatsRepository;
 import com.twitter.repository.RetweetRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.trending.TrendingAggregator;
 import com.twitter.validation.RetweetValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +41,11 @@ public class RetweetServiceImpl implements RetweetService {
     private final RetweetMapper retweetMapper;
     private final RetweetValidator retweetValidator;
     private final TweetRepository tweetRepository;
+    private final TweetMapper tweetMapper;
+    private final HotTweetCache hotTweetCache;
+    private final TrendingAggregator trendingAggregator;
+    private final AuthorTimelineCache authorTimelineCache;
+    private final AuthorStatsRepository authorStatsRepository;
 
     /**
      * @see RetweetService#retweetTweet
@@ -52,6 +62,10 @@ public class RetweetServiceImpl implements RetweetService {
             .orElseThrow(() -> new IllegalStateException("Tweet not found after validation"));
         tweet.incrementRetweetsCount();
         tweetRepository.saveAndFlush(tweet);
+        authorStatsRepository.adjustEngagement(tweet.getUserId(), 0, 1);
+        hotTweetCache.refresh(tweetMapper.toResponseDto(tweet));
+        trendingAggregator.onTweetRetweeted(tweetId);
+        authorTimelineCache.onRetweeted(requestDto.userId(), tweetId, savedRetweet.getCreatedAt());
 
         return retweetMapper.toRetweetResponseDto(savedRetweet);
     }
@@ -72,6 +86,9 @@ public class RetweetServiceImpl implements RetweetService {
             .orElseThrow(() -> new IllegalStateException("Tweet not found after validation"));
         tweet.decrementRetweetsCount();
         tweetRepository.saveAndFlush(tweet);
+        authorStatsRepository.adjustEngagement(tweet.getUserId(), 0, -1);
+        hotTweetCache.refresh(tweetMapper.toResponseDto(tweet));
+        authorTimelineCache.onRetweetRemoved(requestDto.userId());
     }
 
     /**
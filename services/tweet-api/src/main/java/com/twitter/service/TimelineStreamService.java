@@ -0,0 +1,31 @@
+package com.twitter.service;
+
+import com.twitter.common.exception.validation.BusinessRuleValidationException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Service interface for live timeline streams.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface TimelineStreamService {
+
+    /**
+     * Opens a stream pushing the tweets created by the users the specified user follows.
+     * <p>
+     * Only tweets created after the stream is opened are pushed; earlier tweets are read through
+     * the paged timeline. The stream is closed when the client falls too far behind, and the client
+     * is expected to reconnect.
+     *
+     * @param userId the unique identifier of the user whose timeline to stream
+     * @return the emitter of the stream
+     * @throws BusinessRuleValidationException if userId is null or user doesn't exist
+     * @throws ResponseStatusException         with 503 status if the connection limit is reached or
+     *                                         follower-api is unavailable and nothing is cached
+     */
+    SseEmitter streamTimeline(UUID userId);
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.twitter.service;
+
+import com.twitter.cache.FollowingSet;
+import com.twitter.cache.FollowingSetCache;
+import com.twitter.gateway.FollowerGateway;
+import com.twitter.stream.TimelineStreamHub;
+import com.twitter.validation.TweetValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Implementation of the live timeline stream service.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineStreamServiceImpl implements TimelineStreamService {
+
+    private final TweetValidator tweetValidator;
+    private final FollowingSetCache followingSetCache;
+    private final FollowerGateway followerGateway;
+    private final TimelineStreamHub timelineStreamHub;
+
+    /**
+     * @see TimelineStreamService#streamTimeline
+     */
+    @Override
+    public SseEmitter streamTimeline(UUID userId) {
+        tweetValidator.validateForTimeline(userId);
+
+        FollowingSet following = followingSetCache.get(userId, followerGateway::getFollowingIds);
+        return timelineStreamHub.subscribe(userId, following);
+    }
+}
\ No newline at end of file
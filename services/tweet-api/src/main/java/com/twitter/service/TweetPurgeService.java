@@ -0,0 +1,38 @@
+package com.twitter.service;
+
+import com.twitter.dto.purge.TweetPurgeBatchResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for purging soft-deleted tweets from the hot tables.
+ * <p>
+ * Soft delete only marks a tweet as deleted, so the row and its likes and retweets
+ * stay in the tables used by every read path. This service moves such tweets into
+ * the archive table and removes their likes and retweets in small batches.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface TweetPurgeService {
+
+    /**
+     * Purges the next batch of soft-deleted tweets.
+     * <p>
+     * This method performs the following operations in a single transaction:
+     * 1. Locks the purge checkpoint and reads the last purged position
+     * 2. Selects the next tweets deleted before the cutoff, ordered by (deletedAt, id)
+     * 3. Estimates the size of the rows that are going to be removed
+     * 4. Copies the tweets into the archive table
+     * 5. Deletes the likes, retweets and tweets rows
+     * 6. Moves the checkpoint to the last purged tweet
+     * <p>
+     * Because the checkpoint is committed together with the batch, a restarted job
+     * continues right after the last committed batch.
+     *
+     * @param deletedBefore only tweets soft deleted before this moment are purged
+     * @param batchSize     maximum number of tweets to purge
+     * @return result of the batch, empty if there was nothing to purge
+     */
+    TweetPurgeBatchResult purgeNextBatch(LocalDateTime deletedBefore, int batchSize);
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.twitter.service;
+
+import com.twitter.dto.purge.TweetPurgeBatchResult;
+import com.twitter.entity.Tweet;
+import com.twitter.entity.TweetPurgeCheckpoint;
+import com.twitter.repository.LikeRepository;
+import com.twitter.repository.RetweetRepository;
+import com.twitter.repository.TweetArchiveRepository;
+import com.twitter.repository.TweetPurgeCheckpointRepository;
+import com.twitter.repository.TweetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the soft-deleted tweets purge service.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TweetPurgeServiceImpl implements TweetPurgeService {
+
+    static final String JOB_NAME = "soft-deleted-tweets-purge";
+
+    private static final LocalDateTime INITIAL_DELETED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_TWEET_ID = new UUID(0L, 0L);
+
+    private final TweetRepository tweetRepository;
+    private final LikeRepository likeRepository;
+    private final RetweetRepository retweetRepository;
+    private final TweetArchiveRepository tweetArchiveRepository;
+    private final TweetPurgeCheckpointRepository checkpointRepository;
+
+    /**
+     * @see TweetPurgeService#purgeNextBatch
+     */
+    @Override
+    @Transactional
+    public TweetPurgeBatchResult purgeNextBatch(LocalDateTime deletedBefore, int batchSize) {
+        TweetPurgeCheckpoint checkpoint = checkpointRepository.findWithLockByJobName(JOB_NAME)
+            .orElseGet(() -> TweetPurgeCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .lastDeletedAt(INITIAL_DELETED_AT)
+                .lastTweetId(INITIAL_TWEET_ID)
+                .build());
+
+        List<Tweet> candidates = tweetRepository.findPurgeCandidates(deletedBefore,
+            checkpoint.getLastDeletedAt(), checkpoint.getLastTweetId(), PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return TweetPurgeBatchResult.empty();
+        }
+
+        List<UUID> tweetIds = candidates.stream()
+            .map(Tweet::getId)
+            .toList();
+
+        Tweet lastTweet = candidates.getLast();
+        checkpoint.setLastDeletedAt(lastTweet.getDeletedAt());
+        checkpoint.setLastTweetId(lastTweet.getId());
+        checkpointRepository.saveAndFlush(checkpoint);
+
+        long reclaimedBytes = tweetRepository.sumRowSizeByIdIn(tweetIds)
+            + likeRepository.sumRowSizeByTweetIdIn(tweetIds)
+            + retweetRepository.sumRowSizeByTweetIdIn(tweetIds);
+
+        int archivedTweets = tweetArchiveRepository.archiveTweets(tweetIds);
+        int deletedLikes = likeRepository.deleteAllByTweetIdIn(tweetIds);
+        int deletedRetweets = retweetRepository.deleteAllByTweetIdIn(tweetIds);
+        int deletedTweets = tweetRepository.deleteAllByIdIn(tweetIds);
+
+        log.debug("Purged batch of soft-deleted tweets: tweets={}, likes={}, retweets={}, bytes={}, checkpoint=({}, {})",
+            deletedTweets, deletedLikes, deletedRetweets, reclaimedBytes, lastTweet.getDeletedAt(), lastTweet.getId());
+
+        return new TweetPurgeBatchResult(archivedTweets, deletedTweets, deletedLikes, deletedRetweets, reclaimedBytes);
+    }
+}
\ No newline at end of file
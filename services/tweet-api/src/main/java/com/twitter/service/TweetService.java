@@ -6,9 +6,15 @@ import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.common.exception.validation.BusinessRuleValidationException;
 import com.twitter.common.exception.validation.FormatValidationException;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.dto.response.TweetBatchItemResponseDto;
+import com.twitter.dto.response.HashtagFeedResponseDto;
+import com.twitter.dto.response.TweetSearchResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -53,6 +59,19 @@ public interface TweetService {
      */
     Optional<TweetResponseDto> getTweetById(UUID tweetId);
 
+    /**
+     * Retrieves several tweets by their identifiers in one database round trip.
+     * <p>
+     * All requested tweets are loaded with a single query. The result contains exactly one
+     * item per requested identifier, in the order of the request (duplicates included).
+     * Each item is marked as FOUND, DELETED (soft deleted) or NOT_FOUND; tweet data is
+     * returned only for FOUND items.
+     *
+     * @param tweetIds the identifiers of the tweets to retrieve
+     * @return list of batch items in request order
+     */
+    List<TweetBatchItemResponseDto> getTweetsByIds(List<UUID> tweetIds);
+
     /**
      * Updates an existing tweet with new content.
      * <p>
@@ -78,12 +97,15 @@ public interface TweetService {
      * Deletes a tweet by performing soft delete.
      * <p>
      * This method performs the following operations:
-     * 1. Validates the delete request (tweet existence, state check, authorization)
-     * 2. Retrieves the tweet from the database
+     * 1. Locks the tweet row
+     * 2. Validates the delete request (tweet existence, state check, authorization)
      * 3. Performs soft delete by setting isDeleted flag and deletedAt timestamp
      * 4. Saves the updated tweet to the database
+     * 5. Subtracts the tweet, its likes and its retweets from the author summary
      * <p>
-     * Only the tweet author can delete their tweet.
+     * The row is locked before it is validated, so the subtracted likes and retweets are the
+     * latest committed ones and cannot change until the deletion commits. Only the tweet author
+     * can delete their tweet.
      *
      * @param tweetId    the unique identifier of the tweet to delete
      * @param requestDto the tweet deletion request
@@ -97,27 +119,100 @@ public interface TweetService {
      * Tweets are sorted by creation date in descending order (newest first). Deleted tweets are
      * automatically excluded from the results.
      *
+     * <p>
+     * When a viewer is specified, each tweet carries likedByViewer and retweetedByViewer flags
+     * computed with one set-based query per page against likes and retweets.
+     *
      * @param userId   the unique identifier of the user whose tweets to retrieve
+     * @param viewerId the unique identifier of the viewer to compute viewer state for, may be null
      * @param pageable pagination parameters (page, size, sorting)
      * @return Page containing paginated list of tweets with metadata
      * @throws FormatValidationException       if userId is null or invalid
      * @throws BusinessRuleValidationException if user doesn't exist (optional validation)
      */
-    Page<TweetResponseDto> getUserTweets(UUID userId, Pageable pageable);
+    Page<TweetResponseDto> getUserTweets(UUID userId, UUID viewerId, Pageable pageable);
+
+    /**
+     * Retrieves the activity summary of an author for a profile header.
+     * <p>
+     * The summary is read from the 'author_stats' table, which is adjusted in the same transaction
+     * as tweet creation and deletion, likes and retweets, so the lookup reads a single row instead of
+     * aggregating the author's tweets. An author without a summary row gets a zero summary.
+     *
+     * @param userId the unique identifier of the author
+     * @return the number of active tweets, likes and retweets received and the latest tweet time
+     */
+    AuthorStatsResponseDto getAuthorStats(UUID userId);
 
     /**
      * Retrieves a paginated timeline (news feed) of tweets for a specific user.
      * <p>
      * This method retrieves tweets from all users that the specified user is following.
-     * The timeline includes tweets from all followed users, sorted by creation date in
-     * descending order (newest first). Deleted tweets (soft delete) are automatically
-     * excluded from the results. Supports pagination with page, size, and sort parameters.
+     * The timeline includes tweets from all followed users and tweets they retweeted, sorted by
+     * the creation date of the tweet or retweet in descending order (newest first). A tweet appears
+     * once, through its newest entry; a retweet entry carries retweetedBy and retweetedAt. Deleted
+     * tweets (soft delete) are automatically excluded from the results. Supports pagination with
+     * page, size, and sort parameters; a sort other than createdAt descending returns original
+     * tweets only.
      * If the user has no following relationships, an empty page is returned (not an error).
+     * When a viewer is specified, each tweet carries likedByViewer and retweetedByViewer flags.
+     * The followed users are taken from the following set cache, which may serve a stale set
+     * while follower-api is unavailable.
      *
      * @param userId   the unique identifier of the user whose timeline to retrieve
+     * @param viewerId the unique identifier of the viewer to compute viewer state for, may be null
      * @param pageable pagination parameters (page, size, sorting)
      * @return Page containing paginated list of tweets with metadata
      * @throws BusinessRuleValidationException if userId is null or user doesn't exist
+     * @throws ResponseStatusException         with 503 status if follower-api is unavailable and nothing is cached
+     */
+    Page<TweetResponseDto> getTimeline(UUID userId, UUID viewerId, Pageable pageable);
+
+    /**
+     * Retrieves a paginated timeline of a user ordered by engagement instead of creation date.
+     * <p>
+     * The recent tweets of the followed users are read in one bounded query and ordered by a score
+     * combining a recency decay with the likes and retweets gained per hour. The ranking is cached
+     * for the reader for a short time, so consecutive pages come from the same ranking; the sort of
+     * the pageable is ignored. Tweets deleted since the ranking are left out of their page.
+     *
+     * @param userId   the unique identifier of the user whose timeline to retrieve
+     * @param viewerId the unique identifier of the viewer to compute viewer state for, may be null
+     * @param pageable pagination parameters (page and size)
+     * @return Page of ranked tweets, highest score first
+     * @throws BusinessRuleValidationException if userId is null or user doesn't exist
+     * @throws ResponseStatusException         with 503 status if follower-api is unavailable and nothing is cached
+     */
+    Page<TweetResponseDto> getRankedTimeline(UUID userId, UUID viewerId, Pageable pageable);
+
+    /**
+     * Searches tweet content with PostgreSQL full-text search.
+     * <p>
+     * The query supports the web search syntax: quoted phrases, {@code or} and {@code -} for
+     * exclusion. Matching tweets are ordered by {@code ts_rank} relevance and then by identifier;
+     * deleted tweets are excluded. Pages are chained with the returned cursor instead of offsets,
+     * so deep pages cost the same as the first one.
+     *
+     * @param query  the search query
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  the maximum number of tweets in the page
+     * @return the page of matching tweets with the cursor of the next page
+     * @throws FormatValidationException if the query, the cursor or the limit is invalid
+     */
+    TweetSearchResponseDto searchTweets(String query, String cursor, int limit);
+
+    /**
+     * Retrieves the latest tweets with a hashtag.
+     * <p>
+     * Tweets are read from the inverted hashtag index, newest first. The index holds only active
+     * tweets, so a page is a range scan of the index without touching other tags. Pages are chained
+     * with the returned cursor.
+     *
+     * @param tag    the hashtag, with or without the leading '#', case-insensitive
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  the maximum number of tweets in the page
+     * @return the page of tweets with the cursor of the next page
+     * @throws FormatValidationException if the hashtag, the cursor or the limit is invalid
      */
-    Page<TweetResponseDto> getTimeline(UUID userId, Pageable pageable);
+    HashtagFeedResponseDto getHashtagTweets(String tag, String cursor, int limit);
 }
\ No newline at end of file
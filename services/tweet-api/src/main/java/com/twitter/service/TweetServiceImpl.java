@@ -1,23 +1,61 @@
 package com.twitter.service;
 
+import com.twitter.cache.AuthorTimeline;
+import com.twitter.cache.AuthorTimelineCache;
+import com.twitter.cache.FollowingSet;
+import com.twitter.cache.FollowingSetCache;
+import com.twitter.cache.HotTweetCache;
+import com.twitter.cache.RankedTimelineCache;
+import com.twitter.cache.TimelineMerge;
 import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.request.tweet.DeleteTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.dto.hashtag.HashtagFeedCursor;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.dto.response.HashtagFeedResponseDto;
+import com.twitter.dto.response.TweetBatchItemResponseDto;
+import com.twitter.dto.response.TweetSearchResponseDto;
+import com.twitter.dto.search.TweetSearchCursor;
+import com.twitter.dto.search.TweetSearchHit;
+import com.twitter.dto.timeline.AuthorTweetCount;
+import com.twitter.dto.timeline.TimelineActivity;
+import com.twitter.dto.timeline.TimelineCandidate;
+import com.twitter.dto.timeline.TimelineEntry;
 import com.twitter.entity.Tweet;
+import com.twitter.entity.TweetHashtag;
+import com.twitter.enums.TweetBatchItemStatus;
 import com.twitter.gateway.FollowerGateway;
+import com.twitter.hashtag.HashtagExtractor;
+import com.twitter.hashtag.TweetHashtagIndexer;
 import com.twitter.mapper.TweetMapper;
+import com.twitter.ranking.TimelineRanker;
+import com.twitter.repository.AuthorStatsRepository;
+import com.twitter.repository.LikeRepository;
+import com.twitter.repository.RetweetRepository;
+import com.twitter.repository.TweetHashtagRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.stream.TimelineStreamHub;
+import com.twitter.trending.TrendingAggregator;
 import com.twitter.validation.TweetValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -35,10 +73,32 @@ import java.util.UUID;
 @Slf4j
 public class TweetServiceImpl implements TweetService {
 
+    /**
+     * Order of timeline pages that are assembled from tweets and retweets of followed users.
+     */
+    private static final Sort TIMELINE_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    /**
+     * Number of authors whose recent tweets are loaded with one query.
+     */
+    private static final int AUTHOR_LOAD_BATCH_SIZE = 500;
+
     private final TweetRepository tweetRepository;
     private final TweetMapper tweetMapper;
     private final TweetValidator tweetValidator;
     private final FollowerGateway followerGateway;
+    private final LikeRepository likeRepository;
+    private final RetweetRepository retweetRepository;
+    private final HotTweetCache hotTweetCache;
+    private final FollowingSetCache followingSetCache;
+    private final AuthorTimelineCache authorTimelineCache;
+    private final TimelineStreamHub timelineStreamHub;
+    private final TweetHashtagIndexer tweetHashtagIndexer;
+    private final TweetHashtagRepository tweetHashtagRepository;
+    private final TrendingAggregator trendingAggregator;
+    private final TimelineRanker timelineRanker;
+    private final RankedTimelineCache rankedTimelineCache;
+    private final AuthorStatsRepository authorStatsRepository;
 
     /**
      * @see TweetService#createTweet
@@ -50,17 +110,54 @@ public class TweetServiceImpl implements TweetService {
 
         Tweet tweet = tweetMapper.toEntity(requestDto);
         Tweet savedTweet = tweetRepository.saveAndFlush(tweet);
-        return tweetMapper.toResponseDto(savedTweet);
+        authorStatsRepository.recordTweet(savedTweet.getUserId(), savedTweet.getCreatedAt());
+        tweetHashtagIndexer.index(List.of(savedTweet));
+        trendingAggregator.onHashtagsUsed(HashtagExtractor.extract(savedTweet.getContent()));
+        authorTimelineCache.onTweetCreated(savedTweet.getUserId(), savedTweet.getId(), savedTweet.getCreatedAt());
+        TweetResponseDto createdTweet = tweetMapper.toResponseDto(savedTweet);
+        timelineStreamHub.publish(createdTweet);
+        return createdTweet;
     }
 
     /**
      * @see TweetService#getTweetById
      */
     @Override
-    @Transactional(readOnly = true)
     public Optional<TweetResponseDto> getTweetById(UUID tweetId) {
-        return tweetRepository.findByIdAndIsDeletedFalse(tweetId)
-            .map(tweetMapper::toResponseDto);
+        return hotTweetCache.get(tweetId, id -> tweetRepository.findByIdAndIsDeletedFalse(id)
+            .map(tweetMapper::toResponseDto));
+    }
+
+    /**
+     * @see TweetService#getTweetsByIds
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TweetBatchItemResponseDto> getTweetsByIds(List<UUID> tweetIds) {
+        Map<UUID, TweetBatchItemResponseDto> itemsById = new HashMap<>();
+        List<UUID> missedIds = new ArrayList<>();
+        tweetIds.stream()
+            .distinct()
+            .forEach(tweetId -> hotTweetCache.getIfPresent(tweetId).ifPresentOrElse(
+                tweet -> itemsById.put(tweetId, new TweetBatchItemResponseDto(tweetId, TweetBatchItemStatus.FOUND, tweet)),
+                () -> missedIds.add(tweetId)));
+
+        if (!missedIds.isEmpty()) {
+            Map<UUID, Long> cacheVersions = new HashMap<>();
+            missedIds.forEach(tweetId -> cacheVersions.put(tweetId, hotTweetCache.version(tweetId)));
+            for (Tweet tweet : tweetRepository.findAllByIdAny(missedIds.toArray(UUID[]::new))) {
+                TweetBatchItemResponseDto item = toBatchItem(tweet.getId(), tweet);
+                if (item.status() == TweetBatchItemStatus.FOUND) {
+                    hotTweetCache.putIfUnchanged(item.tweet(), cacheVersions.get(tweet.getId()));
+                }
+                itemsById.put(tweet.getId(), item);
+            }
+        }
+
+        log.debug("Batch lookup of {} tweets, {} loaded from the database", tweetIds.size(), missedIds.size());
+        return tweetIds.stream()
+            .map(tweetId -> itemsById.computeIfAbsent(tweetId, id -> toBatchItem(id, null)))
+            .toList();
     }
 
     /**
@@ -76,6 +173,8 @@ public class TweetServiceImpl implements TweetService {
 
         tweetMapper.updateTweetFromUpdateDto(requestDto, tweet);
         Tweet updatedTweet = tweetRepository.saveAndFlush(tweet);
+        tweetHashtagIndexer.reindex(List.of(updatedTweet));
+        hotTweetCache.invalidate(tweetId);
         return tweetMapper.toResponseDto(updatedTweet);
     }
 
@@ -85,13 +184,18 @@ public class TweetServiceImpl implements TweetService {
     @Override
     @Transactional
     public void deleteTweet(UUID tweetId, DeleteTweetRequestDto requestDto) {
+        Optional<Tweet> lockedTweet = tweetId != null ? tweetRepository.findByIdForUpdate(tweetId) : Optional.empty();
         tweetValidator.validateForDelete(tweetId, requestDto);
 
-        Tweet tweet = tweetRepository.findById(tweetId)
+        Tweet tweet = lockedTweet
             .orElseThrow(() -> new IllegalStateException("Tweet not found after validation"));
 
         tweet.softDelete();
         tweetRepository.saveAndFlush(tweet);
+        authorStatsRepository.removeTweet(tweet.getUserId(), countOf(tweet.getLikesCount()), countOf(tweet.getRetweetsCount()));
+        tweetHashtagIndexer.remove(List.of(tweetId));
+        hotTweetCache.invalidate(tweetId);
+        authorTimelineCache.onTweetDeleted(tweet.getUserId());
     }
 
     /**
@@ -99,9 +203,21 @@ public class TweetServiceImpl implements TweetService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<TweetResponseDto> getUserTweets(UUID userId, Pageable pageable) {
-        return tweetRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId, pageable)
+    public Page<TweetResponseDto> getUserTweets(UUID userId, UUID viewerId, Pageable pageable) {
+        Page<TweetResponseDto> tweets = tweetRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId, pageable)
             .map(tweetMapper::toResponseDto);
+        return withViewerState(tweets, viewerId);
+    }
+
+    /**
+     * @see TweetService#getAuthorStats
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuthorStatsResponseDto getAuthorStats(UUID userId) {
+        return authorStatsRepository.findById(userId)
+            .map(tweetMapper::toAuthorStatsResponseDto)
+            .orElseGet(() -> AuthorStatsResponseDto.builder().userId(userId).build());
     }
 
     /**
@@ -109,18 +225,317 @@ public class TweetServiceImpl implements TweetService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<TweetResponseDto> getTimeline(UUID userId, Pageable pageable) {
+    public Page<TweetResponseDto> getTimeline(UUID userId, UUID viewerId, Pageable pageable) {
         tweetValidator.validateForTimeline(userId);
 
-        List<UUID> followingUserIds = followerGateway.getFollowingUserIds(userId);
+        FollowingSet following = followingSetCache.get(userId, followerGateway::getFollowingIds);
 
-        if (followingUserIds.isEmpty()) {
+        if (following.isEmpty()) {
             log.debug("User {} has no following relationships, returning empty page", userId);
             return Page.empty(pageable);
         }
 
-        log.debug("Retrieving timeline for user {} with {} following users", userId, followingUserIds.size());
-        return tweetRepository.findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(followingUserIds, pageable)
-            .map(tweetMapper::toResponseDto);
+        log.debug("Retrieving timeline for user {} with {} following users", userId, following.size());
+        Page<TweetResponseDto> timeline = mergeTimeline(following, pageable)
+            .orElseGet(() -> readTimeline(following, pageable));
+        return withViewerState(timeline, viewerId);
+    }
+
+    /**
+     * @see TweetService#getRankedTimeline
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TweetResponseDto> getRankedTimeline(UUID userId, UUID viewerId, Pageable pageable) {
+        tweetValidator.validateForTimeline(userId);
+
+        List<UUID> rankedIds = rankedTimelineCache.get(userId, this::rankTimeline);
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), rankedIds.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), rankedIds.size()) : rankedIds.size();
+
+        List<TweetResponseDto> tweets = getTweetsByIds(rankedIds.subList(from, to)).stream()
+            .filter(item -> item.status() == TweetBatchItemStatus.FOUND)
+            .map(TweetBatchItemResponseDto::tweet)
+            .toList();
+        return withViewerState(new PageImpl<>(tweets, pageable, rankedIds.size()), viewerId);
+    }
+
+    /**
+     * @see TweetService#searchTweets
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TweetSearchResponseDto searchTweets(String query, String cursor, int limit) {
+        tweetValidator.validateForSearch(query, limit);
+
+        List<TweetSearchHit> hits;
+        if (cursor == null) {
+            hits = tweetRepository.search(query, limit + 1);
+        } else {
+            TweetSearchCursor after = TweetSearchCursor.decode(cursor);
+            hits = tweetRepository.searchAfter(query, after.rank(), after.id(), limit + 1);
+        }
+
+        List<TweetSearchHit> page = hits.subList(0, Math.min(limit, hits.size()));
+        List<TweetResponseDto> tweets = getTweetsByIds(page.stream().map(TweetSearchHit::getId).toList()).stream()
+            .filter(item -> item.status() == TweetBatchItemStatus.FOUND)
+            .map(TweetBatchItemResponseDto::tweet)
+            .toList();
+        String nextCursor = hits.size() > limit ? TweetSearchCursor.after(page.getLast()).encode() : null;
+
+        log.debug("Search for '{}' returned {} tweets", query, tweets.size());
+        return TweetSearchResponseDto.builder()
+            .tweets(tweets)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * @see TweetService#getHashtagTweets
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public HashtagFeedResponseDto getHashtagTweets(String tag, String cursor, int limit) {
+        tweetValidator.validateForHashtagFeed(tag, limit);
+        String normalizedTag = HashtagExtractor.normalize(tag).orElseThrow();
+
+        List<TweetHashtag> rows;
+        if (cursor == null) {
+            rows = tweetHashtagRepository.findLatestByTag(normalizedTag, limit + 1);
+        } else {
+            HashtagFeedCursor before = HashtagFeedCursor.decode(cursor);
+            rows = tweetHashtagRepository.findLatestByTagBefore(normalizedTag, before.createdAt(), before.tweetId(), limit + 1);
+        }
+
+        List<TweetHashtag> page = rows.subList(0, Math.min(limit, rows.size()));
+        List<TweetResponseDto> tweets = getTweetsByIds(page.stream().map(TweetHashtag::getTweetId).toList()).stream()
+            .filter(item -> item.status() == TweetBatchItemStatus.FOUND)
+            .map(TweetBatchItemResponseDto::tweet)
+            .toList();
+        String nextCursor = rows.size() > limit ? HashtagFeedCursor.after(page.getLast()).encode() : null;
+
+        log.debug("Hashtag feed for #{} returned {} tweets", normalizedTag, tweets.size());
+        return HashtagFeedResponseDto.builder()
+            .tag(normalizedTag)
+            .tweets(tweets)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Assembles a timeline page from the cached windows of the followed authors.
+     * <p>
+     * The windows are merged with {@link TimelineMerge} and the resulting entries are resolved
+     * through the hot tweet cache, so a warm timeline page needs no query. Deep pages, pages in a
+     * different order, pages the windows do not cover and pages with a tweet deleted since its
+     * retweet was cached are left to the database.
+     *
+     * @param following the users followed by the reader
+     * @param pageable  the requested page
+     * @return the page, or empty if it has to be read from the database
+     */
+    private Optional<Page<TweetResponseDto>> mergeTimeline(FollowingSet following, Pageable pageable) {
+        if (!isChronological(pageable) || !authorTimelineCache.canMerge(pageable.getOffset())) {
+            return Optional.empty();
+        }
+
+        List<UUID> authorIds = following.toList();
+        List<AuthorTimeline> timelines = authorTimelineCache.getAll(authorIds, this::loadAuthorTimelines);
+        Optional<List<TimelineEntry>> entries = TimelineMerge.merge(
+            authorIds, timelines, pageable.getOffset(), pageable.getPageSize());
+        if (entries.isEmpty()) {
+            log.debug("Author windows do not cover timeline page {}, reading it from the database", pageable.getPageNumber());
+            return Optional.empty();
+        }
+
+        List<TweetResponseDto> tweets = resolveTimelineEntries(entries.get());
+        if (tweets.size() < entries.get().size()) {
+            return Optional.empty();
+        }
+
+        long total = timelines.stream()
+            .mapToLong(AuthorTimeline::total)
+            .sum();
+        return Optional.of(new PageImpl<>(tweets, pageable, total));
+    }
+
+    /**
+     * Reads a timeline page from the database.
+     * <p>
+     * A chronological page is read with one query: a range scan of the recent tweets of the followed
+     * users and a scan of the recent retweets of active tweets per followed user, both limited to the
+     * rows the page can reach. Retweets are deduplicated by tweet before that limit, so a tweet
+     * retweeted by many followed users cannot crowd the other retweets out of the window. The union
+     * keeps the newest entry of every tweet, so a tweet retweeted by several followed users appears
+     * once, attributed to the latest retweet. The total counts every tweet
+     * and retweet and is therefore an upper bound. Pages in any other order only contain original
+     * tweets.
+     *
+     * @param following the users followed by the reader
+     * @param pageable  the requested page
+     * @return the page
+     */
+    private Page<TweetResponseDto> readTimeline(FollowingSet following, Pageable pageable) {
+        if (!isChronological(pageable)) {
+            return tweetRepository.findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(following.toList(), pageable)
+                .map(tweetMapper::toResponseDto);
+        }
+
+        UUID[] userIds = following.toList().toArray(UUID[]::new);
+        List<TimelineEntry> entries = tweetRepository.findTimelinePage(
+                userIds, pageable.getOffset() + pageable.getPageSize(), pageable.getOffset(), pageable.getPageSize())
+            .stream()
+            .map(TimelineActivity::toEntry)
+            .toList();
+        return PageableExecutionUtils.getPage(resolveTimelineEntries(entries), pageable,
+            () -> tweetRepository.countTimelineActivity(userIds));
+    }
+
+    /**
+     * Resolves timeline entries to tweets through the hot tweet cache, attributing retweet entries
+     * to the followed user who retweeted.
+     *
+     * @param entries the timeline entries
+     * @return the active tweets in the order of the entries; entries of deleted tweets are left out
+     */
+    private List<TweetResponseDto> resolveTimelineEntries(List<TimelineEntry> entries) {
+        List<TweetBatchItemResponseDto> items = getTweetsByIds(entries.stream().map(TimelineEntry::tweetId).toList());
+        List<TweetResponseDto> tweets = new ArrayList<>(entries.size());
+        for (int i = 0; i < items.size(); i++) {
+            TimelineEntry entry = entries.get(i);
+            TweetBatchItemResponseDto item = items.get(i);
+            if (item.status() != TweetBatchItemStatus.FOUND) {
+                continue;
+            }
+            tweets.add(entry.isRetweet()
+                ? item.tweet().toBuilder().retweetedBy(entry.retweetedBy()).retweetedAt(entry.retweetedAt()).build()
+                : item.tweet());
+        }
+        return tweets;
+    }
+
+    private static long countOf(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    private static boolean isChronological(Pageable pageable) {
+        return pageable.isPaged() && (pageable.getSort().isUnsorted() || pageable.getSort().equals(TIMELINE_SORT));
+    }
+
+    /**
+     * Ranks the recent tweets of the users followed by a reader.
+     * <p>
+     * The candidates are read with one lateral query that takes at most
+     * {@link TimelineRanker#maxCandidatesPerAuthor()} recent tweets of every followed user, so a
+     * prolific author cannot crowd out the others, and keeps the newest
+     * {@link TimelineRanker#maxCandidates()} of them.
+     *
+     * @param userId the reader identifier
+     * @return identifiers of the candidates, highest score first
+     */
+    private List<UUID> rankTimeline(UUID userId) {
+        FollowingSet following = followingSetCache.get(userId, followerGateway::getFollowingIds);
+        if (following.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TimelineCandidate> candidates = tweetRepository.findTimelineCandidates(
+            following.toList().toArray(UUID[]::new),
+            timelineRanker.candidatesSince(now),
+            timelineRanker.maxCandidatesPerAuthor(),
+            timelineRanker.maxCandidates());
+        log.debug("Ranking {} candidate tweets for user {} with {} following users",
+            candidates.size(), userId, following.size());
+        return timelineRanker.rank(candidates, now);
+    }
+
+    /**
+     * Loads the windows of recent tweets and retweets of the given authors.
+     * <p>
+     * The most recent tweets and the most recent retweets of active tweets of every author are read
+     * with one lateral union query per batch of authors, and the newest of them form the window.
+     * Only authors with a full range of tweets or of retweets need their total counted separately.
+     *
+     * @param authorIds the author identifiers
+     * @return windows of the authors that have tweets or retweets
+     */
+    private Map<UUID, AuthorTimeline> loadAuthorTimelines(List<UUID> authorIds) {
+        int capacity = authorTimelineCache.ringCapacity();
+        Map<UUID, AuthorTimeline> timelines = new HashMap<>(authorIds.size() * 2);
+        for (int from = 0; from < authorIds.size(); from += AUTHOR_LOAD_BATCH_SIZE) {
+            List<UUID> batch = authorIds.subList(from, Math.min(from + AUTHOR_LOAD_BATCH_SIZE, authorIds.size()));
+            Map<UUID, List<TimelineActivity>> recentByAuthor = new HashMap<>();
+            for (TimelineActivity activity : tweetRepository.findRecentActivityByUserIdAny(batch.toArray(UUID[]::new), capacity)) {
+                recentByAuthor.computeIfAbsent(activity.getUserId(), id -> new ArrayList<>()).add(activity);
+            }
+
+            List<UUID> fullAuthorIds = recentByAuthor.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().filter(TimelineActivity::getRetweet).count() >= capacity
+                    || entry.getValue().stream().filter(activity -> !activity.getRetweet()).count() >= capacity)
+                .map(Map.Entry::getKey)
+                .toList();
+            Map<UUID, Long> totals = new HashMap<>();
+            if (!fullAuthorIds.isEmpty()) {
+                for (AuthorTweetCount count : tweetRepository.countActiveByUserIdIn(fullAuthorIds)) {
+                    totals.merge(count.userId(), count.count(), Long::sum);
+                }
+                for (AuthorTweetCount count : retweetRepository.countActiveByUserIdIn(fullAuthorIds)) {
+                    totals.merge(count.userId(), count.count(), Long::sum);
+                }
+            }
+
+            recentByAuthor.forEach((authorId, activities) -> timelines.put(authorId, AuthorTimeline.of(
+                activities.stream().map(TimelineActivity::getTweetId).toList(),
+                activities.stream().map(TimelineActivity::getActivityAt).toList(),
+                activities.stream().map(TimelineActivity::getRetweet).toList(),
+                totals.getOrDefault(authorId, (long) activities.size()),
+                capacity)));
+        }
+        return timelines;
+    }
+
+    /**
+     * Populates likedByViewer and retweetedByViewer flags for a page of tweets.
+     * <p>
+     * The flags are resolved with one query against likes and one against retweets
+     * for the whole page, regardless of the page size.
+     *
+     * @param tweets   the page of tweets to hydrate
+     * @param viewerId the viewer identifier, or null to leave the page unchanged
+     * @return page of tweets with viewer state flags
+     */
+    private Page<TweetResponseDto> withViewerState(Page<TweetResponseDto> tweets, UUID viewerId) {
+        if (viewerId == null || tweets.isEmpty()) {
+            return tweets;
+        }
+
+        UUID[] tweetIds = tweets.stream()
+            .map(TweetResponseDto::id)
+            .toArray(UUID[]::new);
+        Set<UUID> likedTweetIds = new HashSet<>(likeRepository.findTweetIdsByUserIdAndTweetIdAny(viewerId, tweetIds));
+        Set<UUID> retweetedTweetIds = new HashSet<>(retweetRepository.findTweetIdsByUserIdAndTweetIdAny(viewerId, tweetIds));
+
+        return tweets.map(tweet -> tweet.toBuilder()
+            .likedByViewer(likedTweetIds.contains(tweet.id()))
+            .retweetedByViewer(retweetedTweetIds.contains(tweet.id()))
+            .build());
+    }
+
+    /**
+     * Builds a batch lookup item for the requested identifier.
+     *
+     * @param tweetId the requested tweet identifier
+     * @param tweet   the loaded tweet or null if it does not exist
+     * @return batch item with status and, for active tweets, tweet data
+     */
+    private TweetBatchItemResponseDto toBatchItem(UUID tweetId, Tweet tweet) {
+        if (tweet == null) {
+            return new TweetBatchItemResponseDto(tweetId, TweetBatchItemStatus.NOT_FOUND, null);
+        }
+        if (Boolean.TRUE.equals(tweet.getIsDeleted())) {
+            return new TweetBatchItemResponseDto(tweetId, TweetBatchItemStatus.DELETED, null);
+        }
+        return new TweetBatchItemResponseDto(tweetId, TweetBatchItemStatus.FOUND, tweetMapper.toResponseDto(tweet));
     }
 }
\ No newline at end of file
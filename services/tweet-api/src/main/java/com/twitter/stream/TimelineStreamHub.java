@@ -0,0 +1,322 @@
+package com.twitter.stream;
+
+import com.twitter.cache.FollowingSet;
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.common.transaction.AfterCommit;
+import com.twitter.config.TimelineStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans out created tweets to the open timeline streams of the readers following their authors.
+ * <p>
+ * Streams are held as asynchronous servlet requests, so an idle stream occupies no thread. Open
+ * streams are indexed by the authors their readers follow; the index is kept current with the follow
+ * events delivered by follower-api. A created tweet is serialized once and queued to the bounded
+ * buffer of every matching stream after the transaction commits. Queued events are written on
+ * virtual threads, at most one per stream, so a client that reads slowly blocks only a cheap virtual
+ * thread. A stream whose buffer overflows is closed, and the client is expected to reconnect and
+ * catch up through the paged timeline.
+ * <p>
+ * Only tweets created on this instance are pushed.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TimelineStreamHub {
+
+    private static final String TWEET_EVENT = "tweet";
+
+    private final ConcurrentHashMap<UUID, Set<TimelineSubscription>> subscriptionsByAuthor = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Set<TimelineSubscription>> subscriptionsByReader = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final TimelineStreamProperties properties;
+    private final Counter sentCounter;
+    private final Counter evictionCounter;
+    private final Counter rejectedCounter;
+
+    public TimelineStreamHub(TimelineStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sentCounter = Counter.builder("timeline.stream.sent")
+            .description("Number of events, including heartbeats, written to timeline streams")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder("timeline.stream.evictions")
+            .description("Number of timeline streams closed because the client did not keep up")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("timeline.stream.rejected")
+            .description("Number of timeline streams rejected because the connection limit was reached")
+            .register(meterRegistry);
+        Gauge.builder("timeline.stream.connections", connections, AtomicInteger::get)
+            .description("Number of open timeline streams")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a timeline stream for a reader.
+     *
+     * @param readerId  the reader identifier
+     * @param following the users followed by the reader
+     * @return the emitter of the stream
+     * @throws ResponseStatusException with 503 status when the connection limit is reached
+     */
+    public SseEmitter subscribe(UUID readerId, FollowingSet following) {
+        return register(readerId, following, new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    /**
+     * Registers an emitter as the timeline stream of a reader.
+     *
+     * @param readerId  the reader identifier
+     * @param following the users followed by the reader
+     * @param emitter   the emitter of the stream
+     * @return the emitter
+     */
+    SseEmitter register(UUID readerId, FollowingSet following, SseEmitter emitter) {
+        if (connections.incrementAndGet() > properties.maxConnections()) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open timeline streams");
+        }
+
+        TimelineSubscription subscription = new TimelineSubscription(readerId, emitter, properties.bufferSize());
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(ex -> unsubscribe(subscription));
+
+        addTo(subscriptionsByReader, readerId, subscription);
+        if (subscription.isClosed()) {
+            removeFrom(subscriptionsByReader, readerId, subscription);
+        }
+        for (UUID authorId : following.toList()) {
+            follow(subscription, authorId);
+        }
+        log.debug("Opened timeline stream for user {} following {} users", readerId, following.size());
+        return emitter;
+    }
+
+    /**
+     * Pushes a created tweet to the streams of the readers following its author once the current
+     * transaction commits.
+     *
+     * @param tweet the created tweet
+     */
+    public void publish(TweetResponseDto tweet) {
+        AfterCommit.run(() -> {
+            Set<TimelineSubscription> subscriptions = subscriptionsByAuthor.get(tweet.userId());
+            if (subscriptions == null || subscriptions.isEmpty()) {
+                return;
+            }
+
+            Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .id(tweet.id().toString())
+                .name(TWEET_EVENT)
+                .data(tweet, MediaType.APPLICATION_JSON)
+                .build();
+            for (TimelineSubscription subscription : subscriptions) {
+                enqueue(subscription, event);
+            }
+        });
+    }
+
+    /**
+     * Applies follow events to the author index of the open streams of their followers.
+     *
+     * @param events the follow events
+     */
+    public void apply(List<FollowEventDto> events) {
+        for (FollowEventDto event : events) {
+            Set<TimelineSubscription> subscriptions = subscriptionsByReader.get(event.followerId());
+            if (subscriptions == null) {
+                continue;
+            }
+            for (TimelineSubscription subscription : subscriptions) {
+                if (event.type() == FollowEventType.FOLLOWED) {
+                    follow(subscription, event.followingId());
+                } else {
+                    unfollow(subscription, event.followingId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues a heartbeat comment to every open stream.
+     * <p>
+     * Heartbeats keep idle streams open through proxies and detect clients that went away without
+     * closing the connection.
+     */
+    public void sendHeartbeats() {
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event()
+            .comment("heartbeat")
+            .build();
+        for (Set<TimelineSubscription> subscriptions : subscriptionsByReader.values()) {
+            for (TimelineSubscription subscription : subscriptions) {
+                enqueue(subscription, heartbeat);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of open streams.
+     *
+     * @return number of streams
+     */
+    public int connections() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void enqueue(TimelineSubscription subscription, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (subscription.isClosed()) {
+            return;
+        }
+        if (!subscription.offer(event)) {
+            evictionCounter.increment();
+            log.debug("Closing timeline stream of user {}: buffer of {} events is full",
+                subscription.readerId(), properties.bufferSize());
+            unsubscribe(subscription);
+            complete(subscription);
+            return;
+        }
+        if (subscription.startSending()) {
+            try {
+                senders.execute(() -> send(subscription));
+            } catch (RejectedExecutionException ex) {
+                subscription.stopSending();
+            }
+        }
+    }
+
+    /**
+     * Writes the queued events of a stream until its buffer is empty.
+     *
+     * @param subscription the stream that this sender has claimed
+     */
+    private void send(TimelineSubscription subscription) {
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> event = subscription.poll();
+            if (event == null) {
+                subscription.stopSending();
+                if (!subscription.hasPending() || !subscription.startSending()) {
+                    return;
+                }
+                continue;
+            }
+            if (subscription.isClosed()) {
+                continue;
+            }
+
+            try {
+                subscription.emitter().send(event);
+                sentCounter.increment();
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Timeline stream of user {} is gone: {}", subscription.readerId(), ex.getMessage());
+                unsubscribe(subscription);
+            }
+        }
+    }
+
+    /**
+     * Completes the emitter of an evicted stream on a sender thread.
+     * <p>
+     * Completing waits for a write that is in progress, which may block on a slow client, so it is
+     * never done on the publishing thread.
+     *
+     * @param subscription the evicted stream
+     */
+    private void complete(TimelineSubscription subscription) {
+        try {
+            senders.execute(() -> subscription.emitter().complete());
+        } catch (RejectedExecutionException ex) {
+            log.debug("Timeline stream of user {} is closed on shutdown", subscription.readerId());
+        }
+    }
+
+    private void follow(TimelineSubscription subscription, UUID authorId) {
+        subscription.authorIds().add(authorId);
+        addTo(subscriptionsByAuthor, authorId, subscription);
+        if (subscription.isClosed()) {
+            unfollow(subscription, authorId);
+        }
+    }
+
+    private void unfollow(TimelineSubscription subscription, UUID authorId) {
+        subscription.authorIds().remove(authorId);
+        removeFrom(subscriptionsByAuthor, authorId, subscription);
+    }
+
+    private void unsubscribe(TimelineSubscription subscription) {
+        if (!subscription.close()) {
+            return;
+        }
+
+        connections.decrementAndGet();
+        for (UUID authorId : subscription.authorIds()) {
+            unfollow(subscription, authorId);
+        }
+        removeFrom(subscriptionsByReader, subscription.readerId(), subscription);
+        log.debug("Closed timeline stream of user {}", subscription.readerId());
+    }
+
+    /**
+     * Adds a stream to the set of a key, creating the set if needed.
+     * <p>
+     * The set is created and extended under the lock of the key, so a concurrent
+     * {@link #removeFrom} that drops the emptied set cannot drop the stream with it.
+     *
+     * @param index        the index to update
+     * @param key          the user the set belongs to
+     * @param subscription the stream to add
+     */
+    private static void addTo(ConcurrentHashMap<UUID, Set<TimelineSubscription>> index, UUID key,
+                              TimelineSubscription subscription) {
+        index.compute(key, (id, subscriptions) -> {
+            Set<TimelineSubscription> updated = subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+            updated.add(subscription);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes a stream from the set of a key and drops the set once it is empty.
+     *
+     * @param index        the index to update
+     * @param key          the user the set belongs to
+     * @param subscription the stream to remove
+     */
+    private static void removeFrom(ConcurrentHashMap<UUID, Set<TimelineSubscription>> index, UUID key,
+                                   TimelineSubscription subscription) {
+        index.computeIfPresent(key, (id, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.twitter.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open timeline stream.
+ * <p>
+ * Events are queued in a bounded buffer and written by at most one sender at a time, so a client
+ * that reads slowly blocks only its own sender. The authors the reader follows are kept with the
+ * subscription, so it can be removed from the author index when the stream closes.
+ *
+ * @author geron
+ * @version 1.0
+ */
+final class TimelineSubscription {
+
+    private final UUID readerId;
+    private final SseEmitter emitter;
+    private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final Set<UUID> authorIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    TimelineSubscription(UUID readerId, SseEmitter emitter, int bufferSize) {
+        this.readerId = readerId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    UUID readerId() {
+        return readerId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    Set<UUID> authorIds() {
+        return authorIds;
+    }
+
+    /**
+     * Queues an event for sending.
+     *
+     * @param event the serialized event
+     * @return false if the buffer is full
+     */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        return buffer.offer(event);
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+        return buffer.poll();
+    }
+
+    boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    /**
+     * Claims the right to write to the stream.
+     *
+     * @return true if no other sender is writing to the stream
+     */
+    boolean startSending() {
+        return sending.compareAndSet(false, true);
+    }
+
+    void stopSending() {
+        sending.set(false);
+    }
+
+    /**
+     * Marks the subscription as closed.
+     *
+     * @return true for the first call only
+     */
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.twitter.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch over a sliding time window.
+ * <p>
+ * The window is split into {@code buckets} time buckets, each with its own {@code depth x width}
+ * counter matrix. An event is added to the bucket of its time, and an estimate sums the matrices of
+ * the buckets inside the window, which is valid because Count-Min Sketches are linear. The matrices
+ * are kept in {@code buckets + 1} slots that are recycled in turn, so memory is fixed at
+ * {@code (buckets + 1) * depth * width} counters regardless of the number of keys.
+ * <p>
+ * The spare slot always holds a bucket that has already left the window, so {@link #prepare} can
+ * zero it and assign it the next epoch before any event of that epoch arrives. Adds then only
+ * perform atomic adds on counters of a published epoch and never wait for a clearing, so no lock is
+ * taken. If the next bucket was not prepared in time, the first add of its epoch takes the slot over
+ * with a compare-and-set of the epoch without clearing it, so the estimates of that bucket may also
+ * include the counts of the bucket it replaced; estimates can only be raised by this.
+ *
+ * @author geron
+ * @version 1.0
+ */
+final class SlidingCountMinSketch {
+
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final int buckets;
+    private final int slots;
+    private final long bucketMillis;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray epochs;
+
+    /**
+     * Creates a sketch.
+     *
+     * @param depth        number of hash rows; the error probability is about {@code 2^-depth}
+     * @param width        counters per row, rounded up to a power of two; the error is about
+     *                     {@code 2 / width} of the total count in the window
+     * @param buckets      number of time buckets in the window
+     * @param bucketMillis length of a time bucket in milliseconds
+     */
+    SlidingCountMinSketch(int depth, int width, int buckets, long bucketMillis) {
+        this.depth = depth;
+        this.width = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.mask = this.width - 1;
+        this.buckets = buckets;
+        this.slots = buckets + 1;
+        this.bucketMillis = bucketMillis;
+        this.counts = new AtomicLongArray(slots * depth * this.width);
+        this.epochs = new AtomicLongArray(slots);
+        for (int slot = 0; slot < slots; slot++) {
+            epochs.set(slot, UNUSED);
+        }
+    }
+
+    /**
+     * Adds a count to a key.
+     *
+     * @param hash      64-bit hash of the key
+     * @param count     the count to add
+     * @param nowMillis time of the event in milliseconds
+     */
+    void add(long hash, long count, long nowMillis) {
+        long epoch = Math.floorDiv(nowMillis, bucketMillis);
+        int slot = slot(epoch);
+        if (!advance(slot, epoch)) {
+            return;
+        }
+
+        int base = slot * depth * width;
+        for (int row = 0; row < depth; row++) {
+            counts.getAndAdd(base + row * width + index(hash, row), count);
+        }
+    }
+
+    /**
+     * Clears the slot of the bucket following the given time and assigns it the next epoch, so the
+     * first adds of that bucket find it ready. Meant to be called periodically, more often than
+     * once per bucket, from a single thread. An add of the next bucket racing with the clearing at
+     * the very start of that bucket may be lost.
+     *
+     * @param nowMillis the current time in milliseconds
+     */
+    void prepare(long nowMillis) {
+        long next = Math.floorDiv(nowMillis, bucketMillis) + 1;
+        int slot = slot(next);
+        long current = epochs.get(slot);
+        if (current >= next) {
+            return;
+        }
+
+        int base = slot * depth * width;
+        for (int i = 0; i < depth * width; i++) {
+            counts.set(base + i, 0L);
+        }
+        epochs.compareAndSet(slot, current, next);
+    }
+
+    /**
+     * Estimates the count of a key in the window ending at the given time. The estimate is never
+     * lower than the true count, except for adds lost to a racing {@link #prepare}.
+     *
+     * @param hash      64-bit hash of the key
+     * @param nowMillis end of the window in milliseconds
+     * @return the estimated count
+     */
+    long estimate(long hash, long nowMillis) {
+        long epoch = Math.floorDiv(nowMillis, bucketMillis);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int offset = row * width + index(hash, row);
+            long sum = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                long slotEpoch = epochs.get(slot);
+                if (slotEpoch <= epoch && slotEpoch > epoch - buckets) {
+                    sum += counts.get(slot * depth * width + offset);
+                }
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of counters held by the sketch.
+     *
+     * @return number of counters
+     */
+    int counters() {
+        return counts.length();
+    }
+
+    /**
+     * Moves a slot to the given epoch if it still holds an older one, without clearing it.
+     *
+     * @return false if the slot already holds a newer epoch, so the event is outside the window
+     */
+    private boolean advance(int slot, long epoch) {
+        while (true) {
+            long current = epochs.get(slot);
+            if (current == epoch) {
+                return true;
+            }
+            if (current > epoch) {
+                return false;
+            }
+            if (epochs.compareAndSet(slot, current, epoch)) {
+                return true;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) slots);
+    }
+
+    private int index(long hash, int row) {
+        long h = hash + (row + 1) * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 33)) & mask;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.twitter.trending;
+
+import com.twitter.common.exception.validation.FormatValidationException;
+import com.twitter.common.transaction.AfterCommit;
+import com.twitter.config.TrendingProperties;
+import com.twitter.dto.response.TrendingResponseDto;
+import com.twitter.dto.trending.TrendingHashtagDto;
+import com.twitter.dto.trending.TrendingSnapshotDto;
+import com.twitter.dto.trending.TrendingTweetDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Counts trending hashtags and tweets and serves the merged top lists of all instances.
+ * <p>
+ * Hashtags of created tweets, likes and retweets are counted after their transaction commits by two
+ * {@link TrendingTracker}s over a sliding window. {@link #refresh} periodically re-estimates the
+ * local candidates, merges them with the latest snapshots received from the other instances by
+ * summing the counts of each key, and publishes the result, so {@link #getTrending} only copies at
+ * most {@code top-k} entries.
+ * <p>
+ * Remote snapshots carry only the heaviest keys of each instance, so a key that is light on every
+ * instance but heavy in total can be missed; a key missing from a remote snapshot is undercounted by
+ * at most the lightest count of that snapshot.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TrendingAggregator {
+
+    private final TrendingProperties properties;
+    private final String instanceId;
+    private final long snapshotTtlNanos;
+    private final TrendingTracker<String> hashtags;
+    private final TrendingTracker<UUID> tweets;
+    private final Map<String, RemoteSnapshot> remoteSnapshots = new ConcurrentHashMap<>();
+    private final Counter hashtagEventsCounter;
+    private final Counter likeEventsCounter;
+    private final Counter retweetEventsCounter;
+    private final Counter snapshotsReceivedCounter;
+
+    private volatile TrendingResponseDto trending = new TrendingResponseDto(List.of(), List.of());
+    private volatile TrendingSnapshotDto localSnapshot;
+
+    public TrendingAggregator(TrendingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.instanceId = properties.instanceId().isBlank() ? UUID.randomUUID().toString() : properties.instanceId();
+        this.snapshotTtlNanos = properties.snapshotTtl().toNanos();
+        this.localSnapshot = new TrendingSnapshotDto(instanceId, List.of(), List.of());
+
+        long bucketMillis = Math.max(1L, properties.window().toMillis() / properties.buckets());
+        int capacity = properties.topK() * 2;
+        this.hashtags = new TrendingTracker<>(
+            new SlidingCountMinSketch(properties.sketchDepth(), properties.sketchWidth(), properties.buckets(), bucketMillis),
+            TrendingAggregator::hash, capacity);
+        this.tweets = new TrendingTracker<>(
+            new SlidingCountMinSketch(properties.sketchDepth(), properties.sketchWidth(), properties.buckets(), bucketMillis),
+            TrendingAggregator::hash, capacity);
+
+        this.hashtagEventsCounter = eventsCounter(meterRegistry, "hashtag");
+        this.likeEventsCounter = eventsCounter(meterRegistry, "like");
+        this.retweetEventsCounter = eventsCounter(meterRegistry, "retweet");
+        this.snapshotsReceivedCounter = Counter.builder("trending.snapshots.received")
+            .description("Number of trending snapshots received from other instances")
+            .register(meterRegistry);
+        Gauge.builder("trending.candidates", hashtags, TrendingTracker::candidates)
+            .description("Number of keys tracked as trending candidates")
+            .tag("kind", "hashtag")
+            .register(meterRegistry);
+        Gauge.builder("trending.candidates", tweets, TrendingTracker::candidates)
+            .description("Number of keys tracked as trending candidates")
+            .tag("kind", "tweet")
+            .register(meterRegistry);
+        Gauge.builder("trending.peers", remoteSnapshots, Map::size)
+            .description("Number of instances whose trending snapshots are merged")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Counts the hashtags of a created tweet once the current transaction commits.
+     *
+     * @param tags normalized hashtags of the tweet
+     */
+    public void onHashtagsUsed(Collection<String> tags) {
+        if (!properties.enabled() || tags.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            long now = System.currentTimeMillis();
+            tags.forEach(tag -> hashtags.add(tag, 1, now));
+            hashtagEventsCounter.increment(tags.size());
+        });
+    }
+
+    /**
+     * Counts a like of a tweet once the current transaction commits.
+     *
+     * @param tweetId the liked tweet
+     */
+    public void onTweetLiked(UUID tweetId) {
+        if (properties.enabled()) {
+            AfterCommit.run(() -> {
+                tweets.add(tweetId, properties.likeWeight(), System.currentTimeMillis());
+                likeEventsCounter.increment();
+            });
+        }
+    }
+
+    /**
+     * Counts a retweet of a tweet once the current transaction commits.
+     *
+     * @param tweetId the retweeted tweet
+     */
+    public void onTweetRetweeted(UUID tweetId) {
+        if (properties.enabled()) {
+            AfterCommit.run(() -> {
+                tweets.add(tweetId, properties.retweetWeight(), System.currentTimeMillis());
+                retweetEventsCounter.increment();
+            });
+        }
+    }
+
+    /**
+     * Re-estimates the local candidates, merges them with the live remote snapshots and publishes
+     * the trending lists and the local snapshot.
+     */
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        List<TrendingCount<String>> localHashtags = hashtags.refresh(now);
+        List<TrendingCount<UUID>> localTweets = tweets.refresh(now);
+        localSnapshot = new TrendingSnapshotDto(instanceId,
+            localHashtags.stream().map(entry -> new TrendingHashtagDto(entry.key(), entry.count())).toList(),
+            localTweets.stream().map(entry -> new TrendingTweetDto(entry.key(), entry.count())).toList());
+
+        long nowNanos = System.nanoTime();
+        remoteSnapshots.values().removeIf(remote -> remote.isExpired(nowNanos));
+        List<TrendingSnapshotDto> snapshots = new ArrayList<>(remoteSnapshots.size() + 1);
+        snapshots.add(localSnapshot);
+        remoteSnapshots.values().forEach(remote -> snapshots.add(remote.snapshot()));
+
+        trending = new TrendingResponseDto(
+            merge(snapshots, TrendingSnapshotDto::hashtags, TrendingHashtagDto::tag, TrendingHashtagDto::score,
+                (tag, score) -> new TrendingHashtagDto(tag, score)),
+            merge(snapshots, TrendingSnapshotDto::tweets, TrendingTweetDto::tweetId, TrendingTweetDto::score,
+                (tweetId, score) -> new TrendingTweetDto(tweetId, score)));
+    }
+
+    /**
+     * Returns the trending hashtags and tweets published by the last refresh.
+     *
+     * @param limit maximum number of hashtags and of tweets
+     * @return the trending lists, highest score first
+     * @throws FormatValidationException if the limit is out of range
+     */
+    public TrendingResponseDto getTrending(int limit) {
+        if (limit < 1 || limit > properties.topK()) {
+            throw new FormatValidationException("limit", "LIMIT_OUT_OF_RANGE",
+                String.format("Trending limit must be between 1 and %d, but was %d", properties.topK(), limit));
+        }
+        TrendingResponseDto current = trending;
+        return new TrendingResponseDto(
+            current.hashtags().subList(0, Math.min(limit, current.hashtags().size())),
+            current.tweets().subList(0, Math.min(limit, current.tweets().size())));
+    }
+
+    /**
+     * Stores a snapshot received from another instance until it is replaced or expires.
+     * <p>
+     * Only the top-k heaviest entries of each list are kept, and entries without a key are dropped, so
+     * a misbehaving instance can neither grow the merge nor break the refresh. A snapshot without an
+     * instance ID is ignored.
+     *
+     * @param snapshot the snapshot
+     */
+    public void accept(TrendingSnapshotDto snapshot) {
+        if (snapshot.instanceId() == null || snapshot.instanceId().isBlank() || instanceId.equals(snapshot.instanceId())) {
+            return;
+        }
+        TrendingSnapshotDto trimmed = new TrendingSnapshotDto(snapshot.instanceId(),
+            topEntries(snapshot.hashtags(), TrendingHashtagDto::tag, TrendingHashtagDto::score),
+            topEntries(snapshot.tweets(), TrendingTweetDto::tweetId, TrendingTweetDto::score));
+        remoteSnapshots.put(trimmed.instanceId(), new RemoteSnapshot(trimmed, System.nanoTime() + snapshotTtlNanos));
+        snapshotsReceivedCounter.increment();
+        log.debug("Received trending snapshot from instance {}: hashtags={}, tweets={}",
+            trimmed.instanceId(), trimmed.hashtags().size(), trimmed.tweets().size());
+    }
+
+    /**
+     * Returns the local counts published by the last refresh, to be sent to the other instances.
+     *
+     * @return the local snapshot
+     */
+    public TrendingSnapshotDto getLocalSnapshot() {
+        return localSnapshot;
+    }
+
+    private <T> List<T> topEntries(List<T> entries, Function<T, ?> key, ToLongFunction<T> score) {
+        if (entries == null) {
+            return List.of();
+        }
+        return entries.stream()
+            .filter(entry -> entry != null && key.apply(entry) != null)
+            .sorted(Comparator.comparingLong(score).reversed())
+            .limit(properties.topK())
+            .toList();
+    }
+
+    private <T, K> List<T> merge(List<TrendingSnapshotDto> snapshots,
+                                 Function<TrendingSnapshotDto, List<T>> entries,
+                                 Function<T, K> key,
+                                 ToLongFunction<T> score,
+                                 BiFunction<K, Long, T> factory) {
+        Map<K, Long> totals = new HashMap<>();
+        for (TrendingSnapshotDto snapshot : snapshots) {
+            for (T entry : entries.apply(snapshot)) {
+                totals.merge(key.apply(entry), score.applyAsLong(entry), Long::sum);
+            }
+        }
+        return totals.entrySet().stream()
+            .sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+            .limit(properties.topK())
+            .map(entry -> factory.apply(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    static long hash(String tag) {
+        long hash = 0xCBF29CE484222325L;
+        byte[] bytes = tag.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    static long hash(UUID tweetId) {
+        return tweetId.getMostSignificantBits() ^ Long.rotateLeft(tweetId.getLeastSignificantBits(), 32);
+    }
+
+    private static Counter eventsCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("trending.events")
+            .description("Number of events counted for trending")
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Snapshot received from another instance.
+     *
+     * @param snapshot       the snapshot
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the snapshot is dropped
+     */
+    private record RemoteSnapshot(TrendingSnapshotDto snapshot, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
\ No newline at end of file
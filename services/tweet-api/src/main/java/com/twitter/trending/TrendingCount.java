@@ -0,0 +1,13 @@
+package com.twitter.trending;
+
+/**
+ * Estimated count of a key in the trending window.
+ *
+ * @param key   the key
+ * @param count the estimated count
+ * @param <K>   key type
+ * @author geron
+ * @version 1.0
+ */
+record TrendingCount<K>(K key, long count) {
+}
\ No newline at end of file
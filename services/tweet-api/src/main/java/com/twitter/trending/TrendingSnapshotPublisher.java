@@ -0,0 +1,55 @@
+package com.twitter.trending;
+
+import com.twitter.config.TrendingProperties;
+import com.twitter.dto.trending.TrendingSnapshotDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.URI;
+
+/**
+ * Sends the local trending snapshot to the other instances.
+ * <p>
+ * The snapshot is sent as JSON with an HTTP POST to each URL in {@code app.trending.peers}. A peer
+ * that cannot be reached is skipped until the next round; the other instances keep merging the last
+ * snapshot they received until it expires.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingSnapshotPublisher {
+
+    private final RestClient trendingRestClient;
+    private final TrendingProperties properties;
+
+    /**
+     * Sends a snapshot to all peers.
+     *
+     * @param snapshot the local snapshot
+     * @return number of peers that accepted the snapshot
+     */
+    public int publish(TrendingSnapshotDto snapshot) {
+        int delivered = 0;
+        for (URI peer : properties.peers()) {
+            try {
+                trendingRestClient.post()
+                    .uri(peer)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshot)
+                    .retrieve()
+                    .toBodilessEntity();
+                delivered++;
+            } catch (RestClientException ex) {
+                log.warn("Failed to send trending snapshot to peer {}: {}", peer, ex.getMessage());
+            }
+        }
+        return delivered;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.twitter.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Heavy-hitter tracker of one kind of keys over a sliding window.
+ * <p>
+ * Every event is counted in a {@link SlidingCountMinSketch}. Keys whose estimate reaches the
+ * admission threshold become candidates; {@link #refresh} re-estimates the candidates, keeps the
+ * {@code capacity} heaviest and raises the threshold to the lightest of them. Memory is bounded by
+ * the sketch and at most {@code 4 * capacity} candidates, however many distinct keys are seen.
+ *
+ * @param <K> key type
+ * @author geron
+ * @version 1.0
+ */
+final class TrendingTracker<K> {
+
+    private static final Comparator<TrendingCount<?>> BY_COUNT_DESC =
+        Comparator.comparingLong((TrendingCount<?> entry) -> entry.count()).reversed();
+
+    private final SlidingCountMinSketch sketch;
+    private final ToLongFunction<K> hasher;
+    private final int capacity;
+    private final Map<K, Boolean> candidates = new ConcurrentHashMap<>();
+    private volatile long admissionThreshold;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param sketch   the sketch counting the events
+     * @param hasher   64-bit hash function of the keys
+     * @param capacity number of heaviest keys kept after a refresh
+     */
+    TrendingTracker(SlidingCountMinSketch sketch, ToLongFunction<K> hasher, int capacity) {
+        this.sketch = sketch;
+        this.hasher = hasher;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Counts an event of a key.
+     *
+     * @param key       the key
+     * @param count     weight of the event
+     * @param nowMillis time of the event in milliseconds
+     */
+    void add(K key, long count, long nowMillis) {
+        long hash = hasher.applyAsLong(key);
+        sketch.add(hash, count, nowMillis);
+        if (candidates.containsKey(key) || candidates.size() >= capacity * 4) {
+            return;
+        }
+        if (candidates.size() < capacity || sketch.estimate(hash, nowMillis) >= admissionThreshold) {
+            candidates.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Re-estimates the candidates at the given time and keeps the heaviest of them. Also prepares
+     * the next bucket of the sketch, so adds never have to clear a recycled bucket themselves.
+     *
+     * @param nowMillis end of the window in milliseconds
+     * @return the heaviest keys with their estimated counts, heaviest first
+     */
+    List<TrendingCount<K>> refresh(long nowMillis) {
+        sketch.prepare(nowMillis);
+        List<TrendingCount<K>> estimates = new ArrayList<>(candidates.size());
+        for (K key : candidates.keySet()) {
+            long estimate = sketch.estimate(hasher.applyAsLong(key), nowMillis);
+            if (estimate > 0) {
+                estimates.add(new TrendingCount<>(key, estimate));
+            } else {
+                candidates.remove(key);
+            }
+        }
+        estimates.sort(BY_COUNT_DESC);
+
+        List<TrendingCount<K>> top = List.copyOf(estimates.subList(0, Math.min(capacity, estimates.size())));
+        for (int i = top.size(); i < estimates.size(); i++) {
+            candidates.remove(estimates.get(i).key());
+        }
+        admissionThreshold = top.size() < capacity ? 0 : top.getLast().count();
+        return top;
+    }
+
+    /**
+     * Returns the number of candidate keys.
+     *
+     * @return number of candidates
+     */
+    int candidates() {
+        return candidates.size();
+    }
+}
\ No newline at end of file
@@ -90,4 +90,22 @@ public interface TweetValidator {
      * @throws BusinessRuleValidationException if userId is null or user doesn't exist
      */
     void validateForTimeline(UUID userId);
+
+    /**
+     * Performs validation for full-text search.
+     *
+     * @param query the search query
+     * @param limit the maximum number of results
+     * @throws FormatValidationException if the query is blank or too long, or the limit is out of range
+     */
+    void validateForSearch(String query, int limit);
+
+    /**
+     * Performs validation for a hashtag feed.
+     *
+     * @param tag   the hashtag, with or without the leading '#'
+     * @param limit the maximum number of tweets
+     * @throws FormatValidationException if the hashtag is invalid or the limit is out of range
+     */
+    void validateForHashtagFeed(String tag, int limit);
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.twitter.common.exception.validation.FormatValidationException;
 import com.twitter.dto.request.UpdateTweetRequestDto;
 import com.twitter.entity.Tweet;
 import com.twitter.gateway.UserGateway;
+import com.twitter.hashtag.HashtagExtractor;
 import com.twitter.repository.TweetRepository;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
@@ -29,6 +30,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TweetValidatorImpl implements TweetValidator {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final int MAX_PAGE_LIMIT = 100;
+
     private final Validator validator;
     private final UserGateway userGateway;
     private final TweetRepository tweetRepository;
@@ -163,6 +167,51 @@ public class TweetValidatorImpl implements TweetValidator {
         validateUserExists(userId);
     }
 
+    /**
+     * @see TweetValidator#validateForSearch
+     */
+    @Override
+    public void validateForSearch(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            log.warn("Search query is empty");
+            throw new FormatValidationException("q", "EMPTY_QUERY", "Search query cannot be empty");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            log.warn("Search query is too long: {} characters", query.length());
+            throw new FormatValidationException("q", "QUERY_TOO_LONG",
+                String.format("Search query must not exceed %d characters", MAX_SEARCH_QUERY_LENGTH));
+        }
+        validatePageLimit(limit);
+    }
+
+    /**
+     * @see TweetValidator#validateForHashtagFeed
+     */
+    @Override
+    public void validateForHashtagFeed(String tag, int limit) {
+        if (HashtagExtractor.normalize(tag).isEmpty()) {
+            log.warn("Invalid hashtag: {}", tag);
+            throw new FormatValidationException("tag", "INVALID_HASHTAG",
+                String.format("Hashtag must consist of letters, digits and underscores, contain a non-digit " +
+                    "and not exceed %d characters", HashtagExtractor.MAX_TAG_LENGTH));
+        }
+        validatePageLimit(limit);
+    }
+
+    /**
+     * Validates the size of a cursor-paginated page.
+     *
+     * @param limit the maximum number of items in the page
+     * @throws FormatValidationException if the limit is out of range
+     */
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            log.warn("Page limit is out of range: {}", limit);
+            throw new FormatValidationException("limit", "LIMIT_OUT_OF_RANGE",
+                String.format("Page limit must be between 1 and %d, but was %d", MAX_PAGE_LIMIT, limit));
+        }
+    }
+
     /**
      * Validates tweet content string using custom rules.
      *
@@ -0,0 +1,125 @@
+package com.twitter.cache;
+
+import com.twitter.config.AuthorTimelineProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorTimelineCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthorTimelineCache cache;
+    private UUID authorId1;
+    private UUID authorId2;
+    private UUID tweetId1;
+    private UUID tweetId2;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AuthorTimelineCache(
+            new AuthorTimelineProperties(true, 2, 100, Duration.ofMinutes(1), 40), meterRegistry);
+        authorId1 = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        authorId2 = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        tweetId1 = UUID.fromString("323e4567-e89b-12d3-a456-426614174002");
+        tweetId2 = UUID.fromString("423e4567-e89b-12d3-a456-426614174003");
+        loads = new AtomicInteger();
+    }
+
+    private Function<List<UUID>, Map<UUID, AuthorTimeline>> loader() {
+        return authorIds -> {
+            loads.incrementAndGet();
+            return authorIds.contains(authorId1)
+                ? Map.of(authorId1, AuthorTimeline.of(List.of(tweetId1), List.of(NOW), 1))
+                : Map.of();
+        };
+    }
+
+    @Test
+    void getAll_ShouldLoadMissingAuthorsOnceAndServeThemFromCache() {
+        List<AuthorTimeline> first = cache.getAll(List.of(authorId1, authorId2), loader());
+        List<AuthorTimeline> second = cache.getAll(List.of(authorId2, authorId1), loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(first.get(0).tweetId(0)).isEqualTo(tweetId1);
+        assertThat(first.get(1)).isSameAs(AuthorTimeline.EMPTY);
+        assertThat(second).containsExactly(first.get(1), first.get(0));
+        assertThat(meterRegistry.get("author.timeline.cache.requests").tag("result", "hit").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("author.timeline.cache.requests").tag("result", "miss").counter().count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void onTweetCreated_ShouldAddTweetToCachedTimeline() {
+        cache.getAll(List.of(authorId1), loader());
+
+        cache.onTweetCreated(authorId1, tweetId2, NOW.plusMinutes(1));
+
+        AuthorTimeline timeline = cache.getAll(List.of(authorId1), loader()).getFirst();
+        assertThat(loads).hasValue(1);
+        assertThat(timeline.tweetId(0)).isEqualTo(tweetId2);
+        assertThat(timeline.total()).isEqualTo(2);
+    }
+
+    @Test
+    void onRetweeted_ShouldAddRetweetToCachedTimeline() {
+        cache.getAll(List.of(authorId1), loader());
+
+        cache.onRetweeted(authorId1, tweetId2, NOW.plusMinutes(1));
+
+        AuthorTimeline timeline = cache.getAll(List.of(authorId1), loader()).getFirst();
+        assertThat(loads).hasValue(1);
+        assertThat(timeline.tweetId(0)).isEqualTo(tweetId2);
+        assertThat(timeline.isRetweet(0)).isTrue();
+    }
+
+    @Test
+    void onRetweetRemoved_ShouldDropCachedTimeline() {
+        cache.getAll(List.of(authorId1), loader());
+
+        cache.onRetweetRemoved(authorId1);
+        cache.getAll(List.of(authorId1), loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onTweetDeleted_ShouldDropCachedTimeline() {
+        cache.getAll(List.of(authorId1), loader());
+
+        cache.onTweetDeleted(authorId1);
+        cache.getAll(List.of(authorId1), loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getAll_WhenTweetIsCreatedDuringLoad_ShouldNotInstallLoadedTimeline() {
+        cache.getAll(List.of(authorId1), authorIds -> {
+            cache.onTweetCreated(authorId1, tweetId2, NOW.plusMinutes(1));
+            return loader().apply(authorIds);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void canMerge_ShouldRejectDeepPages() {
+        assertThat(cache.canMerge(40)).isTrue();
+        assertThat(cache.canMerge(41)).isFalse();
+    }
+}
\ No newline at end of file
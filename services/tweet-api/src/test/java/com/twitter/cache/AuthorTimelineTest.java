@@ -0,0 +1,106 @@
+package com.twitter.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorTimelineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+
+    private final UUID tweetId1 = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+    private final UUID tweetId2 = UUID.fromString("223e4567-e89b-12d3-a456-426614174002");
+    private final UUID tweetId3 = UUID.fromString("f23e4567-e89b-12d3-a456-426614174003");
+
+    @Test
+    void of_ShouldOrderTweetsNewestFirst() {
+        AuthorTimeline timeline = AuthorTimeline.of(
+            List.of(tweetId1, tweetId2, tweetId3), List.of(NOW.minusMinutes(2), NOW, NOW.minusMinutes(1)), 3);
+
+        assertThat(timeline.size()).isEqualTo(3);
+        assertThat(timeline.tweetId(0)).isEqualTo(tweetId2);
+        assertThat(timeline.tweetId(1)).isEqualTo(tweetId3);
+        assertThat(timeline.tweetId(2)).isEqualTo(tweetId1);
+        assertThat(timeline.isComplete()).isTrue();
+        assertThat(timeline.coveredFromMicros()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void of_WithEqualCreationTimes_ShouldOrderByUnsignedIdentifierDescending() {
+        AuthorTimeline timeline = AuthorTimeline.of(List.of(tweetId1, tweetId3), List.of(NOW, NOW), 2);
+
+        assertThat(timeline.tweetId(0)).isEqualTo(tweetId3);
+        assertThat(timeline.tweetId(1)).isEqualTo(tweetId1);
+    }
+
+    @Test
+    void coveredFromMicros_WhenTruncated_ShouldStartAfterOldestTweet() {
+        AuthorTimeline timeline = AuthorTimeline.of(List.of(tweetId1), List.of(NOW), 10);
+
+        assertThat(timeline.isComplete()).isFalse();
+        assertThat(timeline.coveredFromMicros()).isEqualTo(AuthorTimeline.toMicros(NOW) + 1);
+    }
+
+    @Test
+    void withTweet_ShouldInsertTweetAndDropOldestOverCapacity() {
+        AuthorTimeline timeline = AuthorTimeline.of(List.of(tweetId1, tweetId2), List.of(NOW.minusMinutes(2), NOW), 2);
+
+        AuthorTimeline updated = timeline.withTweet(tweetId3, NOW.minusMinutes(1), 2);
+
+        assertThat(updated.size()).isEqualTo(2);
+        assertThat(updated.tweetId(0)).isEqualTo(tweetId2);
+        assertThat(updated.tweetId(1)).isEqualTo(tweetId3);
+        assertThat(updated.total()).isEqualTo(3);
+        assertThat(updated.isComplete()).isFalse();
+        assertThat(timeline.size()).isEqualTo(2);
+    }
+
+    @Test
+    void withTweet_WhenTweetIsPresent_ShouldReturnSameTimeline() {
+        AuthorTimeline timeline = AuthorTimeline.of(List.of(tweetId1), List.of(NOW), 1);
+
+        assertThat(timeline.withTweet(tweetId1, NOW, 10)).isSameAs(timeline);
+    }
+
+    @Test
+    void of_WithRetweets_ShouldKeepNewestEntriesWithinCapacity() {
+        AuthorTimeline timeline = AuthorTimeline.of(
+            List.of(tweetId1, tweetId2, tweetId3),
+            List.of(NOW.minusMinutes(2), NOW, NOW.minusMinutes(1)),
+            List.of(false, true, false),
+            3,
+            2);
+
+        assertThat(timeline.size()).isEqualTo(2);
+        assertThat(timeline.tweetId(0)).isEqualTo(tweetId2);
+        assertThat(timeline.isRetweet(0)).isTrue();
+        assertThat(timeline.tweetId(1)).isEqualTo(tweetId3);
+        assertThat(timeline.isRetweet(1)).isFalse();
+        assertThat(timeline.total()).isEqualTo(3);
+        assertThat(timeline.isComplete()).isFalse();
+    }
+
+    @Test
+    void withRetweet_ShouldInsertRetweetEntry() {
+        AuthorTimeline timeline = AuthorTimeline.of(List.of(tweetId1), List.of(NOW.minusMinutes(2)), 1);
+
+        AuthorTimeline updated = timeline.withRetweet(tweetId2, NOW, 10);
+
+        assertThat(updated.size()).isEqualTo(2);
+        assertThat(updated.tweetId(0)).isEqualTo(tweetId2);
+        assertThat(updated.isRetweet(0)).isTrue();
+        assertThat(updated.isRetweet(1)).isFalse();
+        assertThat(updated.total()).isEqualTo(2);
+    }
+
+    @Test
+    void fromMicros_ShouldRestoreTime() {
+        LocalDateTime time = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 123_456_000);
+
+        assertThat(AuthorTimeline.fromMicros(AuthorTimeline.toMicros(time))).isEqualTo(time);
+    }
+}
\ No newline at end of file
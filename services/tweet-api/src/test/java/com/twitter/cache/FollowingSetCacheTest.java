@@ -0,0 +1,168 @@
+package com.twitter.cache;
+
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.config.FollowingCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FollowingSetCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FollowingSetCache cache;
+    private UUID userId;
+    private UUID followingId1;
+    private UUID followingId2;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = cache(Duration.ofMinutes(1), Duration.ofHours(1));
+        userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        followingId1 = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        followingId2 = UUID.fromString("323e4567-e89b-12d3-a456-426614174002");
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private FollowingSetCache cache(Duration ttl, Duration maxStale) {
+        return new FollowingSetCache(new FollowingCacheProperties(true, 100, ttl, maxStale, 1), meterRegistry);
+    }
+
+    private static Function<UUID, List<UUID>> failing() {
+        return id -> {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "follower-api is unavailable");
+        };
+    }
+
+    private FollowEventDto event(long id, FollowEventType type, UUID followingId) {
+        return FollowEventDto.builder()
+            .id(id)
+            .type(type)
+            .followerId(userId)
+            .followingId(followingId)
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Nested
+    class GetTests {
+
+        @Test
+        void get_WhenSetIsFresh_ShouldNotCallLoaderAgain() {
+            AtomicInteger loads = new AtomicInteger();
+            Function<UUID, List<UUID>> loader = id -> {
+                loads.incrementAndGet();
+                return List.of(followingId1);
+            };
+
+            cache.get(userId, loader);
+            FollowingSet result = cache.get(userId, loader);
+
+            assertThat(result.toList()).containsExactly(followingId1);
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(meterRegistry.get("following.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("following.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        void get_WhenNothingCachedAndLoaderFails_ShouldPropagateAndCacheNothing() {
+            assertThatThrownBy(() -> cache.get(userId, failing()))
+                .isInstanceOf(ResponseStatusException.class);
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        void get_WhenSetExpiredAndRefreshFails_ShouldServeStaleSet() throws Exception {
+            cache.shutdown();
+            cache = cache(Duration.ZERO, Duration.ofHours(1));
+            cache.get(userId, id -> List.of(followingId1));
+
+            FollowingSet result = cache.get(userId, failing());
+
+            assertThat(result.toList()).containsExactly(followingId1);
+            assertThat(meterRegistry.get("following.cache.requests").tag("result", "stale").counter().count()).isEqualTo(1);
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (meterRegistry.get("following.cache.refresh.failures").counter().count() == 0
+                && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(meterRegistry.get("following.cache.refresh.failures").counter().count()).isEqualTo(1);
+            assertThat(cache.get(userId, failing()).toList()).containsExactly(followingId1);
+        }
+
+        @Test
+        void get_WhenSetOlderThanMaxStale_ShouldLoadSynchronously() {
+            cache.shutdown();
+            cache = cache(Duration.ZERO, Duration.ZERO);
+            cache.get(userId, id -> List.of(followingId1));
+
+            FollowingSet result = cache.get(userId, id -> List.of(followingId2));
+
+            assertThat(result.toList()).containsExactly(followingId2);
+            assertThatThrownBy(() -> cache.get(userId, failing()))
+                .isInstanceOf(ResponseStatusException.class);
+        }
+    }
+
+    @Nested
+    class ApplyTests {
+
+        @Test
+        void apply_ShouldUpdateCachedSetWithoutReloading() {
+            AtomicInteger loads = new AtomicInteger();
+            Function<UUID, List<UUID>> loader = id -> {
+                loads.incrementAndGet();
+                return List.of(followingId1);
+            };
+            cache.get(userId, loader);
+
+            cache.apply(List.of(
+                event(1L, FollowEventType.FOLLOWED, followingId2),
+                event(2L, FollowEventType.UNFOLLOWED, followingId1)
+            ));
+
+            assertThat(cache.get(userId, loader).toList()).containsExactly(followingId2);
+            assertThat(loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        void apply_WhenEventRedelivered_ShouldIgnoreIt() {
+            cache.get(userId, id -> List.of(followingId1));
+            cache.apply(List.of(
+                event(1L, FollowEventType.FOLLOWED, followingId2),
+                event(2L, FollowEventType.UNFOLLOWED, followingId2)
+            ));
+
+            cache.apply(List.of(event(1L, FollowEventType.FOLLOWED, followingId2)));
+
+            assertThat(cache.get(userId, failing()).toList()).containsExactly(followingId1);
+        }
+
+        @Test
+        void apply_WhenUserNotCached_ShouldNotCreateEntry() {
+            cache.apply(List.of(event(1L, FollowEventType.FOLLOWED, followingId1)));
+
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.twitter.cache;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowingSetTest {
+
+    private static final UUID LOW = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID MIDDLE = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+    private static final UUID HIGH = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+
+    @Nested
+    class OfTests {
+
+        @Test
+        void of_ShouldSortAsUnsignedAndDropDuplicates() {
+            FollowingSet set = FollowingSet.of(List.of(HIGH, LOW, MIDDLE, LOW));
+
+            assertThat(set.size()).isEqualTo(3);
+            assertThat(set.toList()).containsExactly(LOW, MIDDLE, HIGH);
+        }
+
+        @Test
+        void of_WithEmptyCollection_ShouldReturnEmptySet() {
+            FollowingSet set = FollowingSet.of(List.of());
+
+            assertThat(set.isEmpty()).isTrue();
+            assertThat(set.toList()).isEmpty();
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+
+        @Test
+        void with_ShouldInsertInOrderAndKeepOriginalUnchanged() {
+            FollowingSet original = FollowingSet.of(List.of(LOW, HIGH));
+
+            FollowingSet updated = original.with(MIDDLE);
+
+            assertThat(updated.toList()).containsExactly(LOW, MIDDLE, HIGH);
+            assertThat(original.toList()).containsExactly(LOW, HIGH);
+        }
+
+        @Test
+        void with_WhenPresent_ShouldReturnSameSet() {
+            FollowingSet set = FollowingSet.of(List.of(LOW));
+
+            assertThat(set.with(LOW)).isSameAs(set);
+        }
+
+        @Test
+        void without_ShouldRemoveIdentifier() {
+            FollowingSet set = FollowingSet.of(List.of(LOW, MIDDLE, HIGH));
+
+            FollowingSet updated = set.without(MIDDLE);
+
+            assertThat(updated.toList()).containsExactly(LOW, HIGH);
+            assertThat(updated.contains(MIDDLE)).isFalse();
+            assertThat(set.without(UUID.randomUUID())).isSameAs(set);
+        }
+    }
+}
\ No newline at end of file
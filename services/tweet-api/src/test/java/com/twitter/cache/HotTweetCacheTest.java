@@ -0,0 +1,244 @@
+package com.twitter.cache;
+
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.config.TweetCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotTweetCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotTweetCache cache;
+    private UUID tweetId;
+    private TweetResponseDto tweet;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HotTweetCache(new TweetCacheProperties(true, 100, Duration.ofMinutes(5)), meterRegistry);
+        tweetId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        tweet = TweetResponseDto.builder()
+            .id(tweetId)
+            .content("Viral tweet")
+            .build();
+    }
+
+    @Nested
+    class GetTests {
+
+        @Test
+        void get_WhenTweetIsCached_ShouldNotCallLoaderAgain() {
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.of(tweet);
+            });
+            Optional<TweetResponseDto> result = cache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.of(tweet);
+            });
+
+            assertThat(result).contains(tweet);
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(meterRegistry.get("tweet.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("tweet.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("tweet.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+            assertThat(meterRegistry.get("tweet.cache.load").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        void get_WithConcurrentMisses_ShouldLoadTweetOnce() throws Exception {
+            int callers = 8;
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            try {
+                List<Future<Optional<TweetResponseDto>>> results = new ArrayList<>();
+                results.add(executor.submit(() -> cache.get(tweetId, id -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return Optional.of(tweet);
+                })));
+                assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 1; i < callers; i++) {
+                    results.add(executor.submit(() -> cache.get(tweetId, id -> {
+                        loads.incrementAndGet();
+                        return Optional.of(tweet);
+                    })));
+                }
+                releaseLoader.countDown();
+
+                for (Future<Optional<TweetResponseDto>> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).contains(tweet);
+                }
+                assertThat(loads.get()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void get_WhenTweetDoesNotExist_ShouldNotCacheEmptyResult() {
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+            Optional<TweetResponseDto> result = cache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+
+            assertThat(result).isEmpty();
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        void get_WhenLoaderFails_ShouldPropagateExceptionAndNotCache() {
+            assertThatThrownBy(() -> cache.get(tweetId, id -> {
+                throw new IllegalStateException("Database unavailable");
+            }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database unavailable");
+
+            assertThat(cache.size()).isZero();
+            assertThat(cache.get(tweetId, id -> Optional.of(tweet))).contains(tweet);
+        }
+
+        @Test
+        void get_WhenEntryIsExpired_ShouldReloadTweet() {
+            HotTweetCache expiringCache = new HotTweetCache(
+                new TweetCacheProperties(true, 100, Duration.ZERO), new SimpleMeterRegistry());
+            AtomicInteger loads = new AtomicInteger();
+
+            expiringCache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.of(tweet);
+            });
+            expiringCache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.of(tweet);
+            });
+
+            assertThat(loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        void get_WhenCacheIsDisabled_ShouldAlwaysCallLoader() {
+            HotTweetCache disabledCache = new HotTweetCache(
+                new TweetCacheProperties(false, 100, Duration.ofMinutes(5)), new SimpleMeterRegistry());
+            AtomicInteger loads = new AtomicInteger();
+
+            disabledCache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.of(tweet);
+            });
+            disabledCache.get(tweetId, id -> {
+                loads.incrementAndGet();
+                return Optional.of(tweet);
+            });
+
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(disabledCache.size()).isZero();
+        }
+    }
+
+    @Nested
+    class MutationTests {
+
+        @Test
+        void invalidate_ShouldRemoveCachedTweet() {
+            cache.putIfUnchanged(tweet, cache.version(tweetId));
+
+            cache.invalidate(tweetId);
+
+            assertThat(cache.getIfPresent(tweetId)).isEmpty();
+        }
+
+        @Test
+        void refresh_WhenTweetIsCached_ShouldReplaceCachedState() {
+            cache.putIfUnchanged(tweet, cache.version(tweetId));
+            TweetResponseDto refreshed = tweet.toBuilder()
+                .content("Refreshed tweet")
+                .build();
+
+            cache.refresh(refreshed);
+
+            assertThat(cache.getIfPresent(tweetId)).contains(refreshed);
+        }
+
+        @Test
+        void putIfUnchanged_WhenInvalidatedAfterVersionWasRead_ShouldNotCacheStaleTweet() {
+            long version = cache.version(tweetId);
+            cache.invalidate(tweetId);
+
+            cache.putIfUnchanged(tweet, version);
+
+            assertThat(cache.getIfPresent(tweetId)).isEmpty();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        void putIfUnchanged_WhenRefreshedAfterVersionWasRead_ShouldKeepFreshState() {
+            cache.putIfUnchanged(tweet, cache.version(tweetId));
+            long version = cache.version(tweetId);
+            TweetResponseDto refreshed = tweet.toBuilder()
+                .content("Refreshed tweet")
+                .build();
+            cache.refresh(refreshed);
+
+            cache.putIfUnchanged(tweet, version);
+
+            assertThat(cache.getIfPresent(tweetId)).contains(refreshed);
+        }
+
+        @Test
+        void refresh_WhenTweetIsNotCached_ShouldNotAddIt() {
+            cache.refresh(tweet);
+
+            assertThat(cache.getIfPresent(tweetId)).isEmpty();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        void put_WhenCacheIsFull_ShouldEvictEntries() {
+            for (int i = 0; i < 150; i++) {
+                UUID id = UUID.randomUUID();
+                cache.putIfUnchanged(TweetResponseDto.builder().id(id).build(), cache.version(id));
+            }
+
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+            assertThat(meterRegistry.get("tweet.cache.evictions").functionCounter().count()).isPositive();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.twitter.cache;
+
+import com.twitter.config.TimelineRankingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedTimelineCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RankedTimelineCache cache;
+    private UUID userId;
+    private List<UUID> ranking;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RankedTimelineCache(properties(Duration.ofSeconds(30), 100), meterRegistry);
+        userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        ranking = List.of(UUID.fromString("423e4567-e89b-12d3-a456-426614174003"));
+    }
+
+    private static TimelineRankingProperties properties(Duration ttl, int maxSize) {
+        return new TimelineRankingProperties(2000, 50, Duration.ofHours(48), Duration.ofHours(6),
+            Duration.ofHours(2), 1.0, 2.0, ttl, maxSize);
+    }
+
+    @Test
+    void get_WhenRankingIsCached_ShouldNotCallLoaderAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(userId, id -> {
+            loads.incrementAndGet();
+            return ranking;
+        });
+        List<UUID> result = cache.get(userId, id -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(result).isEqualTo(ranking);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("timeline.ranking.cache.requests").tag("result", "hit").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void get_WhenRankingExpired_ShouldRankAgain() {
+        RankedTimelineCache expiring = new RankedTimelineCache(properties(Duration.ZERO, 100), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        expiring.get(userId, id -> {
+            loads.incrementAndGet();
+            return ranking;
+        });
+        expiring.get(userId, id -> {
+            loads.incrementAndGet();
+            return ranking;
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_ShouldRemoveCachedRanking() {
+        cache.get(userId, id -> ranking);
+
+        cache.invalidate(userId);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_WhenCacheIsFull_ShouldEvictEntries() {
+        RankedTimelineCache small = new RankedTimelineCache(properties(Duration.ofSeconds(30), 10), new SimpleMeterRegistry());
+
+        for (int i = 0; i < 11; i++) {
+            small.get(UUID.randomUUID(), id -> ranking);
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(10);
+    }
+}
\ No newline at end of file
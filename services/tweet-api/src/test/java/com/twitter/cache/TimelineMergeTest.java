@@ -0,0 +1,127 @@
+package com.twitter.cache;
+
+import com.twitter.dto.timeline.TimelineEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineMergeTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+
+    private static UUID id(int value) {
+        return new UUID(0L, value);
+    }
+
+    private static AuthorTimeline timeline(long total, int... minutesAgo) {
+        List<UUID> ids = new ArrayList<>();
+        List<LocalDateTime> createdAts = new ArrayList<>();
+        for (int minutes : minutesAgo) {
+            ids.add(id(minutes));
+            createdAts.add(NOW.minusMinutes(minutes));
+        }
+        return AuthorTimeline.of(ids, createdAts, total);
+    }
+
+    private static AuthorTimeline retweets(int... minutesAgoAndTweet) {
+        List<UUID> ids = new ArrayList<>();
+        List<LocalDateTime> retweetedAts = new ArrayList<>();
+        for (int i = 0; i < minutesAgoAndTweet.length; i += 2) {
+            retweetedAts.add(NOW.minusMinutes(minutesAgoAndTweet[i]));
+            ids.add(id(minutesAgoAndTweet[i + 1]));
+        }
+        return AuthorTimeline.of(ids, retweetedAts, Collections.nCopies(ids.size(), true), ids.size(), ids.size());
+    }
+
+    private static Optional<List<UUID>> merge(List<AuthorTimeline> timelines, long offset, int limit) {
+        return TimelineMerge.merge(authorIds(timelines.size()), timelines, offset, limit)
+            .map(entries -> entries.stream().map(TimelineEntry::tweetId).toList());
+    }
+
+    private static List<UUID> authorIds(int count) {
+        List<UUID> authorIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            authorIds.add(new UUID(1L, i));
+        }
+        return authorIds;
+    }
+
+    @Test
+    void merge_ShouldInterleaveTimelinesNewestFirst() {
+        List<AuthorTimeline> timelines = List.of(timeline(3, 1, 4, 7), timeline(2, 2, 5), timeline(2, 3, 6));
+
+        Optional<List<UUID>> page = merge(timelines, 0, 10);
+
+        assertThat(page).contains(List.of(id(1), id(2), id(3), id(4), id(5), id(6), id(7)));
+    }
+
+    @Test
+    void merge_ShouldSkipOffset() {
+        List<AuthorTimeline> timelines = List.of(timeline(3, 1, 4, 7), timeline(2, 2, 5));
+
+        Optional<List<UUID>> page = merge(timelines, 2, 2);
+
+        assertThat(page).contains(List.of(id(4), id(5)));
+    }
+
+    @Test
+    void merge_WhenPageEndsBeforeTruncatedTimelineCoverage_ShouldReturnPage() {
+        List<AuthorTimeline> timelines = List.of(timeline(100, 1, 4, 7), timeline(2, 2, 5));
+
+        Optional<List<UUID>> page = merge(timelines, 0, 4);
+
+        assertThat(page).contains(List.of(id(1), id(2), id(4), id(5)));
+    }
+
+    @Test
+    void merge_WhenPageReachesPastTruncatedTimelineCoverage_ShouldReturnEmpty() {
+        List<AuthorTimeline> timelines = List.of(timeline(100, 1, 4), timeline(2, 2, 5));
+
+        assertThat(merge(timelines, 0, 4)).isEmpty();
+        assertThat(merge(timelines, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void merge_WhenCompleteTimelinesAreExhausted_ShouldReturnShortPage() {
+        List<AuthorTimeline> timelines = List.of(timeline(1, 1), AuthorTimeline.EMPTY);
+
+        assertThat(merge(timelines, 0, 20)).contains(List.of(id(1)));
+        assertThat(merge(timelines, 5, 20)).contains(List.of());
+    }
+
+    @Test
+    void merge_ShouldAttributeRetweetsToRetweetingAuthor() {
+        List<AuthorTimeline> timelines = List.of(timeline(1, 30), retweets(2, 90));
+
+        Optional<List<TimelineEntry>> page = TimelineMerge.merge(authorIds(2), timelines, 0, 10);
+
+        assertThat(page).contains(List.of(
+            new TimelineEntry(id(90), new UUID(1L, 1), NOW.minusMinutes(2)),
+            TimelineEntry.tweet(id(30))));
+    }
+
+    @Test
+    void merge_WhenTweetIsRetweetedByFollowedAuthors_ShouldKeepOnlyNewestEntry() {
+        List<AuthorTimeline> timelines = List.of(timeline(2, 5, 30), retweets(2, 30), retweets(3, 5, 10, 30));
+
+        Optional<List<TimelineEntry>> page = TimelineMerge.merge(authorIds(3), timelines, 0, 10);
+
+        assertThat(page).contains(List.of(
+            new TimelineEntry(id(30), new UUID(1L, 1), NOW.minusMinutes(2)),
+            new TimelineEntry(id(5), new UUID(1L, 2), NOW.minusMinutes(3))));
+    }
+
+    @Test
+    void merge_WhenSkippedTweetIsRetweetedAgain_ShouldNotCountItTwice() {
+        List<AuthorTimeline> timelines = List.of(timeline(2, 50, 60), retweets(2, 60, 3, 40));
+
+        assertThat(merge(timelines, 1, 10)).contains(List.of(id(40), id(50)));
+    }
+}
\ No newline at end of file
@@ -268,7 +268,7 @@ public class LikeControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void likeTweet_WhenUsersApiReturns500_ShouldReturn409Conflict() throws Exception {
+        void likeTweet_WhenUsersApiReturns500_ShouldReturn503ServiceUnavailable() throws Exception {
             String content = "Test tweet for like";
             Tweet savedTweet = createAndSaveTweet(testUserId, content);
             testTweetId = savedTweet.getId();
@@ -281,7 +281,7 @@ public class LikeControllerTest extends BaseIntegrationTest {
             mockMvc.perform(post("/api/v1/tweets/{tweetId}/like", testTweetId)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict())
+                .andExpect(status().isServiceUnavailable())
                 .andExpect(jsonPath("$.type").exists());
 
             assertThat(likeRepository.count()).isEqualTo(0);
@@ -549,7 +549,7 @@ public class LikeControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void removeLike_WhenUsersApiReturns500_ShouldReturn409Conflict() throws Exception {
+        void removeLike_WhenUsersApiReturns500_ShouldReturn503ServiceUnavailable() throws Exception {
             String content = "Test tweet for unlike";
             Tweet savedTweet = createAndSaveTweet(testUserId, content);
             testTweetId = savedTweet.getId();
@@ -566,7 +566,7 @@ public class LikeControllerTest extends BaseIntegrationTest {
             mockMvc.perform(delete("/api/v1/tweets/{tweetId}/like", testTweetId)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict())
+                .andExpect(status().isServiceUnavailable())
                 .andExpect(jsonPath("$.type").exists());
 
             assertThat(likeRepository.findById(savedLike.getId())).isPresent();
@@ -367,7 +367,7 @@ public class RetweetControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void retweetTweet_WhenUsersApiReturns500_ShouldReturn409Conflict() throws Exception {
+        void retweetTweet_WhenUsersApiReturns500_ShouldReturn503ServiceUnavailable() throws Exception {
             String content = "Test tweet for retweet";
             Tweet savedTweet = createAndSaveTweet(testUserId, content);
             testTweetId = savedTweet.getId();
@@ -381,7 +381,7 @@ public class RetweetControllerTest extends BaseIntegrationTest {
             mockMvc.perform(post("/api/v1/tweets/{tweetId}/retweet", testTweetId)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict())
+                .andExpect(status().isServiceUnavailable())
                 .andExpect(jsonPath("$.type").exists());
 
             assertThat(retweetRepository.count()).isEqualTo(0);
@@ -660,7 +660,7 @@ public class RetweetControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void removeRetweet_WhenUsersApiReturns500_ShouldReturn409Conflict() throws Exception {
+        void removeRetweet_WhenUsersApiReturns500_ShouldReturn503ServiceUnavailable() throws Exception {
             String content = "Test tweet for remove retweet";
             Tweet savedTweet = createAndSaveTweet(testUserId, content);
             testTweetId = savedTweet.getId();
@@ -678,7 +678,7 @@ public class RetweetControllerTest extends BaseIntegrationTest {
             mockMvc.perform(delete("/api/v1/tweets/{tweetId}/retweet", testTweetId)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict())
+                .andExpect(status().isServiceUnavailable())
                 .andExpect(jsonPath("$.type").exists());
 
             assertThat(retweetRepository.findById(savedRetweet.getId())).isPresent();
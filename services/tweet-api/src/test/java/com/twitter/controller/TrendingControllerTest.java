@@ -0,0 +1,101 @@
+package com.twitter.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twitter.dto.trending.TrendingHashtagDto;
+import com.twitter.dto.trending.TrendingSnapshotDto;
+import com.twitter.dto.trending.TrendingTweetDto;
+import com.twitter.testconfig.BaseIntegrationTest;
+import com.twitter.trending.TrendingAggregator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class TrendingControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private TrendingAggregator trendingAggregator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Nested
+    class GetTrendingTests {
+
+        @Test
+        void getTrending_WithRemoteSnapshot_ShouldReturnMergedScores() throws Exception {
+            UUID tweetId = UUID.randomUUID();
+            TrendingSnapshotDto snapshot = new TrendingSnapshotDto("trending-controller-test",
+                List.of(new TrendingHashtagDto("trendingcontrollertest", 1_000_000)),
+                List.of(new TrendingTweetDto(tweetId, 1_000_000)));
+
+            mockMvc.perform(post("/api/v1/trending/snapshots")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(snapshot)))
+                .andExpect(status().isNoContent());
+            trendingAggregator.refresh();
+
+            mockMvc.perform(get("/api/v1/trending").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hashtags.length()").value(1))
+                .andExpect(jsonPath("$.hashtags[0].tag").value("trendingcontrollertest"))
+                .andExpect(jsonPath("$.hashtags[0].score").value(1_000_000))
+                .andExpect(jsonPath("$.tweets[0].tweetId").value(tweetId.toString()));
+        }
+
+        @Test
+        void receiveSnapshot_WithoutInstanceIdOrLists_ShouldReturn400() throws Exception {
+            mockMvc.perform(post("/api/v1/trending/snapshots")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"hashtags\":[{\"tag\":\"java\",\"score\":1}]}"))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void receiveSnapshot_WithTooManyEntries_ShouldReturn400() throws Exception {
+            List<TrendingHashtagDto> hashtags = new ArrayList<>();
+            for (int i = 0; i <= TrendingSnapshotDto.MAX_ENTRIES; i++) {
+                hashtags.add(new TrendingHashtagDto("tag" + i, 1));
+            }
+            TrendingSnapshotDto snapshot = new TrendingSnapshotDto("trending-controller-test", hashtags, List.of());
+
+            mockMvc.perform(post("/api/v1/trending/snapshots")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(snapshot)))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getTrending_WithLimitOutOfRange_ShouldReturn400() throws Exception {
+            mockMvc.perform(get("/api/v1/trending").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+}
\ No newline at end of file
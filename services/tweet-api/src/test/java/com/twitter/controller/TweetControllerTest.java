@@ -1,27 +1,41 @@
 package com.twitter.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twitter.common.dto.request.like.LikeTweetRequestDto;
 import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.request.tweet.DeleteTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.dto.request.BatchGetTweetsRequestDto;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.timeline.TimelineActivity;
+import com.twitter.entity.Like;
+import com.twitter.entity.Retweet;
 import com.twitter.entity.Tweet;
+import com.twitter.repository.LikeRepository;
+import com.twitter.repository.RetweetRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.service.HashtagBackfillService;
 import com.twitter.testconfig.BaseIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +54,12 @@ public class TweetControllerTest extends BaseIntegrationTest {
     @Autowired
     private TweetRepository tweetRepository;
 
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private RetweetRepository retweetRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -190,14 +210,14 @@ public class TweetControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void createTweet_WhenUsersApiReturns500_ShouldHandleGracefully() throws Exception {
+        void createTweet_WhenUsersApiReturns500_ShouldReturn503ServiceUnavailable() throws Exception {
             CreateTweetRequestDto request = createValidRequest(testUserId, "Valid content");
             setupUserExistsStubWithError(testUserId, 500);
 
             mockMvc.perform(post("/api/v1/tweets")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict())
+                .andExpect(status().isServiceUnavailable())
                 .andExpect(jsonPath("$.type").exists());
 
             assertThat(getTweetCount()).isEqualTo(0);
@@ -300,6 +320,321 @@ public class TweetControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    class GetTweetsByIdsTests {
+
+        private UUID testUserId;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+        }
+
+        @Test
+        void getTweetsByIds_ShouldReturnItemsInRequestOrderWithStatuses() throws Exception {
+            Tweet activeTweet = createAndSaveTweet(testUserId, "Active tweet");
+            Tweet deletedTweet = createAndSaveTweet(testUserId, "Deleted tweet");
+            deletedTweet.softDelete();
+            tweetRepository.saveAndFlush(deletedTweet);
+            UUID missingTweetId = UUID.randomUUID();
+
+            BatchGetTweetsRequestDto request = BatchGetTweetsRequestDto.builder()
+                .tweetIds(List.of(deletedTweet.getId(), missingTweetId, activeTweet.getId()))
+                .build();
+
+            mockMvc.perform(post("/api/v1/tweets/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(deletedTweet.getId().toString()))
+                .andExpect(jsonPath("$[0].status").value("DELETED"))
+                .andExpect(jsonPath("$[0].tweet").doesNotExist())
+                .andExpect(jsonPath("$[1].id").value(missingTweetId.toString()))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$[1].tweet").doesNotExist())
+                .andExpect(jsonPath("$[2].id").value(activeTweet.getId().toString()))
+                .andExpect(jsonPath("$[2].status").value("FOUND"))
+                .andExpect(jsonPath("$[2].tweet.content").value("Active tweet"));
+        }
+
+        @Test
+        void getTweetsByIds_WithEmptyList_ShouldReturn400BadRequest() throws Exception {
+            BatchGetTweetsRequestDto request = BatchGetTweetsRequestDto.builder()
+                .tweetIds(List.of())
+                .build();
+
+            mockMvc.perform(post("/api/v1/tweets/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getTweetsByIds_WithTooManyIds_ShouldReturn400BadRequest() throws Exception {
+            List<UUID> tweetIds = java.util.stream.Stream.generate(UUID::randomUUID)
+                .limit(BatchGetTweetsRequestDto.MAX_TWEET_IDS + 1)
+                .toList();
+            BatchGetTweetsRequestDto request = BatchGetTweetsRequestDto.builder()
+                .tweetIds(tweetIds)
+                .build();
+
+            mockMvc.perform(post("/api/v1/tweets/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class SearchTweetsTests {
+
+        private UUID testUserId;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+        }
+
+        @Test
+        void searchTweets_ShouldReturnMatchingActiveTweetsByRelevance() throws Exception {
+            Tweet bestMatch = createAndSaveTweet(testUserId, "postgres search, postgres index, postgres rank");
+            Tweet match = createAndSaveTweet(testUserId, "Learning postgres today");
+            createAndSaveTweet(testUserId, "Nothing relevant here");
+            Tweet deletedMatch = createAndSaveTweet(testUserId, "Deleted postgres tweet");
+            deletedMatch.softDelete();
+            tweetRepository.saveAndFlush(deletedMatch);
+
+            mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "Postgres"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(2))
+                .andExpect(jsonPath("$.tweets[0].id").value(bestMatch.getId().toString()))
+                .andExpect(jsonPath("$.tweets[1].id").value(match.getId().toString()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void searchTweets_WithCursor_ShouldReturnNextPage() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                createAndSaveTweet(testUserId, "paging tweet " + i);
+            }
+
+            String firstPage = mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "paging")
+                    .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+            String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+            mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "paging")
+                    .param("limit", "2")
+                    .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void searchTweets_AfterUpdate_ShouldMatchNewContent() throws Exception {
+            Tweet tweet = createAndSaveTweet(testUserId, "Original words");
+
+            mockMvc.perform(put("/api/v1/tweets/{tweetId}", tweet.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createUpdateRequest(testUserId, "Replacement words"))))
+                .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "replacement"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(1));
+            mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "original"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(0));
+        }
+
+        @Test
+        void searchTweets_WithBlankQuery_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "  "))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void searchTweets_WithMalformedCursor_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/tweets/search")
+                    .param("q", "postgres")
+                    .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        }
+
+        /**
+         * Measures search latency over millions of tweets with the GIN index of the Liquibase migration.
+         * <p>
+         * Run with the {@code TWEET_SEARCH_BENCHMARK=true} environment variable.
+         */
+        @Nested
+        @EnabledIfEnvironmentVariable(named = "TWEET_SEARCH_BENCHMARK", matches = "true")
+        class BenchmarkTests {
+
+            private static final int TWEETS = 2_000_000;
+            private static final int RUNS = 200;
+
+            @Autowired
+            private JdbcTemplate jdbcTemplate;
+
+            @Test
+            void search_OverMillionsOfTweets_ShouldReportLatency() {
+                jdbcTemplate.update("""
+                    INSERT INTO tweets (id, user_id, content, created_at, updated_at, is_deleted, likes_count, retweets_count)
+                    SELECT gen_random_uuid(), gen_random_uuid(),
+                           'tweet ' || n || ' word' || (n % 50000) || ' topic' || (n % 300) || ' common',
+                           now(), now(), false, 0, 0
+                    FROM generate_series(1, ?) AS n
+                    """, TWEETS);
+                jdbcTemplate.execute("""
+                    CREATE INDEX idx_tweets_content_tsv ON tweets USING GIN (content_tsv) WHERE is_deleted = false
+                    """);
+                jdbcTemplate.execute("ANALYZE tweets");
+
+                Random random = new Random(42);
+                long[] nanos = new long[RUNS];
+                for (int i = 0; i < RUNS; i++) {
+                    String query = "word" + random.nextInt(50000);
+                    long start = System.nanoTime();
+                    tweetRepository.search(query, 21);
+                    nanos[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(nanos);
+
+                System.out.printf("Tweet search over %d tweets: p50=%s, p99=%s, max=%s%n", TWEETS,
+                    Duration.ofNanos(nanos[RUNS / 2]), Duration.ofNanos(nanos[RUNS * 99 / 100]), Duration.ofNanos(nanos[RUNS - 1]));
+                assertThat(nanos[RUNS / 2]).isLessThan(Duration.ofMillis(10).toNanos());
+            }
+        }
+    }
+
+    @Nested
+    class HashtagFeedTests {
+
+        private UUID testUserId;
+
+        @Autowired
+        private HashtagBackfillService hashtagBackfillService;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.randomUUID();
+            setupUserExistsStub(testUserId, true);
+        }
+
+        private UUID postTweet(String content) throws Exception {
+            String responseJson = mockMvc.perform(post("/api/v1/tweets")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createValidRequest(testUserId, content))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+            return objectMapper.readValue(responseJson, TweetResponseDto.class).id();
+        }
+
+        @Test
+        void getHashtagTweets_ShouldReturnCreatedTweetsWithTagNewestFirst() throws Exception {
+            UUID olderId = postTweet("Learning #Java today");
+            postTweet("Only #kotlin here");
+            UUID newerId = postTweet("More #JAVA and #spring");
+
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "Java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tag").value("java"))
+                .andExpect(jsonPath("$.tweets.length()").value(2))
+                .andExpect(jsonPath("$.tweets[0].id").value(newerId.toString()))
+                .andExpect(jsonPath("$.tweets[1].id").value(olderId.toString()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void getHashtagTweets_WithCursor_ShouldReturnNextPage() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                postTweet("Paging #feed " + i);
+            }
+
+            String firstPage = mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "feed")
+                    .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+            String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "feed")
+                    .param("limit", "2")
+                    .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void getHashtagTweets_AfterUpdate_ShouldFollowNewContent() throws Exception {
+            UUID tweetId = postTweet("About #old things");
+
+            mockMvc.perform(put("/api/v1/tweets/{tweetId}", tweetId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createUpdateRequest(testUserId, "About #new things"))))
+                .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "new"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(1));
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "old"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(0));
+        }
+
+        @Test
+        void getHashtagTweets_AfterDelete_ShouldExcludeTweet() throws Exception {
+            UUID tweetId = postTweet("Soon gone #ephemeral");
+
+            mockMvc.perform(delete("/api/v1/tweets/{tweetId}", tweetId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(DeleteTweetRequestDto.builder().userId(testUserId).build())))
+                .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "ephemeral"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(0));
+        }
+
+        @Test
+        void getHashtagTweets_AfterBackfill_ShouldReturnExistingTweets() throws Exception {
+            Tweet existingTweet = createAndSaveTweet(testUserId, "Written before the index #legacy");
+
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "legacy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(0));
+
+            while (!hashtagBackfillService.backfillNextBatch(100).isEmpty()) {
+                // index all batches
+            }
+
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "legacy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweets.length()").value(1))
+                .andExpect(jsonPath("$.tweets[0].id").value(existingTweet.getId().toString()));
+        }
+
+        @Test
+        void getHashtagTweets_WithInvalidTag_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/tweets/hashtags/{tag}", "2024"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     class UpdateTweetTests {
 
@@ -519,6 +854,63 @@ public class TweetControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    class GetAuthorStatsTests {
+
+        private UUID createTweet(UUID userId, String content) throws Exception {
+            String responseJson = mockMvc.perform(post("/api/v1/tweets")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createValidRequest(userId, content))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            return objectMapper.readValue(responseJson, TweetResponseDto.class).id();
+        }
+
+        @Test
+        void getAuthorStats_AfterTweetsLikesAndDeletion_ShouldReturnMaintainedSummary() throws Exception {
+            UUID authorId = UUID.randomUUID();
+            UUID likerId = UUID.randomUUID();
+            setupUserExistsStub(authorId, true);
+            setupUserExistsStub(likerId, true);
+
+            UUID keptTweetId = createTweet(authorId, "Kept tweet");
+            UUID deletedTweetId = createTweet(authorId, "Deleted tweet");
+            for (UUID tweetId : List.of(keptTweetId, deletedTweetId)) {
+                mockMvc.perform(post("/api/v1/tweets/{tweetId}/like", tweetId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(LikeTweetRequestDto.builder().userId(likerId).build())))
+                    .andExpect(status().isCreated());
+            }
+            mockMvc.perform(delete("/api/v1/tweets/{tweetId}", deletedTweetId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(DeleteTweetRequestDto.builder().userId(authorId).build())))
+                .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/v1/tweets/user/{userId}/stats", authorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(authorId.toString()))
+                .andExpect(jsonPath("$.tweetsCount").value(1))
+                .andExpect(jsonPath("$.likesReceived").value(1))
+                .andExpect(jsonPath("$.retweetsReceived").value(0))
+                .andExpect(jsonPath("$.lastTweetAt").exists());
+        }
+
+        @Test
+        void getAuthorStats_WhenAuthorHasNoTweets_ShouldReturnZeroSummary() throws Exception {
+            UUID authorId = UUID.randomUUID();
+
+            mockMvc.perform(get("/api/v1/tweets/user/{userId}/stats", authorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(authorId.toString()))
+                .andExpect(jsonPath("$.tweetsCount").value(0))
+                .andExpect(jsonPath("$.likesReceived").value(0))
+                .andExpect(jsonPath("$.retweetsReceived").value(0))
+                .andExpect(jsonPath("$.lastTweetAt").doesNotExist());
+        }
+    }
+
     @Nested
     class GetUserTweetsTests {
 
@@ -548,6 +940,34 @@ public class TweetControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.page.totalPages").value(1));
         }
 
+        @Test
+        void getUserTweets_WithViewerId_ShouldReturnViewerStateFlags() throws Exception {
+            UUID viewerId = UUID.randomUUID();
+            Tweet likedTweet = createAndSaveTweet(testUserId, "Liked tweet");
+            Tweet retweetedTweet = createAndSaveTweet(testUserId, "Retweeted tweet");
+            likeRepository.saveAndFlush(Like.builder().tweetId(likedTweet.getId()).userId(viewerId).build());
+            retweetRepository.saveAndFlush(Retweet.builder().tweetId(retweetedTweet.getId()).userId(viewerId).build());
+
+            mockMvc.perform(get("/api/v1/tweets/user/{userId}", testUserId)
+                    .param("viewerId", viewerId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[?(@.id == '" + likedTweet.getId() + "')].likedByViewer").value(true))
+                .andExpect(jsonPath("$.content[?(@.id == '" + likedTweet.getId() + "')].retweetedByViewer").value(false))
+                .andExpect(jsonPath("$.content[?(@.id == '" + retweetedTweet.getId() + "')].likedByViewer").value(false))
+                .andExpect(jsonPath("$.content[?(@.id == '" + retweetedTweet.getId() + "')].retweetedByViewer").value(true));
+        }
+
+        @Test
+        void getUserTweets_WithoutViewerId_ShouldOmitViewerStateFlags() throws Exception {
+            createAndSaveTweet(testUserId, "Tweet");
+
+            mockMvc.perform(get("/api/v1/tweets/user/{userId}", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].likedByViewer").doesNotExist())
+                .andExpect(jsonPath("$.content[0].retweetedByViewer").doesNotExist());
+        }
+
         @Test
         void getUserTweets_WhenNoTweetsExist_ShouldReturn200OkWithEmptyList() throws Exception {
             mockMvc.perform(get("/api/v1/tweets/user/{userId}", testUserId))
@@ -653,7 +1073,7 @@ public class TweetControllerTest extends BaseIntegrationTest {
         @Test
         void getTimeline_WhenFollowingUsersHaveTweets_ShouldReturn200Ok() throws Exception {
             setupUserExistsStub(testUserId, true);
-            setupFollowingStub(testUserId, List.of(followingUserId1, followingUserId2), 0, 100);
+            setupFollowingStub(testUserId, List.of(followingUserId1, followingUserId2));
 
             Tweet tweet1 = createAndSaveTweet(followingUserId1, "Tweet from followed user 1");
             Tweet tweet2 = createAndSaveTweet(followingUserId2, "Tweet from followed user 2");
@@ -671,6 +1091,77 @@ public class TweetControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.page.totalPages").value(1));
         }
 
+        @Test
+        void getTimeline_WhenFollowedUserRetweets_ShouldIncludeEachTweetOnceWithRetweeter() throws Exception {
+            setupUserExistsStub(testUserId, true);
+            setupFollowingStub(testUserId, List.of(followingUserId1, followingUserId2));
+
+            Tweet followedTweet = createAndSaveTweet(followingUserId1, "Tweet from followed user 1");
+            Tweet strangerTweet = createAndSaveTweet(UUID.randomUUID(), "Tweet from a user nobody follows");
+            retweetRepository.saveAndFlush(Retweet.builder().tweetId(followedTweet.getId()).userId(followingUserId2).build());
+            retweetRepository.saveAndFlush(Retweet.builder().tweetId(strangerTweet.getId()).userId(followingUserId2).build());
+
+            mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(strangerTweet.getId().toString()))
+                .andExpect(jsonPath("$.content[0].retweetedBy").value(followingUserId2.toString()))
+                .andExpect(jsonPath("$.content[0].retweetedAt").exists())
+                .andExpect(jsonPath("$.content[1].id").value(followedTweet.getId().toString()))
+                .andExpect(jsonPath("$.content[1].retweetedBy").value(followingUserId2.toString()))
+                .andExpect(jsonPath("$.page.totalElements").value(2));
+        }
+
+        @Test
+        void findTimelinePage_WhenMoreFollowedUsersThanPageRetweetOneTweet_ShouldKeepOtherRetweets() {
+            List<UUID> followedIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                followedIds.add(UUID.randomUUID());
+            }
+            Tweet olderTweet = createAndSaveTweet(UUID.randomUUID(), "Tweet retweeted once");
+            Tweet viralTweet = createAndSaveTweet(UUID.randomUUID(), "Tweet retweeted by everybody");
+            retweetRepository.saveAndFlush(Retweet.builder().tweetId(olderTweet.getId()).userId(followedIds.get(0)).build());
+            for (UUID followedId : followedIds) {
+                retweetRepository.saveAndFlush(Retweet.builder().tweetId(viralTweet.getId()).userId(followedId).build());
+            }
+
+            List<TimelineActivity> page = tweetRepository.findTimelinePage(
+                followedIds.toArray(UUID[]::new), 2, 0, 2);
+
+            assertThat(page).extracting(TimelineActivity::getTweetId)
+                .containsExactly(viralTweet.getId(), olderTweet.getId());
+            assertThat(page.getFirst().getUserId()).isEqualTo(followedIds.getLast());
+        }
+
+        @Test
+        void getTimeline_InRankedMode_ShouldOrderByEngagement() throws Exception {
+            setupUserExistsStub(testUserId, true);
+            setupFollowingStub(testUserId, List.of(followingUserId1, followingUserId2));
+
+            Tweet popular = tweetRepository.saveAndFlush(Tweet.builder()
+                .userId(followingUserId1)
+                .content("Popular tweet")
+                .likesCount(500)
+                .retweetsCount(50)
+                .build());
+            Tweet quiet = createAndSaveTweet(followingUserId2, "Quiet tweet");
+
+            mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId)
+                    .param("mode", "RANKED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(popular.getId().toString()))
+                .andExpect(jsonPath("$.content[1].id").value(quiet.getId().toString()))
+                .andExpect(jsonPath("$.page.totalElements").value(2));
+        }
+
+        @Test
+        void getTimeline_WithUnknownMode_ShouldReturn400BadRequest() throws Exception {
+            mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId)
+                    .param("mode", "POPULAR"))
+                .andExpect(status().isBadRequest());
+        }
+
         @Test
         void getTimeline_WhenNoFollowingUsers_ShouldReturn200OkWithEmptyList() throws Exception {
             setupUserExistsStub(testUserId, true);
@@ -690,7 +1181,7 @@ public class TweetControllerTest extends BaseIntegrationTest {
         @Test
         void getTimeline_WhenFollowingUsersHaveNoTweets_ShouldReturn200OkWithEmptyList() throws Exception {
             setupUserExistsStub(testUserId, true);
-            setupFollowingStub(testUserId, List.of(followingUserId1, followingUserId2), 0, 100);
+            setupFollowingStub(testUserId, List.of(followingUserId1, followingUserId2));
 
             mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId))
                 .andExpect(status().isOk())
@@ -722,23 +1213,35 @@ public class TweetControllerTest extends BaseIntegrationTest {
         }
 
         @Test
-        void getTimeline_WhenFollowerApiReturns500_ShouldReturnEmptyPage() throws Exception {
+        void getTimeline_WhenFollowerApiReturns500AndNothingCached_ShouldReturn503ServiceUnavailable() throws Exception {
             setupUserExistsStub(testUserId, true);
             setupFollowingStubWithError(testUserId, 500);
 
+            mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId))
+                .andExpect(status().isServiceUnavailable());
+        }
+
+        @Test
+        void getTimeline_WhenFollowerApiFailsAfterFirstRead_ShouldServeCachedFollowingSet() throws Exception {
+            setupUserExistsStub(testUserId, true);
+            setupFollowingStub(testUserId, List.of(followingUserId1));
+            createAndSaveTweet(followingUserId1, "Tweet from followed user");
+
             mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content.length()").value(0))
-                .andExpect(jsonPath("$.page.totalElements").value(0))
-                .andExpect(jsonPath("$.page.totalPages").value(0));
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+            setupFollowingStubWithError(testUserId, 500);
+
+            mockMvc.perform(get("/api/v1/tweets/timeline/{userId}", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
         }
 
         @Test
         void getTimeline_ShouldExcludeDeletedTweets() throws Exception {
             setupUserExistsStub(testUserId, true);
-            setupFollowingStub(testUserId, List.of(followingUserId1), 0, 100);
+            setupFollowingStub(testUserId, List.of(followingUserId1));
 
             Tweet activeTweet = createAndSaveTweet(followingUserId1, "Active tweet");
             Tweet tweetToDelete = createAndSaveTweet(followingUserId1, "Tweet to be deleted");
@@ -764,7 +1267,7 @@ public class TweetControllerTest extends BaseIntegrationTest {
         @Test
         void getTimeline_ShouldSortByCreatedAtDesc() throws Exception {
             setupUserExistsStub(testUserId, true);
-            setupFollowingStub(testUserId, List.of(followingUserId1), 0, 100);
+            setupFollowingStub(testUserId, List.of(followingUserId1));
 
             Tweet tweet1 = createAndSaveTweet(followingUserId1, "First tweet");
             Thread.sleep(10);
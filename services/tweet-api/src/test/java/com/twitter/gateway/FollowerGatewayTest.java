@@ -0,0 +1,55 @@
+package com.twitter.gateway;
+
+import com.twitter.client.FollowerApiClient;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowerGatewayTest {
+
+    @Mock
+    private FollowerApiClient followerApiClient;
+
+    @InjectMocks
+    private FollowerGateway followerGateway;
+
+    @Nested
+    class GetFollowingIdsTests {
+
+        private final UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        @Test
+        void getFollowingIds_ShouldReturnIdsFromFollowerApi() {
+            UUID followingId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(followerApiClient.getFollowingIds(userId)).thenReturn(List.of(followingId));
+
+            List<UUID> result = followerGateway.getFollowingIds(userId);
+
+            assertThat(result).containsExactly(followingId);
+            verify(followerApiClient, times(1)).getFollowingIds(userId);
+        }
+
+        @Test
+        void getFollowingIds_WhenFollowerApiFails_ShouldThrowServiceUnavailable() {
+            when(followerApiClient.getFollowingIds(userId)).thenThrow(new RuntimeException("Connection refused"));
+
+            assertThatThrownBy(() -> followerGateway.getFollowingIds(userId))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+    }
+}
\ No newline at end of file
@@ -2,16 +2,23 @@ package com.twitter.gateway;
 
 import com.twitter.client.UsersApiClient;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
+import feign.FeignException;
+import feign.Request;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -63,17 +70,33 @@ class UserGatewayTest {
         }
 
         @Test
-        void existsUser_WhenExceptionOccurs_ShouldReturnFalse() {
+        void existsUser_WhenUsersApiReturnsNotFound_ShouldReturnFalse() {
             UUID validUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-            RuntimeException runtimeException = new RuntimeException("Service unavailable");
+            Request request = Request.create(Request.HttpMethod.GET, "/api/v1/users/" + validUserId + "/exists",
+                Map.of(), null, StandardCharsets.UTF_8, null);
 
-            when(usersApiClient.existsUser(validUserId)).thenThrow(runtimeException);
+            when(usersApiClient.existsUser(validUserId))
+                .thenThrow(new FeignException.NotFound("Not Found", request, null, Map.of()));
 
             boolean result = userGateway.existsUser(validUserId);
 
             assertThat(result).isFalse();
             verify(usersApiClient, times(1)).existsUser(eq(validUserId));
         }
+
+        @Test
+        void existsUser_WhenExceptionOccurs_ShouldThrowServiceUnavailable() {
+            UUID validUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            RuntimeException runtimeException = new RuntimeException("Service unavailable");
+
+            when(usersApiClient.existsUser(validUserId)).thenThrow(runtimeException);
+
+            assertThatThrownBy(() -> userGateway.existsUser(validUserId))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            verify(usersApiClient, times(1)).existsUser(eq(validUserId));
+        }
     }
 }
 
\ No newline at end of file
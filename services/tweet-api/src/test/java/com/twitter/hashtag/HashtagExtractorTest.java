@@ -0,0 +1,63 @@
+package com.twitter.hashtag;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashtagExtractorTest {
+
+    @Nested
+    class ExtractTests {
+
+        @Test
+        void extract_ShouldReturnDistinctNormalizedTagsInOrder() {
+            assertThat(HashtagExtractor.extract("#Java and #spring, then #JAVA again #java_21"))
+                .containsExactly("java", "spring", "java_21");
+        }
+
+        @Test
+        void extract_ShouldSupportNonLatinAndFullWidthTags() {
+            assertThat(HashtagExtractor.extract("Привет #Москва ＃Ｔｏｋｙｏ"))
+                .containsExactly("москва", "tokyo");
+        }
+
+        @Test
+        void extract_ShouldIgnoreTagsGluedToWordsEntitiesAndNumbers() {
+            assertThat(HashtagExtractor.extract("a#b &#39; #2024 ##double #"))
+                .isEmpty();
+        }
+
+        @Test
+        void extract_ShouldIgnoreTagsLongerThanLimit() {
+            String longTag = "a".repeat(HashtagExtractor.MAX_TAG_LENGTH + 1);
+
+            assertThat(HashtagExtractor.extract("#" + longTag + " #ok")).containsExactly("ok");
+        }
+
+        @Test
+        void extract_WhenContentHasNoHashtags_ShouldReturnEmptyList() {
+            assertThat(HashtagExtractor.extract("Plain tweet")).isEmpty();
+            assertThat(HashtagExtractor.extract(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    class NormalizeTests {
+
+        @Test
+        void normalize_ShouldStripHashAndLowerCase() {
+            assertThat(HashtagExtractor.normalize("#SpringBoot")).contains("springboot");
+            assertThat(HashtagExtractor.normalize("SpringBoot")).contains("springboot");
+        }
+
+        @Test
+        void normalize_WhenTagIsInvalid_ShouldReturnEmpty() {
+            assertThat(HashtagExtractor.normalize("")).isEmpty();
+            assertThat(HashtagExtractor.normalize("#")).isEmpty();
+            assertThat(HashtagExtractor.normalize("123")).isEmpty();
+            assertThat(HashtagExtractor.normalize("two words")).isEmpty();
+            assertThat(HashtagExtractor.normalize(null)).isEmpty();
+        }
+    }
+}
\ No newline at end of file
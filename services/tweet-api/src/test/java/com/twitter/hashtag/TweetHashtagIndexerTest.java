@@ -0,0 +1,76 @@
+package com.twitter.hashtag;
+
+import com.twitter.entity.Tweet;
+import com.twitter.repository.TweetHashtagRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TweetHashtagIndexerTest {
+
+    private static final UUID FIRST_TWEET_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+    private static final UUID SECOND_TWEET_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174002");
+
+    @Mock
+    private TweetHashtagRepository tweetHashtagRepository;
+
+    @InjectMocks
+    private TweetHashtagIndexer tweetHashtagIndexer;
+
+    @Test
+    void index_ShouldInsertTagsOfAllTweetsWithOneStatement() {
+        when(tweetHashtagRepository.insertAll(any(), any())).thenReturn(3);
+
+        int inserted = tweetHashtagIndexer.index(List.of(
+            tweet(FIRST_TWEET_ID, "#Java and #Spring"), tweet(SECOND_TWEET_ID, "More #java")));
+
+        assertThat(inserted).isEqualTo(3);
+        verify(tweetHashtagRepository, times(1)).insertAll(
+            new String[]{"java", "spring", "java"},
+            new UUID[]{FIRST_TWEET_ID, FIRST_TWEET_ID, SECOND_TWEET_ID});
+    }
+
+    @Test
+    void index_WhenTweetsHaveNoHashtags_ShouldNotQuery() {
+        int inserted = tweetHashtagIndexer.index(List.of(tweet(FIRST_TWEET_ID, "No tags")));
+
+        assertThat(inserted).isZero();
+        verifyNoInteractions(tweetHashtagRepository);
+    }
+
+    @Test
+    void reindex_ShouldRemoveOldRowsBeforeInsertingNewOnes() {
+        tweetHashtagIndexer.reindex(List.of(tweet(FIRST_TWEET_ID, "Now about #kotlin")));
+
+        InOrder inOrder = inOrder(tweetHashtagRepository);
+        inOrder.verify(tweetHashtagRepository).deleteAllByTweetIdIn(List.of(FIRST_TWEET_ID));
+        inOrder.verify(tweetHashtagRepository).insertAll(new String[]{"kotlin"}, new UUID[]{FIRST_TWEET_ID});
+    }
+
+    @Test
+    void reindex_WhenNewContentHasNoHashtags_ShouldOnlyRemoveOldRows() {
+        tweetHashtagIndexer.reindex(List.of(tweet(FIRST_TWEET_ID, "No tags anymore")));
+
+        verify(tweetHashtagRepository, times(1)).deleteAllByTweetIdIn(List.of(FIRST_TWEET_ID));
+        verify(tweetHashtagRepository, never()).insertAll(any(), any());
+    }
+
+    private static Tweet tweet(UUID id, String content) {
+        return Tweet.builder()
+            .id(id)
+            .userId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+            .content(content)
+            .build();
+    }
+}
\ No newline at end of file
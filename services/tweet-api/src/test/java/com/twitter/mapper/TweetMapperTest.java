@@ -3,6 +3,8 @@ package com.twitter.mapper;
 import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.entity.AuthorStats;
 import com.twitter.entity.Tweet;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -160,6 +162,33 @@ class TweetMapperTest {
             assertEquals(updatedAt, tweet.getUpdatedAt(), "UpdatedAt should not be changed");
         }
     }
+
+    @Nested
+    class ToAuthorStatsResponseDtoTests {
+
+        @Test
+        void toAuthorStatsResponseDto_WithValidEntity_ShouldMapAllFields() {
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            LocalDateTime lastTweetAt = LocalDateTime.of(2025, 1, 21, 20, 30, 0);
+            AuthorStats stats = AuthorStats.builder()
+                .userId(userId)
+                .tweetsCount(42L)
+                .likesReceived(1280L)
+                .retweetsReceived(97L)
+                .lastTweetAt(lastTweetAt)
+                .updatedAt(LocalDateTime.of(2025, 1, 21, 20, 31, 0))
+                .build();
+
+            AuthorStatsResponseDto result = mapper.toAuthorStatsResponseDto(stats);
+
+            assertNotNull(result);
+            assertEquals(userId, result.userId());
+            assertEquals(42L, result.tweetsCount());
+            assertEquals(1280L, result.likesReceived());
+            assertEquals(97L, result.retweetsReceived());
+            assertEquals(lastTweetAt, result.lastTweetAt());
+        }
+    }
 }
 
 
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.twitter.ranking;
+
+import com.twitter.config.TimelineRankingProperties;
+import com.twitter.dto.timeline.TimelineCandidate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineRankerTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 27, 12, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimelineRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ranker = new TimelineRanker(new TimelineRankingProperties(2000, 50, Duration.ofHours(48), Duration.ofHours(6),
+            Duration.ofHours(2), 1.0, 2.0, Duration.ofSeconds(30), 10000), meterRegistry);
+    }
+
+    private static TimelineCandidate candidate(UUID id, LocalDateTime createdAt, int likes, int retweets) {
+        return new TimelineCandidate() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public int getLikesCount() {
+                return likes;
+            }
+
+            @Override
+            public int getRetweetsCount() {
+                return retweets;
+            }
+        };
+    }
+
+    @Nested
+    class OrderTests {
+
+        @Test
+        void order_WithoutEngagement_ShouldPreferNewerTweets() {
+            int[] order = ranker.order(new long[]{5 * HOUR, HOUR, 3 * HOUR}, new int[3], new int[3]);
+
+            assertThat(order).containsExactly(1, 2, 0);
+        }
+
+        @Test
+        void order_ShouldPreferFasterEngagementOverRecency() {
+            int[] order = ranker.order(new long[]{HOUR / 2, 3 * HOUR}, new int[]{1, 200}, new int[]{0, 20});
+
+            assertThat(order).containsExactly(1, 0);
+        }
+
+        @Test
+        void order_ShouldWeightRetweetsAboveLikes() {
+            int[] order = ranker.order(new long[]{HOUR, HOUR}, new int[]{10, 0}, new int[]{0, 6});
+
+            assertThat(order).containsExactly(1, 0);
+        }
+
+        @Test
+        void order_WithSameEngagement_ShouldDecayOlderTweets() {
+            int[] order = ranker.order(new long[]{30 * HOUR, 10 * HOUR}, new int[]{50, 50}, new int[]{5, 5});
+
+            assertThat(order).containsExactly(1, 0);
+        }
+
+        @Test
+        void order_WithEqualScores_ShouldKeepInputOrder() {
+            int[] order = ranker.order(new long[]{HOUR, HOUR, HOUR}, new int[]{3, 3, 3}, new int[3]);
+
+            assertThat(order).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void order_WithTweetFromFuture_ShouldTreatItAsNew() {
+            int[] order = ranker.order(new long[]{HOUR, -HOUR}, new int[2], new int[2]);
+
+            assertThat(order).containsExactly(1, 0);
+        }
+    }
+
+    @Nested
+    class RankTests {
+
+        @Test
+        void rank_ShouldReturnIdentifiersInScoreOrder() {
+            UUID quiet = UUID.fromString("423e4567-e89b-12d3-a456-426614174003");
+            UUID popular = UUID.fromString("523e4567-e89b-12d3-a456-426614174004");
+
+            List<UUID> ranked = ranker.rank(List.of(
+                candidate(quiet, NOW.minusMinutes(10), 0, 0),
+                candidate(popular, NOW.minusHours(2), 120, 30)), NOW);
+
+            assertThat(ranked).containsExactly(popular, quiet);
+            assertThat(meterRegistry.get("timeline.ranking.rank").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        void rank_WithoutCandidates_ShouldReturnEmptyList() {
+            assertThat(ranker.rank(List.of(), NOW)).isEmpty();
+        }
+
+        @Test
+        void candidatesSince_ShouldSubtractMaxAge() {
+            assertThat(ranker.candidatesSince(NOW)).isEqualTo(NOW.minusHours(48));
+            assertThat(ranker.maxCandidates()).isEqualTo(2000);
+        }
+    }
+
+    @Nested
+    @EnabledIfEnvironmentVariable(named = "TIMELINE_RANKING_BENCHMARK", matches = "true")
+    class BenchmarkTests {
+
+        @Test
+        void order_With2000Candidates_ShouldTakeLessThanMillisecond() {
+            Random random = new Random(42);
+            int size = 2000;
+            long[] ages = new long[size];
+            int[] likes = new int[size];
+            int[] retweets = new int[size];
+            for (int i = 0; i < size; i++) {
+                ages[i] = (long) (random.nextDouble() * 48 * HOUR);
+                likes[i] = random.nextInt(10_000);
+                retweets[i] = random.nextInt(1_000);
+            }
+            for (int i = 0; i < 20_000; i++) {
+                ranker.order(ages, likes, retweets);
+            }
+
+            long[] durations = new long[1_000];
+            for (int i = 0; i < durations.length; i++) {
+                long startedAt = System.nanoTime();
+                ranker.order(ages, likes, retweets);
+                durations[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(durations);
+            System.out.printf("Ranking %d candidates: p50=%dus, p99=%dus%n",
+                size, durations[durations.length / 2] / 1_000, durations[durations.length * 99 / 100] / 1_000);
+
+            assertThat(durations[durations.length / 2]).isLessThan(1_000_000L);
+        }
+    }
+}
\ No newline at end of file
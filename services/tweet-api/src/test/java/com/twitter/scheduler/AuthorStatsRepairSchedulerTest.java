@@ -0,0 +1,97 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.AuthorStatsRepairProperties;
+import com.twitter.dto.stats.AuthorStatsRepairBatchResult;
+import com.twitter.dto.stats.AuthorStatsRepairRunResult;
+import com.twitter.service.AuthorStatsRepairService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorStatsRepairSchedulerTest {
+
+    @Mock
+    private AuthorStatsRepairService authorStatsRepairService;
+
+    private MeterRegistry meterRegistry;
+
+    private AuthorStatsRepairScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AuthorStatsRepairProperties properties = new AuthorStatsRepairProperties(true, 2, Duration.ZERO);
+        scheduler = new AuthorStatsRepairScheduler(authorStatsRepairService, properties, meterRegistry);
+    }
+
+    @Nested
+    class RunRepairTests {
+
+        @Test
+        void runRepair_WhenBatchesAreFull_ShouldContinueFromLastAuthorUntilPartialBatch() {
+            UUID firstUserId = new UUID(0L, 0L);
+            UUID lastUserOfFirstBatch = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(authorStatsRepairService.createMissingSummaries()).thenReturn(1);
+            when(authorStatsRepairService.repairNextBatch(eq(firstUserId), eq(2)))
+                .thenReturn(new AuthorStatsRepairBatchResult(2, 1, lastUserOfFirstBatch));
+            when(authorStatsRepairService.repairNextBatch(eq(lastUserOfFirstBatch), eq(2)))
+                .thenReturn(new AuthorStatsRepairBatchResult(1, 1, UUID.randomUUID()));
+
+            AuthorStatsRepairRunResult result = scheduler.runRepair();
+
+            assertThat(result.createdSummaries()).isEqualTo(1);
+            assertThat(result.checkedAuthors()).isEqualTo(3);
+            assertThat(result.repairedAuthors()).isEqualTo(2);
+            verify(authorStatsRepairService, times(2)).repairNextBatch(any(), eq(2));
+        }
+
+        @Test
+        void runRepair_WhenNoSummaries_ShouldStopAfterFirstBatch() {
+            when(authorStatsRepairService.repairNextBatch(any(), eq(2)))
+                .thenReturn(AuthorStatsRepairBatchResult.empty());
+
+            AuthorStatsRepairRunResult result = scheduler.runRepair();
+
+            assertThat(result.checkedAuthors()).isZero();
+            assertThat(result.repairedAuthors()).isZero();
+            verify(authorStatsRepairService, times(1)).repairNextBatch(any(), eq(2));
+        }
+
+        @Test
+        void runRepair_ShouldRecordMetrics() {
+            when(authorStatsRepairService.repairNextBatch(any(), eq(2)))
+                .thenReturn(new AuthorStatsRepairBatchResult(1, 1, UUID.randomUUID()));
+
+            scheduler.runRepair();
+
+            assertThat(meterRegistry.get("author.stats.repaired").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("author.stats.repair.run").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class RepairAuthorStatsTests {
+
+        @Test
+        void repairAuthorStats_WhenServiceFails_ShouldNotPropagateException() {
+            when(authorStatsRepairService.createMissingSummaries()).thenThrow(new RuntimeException("Database unavailable"));
+
+            scheduler.repairAuthorStats();
+
+            verify(authorStatsRepairService, never()).repairNextBatch(any(), anyInt());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.twitter.scheduler;
+
+import com.twitter.config.TweetPurgeProperties;
+import com.twitter.dto.purge.TweetPurgeBatchResult;
+import com.twitter.dto.purge.TweetPurgeRunResult;
+import com.twitter.service.TweetPurgeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TweetPurgeSchedulerTest {
+
+    @Mock
+    private TweetPurgeService tweetPurgeService;
+
+    private MeterRegistry meterRegistry;
+
+    private TweetPurgeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TweetPurgeProperties properties = new TweetPurgeProperties(true, Duration.ofDays(30), 2, Duration.ZERO, 5);
+        scheduler = new TweetPurgeScheduler(tweetPurgeService, properties, meterRegistry);
+    }
+
+    @Nested
+    class RunPurgeTests {
+
+        @Test
+        void runPurge_WhenBatchesAreFull_ShouldContinueUntilPartialBatch() {
+            when(tweetPurgeService.purgeNextBatch(any(LocalDateTime.class), eq(2)))
+                .thenReturn(new TweetPurgeBatchResult(2, 2, 4, 1, 500L))
+                .thenReturn(new TweetPurgeBatchResult(1, 1, 0, 0, 100L));
+
+            TweetPurgeRunResult result = scheduler.runPurge();
+
+            assertThat(result.batches()).isEqualTo(2);
+            assertThat(result.deletedTweets()).isEqualTo(3);
+            assertThat(result.deletedLikes()).isEqualTo(4);
+            assertThat(result.deletedRetweets()).isEqualTo(1);
+            assertThat(result.reclaimedBytes()).isEqualTo(600L);
+            verify(tweetPurgeService, times(2)).purgeNextBatch(any(LocalDateTime.class), eq(2));
+        }
+
+        @Test
+        void runPurge_WhenNothingToPurge_ShouldStopAfterFirstBatch() {
+            when(tweetPurgeService.purgeNextBatch(any(LocalDateTime.class), eq(2)))
+                .thenReturn(TweetPurgeBatchResult.empty());
+
+            TweetPurgeRunResult result = scheduler.runPurge();
+
+            assertThat(result.batches()).isZero();
+            assertThat(result.deletedTweets()).isZero();
+            verify(tweetPurgeService, times(1)).purgeNextBatch(any(LocalDateTime.class), eq(2));
+        }
+
+        @Test
+        void runPurge_WhenBatchLimitReached_ShouldStopAtMaxBatchesPerRun() {
+            when(tweetPurgeService.purgeNextBatch(any(LocalDateTime.class), eq(2)))
+                .thenReturn(new TweetPurgeBatchResult(2, 2, 0, 0, 200L));
+
+            TweetPurgeRunResult result = scheduler.runPurge();
+
+            assertThat(result.batches()).isEqualTo(5);
+            verify(tweetPurgeService, times(5)).purgeNextBatch(any(LocalDateTime.class), eq(2));
+        }
+
+        @Test
+        void runPurge_WithPurgedRows_ShouldRecordMetrics() {
+            when(tweetPurgeService.purgeNextBatch(any(LocalDateTime.class), eq(2)))
+                .thenReturn(new TweetPurgeBatchResult(1, 1, 3, 2, 250L));
+
+            scheduler.runPurge();
+
+            assertThat(meterRegistry.get("tweet.purge.rows").tag("table", "tweets").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("tweet.purge.rows").tag("table", "tweet_likes").counter().count()).isEqualTo(3.0);
+            assertThat(meterRegistry.get("tweet.purge.rows").tag("table", "tweet_retweets").counter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("tweet.purge.reclaimed").counter().count()).isEqualTo(250.0);
+            assertThat(meterRegistry.get("tweet.purge.run").timer().count()).isEqualTo(1);
+        }
+    }
+}
\ No newline at end of file
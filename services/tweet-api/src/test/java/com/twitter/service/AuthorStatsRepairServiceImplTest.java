@@ -0,0 +1,71 @@
+package com.twitter.service;
+
+import com.twitter.dto.stats.AuthorStatsRepairBatchResult;
+import com.twitter.repository.AuthorStatsRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorStatsRepairServiceImplTest {
+
+    @Mock
+    private AuthorStatsRepository authorStatsRepository;
+
+    @InjectMocks
+    private AuthorStatsRepairServiceImpl authorStatsRepairService;
+
+    @Nested
+    class RepairNextBatchTests {
+
+        @Test
+        void repairNextBatch_WhenAuthorsExist_ShouldReconcileLockedAuthors() {
+            UUID afterUserId = new UUID(0L, 0L);
+            UUID userId1 = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            UUID userId2 = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(authorStatsRepository.lockNextUserIds(afterUserId, 100)).thenReturn(List.of(userId1, userId2));
+            when(authorStatsRepository.reconcileStats(any(UUID[].class))).thenReturn(1);
+
+            AuthorStatsRepairBatchResult result = authorStatsRepairService.repairNextBatch(afterUserId, 100);
+
+            assertThat(result.checkedAuthors()).isEqualTo(2);
+            assertThat(result.repairedAuthors()).isEqualTo(1);
+            assertThat(result.lastUserId()).isEqualTo(userId2);
+            verify(authorStatsRepository, times(1)).reconcileStats(eq(new UUID[]{userId1, userId2}));
+        }
+
+        @Test
+        void repairNextBatch_WhenNoAuthorsLeft_ShouldReturnEmptyResult() {
+            UUID afterUserId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            when(authorStatsRepository.lockNextUserIds(afterUserId, 100)).thenReturn(List.of());
+
+            AuthorStatsRepairBatchResult result = authorStatsRepairService.repairNextBatch(afterUserId, 100);
+
+            assertThat(result.isEmpty()).isTrue();
+            verify(authorStatsRepository, never()).reconcileStats(any());
+        }
+    }
+
+    @Nested
+    class CreateMissingSummariesTests {
+
+        @Test
+        void createMissingSummaries_ShouldReturnNumberOfCreatedRows() {
+            when(authorStatsRepository.insertMissingStats()).thenReturn(3);
+
+            int created = authorStatsRepairService.createMissingSummaries();
+
+            assertThat(created).isEqualTo(3);
+        }
+    }
+}
\ No newline at end of file
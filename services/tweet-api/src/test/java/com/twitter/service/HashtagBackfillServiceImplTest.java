@@ -0,0 +1,112 @@
+package com.twitter.service;
+
+import com.twitter.dto.hashtag.HashtagBackfillBatchResult;
+import com.twitter.entity.Tweet;
+import com.twitter.entity.TweetHashtagBackfillCheckpoint;
+import com.twitter.hashtag.TweetHashtagIndexer;
+import com.twitter.repository.TweetHashtagBackfillCheckpointRepository;
+import com.twitter.repository.TweetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HashtagBackfillServiceImplTest {
+
+    @Mock
+    private TweetRepository tweetRepository;
+
+    @Mock
+    private TweetHashtagIndexer tweetHashtagIndexer;
+
+    @Mock
+    private TweetHashtagBackfillCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private HashtagBackfillServiceImpl hashtagBackfillService;
+
+    @Nested
+    class BackfillNextBatchTests {
+
+        private Tweet firstTweet;
+        private Tweet lastTweet;
+
+        @BeforeEach
+        void setUp() {
+            firstTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174001"))
+                .content("#first")
+                .build();
+            lastTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174002"))
+                .content("#last #tweet")
+                .build();
+        }
+
+        @Test
+        void backfillNextBatch_WhenNoCheckpoint_ShouldStartFromFirstIdAndMoveCheckpoint() {
+            when(checkpointRepository.findWithLockByJobName(HashtagBackfillServiceImpl.JOB_NAME)).thenReturn(Optional.empty());
+            when(tweetRepository.findHashtagBackfillBatch(new UUID(0L, 0L), PageRequest.of(0, 2)))
+                .thenReturn(List.of(firstTweet, lastTweet));
+            when(tweetHashtagIndexer.reindex(List.of(firstTweet, lastTweet))).thenReturn(3);
+
+            HashtagBackfillBatchResult result = hashtagBackfillService.backfillNextBatch(2);
+
+            assertThat(result).isEqualTo(new HashtagBackfillBatchResult(2, 3));
+            ArgumentCaptor<TweetHashtagBackfillCheckpoint> captor = ArgumentCaptor.forClass(TweetHashtagBackfillCheckpoint.class);
+            verify(checkpointRepository, times(1)).saveAndFlush(captor.capture());
+            assertThat(captor.getValue().getJobName()).isEqualTo(HashtagBackfillServiceImpl.JOB_NAME);
+            assertThat(captor.getValue().getLastTweetId()).isEqualTo(lastTweet.getId());
+            assertThat(captor.getValue().getCompleted()).isFalse();
+        }
+
+        @Test
+        void backfillNextBatch_WhenNothingLeft_ShouldMarkCheckpointCompleted() {
+            TweetHashtagBackfillCheckpoint checkpoint = TweetHashtagBackfillCheckpoint.builder()
+                .jobName(HashtagBackfillServiceImpl.JOB_NAME)
+                .lastTweetId(lastTweet.getId())
+                .build();
+            when(checkpointRepository.findWithLockByJobName(HashtagBackfillServiceImpl.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+            when(tweetRepository.findHashtagBackfillBatch(eq(lastTweet.getId()), any())).thenReturn(List.of());
+
+            HashtagBackfillBatchResult result = hashtagBackfillService.backfillNextBatch(2);
+
+            assertThat(result.isEmpty()).isTrue();
+            assertThat(checkpoint.getCompleted()).isTrue();
+            verify(checkpointRepository, times(1)).saveAndFlush(checkpoint);
+            verify(tweetHashtagIndexer, never()).reindex(anyList());
+        }
+
+        @Test
+        void backfillNextBatch_WhenCompleted_ShouldNotReadTweets() {
+            TweetHashtagBackfillCheckpoint checkpoint = TweetHashtagBackfillCheckpoint.builder()
+                .jobName(HashtagBackfillServiceImpl.JOB_NAME)
+                .lastTweetId(lastTweet.getId())
+                .completed(true)
+                .build();
+            when(checkpointRepository.findWithLockByJobName(HashtagBackfillServiceImpl.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+
+            HashtagBackfillBatchResult result = hashtagBackfillService.backfillNextBatch(2);
+
+            assertThat(result.isEmpty()).isTrue();
+            verify(tweetRepository, never()).findHashtagBackfillBatch(any(), any());
+            verify(checkpointRepository, never()).saveAndFlush(any());
+        }
+    }
+}
\ No newline at end of file
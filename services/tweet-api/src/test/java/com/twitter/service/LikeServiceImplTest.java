@@ -1,12 +1,17 @@
 package com.twitter.service;
 
+import com.twitter.cache.HotTweetCache;
 import com.twitter.common.dto.request.like.LikeTweetRequestDto;
 import com.twitter.common.dto.response.like.LikeResponseDto;
 import com.twitter.entity.Like;
 import com.twitter.entity.Tweet;
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.mapper.LikeMapper;
+import com.twitter.mapper.TweetMapper;
+import com.twitter.repository.AuthorStatsRepository;
 import com.twitter.repository.LikeRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.trending.TrendingAggregator;
 import com.twitter.validation.LikeValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -46,6 +51,18 @@ class LikeServiceImplTest {
     @Mock
     private TweetRepository tweetRepository;
 
+    @Mock
+    private TweetMapper tweetMapper;
+
+    @Mock
+    private HotTweetCache hotTweetCache;
+
+    @Mock
+    private TrendingAggregator trendingAggregator;
+
+    @Mock
+    private AuthorStatsRepository authorStatsRepository;
+
     @InjectMocks
     private LikeServiceImpl likeService;
 
@@ -135,9 +152,29 @@ class LikeServiceImplTest {
             verify(likeRepository, times(1)).saveAndFlush(eq(mappedLike));
             verify(tweetRepository, times(1)).findByIdAndIsDeletedFalse(eq(testTweetId));
             verify(tweetRepository, times(1)).saveAndFlush(any(Tweet.class));
+            verify(authorStatsRepository, times(1)).adjustEngagement(eq(existingTweet.getUserId()), eq(1L), eq(0L));
             verify(likeMapper, times(1)).toLikeResponseDto(eq(savedLike));
         }
 
+        @Test
+        void likeTweet_WithValidData_ShouldRefreshCachedTweet() {
+            TweetResponseDto tweetResponseDto = TweetResponseDto.builder()
+                .id(testTweetId)
+                .build();
+            doNothing().when(likeValidator).validateForLike(testTweetId, requestDto);
+            when(likeMapper.toLike(requestDto, testTweetId)).thenReturn(mappedLike);
+            when(likeRepository.saveAndFlush(mappedLike)).thenReturn(savedLike);
+            when(tweetRepository.findByIdAndIsDeletedFalse(testTweetId)).thenReturn(Optional.of(existingTweet));
+            when(tweetRepository.saveAndFlush(any(Tweet.class)))
+                .thenAnswer(invocation -> invocation.<Tweet>getArgument(0));
+            when(tweetMapper.toResponseDto(existingTweet)).thenReturn(tweetResponseDto);
+
+            likeService.likeTweet(testTweetId, requestDto);
+
+            verify(hotTweetCache, times(1)).refresh(eq(tweetResponseDto));
+            verify(trendingAggregator, times(1)).onTweetLiked(eq(testTweetId));
+        }
+
         @Test
         void likeTweet_WithValidData_ShouldIncrementLikesCount() {
             doNothing().when(likeValidator).validateForLike(testTweetId, requestDto);
@@ -264,6 +301,7 @@ class LikeServiceImplTest {
             verify(likeRepository, times(1)).delete(eq(existingLike));
             verify(tweetRepository, times(1)).findByIdAndIsDeletedFalse(eq(testTweetId));
             verify(tweetRepository, times(1)).saveAndFlush(any(Tweet.class));
+            verify(authorStatsRepository, times(1)).adjustEngagement(eq(existingTweet.getUserId()), eq(-1L), eq(0L));
         }
 
         @Test
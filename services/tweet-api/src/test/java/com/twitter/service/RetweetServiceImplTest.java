@@ -1,12 +1,18 @@
 package com.twitter.service;
 
+import com.twitter.cache.AuthorTimelineCache;
+import com.twitter.cache.HotTweetCache;
 import com.twitter.common.dto.request.retweet.RetweetRequestDto;
 import com.twitter.common.dto.response.retweet.RetweetResponseDto;
 import com.twitter.entity.Retweet;
 import com.twitter.entity.Tweet;
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.mapper.RetweetMapper;
+import com.twitter.mapper.TweetMapper;
+import com.twitter.repository.AuthorStatsRepository;
 import com.twitter.repository.RetweetRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.trending.TrendingAggregator;
 import com.twitter.validation.RetweetValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -46,6 +52,21 @@ class RetweetServiceImplTest {
     @Mock
     private TweetRepository tweetRepository;
 
+    @Mock
+    private TweetMapper tweetMapper;
+
+    @Mock
+    private HotTweetCache hotTweetCache;
+
+    @Mock
+    private TrendingAggregator trendingAggregator;
+
+    @Mock
+    private AuthorTimelineCache authorTimelineCache;
+
+    @Mock
+    private AuthorStatsRepository authorStatsRepository;
+
     @InjectMocks
     private RetweetServiceImpl retweetService;
 
@@ -190,9 +211,30 @@ class RetweetServiceImplTest {
             verify(retweetRepository, times(1)).saveAndFlush(eq(mappedRetweet));
             verify(tweetRepository, times(1)).findByIdAndIsDeletedFalse(eq(testTweetId));
             verify(tweetRepository, times(1)).saveAndFlush(any(Tweet.class));
+            verify(authorStatsRepository, times(1)).adjustEngagement(eq(existingTweet.getUserId()), eq(0L), eq(1L));
             verify(retweetMapper, times(1)).toRetweetResponseDto(eq(savedRetweet));
         }
 
+        @Test
+        void retweetTweet_WithValidData_ShouldRefreshCachedTweet() {
+            TweetResponseDto tweetResponseDto = TweetResponseDto.builder()
+                .id(testTweetId)
+                .build();
+            doNothing().when(retweetValidator).validateForRetweet(testTweetId, requestDto);
+            when(retweetMapper.toRetweet(requestDto, testTweetId)).thenReturn(mappedRetweet);
+            when(retweetRepository.saveAndFlush(mappedRetweet)).thenReturn(savedRetweet);
+            when(tweetRepository.findByIdAndIsDeletedFalse(testTweetId)).thenReturn(Optional.of(existingTweet));
+            when(tweetRepository.saveAndFlush(any(Tweet.class)))
+                .thenAnswer(invocation -> invocation.<Tweet>getArgument(0));
+            when(tweetMapper.toResponseDto(existingTweet)).thenReturn(tweetResponseDto);
+
+            retweetService.retweetTweet(testTweetId, requestDto);
+
+            verify(hotTweetCache, times(1)).refresh(eq(tweetResponseDto));
+            verify(trendingAggregator, times(1)).onTweetRetweeted(eq(testTweetId));
+            verify(authorTimelineCache, times(1)).onRetweeted(eq(testUserId), eq(testTweetId), eq(savedRetweet.getCreatedAt()));
+        }
+
         @Test
         void retweetTweet_WithValidData_ShouldIncrementRetweetsCount() {
             doNothing().when(retweetValidator).validateForRetweet(testTweetId, requestDto);
@@ -339,6 +381,8 @@ class RetweetServiceImplTest {
             verify(retweetRepository, times(1)).delete(eq(existingRetweet));
             verify(tweetRepository, times(1)).findByIdAndIsDeletedFalse(eq(testTweetId));
             verify(tweetRepository, times(1)).saveAndFlush(any(Tweet.class));
+            verify(authorTimelineCache, times(1)).onRetweetRemoved(eq(testUserId));
+            verify(authorStatsRepository, times(1)).adjustEngagement(eq(existingTweet.getUserId()), eq(0L), eq(-1L));
         }
 
         @Test
@@ -0,0 +1,135 @@
+package com.twitter.service;
+
+import com.twitter.dto.purge.TweetPurgeBatchResult;
+import com.twitter.entity.Tweet;
+import com.twitter.entity.TweetPurgeCheckpoint;
+import com.twitter.repository.LikeRepository;
+import com.twitter.repository.RetweetRepository;
+import com.twitter.repository.TweetArchiveRepository;
+import com.twitter.repository.TweetPurgeCheckpointRepository;
+import com.twitter.repository.TweetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TweetPurgeServiceImplTest {
+
+    @Mock
+    private TweetRepository tweetRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private RetweetRepository retweetRepository;
+
+    @Mock
+    private TweetArchiveRepository tweetArchiveRepository;
+
+    @Mock
+    private TweetPurgeCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private TweetPurgeServiceImpl tweetPurgeService;
+
+    @Nested
+    class PurgeNextBatchTests {
+
+        private LocalDateTime deletedBefore;
+        private Tweet firstTweet;
+        private Tweet lastTweet;
+
+        @BeforeEach
+        void setUp() {
+            deletedBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+            firstTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174001"))
+                .isDeleted(true)
+                .deletedAt(LocalDateTime.of(2024, 11, 1, 10, 0))
+                .build();
+            lastTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174002"))
+                .isDeleted(true)
+                .deletedAt(LocalDateTime.of(2024, 11, 2, 10, 0))
+                .build();
+        }
+
+        @Test
+        void purgeNextBatch_WhenNoCandidates_ShouldReturnEmptyResultAndNotDeleteAnything() {
+            when(checkpointRepository.findWithLockByJobName(TweetPurgeServiceImpl.JOB_NAME)).thenReturn(Optional.empty());
+            when(tweetRepository.findPurgeCandidates(eq(deletedBefore), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+            TweetPurgeBatchResult result = tweetPurgeService.purgeNextBatch(deletedBefore, 100);
+
+            assertThat(result.isEmpty()).isTrue();
+            verify(tweetArchiveRepository, never()).archiveTweets(anyCollection());
+            verify(tweetRepository, never()).deleteAllByIdIn(anyCollection());
+            verify(checkpointRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        void purgeNextBatch_WhenCandidatesExist_ShouldArchiveDeleteAndReturnCounts() {
+            List<UUID> tweetIds = List.of(firstTweet.getId(), lastTweet.getId());
+            when(checkpointRepository.findWithLockByJobName(TweetPurgeServiceImpl.JOB_NAME)).thenReturn(Optional.empty());
+            when(tweetRepository.findPurgeCandidates(eq(deletedBefore), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(firstTweet, lastTweet));
+            when(tweetRepository.sumRowSizeByIdIn(tweetIds)).thenReturn(300L);
+            when(likeRepository.sumRowSizeByTweetIdIn(tweetIds)).thenReturn(60L);
+            when(retweetRepository.sumRowSizeByTweetIdIn(tweetIds)).thenReturn(40L);
+            when(tweetArchiveRepository.archiveTweets(tweetIds)).thenReturn(2);
+            when(likeRepository.deleteAllByTweetIdIn(tweetIds)).thenReturn(3);
+            when(retweetRepository.deleteAllByTweetIdIn(tweetIds)).thenReturn(1);
+            when(tweetRepository.deleteAllByIdIn(tweetIds)).thenReturn(2);
+
+            TweetPurgeBatchResult result = tweetPurgeService.purgeNextBatch(deletedBefore, 100);
+
+            assertThat(result).isEqualTo(new TweetPurgeBatchResult(2, 2, 3, 1, 400L));
+            var inOrder = inOrder(tweetArchiveRepository, likeRepository, retweetRepository, tweetRepository);
+            inOrder.verify(tweetArchiveRepository).archiveTweets(tweetIds);
+            inOrder.verify(likeRepository).deleteAllByTweetIdIn(tweetIds);
+            inOrder.verify(retweetRepository).deleteAllByTweetIdIn(tweetIds);
+            inOrder.verify(tweetRepository).deleteAllByIdIn(tweetIds);
+        }
+
+        @Test
+        void purgeNextBatch_WhenCandidatesExist_ShouldMoveCheckpointToLastTweet() {
+            TweetPurgeCheckpoint existingCheckpoint = TweetPurgeCheckpoint.builder()
+                .jobName(TweetPurgeServiceImpl.JOB_NAME)
+                .lastDeletedAt(LocalDateTime.of(2024, 10, 1, 0, 0))
+                .lastTweetId(UUID.fromString("223e4567-e89b-12d3-a456-426614174000"))
+                .build();
+            when(checkpointRepository.findWithLockByJobName(TweetPurgeServiceImpl.JOB_NAME))
+                .thenReturn(Optional.of(existingCheckpoint));
+            when(tweetRepository.findPurgeCandidates(deletedBefore, existingCheckpoint.getLastDeletedAt(),
+                existingCheckpoint.getLastTweetId(), PageRequest.of(0, 100)))
+                .thenReturn(List.of(firstTweet, lastTweet));
+
+            tweetPurgeService.purgeNextBatch(deletedBefore, 100);
+
+            ArgumentCaptor<TweetPurgeCheckpoint> captor = ArgumentCaptor.forClass(TweetPurgeCheckpoint.class);
+            verify(checkpointRepository).saveAndFlush(captor.capture());
+            assertThat(captor.getValue().getLastDeletedAt()).isEqualTo(lastTweet.getDeletedAt());
+            assertThat(captor.getValue().getLastTweetId()).isEqualTo(lastTweet.getId());
+        }
+    }
+}
\ No newline at end of file
@@ -1,20 +1,46 @@
 package com.twitter.service;
 
+import com.twitter.cache.AuthorTimeline;
+import com.twitter.cache.AuthorTimelineCache;
+import com.twitter.cache.FollowingSet;
+import com.twitter.cache.FollowingSetCache;
+import com.twitter.cache.HotTweetCache;
+import com.twitter.cache.RankedTimelineCache;
 import com.twitter.common.dto.request.tweet.CreateTweetRequestDto;
 import com.twitter.common.dto.request.tweet.DeleteTweetRequestDto;
 import com.twitter.common.dto.response.tweet.TweetResponseDto;
 import com.twitter.common.exception.validation.BusinessRuleValidationException;
 import com.twitter.common.exception.validation.FormatValidationException;
+import com.twitter.dto.hashtag.HashtagFeedCursor;
 import com.twitter.dto.request.UpdateTweetRequestDto;
+import com.twitter.dto.response.AuthorStatsResponseDto;
+import com.twitter.dto.response.HashtagFeedResponseDto;
+import com.twitter.dto.response.TweetBatchItemResponseDto;
+import com.twitter.dto.response.TweetSearchResponseDto;
+import com.twitter.dto.search.TweetSearchCursor;
+import com.twitter.dto.search.TweetSearchHit;
+import com.twitter.dto.timeline.TimelineActivity;
+import com.twitter.entity.AuthorStats;
 import com.twitter.entity.Tweet;
+import com.twitter.entity.TweetHashtag;
+import com.twitter.enums.TweetBatchItemStatus;
 import com.twitter.gateway.FollowerGateway;
+import com.twitter.hashtag.TweetHashtagIndexer;
 import com.twitter.mapper.TweetMapper;
+import com.twitter.ranking.TimelineRanker;
+import com.twitter.repository.AuthorStatsRepository;
+import com.twitter.repository.LikeRepository;
+import com.twitter.repository.RetweetRepository;
+import com.twitter.repository.TweetHashtagRepository;
 import com.twitter.repository.TweetRepository;
+import com.twitter.stream.TimelineStreamHub;
+import com.twitter.trending.TrendingAggregator;
 import com.twitter.validation.TweetValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,15 +48,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -49,6 +80,42 @@ class TweetServiceImplTest {
     @Mock
     private FollowerGateway followerGateway;
 
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private RetweetRepository retweetRepository;
+
+    @Mock
+    private HotTweetCache hotTweetCache;
+
+    @Mock
+    private FollowingSetCache followingSetCache;
+
+    @Mock
+    private AuthorTimelineCache authorTimelineCache;
+
+    @Mock
+    private TimelineStreamHub timelineStreamHub;
+
+    @Mock
+    private TweetHashtagIndexer tweetHashtagIndexer;
+
+    @Mock
+    private TweetHashtagRepository tweetHashtagRepository;
+
+    @Mock
+    private TrendingAggregator trendingAggregator;
+
+    @Mock
+    private TimelineRanker timelineRanker;
+
+    @Mock
+    private RankedTimelineCache rankedTimelineCache;
+
+    @Mock
+    private AuthorStatsRepository authorStatsRepository;
+
     @InjectMocks
     private TweetServiceImpl tweetService;
 
@@ -123,6 +190,12 @@ class TweetServiceImplTest {
             verify(tweetMapper, times(1)).toEntity(eq(validRequestDto));
             verify(tweetRepository, times(1)).saveAndFlush(eq(mappedTweet));
             verify(tweetMapper, times(1)).toResponseDto(eq(savedTweet));
+            verify(authorTimelineCache, times(1))
+                .onTweetCreated(eq(testUserId), eq(savedTweet.getId()), eq(savedTweet.getCreatedAt()));
+            verify(authorStatsRepository, times(1)).recordTweet(eq(testUserId), eq(savedTweet.getCreatedAt()));
+            verify(timelineStreamHub, times(1)).publish(eq(responseDto));
+            verify(tweetHashtagIndexer, times(1)).index(eq(List.of(savedTweet)));
+            verify(trendingAggregator, times(1)).onHashtagsUsed(eq(List.of()));
         }
     }
 
@@ -154,6 +227,20 @@ class TweetServiceImplTest {
                 .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
                 .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
                 .build();
+
+            lenient().when(hotTweetCache.get(eq(testTweetId), any()))
+                .thenAnswer(invocation -> invocation.<Function<UUID, Optional<TweetResponseDto>>>getArgument(1)
+                    .apply(invocation.getArgument(0)));
+        }
+
+        @Test
+        void getTweetById_WhenTweetIsCached_ShouldNotQueryRepository() {
+            when(hotTweetCache.get(eq(testTweetId), any())).thenReturn(Optional.of(responseDto));
+
+            Optional<TweetResponseDto> result = tweetService.getTweetById(testTweetId);
+
+            assertThat(result).contains(responseDto);
+            verifyNoInteractions(tweetRepository, tweetMapper);
         }
 
         @Test
@@ -215,6 +302,121 @@ class TweetServiceImplTest {
         }
     }
 
+    @Nested
+    class GetTweetsByIdsTests {
+
+        private UUID activeTweetId;
+        private UUID deletedTweetId;
+        private UUID missingTweetId;
+        private Tweet activeTweet;
+        private Tweet deletedTweet;
+        private TweetResponseDto activeResponseDto;
+
+        @BeforeEach
+        void setUp() {
+            activeTweetId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            deletedTweetId = UUID.fromString("223e4567-e89b-12d3-a456-426614174002");
+            missingTweetId = UUID.fromString("223e4567-e89b-12d3-a456-426614174003");
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+            activeTweet = Tweet.builder()
+                .id(activeTweetId)
+                .userId(userId)
+                .content("Active tweet")
+                .isDeleted(false)
+                .build();
+
+            deletedTweet = Tweet.builder()
+                .id(deletedTweetId)
+                .userId(userId)
+                .content("Deleted tweet")
+                .isDeleted(true)
+                .deletedAt(LocalDateTime.of(2024, 1, 16, 10, 30, 0))
+                .build();
+
+            activeResponseDto = TweetResponseDto.builder()
+                .id(activeTweetId)
+                .userId(userId)
+                .content("Active tweet")
+                .build();
+        }
+
+        @Test
+        void getTweetsByIds_ShouldPreserveRequestOrderAndMarkStatuses() {
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(deletedTweet, activeTweet));
+            when(tweetMapper.toResponseDto(activeTweet)).thenReturn(activeResponseDto);
+
+            List<TweetBatchItemResponseDto> result = tweetService.getTweetsByIds(
+                List.of(missingTweetId, activeTweetId, deletedTweetId));
+
+            assertThat(result).hasSize(3);
+            assertThat(result.get(0).id()).isEqualTo(missingTweetId);
+            assertThat(result.get(0).status()).isEqualTo(TweetBatchItemStatus.NOT_FOUND);
+            assertThat(result.get(0).tweet()).isNull();
+            assertThat(result.get(1).id()).isEqualTo(activeTweetId);
+            assertThat(result.get(1).status()).isEqualTo(TweetBatchItemStatus.FOUND);
+            assertThat(result.get(1).tweet()).isEqualTo(activeResponseDto);
+            assertThat(result.get(2).id()).isEqualTo(deletedTweetId);
+            assertThat(result.get(2).status()).isEqualTo(TweetBatchItemStatus.DELETED);
+            assertThat(result.get(2).tweet()).isNull();
+            verify(hotTweetCache, times(1)).putIfUnchanged(eq(activeResponseDto), anyLong());
+        }
+
+        @Test
+        void getTweetsByIds_ShouldReadCacheVersionBeforeLoadingAndPassItToPut() {
+            when(hotTweetCache.version(activeTweetId)).thenReturn(7L);
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(activeTweet));
+            when(tweetMapper.toResponseDto(activeTweet)).thenReturn(activeResponseDto);
+
+            tweetService.getTweetsByIds(List.of(activeTweetId));
+
+            InOrder inOrder = inOrder(hotTweetCache, tweetRepository);
+            inOrder.verify(hotTweetCache).version(activeTweetId);
+            inOrder.verify(tweetRepository).findAllByIdAny(any(UUID[].class));
+            inOrder.verify(hotTweetCache).putIfUnchanged(activeResponseDto, 7L);
+        }
+
+        @Test
+        void getTweetsByIds_WithDuplicateIds_ShouldQueryOnceWithUniqueIds() {
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(activeTweet));
+            when(tweetMapper.toResponseDto(activeTweet)).thenReturn(activeResponseDto);
+
+            List<TweetBatchItemResponseDto> result = tweetService.getTweetsByIds(
+                List.of(activeTweetId, activeTweetId));
+
+            assertThat(result).hasSize(2);
+            assertThat(result).allMatch(item -> item.status() == TweetBatchItemStatus.FOUND);
+            verify(tweetRepository, times(1)).findAllByIdAny(eq(new UUID[]{activeTweetId}));
+            verifyNoMoreInteractions(tweetRepository);
+        }
+
+        @Test
+        void getTweetsByIds_WhenTweetIsCached_ShouldQueryOnlyMissedIds() {
+            when(hotTweetCache.getIfPresent(activeTweetId)).thenReturn(Optional.of(activeResponseDto));
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(deletedTweet));
+
+            List<TweetBatchItemResponseDto> result = tweetService.getTweetsByIds(List.of(activeTweetId, deletedTweetId));
+
+            assertThat(result).extracting(TweetBatchItemResponseDto::status)
+                .containsExactly(TweetBatchItemStatus.FOUND, TweetBatchItemStatus.DELETED);
+            assertThat(result.get(0).tweet()).isEqualTo(activeResponseDto);
+            verify(tweetRepository, times(1)).findAllByIdAny(eq(new UUID[]{deletedTweetId}));
+            verify(hotTweetCache, never()).putIfUnchanged(any(), anyLong());
+            verifyNoInteractions(tweetMapper);
+        }
+
+        @Test
+        void getTweetsByIds_WhenNoneExist_ShouldReturnNotFoundItems() {
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of());
+
+            List<TweetBatchItemResponseDto> result = tweetService.getTweetsByIds(List.of(missingTweetId));
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).status()).isEqualTo(TweetBatchItemStatus.NOT_FOUND);
+            verifyNoInteractions(tweetMapper);
+        }
+    }
+
     @Nested
     class UpdateTweetTests {
 
@@ -293,6 +495,8 @@ class TweetServiceImplTest {
             verify(tweetMapper, times(1)).updateTweetFromUpdateDto(eq(updateRequestDto), eq(existingTweet));
             verify(tweetRepository, times(1)).saveAndFlush(eq(existingTweet));
             verify(tweetMapper, times(1)).toResponseDto(eq(updatedTweet));
+            verify(hotTweetCache, times(1)).invalidate(eq(testTweetId));
+            verify(tweetHashtagIndexer, times(1)).reindex(eq(List.of(updatedTweet)));
         }
 
         @Test
@@ -357,6 +561,8 @@ class TweetServiceImplTest {
                 .id(testTweetId)
                 .userId(testUserId)
                 .content("Tweet to be deleted")
+                .likesCount(5)
+                .retweetsCount(2)
                 .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
                 .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
                 .isDeleted(false)
@@ -366,7 +572,7 @@ class TweetServiceImplTest {
         @Test
         void deleteTweet_WithValidData_ShouldPerformSoftDelete() {
             doNothing().when(tweetValidator).validateForDelete(testTweetId, deleteRequestDto);
-            when(tweetRepository.findById(testTweetId)).thenReturn(Optional.of(existingTweet));
+            when(tweetRepository.findByIdForUpdate(testTweetId)).thenReturn(Optional.of(existingTweet));
             when(tweetRepository.saveAndFlush(any(Tweet.class))).thenAnswer(invocation -> invocation.<Tweet>getArgument(0));
 
             tweetService.deleteTweet(testTweetId, deleteRequestDto);
@@ -378,18 +584,36 @@ class TweetServiceImplTest {
         @Test
         void deleteTweet_WithValidData_ShouldCallEachDependencyExactlyOnce() {
             doNothing().when(tweetValidator).validateForDelete(testTweetId, deleteRequestDto);
-            when(tweetRepository.findById(testTweetId)).thenReturn(Optional.of(existingTweet));
+            when(tweetRepository.findByIdForUpdate(testTweetId)).thenReturn(Optional.of(existingTweet));
             when(tweetRepository.saveAndFlush(any(Tweet.class))).thenReturn(existingTweet);
 
             tweetService.deleteTweet(testTweetId, deleteRequestDto);
 
             verify(tweetValidator, times(1)).validateForDelete(eq(testTweetId), eq(deleteRequestDto));
-            verify(tweetRepository, times(1)).findById(eq(testTweetId));
+            verify(tweetRepository, times(1)).findByIdForUpdate(eq(testTweetId));
             verify(tweetRepository, times(1)).saveAndFlush(eq(existingTweet));
+            verify(hotTweetCache, times(1)).invalidate(eq(testTweetId));
+            verify(authorTimelineCache, times(1)).onTweetDeleted(eq(existingTweet.getUserId()));
+            verify(authorStatsRepository, times(1)).removeTweet(eq(existingTweet.getUserId()), eq(5L), eq(2L));
+            verify(tweetHashtagIndexer, times(1)).remove(eq(List.of(testTweetId)));
             assertThat(existingTweet.getIsDeleted()).isTrue();
             assertThat(existingTweet.getDeletedAt()).isNotNull();
         }
 
+        @Test
+        void deleteTweet_ShouldLockTweetBeforeValidationAndSubtractLockedCounts() {
+            when(tweetRepository.findByIdForUpdate(testTweetId)).thenReturn(Optional.of(existingTweet));
+            when(tweetRepository.saveAndFlush(any(Tweet.class))).thenReturn(existingTweet);
+
+            tweetService.deleteTweet(testTweetId, deleteRequestDto);
+
+            InOrder inOrder = inOrder(tweetRepository, tweetValidator, authorStatsRepository);
+            inOrder.verify(tweetRepository).findByIdForUpdate(testTweetId);
+            inOrder.verify(tweetValidator).validateForDelete(testTweetId, deleteRequestDto);
+            inOrder.verify(authorStatsRepository).removeTweet(existingTweet.getUserId(), 5L, 2L);
+            verify(tweetRepository, never()).findById(any());
+        }
+
         @Test
         void deleteTweet_WhenTweetNotFound_ShouldThrowBusinessRuleValidationException() {
             BusinessRuleValidationException businessException = new BusinessRuleValidationException(
@@ -404,8 +628,8 @@ class TweetServiceImplTest {
                 .isEqualTo(businessException);
 
             verify(tweetValidator, times(1)).validateForDelete(eq(testTweetId), eq(deleteRequestDto));
-            verify(tweetRepository, never()).findById(any());
             verify(tweetRepository, never()).saveAndFlush(any());
+            verify(authorStatsRepository, never()).removeTweet(any(), anyLong(), anyLong());
         }
 
         @Test
@@ -422,7 +646,6 @@ class TweetServiceImplTest {
                 .isEqualTo(businessException);
 
             verify(tweetValidator, times(1)).validateForDelete(eq(testTweetId), eq(deleteRequestDto));
-            verify(tweetRepository, never()).findById(any());
             verify(tweetRepository, never()).saveAndFlush(any());
         }
 
@@ -440,7 +663,6 @@ class TweetServiceImplTest {
                 .isEqualTo(businessException);
 
             verify(tweetValidator, times(1)).validateForDelete(eq(testTweetId), eq(deleteRequestDto));
-            verify(tweetRepository, never()).findById(any());
             verify(tweetRepository, never()).saveAndFlush(any());
         }
     }
@@ -449,6 +671,8 @@ class TweetServiceImplTest {
     class GetUserTweetsTests {
 
         private UUID testUserId;
+        private UUID tweetId1;
+        private UUID tweetId2;
         private Pageable pageable;
         private Tweet tweet1;
         private Tweet tweet2;
@@ -459,8 +683,8 @@ class TweetServiceImplTest {
         void setUp() {
             testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-            UUID tweetId1 = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
-            UUID tweetId2 = UUID.fromString("323e4567-e89b-12d3-a456-426614174002");
+            tweetId1 = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            tweetId2 = UUID.fromString("323e4567-e89b-12d3-a456-426614174002");
 
             tweet1 = Tweet.builder()
                 .id(tweetId1)
@@ -513,7 +737,7 @@ class TweetServiceImplTest {
             when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
             when(tweetMapper.toResponseDto(tweet2)).thenReturn(responseDto2);
 
-            Page<TweetResponseDto> result = tweetService.getUserTweets(testUserId, pageable);
+            Page<TweetResponseDto> result = tweetService.getUserTweets(testUserId, null, pageable);
 
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(2);
@@ -531,7 +755,7 @@ class TweetServiceImplTest {
             when(tweetRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(eq(testUserId), eq(pageable)))
                 .thenReturn(emptyPage);
 
-            Page<TweetResponseDto> result = tweetService.getUserTweets(testUserId, pageable);
+            Page<TweetResponseDto> result = tweetService.getUserTweets(testUserId, null, pageable);
 
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
@@ -551,7 +775,7 @@ class TweetServiceImplTest {
             when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
             when(tweetMapper.toResponseDto(tweet2)).thenReturn(responseDto2);
 
-            tweetService.getUserTweets(testUserId, pageable);
+            tweetService.getUserTweets(testUserId, null, pageable);
 
             verify(tweetRepository, times(1))
                 .findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(eq(testUserId), eq(pageable));
@@ -567,12 +791,100 @@ class TweetServiceImplTest {
             when(tweetRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(eq(testUserId), eq(pageable)))
                 .thenReturn(emptyPage);
 
-            tweetService.getUserTweets(testUserId, pageable);
+            tweetService.getUserTweets(testUserId, null, pageable);
 
             verify(tweetRepository, times(1))
                 .findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(eq(testUserId), eq(pageable));
             verifyNoInteractions(tweetMapper);
         }
+
+        @Test
+        void getUserTweets_WithViewerId_ShouldPopulateViewerStateWithOneQueryPerTable() {
+            UUID viewerId = UUID.fromString("323e4567-e89b-12d3-a456-426614174009");
+            Page<Tweet> tweetPage = new PageImpl<>(List.of(tweet1, tweet2), pageable, 2);
+
+            when(tweetRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(eq(testUserId), eq(pageable)))
+                .thenReturn(tweetPage);
+            when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
+            when(tweetMapper.toResponseDto(tweet2)).thenReturn(responseDto2);
+            when(likeRepository.findTweetIdsByUserIdAndTweetIdAny(eq(viewerId), any(UUID[].class)))
+                .thenReturn(List.of(tweetId1));
+            when(retweetRepository.findTweetIdsByUserIdAndTweetIdAny(eq(viewerId), any(UUID[].class)))
+                .thenReturn(List.of(tweetId2));
+
+            Page<TweetResponseDto> result = tweetService.getUserTweets(testUserId, viewerId, pageable);
+
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent().get(0).likedByViewer()).isTrue();
+            assertThat(result.getContent().get(0).retweetedByViewer()).isFalse();
+            assertThat(result.getContent().get(1).likedByViewer()).isFalse();
+            assertThat(result.getContent().get(1).retweetedByViewer()).isTrue();
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            verify(likeRepository, times(1))
+                .findTweetIdsByUserIdAndTweetIdAny(eq(viewerId), eq(new UUID[]{tweetId1, tweetId2}));
+            verify(retweetRepository, times(1))
+                .findTweetIdsByUserIdAndTweetIdAny(eq(viewerId), eq(new UUID[]{tweetId1, tweetId2}));
+        }
+
+        @Test
+        void getUserTweets_WithoutViewerId_ShouldNotQueryViewerState() {
+            Page<Tweet> tweetPage = new PageImpl<>(List.of(tweet1), pageable, 1);
+
+            when(tweetRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(eq(testUserId), eq(pageable)))
+                .thenReturn(tweetPage);
+            when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
+
+            Page<TweetResponseDto> result = tweetService.getUserTweets(testUserId, null, pageable);
+
+            assertThat(result.getContent().get(0).likedByViewer()).isNull();
+            assertThat(result.getContent().get(0).retweetedByViewer()).isNull();
+            verifyNoInteractions(likeRepository, retweetRepository);
+        }
+    }
+
+    @Nested
+    class GetAuthorStatsTests {
+
+        private final UUID authorId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        @Test
+        void getAuthorStats_WhenSummaryExists_ShouldReturnMappedSummary() {
+            AuthorStats stats = AuthorStats.builder()
+                .userId(authorId)
+                .tweetsCount(42L)
+                .likesReceived(1280L)
+                .retweetsReceived(97L)
+                .lastTweetAt(LocalDateTime.of(2025, 1, 21, 20, 30, 0))
+                .build();
+            AuthorStatsResponseDto expected = AuthorStatsResponseDto.builder()
+                .userId(authorId)
+                .tweetsCount(42L)
+                .likesReceived(1280L)
+                .retweetsReceived(97L)
+                .lastTweetAt(LocalDateTime.of(2025, 1, 21, 20, 30, 0))
+                .build();
+            when(authorStatsRepository.findById(authorId)).thenReturn(Optional.of(stats));
+            when(tweetMapper.toAuthorStatsResponseDto(stats)).thenReturn(expected);
+
+            AuthorStatsResponseDto result = tweetService.getAuthorStats(authorId);
+
+            assertThat(result).isEqualTo(expected);
+            verify(tweetRepository, never()).findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(any(), any());
+        }
+
+        @Test
+        void getAuthorStats_WhenSummaryMissing_ShouldReturnZeroSummary() {
+            when(authorStatsRepository.findById(authorId)).thenReturn(Optional.empty());
+
+            AuthorStatsResponseDto result = tweetService.getAuthorStats(authorId);
+
+            assertThat(result.userId()).isEqualTo(authorId);
+            assertThat(result.tweetsCount()).isZero();
+            assertThat(result.likesReceived()).isZero();
+            assertThat(result.retweetsReceived()).isZero();
+            assertThat(result.lastTweetAt()).isNull();
+            verify(tweetMapper, never()).toAuthorStatsResponseDto(any());
+        }
     }
 
     @Nested
@@ -637,20 +949,54 @@ class TweetServiceImplTest {
             pageable = PageRequest.of(0, 20);
         }
 
+        private UUID[] followingIdArray(List<UUID> followingUserIds) {
+            return FollowingSet.of(followingUserIds).toList().toArray(UUID[]::new);
+        }
+
+        private TimelineActivity activity(UUID userId, UUID tweetId, LocalDateTime activityAt, boolean retweet) {
+            return new TimelineActivity() {
+                @Override
+                public UUID getUserId() {
+                    return userId;
+                }
+
+                @Override
+                public UUID getTweetId() {
+                    return tweetId;
+                }
+
+                @Override
+                public LocalDateTime getActivityAt() {
+                    return activityAt;
+                }
+
+                @Override
+                public boolean getRetweet() {
+                    return retweet;
+                }
+            };
+        }
+
+        private void stubTimelinePage(List<UUID> followingUserIds, Pageable page, List<TimelineActivity> activities) {
+            when(tweetRepository.findTimelinePage(eq(followingIdArray(followingUserIds)),
+                eq(page.getOffset() + page.getPageSize()), eq(page.getOffset()), eq(page.getPageSize())))
+                .thenReturn(activities);
+        }
+
         @Test
         void getTimeline_WhenFollowingUsersHaveTweets_ShouldReturnPageWithTweets() {
             List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
-            List<Tweet> tweets = List.of(tweet1, tweet2);
-            Page<Tweet> tweetPage = new PageImpl<>(tweets, pageable, 2);
 
             doNothing().when(tweetValidator).validateForTimeline(testUserId);
-            when(followerGateway.getFollowingUserIds(testUserId)).thenReturn(followingUserIds);
-            when(tweetRepository.findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(eq(followingUserIds), eq(pageable)))
-                .thenReturn(tweetPage);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            stubTimelinePage(followingUserIds, pageable, List.of(
+                activity(followingUserId1, tweet1.getId(), tweet1.getCreatedAt(), false),
+                activity(followingUserId2, tweet2.getId(), tweet2.getCreatedAt(), false)));
+            when(tweetRepository.findAllByIdAny(any())).thenReturn(List.of(tweet1, tweet2));
             when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
             when(tweetMapper.toResponseDto(tweet2)).thenReturn(responseDto2);
 
-            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, pageable);
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
 
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(2);
@@ -666,9 +1012,9 @@ class TweetServiceImplTest {
             List<UUID> emptyFollowingUserIds = List.of();
 
             doNothing().when(tweetValidator).validateForTimeline(testUserId);
-            when(followerGateway.getFollowingUserIds(testUserId)).thenReturn(emptyFollowingUserIds);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(emptyFollowingUserIds));
 
-            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, pageable);
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
 
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
@@ -681,14 +1027,12 @@ class TweetServiceImplTest {
         @Test
         void getTimeline_WhenFollowingUsersHaveNoTweets_ShouldReturnEmptyPage() {
             List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
-            Page<Tweet> emptyTweetPage = new PageImpl<>(List.of(), pageable, 0);
 
             doNothing().when(tweetValidator).validateForTimeline(testUserId);
-            when(followerGateway.getFollowingUserIds(testUserId)).thenReturn(followingUserIds);
-            when(tweetRepository.findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(eq(followingUserIds), eq(pageable)))
-                .thenReturn(emptyTweetPage);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            stubTimelinePage(followingUserIds, pageable, List.of());
 
-            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, pageable);
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
 
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
@@ -701,26 +1045,148 @@ class TweetServiceImplTest {
         @Test
         void getTimeline_WhenFollowingUsersHaveTweets_ShouldCallEachDependencyExactlyOnce() {
             List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
-            List<Tweet> tweets = List.of(tweet1, tweet2);
-            Page<Tweet> tweetPage = new PageImpl<>(tweets, pageable, 2);
 
             doNothing().when(tweetValidator).validateForTimeline(testUserId);
-            when(followerGateway.getFollowingUserIds(testUserId)).thenReturn(followingUserIds);
-            when(tweetRepository.findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(eq(followingUserIds), eq(pageable)))
-                .thenReturn(tweetPage);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            stubTimelinePage(followingUserIds, pageable, List.of(
+                activity(followingUserId1, tweet1.getId(), tweet1.getCreatedAt(), false),
+                activity(followingUserId2, tweet2.getId(), tweet2.getCreatedAt(), false)));
+            when(tweetRepository.findAllByIdAny(any())).thenReturn(List.of(tweet1, tweet2));
             when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
             when(tweetMapper.toResponseDto(tweet2)).thenReturn(responseDto2);
 
-            tweetService.getTimeline(testUserId, pageable);
+            tweetService.getTimeline(testUserId, null, pageable);
 
             verify(tweetValidator, times(1)).validateForTimeline(eq(testUserId));
-            verify(followerGateway, times(1)).getFollowingUserIds(eq(testUserId));
-            verify(tweetRepository, times(1))
-                .findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(eq(followingUserIds), eq(pageable));
+            verify(followingSetCache, times(1)).get(eq(testUserId), any());
+            verify(tweetRepository, times(1)).findTimelinePage(eq(followingIdArray(followingUserIds)), eq(20L), eq(0L), eq(20));
+            verify(tweetRepository, times(1)).findAllByIdAny(any());
+            verify(tweetRepository, never()).countTimelineActivity(any());
             verify(tweetMapper, times(1)).toResponseDto(eq(tweet1));
             verify(tweetMapper, times(1)).toResponseDto(eq(tweet2));
         }
 
+        @Test
+        void getTimeline_WhenFollowedUserRetweeted_ShouldAttributeRetweeter() {
+            List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
+            LocalDateTime retweetedAt = LocalDateTime.of(2024, 1, 16, 8, 0, 0);
+
+            doNothing().when(tweetValidator).validateForTimeline(testUserId);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            stubTimelinePage(followingUserIds, pageable, List.of(
+                activity(followingUserId2, tweet1.getId(), retweetedAt, true),
+                activity(followingUserId2, tweet2.getId(), tweet2.getCreatedAt(), false)));
+            when(hotTweetCache.getIfPresent(tweet1.getId())).thenReturn(Optional.of(responseDto1));
+            when(hotTweetCache.getIfPresent(tweet2.getId())).thenReturn(Optional.of(responseDto2));
+
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
+
+            assertThat(result.getContent()).containsExactly(
+                responseDto1.toBuilder().retweetedBy(followingUserId2).retweetedAt(retweetedAt).build(),
+                responseDto2);
+            verify(tweetRepository, never()).findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(any(), any());
+        }
+
+        @Test
+        void getTimeline_WhenPageIsFull_ShouldCountTimelineActivity() {
+            List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
+            Pageable firstPage = PageRequest.of(0, 1);
+
+            doNothing().when(tweetValidator).validateForTimeline(testUserId);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            stubTimelinePage(followingUserIds, firstPage, List.of(
+                activity(followingUserId1, tweet1.getId(), tweet1.getCreatedAt(), false)));
+            when(hotTweetCache.getIfPresent(tweet1.getId())).thenReturn(Optional.of(responseDto1));
+            when(tweetRepository.countTimelineActivity(eq(followingIdArray(followingUserIds)))).thenReturn(5L);
+
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, firstPage);
+
+            assertThat(result.getContent()).containsExactly(responseDto1);
+            assertThat(result.getTotalElements()).isEqualTo(5);
+        }
+
+        @Test
+        void getTimeline_WhenSortedByOtherProperty_ShouldReadOriginalTweets() {
+            List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
+            Pageable byUpdate = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+            doNothing().when(tweetValidator).validateForTimeline(testUserId);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            when(tweetRepository.findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(eq(FollowingSet.of(followingUserIds).toList()), eq(byUpdate)))
+                .thenReturn(new PageImpl<>(List.of(tweet1, tweet2), byUpdate, 2));
+            when(tweetMapper.toResponseDto(tweet1)).thenReturn(responseDto1);
+            when(tweetMapper.toResponseDto(tweet2)).thenReturn(responseDto2);
+
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, byUpdate);
+
+            assertThat(result.getContent()).containsExactly(responseDto1, responseDto2);
+            verify(tweetRepository, never()).findTimelinePage(any(), anyLong(), anyLong(), anyInt());
+            verifyNoInteractions(authorTimelineCache);
+        }
+
+        @Test
+        void getTimeline_WhenAuthorWindowsCoverPage_ShouldMergeWithoutTimelineQuery() {
+            List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
+            AuthorTimeline timeline1 = AuthorTimeline.of(List.of(tweet1.getId()), List.of(tweet1.getCreatedAt()), 1);
+            AuthorTimeline timeline2 = AuthorTimeline.of(List.of(tweet2.getId()), List.of(tweet2.getCreatedAt()), 1);
+
+            doNothing().when(tweetValidator).validateForTimeline(testUserId);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            when(authorTimelineCache.canMerge(0L)).thenReturn(true);
+            when(authorTimelineCache.getAll(eq(FollowingSet.of(followingUserIds).toList()), any()))
+                .thenReturn(List.of(timeline1, timeline2));
+            when(hotTweetCache.getIfPresent(tweet1.getId())).thenReturn(Optional.of(responseDto1));
+            when(hotTweetCache.getIfPresent(tweet2.getId())).thenReturn(Optional.of(responseDto2));
+
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
+
+            assertThat(result.getContent()).containsExactly(responseDto1, responseDto2);
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            verify(tweetRepository, never()).findTimelinePage(any(), anyLong(), anyLong(), anyInt());
+            verifyNoInteractions(tweetMapper);
+        }
+
+        @Test
+        void getTimeline_WhenAuthorWindowHoldsRetweet_ShouldMergeAttributedEntry() {
+            List<UUID> followingUserIds = FollowingSet.of(List.of(followingUserId1, followingUserId2)).toList();
+            LocalDateTime retweetedAt = LocalDateTime.of(2024, 1, 16, 8, 0, 0);
+            AuthorTimeline retweets = AuthorTimeline.of(
+                List.of(tweet1.getId()), List.of(retweetedAt), List.of(true), 1, 10);
+            AuthorTimeline tweets = AuthorTimeline.of(List.of(tweet1.getId()), List.of(tweet1.getCreatedAt()), 1);
+
+            doNothing().when(tweetValidator).validateForTimeline(testUserId);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            when(authorTimelineCache.canMerge(0L)).thenReturn(true);
+            when(authorTimelineCache.getAll(eq(followingUserIds), any())).thenReturn(List.of(retweets, tweets));
+            when(hotTweetCache.getIfPresent(tweet1.getId())).thenReturn(Optional.of(responseDto1));
+
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
+
+            assertThat(result.getContent()).containsExactly(
+                responseDto1.toBuilder().retweetedBy(followingUserIds.getFirst()).retweetedAt(retweetedAt).build());
+        }
+
+        @Test
+        void getTimeline_WhenAuthorWindowsDoNotCoverPage_ShouldFallBackToQuery() {
+            List<UUID> followingUserIds = List.of(followingUserId1, followingUserId2);
+            AuthorTimeline truncated = AuthorTimeline.of(List.of(tweet1.getId()), List.of(tweet1.getCreatedAt()), 5);
+
+            doNothing().when(tweetValidator).validateForTimeline(testUserId);
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(followingUserIds));
+            when(authorTimelineCache.canMerge(0L)).thenReturn(true);
+            when(authorTimelineCache.getAll(any(), any())).thenReturn(List.of(truncated, AuthorTimeline.EMPTY));
+            stubTimelinePage(followingUserIds, pageable, List.of(
+                activity(followingUserId1, tweet1.getId(), tweet1.getCreatedAt(), false),
+                activity(followingUserId2, tweet2.getId(), tweet2.getCreatedAt(), false)));
+            when(hotTweetCache.getIfPresent(tweet1.getId())).thenReturn(Optional.of(responseDto1));
+            when(hotTweetCache.getIfPresent(tweet2.getId())).thenReturn(Optional.of(responseDto2));
+
+            Page<TweetResponseDto> result = tweetService.getTimeline(testUserId, null, pageable);
+
+            assertThat(result.getContent()).containsExactly(responseDto1, responseDto2);
+            verify(tweetRepository, times(1)).findTimelinePage(eq(followingIdArray(followingUserIds)), eq(20L), eq(0L), eq(20));
+        }
+
         @Test
         void getTimeline_WhenValidationFails_ShouldThrowBusinessRuleValidationException() {
             BusinessRuleValidationException validationException = new BusinessRuleValidationException(
@@ -730,15 +1196,310 @@ class TweetServiceImplTest {
             doThrow(validationException)
                 .when(tweetValidator).validateForTimeline(testUserId);
 
-            assertThatThrownBy(() -> tweetService.getTimeline(testUserId, pageable))
+            assertThatThrownBy(() -> tweetService.getTimeline(testUserId, null, pageable))
                 .isInstanceOf(BusinessRuleValidationException.class)
                 .isEqualTo(validationException);
 
             verify(tweetValidator, times(1)).validateForTimeline(eq(testUserId));
-            verify(followerGateway, never()).getFollowingUserIds(any());
-            verify(tweetRepository, never())
-                .findByUserIdInAndIsDeletedFalseOrderByCreatedAtDesc(any(), any());
+            verify(followingSetCache, never()).get(any(), any());
+            verify(tweetRepository, never()).findTimelinePage(any(), anyLong(), anyLong(), anyInt());
             verifyNoInteractions(tweetMapper);
         }
     }
+
+    @Nested
+    class GetRankedTimelineTests {
+
+        private UUID testUserId;
+        private UUID followingUserId;
+        private TweetResponseDto firstResponseDto;
+        private TweetResponseDto secondResponseDto;
+        private TweetResponseDto thirdResponseDto;
+
+        @BeforeEach
+        void setUp() {
+            testUserId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            followingUserId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+            firstResponseDto = TweetResponseDto.builder()
+                .id(UUID.fromString("423e4567-e89b-12d3-a456-426614174003"))
+                .userId(followingUserId)
+                .content("Most engaging")
+                .build();
+            secondResponseDto = TweetResponseDto.builder()
+                .id(UUID.fromString("523e4567-e89b-12d3-a456-426614174004"))
+                .userId(followingUserId)
+                .content("Second")
+                .build();
+            thirdResponseDto = TweetResponseDto.builder()
+                .id(UUID.fromString("623e4567-e89b-12d3-a456-426614174005"))
+                .userId(followingUserId)
+                .content("Third")
+                .build();
+        }
+
+        private void stubRanking(List<UUID> rankedIds) {
+            when(rankedTimelineCache.get(eq(testUserId), any())).thenAnswer(invocation ->
+                invocation.<Function<UUID, List<UUID>>>getArgument(1).apply(testUserId));
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(List.of(followingUserId)));
+            when(timelineRanker.maxCandidatesPerAuthor()).thenReturn(50);
+            when(timelineRanker.maxCandidates()).thenReturn(2000);
+            when(tweetRepository.findTimelineCandidates(eq(new UUID[]{followingUserId}), any(), eq(50), eq(2000)))
+                .thenReturn(List.of());
+            when(timelineRanker.rank(eq(List.of()), any())).thenReturn(rankedIds);
+        }
+
+        @Test
+        void getRankedTimeline_ShouldReturnRequestedSliceOfRanking() {
+            stubRanking(List.of(firstResponseDto.id(), secondResponseDto.id(), thirdResponseDto.id()));
+            when(hotTweetCache.getIfPresent(thirdResponseDto.id())).thenReturn(Optional.of(thirdResponseDto));
+
+            Page<TweetResponseDto> result = tweetService.getRankedTimeline(testUserId, null, PageRequest.of(1, 2));
+
+            assertThat(result.getContent()).containsExactly(thirdResponseDto);
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            verify(hotTweetCache, never()).getIfPresent(eq(firstResponseDto.id()));
+            verify(hotTweetCache, never()).getIfPresent(eq(secondResponseDto.id()));
+        }
+
+        @Test
+        void getRankedTimeline_ShouldKeepRankingOrder() {
+            stubRanking(List.of(secondResponseDto.id(), firstResponseDto.id()));
+            when(hotTweetCache.getIfPresent(firstResponseDto.id())).thenReturn(Optional.of(firstResponseDto));
+            when(hotTweetCache.getIfPresent(secondResponseDto.id())).thenReturn(Optional.of(secondResponseDto));
+
+            Page<TweetResponseDto> result = tweetService.getRankedTimeline(testUserId, null, PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).containsExactly(secondResponseDto, firstResponseDto);
+            verify(tweetRepository, never()).findAllByIdAny(any());
+        }
+
+        @Test
+        void getRankedTimeline_WhenTweetWasDeletedSinceRanking_ShouldSkipIt() {
+            when(rankedTimelineCache.get(eq(testUserId), any()))
+                .thenReturn(List.of(firstResponseDto.id(), secondResponseDto.id()));
+            when(hotTweetCache.getIfPresent(firstResponseDto.id())).thenReturn(Optional.of(firstResponseDto));
+            when(tweetRepository.findAllByIdAny(eq(new UUID[]{secondResponseDto.id()}))).thenReturn(List.of(
+                Tweet.builder().id(secondResponseDto.id()).userId(followingUserId).content("Second").isDeleted(true).build()));
+
+            Page<TweetResponseDto> result = tweetService.getRankedTimeline(testUserId, null, PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).containsExactly(firstResponseDto);
+            verifyNoInteractions(timelineRanker);
+        }
+
+        @Test
+        void getRankedTimeline_WhenNoFollowingUsers_ShouldReturnEmptyPageWithoutQuery() {
+            when(rankedTimelineCache.get(eq(testUserId), any())).thenAnswer(invocation ->
+                invocation.<Function<UUID, List<UUID>>>getArgument(1).apply(testUserId));
+            when(followingSetCache.get(eq(testUserId), any())).thenReturn(FollowingSet.of(List.of()));
+
+            Page<TweetResponseDto> result = tweetService.getRankedTimeline(testUserId, null, PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isZero();
+            verify(tweetRepository, never()).findTimelineCandidates(any(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        void getRankedTimeline_WhenValidationFails_ShouldNotRank() {
+            BusinessRuleValidationException validationException = new BusinessRuleValidationException(
+                "USER_NOT_EXISTS",
+                testUserId
+            );
+            doThrow(validationException).when(tweetValidator).validateForTimeline(testUserId);
+
+            assertThatThrownBy(() -> tweetService.getRankedTimeline(testUserId, null, PageRequest.of(0, 20)))
+                .isEqualTo(validationException);
+            verifyNoInteractions(rankedTimelineCache, timelineRanker);
+        }
+    }
+
+    @Nested
+    class SearchTweetsTests {
+
+        private Tweet firstTweet;
+        private Tweet secondTweet;
+        private TweetResponseDto firstResponseDto;
+        private TweetResponseDto secondResponseDto;
+
+        @BeforeEach
+        void setUp() {
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            firstTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174001"))
+                .userId(userId)
+                .content("postgres search")
+                .isDeleted(false)
+                .build();
+            secondTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174002"))
+                .userId(userId)
+                .content("postgres")
+                .isDeleted(false)
+                .build();
+            firstResponseDto = TweetResponseDto.builder().id(firstTweet.getId()).build();
+            secondResponseDto = TweetResponseDto.builder().id(secondTweet.getId()).build();
+        }
+
+        @Test
+        void searchTweets_WhenMoreHitsThanLimit_ShouldReturnPageWithNextCursor() {
+            UUID extraId = UUID.fromString("223e4567-e89b-12d3-a456-426614174003");
+            when(tweetRepository.search("postgres", 3)).thenReturn(List.of(
+                hit(firstTweet.getId(), 0.5f), hit(secondTweet.getId(), 0.25f), hit(extraId, 0.125f)));
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(secondTweet, firstTweet));
+            when(tweetMapper.toResponseDto(firstTweet)).thenReturn(firstResponseDto);
+            when(tweetMapper.toResponseDto(secondTweet)).thenReturn(secondResponseDto);
+
+            TweetSearchResponseDto result = tweetService.searchTweets("postgres", null, 2);
+
+            assertThat(result.tweets()).containsExactly(firstResponseDto, secondResponseDto);
+            assertThat(TweetSearchCursor.decode(result.nextCursor()))
+                .isEqualTo(new TweetSearchCursor(0.25f, secondTweet.getId()));
+            verify(tweetValidator, times(1)).validateForSearch("postgres", 2);
+        }
+
+        @Test
+        void searchTweets_WithCursor_ShouldSearchAfterCursorWithoutNextCursor() {
+            UUID afterId = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+            String cursor = new TweetSearchCursor(0.75f, afterId).encode();
+            when(tweetRepository.searchAfter("postgres", 0.75f, afterId, 3))
+                .thenReturn(List.of(hit(firstTweet.getId(), 0.5f)));
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(firstTweet));
+            when(tweetMapper.toResponseDto(firstTweet)).thenReturn(firstResponseDto);
+
+            TweetSearchResponseDto result = tweetService.searchTweets("postgres", cursor, 2);
+
+            assertThat(result.tweets()).containsExactly(firstResponseDto);
+            assertThat(result.nextCursor()).isNull();
+            verify(tweetRepository, never()).search(any(), anyInt());
+        }
+
+        @Test
+        void searchTweets_WhenHitWasDeletedMeanwhile_ShouldSkipIt() {
+            Tweet deletedTweet = Tweet.builder()
+                .id(secondTweet.getId())
+                .userId(secondTweet.getUserId())
+                .content(secondTweet.getContent())
+                .isDeleted(true)
+                .build();
+            when(tweetRepository.search("postgres", 3)).thenReturn(List.of(
+                hit(firstTweet.getId(), 0.5f), hit(secondTweet.getId(), 0.25f)));
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(firstTweet, deletedTweet));
+            when(tweetMapper.toResponseDto(firstTweet)).thenReturn(firstResponseDto);
+
+            TweetSearchResponseDto result = tweetService.searchTweets("postgres", null, 2);
+
+            assertThat(result.tweets()).containsExactly(firstResponseDto);
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        void searchTweets_WhenValidationFails_ShouldNotQueryRepository() {
+            doThrow(new FormatValidationException("q", "EMPTY_QUERY", "Search query cannot be empty"))
+                .when(tweetValidator).validateForSearch(" ", 20);
+
+            assertThatThrownBy(() -> tweetService.searchTweets(" ", null, 20))
+                .isInstanceOf(FormatValidationException.class);
+
+            verify(tweetRepository, never()).search(any(), anyInt());
+            verify(tweetRepository, never()).searchAfter(any(), anyFloat(), any(), anyInt());
+        }
+
+        @Test
+        void searchTweets_WithMalformedCursor_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> tweetService.searchTweets("postgres", "not-a-cursor", 20))
+                .isInstanceOf(FormatValidationException.class);
+
+            verify(tweetRepository, never()).searchAfter(any(), anyFloat(), any(), anyInt());
+        }
+
+        private static TweetSearchHit hit(UUID id, float rank) {
+            return new TweetSearchHit() {
+                @Override
+                public UUID getId() {
+                    return id;
+                }
+
+                @Override
+                public float getRank() {
+                    return rank;
+                }
+            };
+        }
+    }
+
+    @Nested
+    class GetHashtagTweetsTests {
+
+        private Tweet newerTweet;
+        private Tweet olderTweet;
+        private TweetResponseDto newerResponseDto;
+        private TweetResponseDto olderResponseDto;
+
+        @BeforeEach
+        void setUp() {
+            UUID userId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            newerTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174001"))
+                .userId(userId)
+                .content("Newer #java")
+                .createdAt(LocalDateTime.of(2025, 1, 2, 10, 0))
+                .isDeleted(false)
+                .build();
+            olderTweet = Tweet.builder()
+                .id(UUID.fromString("223e4567-e89b-12d3-a456-426614174002"))
+                .userId(userId)
+                .content("Older #java")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .isDeleted(false)
+                .build();
+            newerResponseDto = TweetResponseDto.builder().id(newerTweet.getId()).build();
+            olderResponseDto = TweetResponseDto.builder().id(olderTweet.getId()).build();
+        }
+
+        @Test
+        void getHashtagTweets_WhenMoreRowsThanLimit_ShouldReturnPageWithNextCursor() {
+            when(tweetHashtagRepository.findLatestByTag("java", 2)).thenReturn(List.of(row(newerTweet), row(olderTweet)));
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(newerTweet));
+            when(tweetMapper.toResponseDto(newerTweet)).thenReturn(newerResponseDto);
+
+            HashtagFeedResponseDto result = tweetService.getHashtagTweets("#Java", null, 1);
+
+            assertThat(result.tag()).isEqualTo("java");
+            assertThat(result.tweets()).containsExactly(newerResponseDto);
+            assertThat(HashtagFeedCursor.decode(result.nextCursor()))
+                .isEqualTo(new HashtagFeedCursor(newerTweet.getCreatedAt(), newerTweet.getId()));
+            verify(tweetValidator, times(1)).validateForHashtagFeed("#Java", 1);
+        }
+
+        @Test
+        void getHashtagTweets_WithCursor_ShouldReadRowsBeforeCursor() {
+            String cursor = new HashtagFeedCursor(newerTweet.getCreatedAt(), newerTweet.getId()).encode();
+            when(tweetHashtagRepository.findLatestByTagBefore("java", newerTweet.getCreatedAt(), newerTweet.getId(), 2))
+                .thenReturn(List.of(row(olderTweet)));
+            when(tweetRepository.findAllByIdAny(any(UUID[].class))).thenReturn(List.of(olderTweet));
+            when(tweetMapper.toResponseDto(olderTweet)).thenReturn(olderResponseDto);
+
+            HashtagFeedResponseDto result = tweetService.getHashtagTweets("java", cursor, 1);
+
+            assertThat(result.tweets()).containsExactly(olderResponseDto);
+            assertThat(result.nextCursor()).isNull();
+            verify(tweetHashtagRepository, never()).findLatestByTag(any(), anyInt());
+        }
+
+        @Test
+        void getHashtagTweets_WhenValidationFails_ShouldNotQueryIndex() {
+            doThrow(new FormatValidationException("tag", "INVALID_HASHTAG", "Invalid hashtag"))
+                .when(tweetValidator).validateForHashtagFeed("123", 20);
+
+            assertThatThrownBy(() -> tweetService.getHashtagTweets("123", null, 20))
+                .isInstanceOf(FormatValidationException.class);
+
+            verifyNoInteractions(tweetHashtagRepository);
+        }
+
+        private static TweetHashtag row(Tweet tweet) {
+            return new TweetHashtag("java", tweet.getCreatedAt(), tweet.getId());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.twitter.stream;
+
+import com.twitter.cache.FollowingSet;
+import com.twitter.common.dto.event.FollowEventDto;
+import com.twitter.common.dto.response.tweet.TweetResponseDto;
+import com.twitter.common.enums.follow.FollowEventType;
+import com.twitter.config.TimelineStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+class TimelineStreamHubTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimelineStreamHub hub;
+    private UUID readerId;
+    private UUID authorId;
+    private UUID otherAuthorId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new TimelineStreamHub(
+            new TimelineStreamProperties(2, 2, Duration.ofMinutes(1), Duration.ofSeconds(30)), meterRegistry);
+        readerId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        authorId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        otherAuthorId = UUID.fromString("323e4567-e89b-12d3-a456-426614174002");
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    private static TweetResponseDto tweet(UUID userId) {
+        return TweetResponseDto.builder()
+            .id(UUID.randomUUID())
+            .userId(userId)
+            .content("Hello World")
+            .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
+            .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
+            .build();
+    }
+
+    private static FollowEventDto event(FollowEventType type, UUID followerId, UUID followingId) {
+        return FollowEventDto.builder()
+            .id(1L)
+            .type(type)
+            .followerId(followerId)
+            .followingId(followingId)
+            .occurredAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
+            .build();
+    }
+
+    /**
+     * Creates an emitter mock counting down the latch on every write.
+     * <p>
+     * The emitter methods are synchronized, so they are awaited through latches instead of
+     * verification with a timeout, which would hold the emitter monitor while waiting.
+     */
+    private static SseEmitter emitter(CountDownLatch sent) throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sent.countDown();
+            return null;
+        }).when(emitter).send(anySet());
+        return emitter;
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hub.connections() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(hub.connections()).isEqualTo(expected);
+    }
+
+    @Test
+    void publish_ShouldSendTweetOnlyToStreamsFollowingAuthor() throws Exception {
+        CountDownLatch sent = new CountDownLatch(1);
+        SseEmitter emitter = emitter(sent);
+        hub.register(readerId, FollowingSet.of(List.of(authorId)), emitter);
+
+        hub.publish(tweet(otherAuthorId));
+        hub.publish(tweet(authorId));
+
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(emitter, times(1)).send(anySet());
+    }
+
+    @Test
+    void apply_ShouldUpdateAuthorsOfOpenStreams() throws Exception {
+        CountDownLatch sent = new CountDownLatch(1);
+        SseEmitter emitter = emitter(sent);
+        hub.register(readerId, FollowingSet.of(List.of(authorId)), emitter);
+
+        hub.apply(List.of(
+            event(FollowEventType.FOLLOWED, readerId, otherAuthorId),
+            event(FollowEventType.UNFOLLOWED, readerId, authorId)));
+        hub.publish(tweet(authorId));
+        hub.publish(tweet(otherAuthorId));
+
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(emitter, times(1)).send(anySet());
+    }
+
+    @Test
+    void publish_WhenClientDoesNotKeepUp_ShouldCloseStream() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emitter).send(anySet());
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(emitter).complete();
+        hub.register(readerId, FollowingSet.of(List.of(authorId)), emitter);
+
+        hub.publish(tweet(authorId));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        hub.publish(tweet(authorId));
+        hub.publish(tweet(authorId));
+        hub.publish(tweet(authorId));
+        release.countDown();
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.connections()).isZero();
+        assertThat(meterRegistry.get("timeline.stream.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void apply_WhenStreamsFollowAndUnfollowAuthorConcurrently_ShouldKeepFinalFollows() throws Exception {
+        UUID otherReaderId = UUID.randomUUID();
+        CountDownLatch sent = new CountDownLatch(2);
+        SseEmitter emitter = emitter(sent);
+        SseEmitter otherEmitter = emitter(sent);
+        hub.register(readerId, FollowingSet.empty(), emitter);
+        hub.register(otherReaderId, FollowingSet.empty(), otherEmitter);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (UUID followerId : List.of(readerId, otherReaderId)) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        hub.apply(List.of(event(FollowEventType.FOLLOWED, followerId, authorId)));
+                        hub.apply(List.of(event(FollowEventType.UNFOLLOWED, followerId, authorId)));
+                    }
+                    hub.apply(List.of(event(FollowEventType.FOLLOWED, followerId, authorId)));
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        hub.publish(tweet(authorId));
+
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(emitter, times(1)).send(anySet());
+        verify(otherEmitter, times(1)).send(anySet());
+    }
+
+    @Test
+    void register_WhenConnectionLimitIsReached_ShouldThrowServiceUnavailable() {
+        hub.register(readerId, FollowingSet.empty(), mock(SseEmitter.class));
+        hub.register(readerId, FollowingSet.empty(), mock(SseEmitter.class));
+
+        assertThatThrownBy(() -> hub.register(readerId, FollowingSet.empty(), mock(SseEmitter.class)))
+            .isInstanceOf(ResponseStatusException.class)
+            .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+            .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(hub.connections()).isEqualTo(2);
+    }
+
+    @Test
+    void sendHeartbeats_WhenStreamIsGone_ShouldCloseIt() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(anySet());
+        hub.register(readerId, FollowingSet.of(List.of(authorId)), emitter);
+
+        hub.sendHeartbeats();
+
+        awaitConnections(0);
+        verify(emitter, times(1)).send(anySet());
+        verify(emitter, never()).complete();
+    }
+}
\ No newline at end of file
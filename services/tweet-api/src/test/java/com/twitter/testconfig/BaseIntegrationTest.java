@@ -119,44 +119,22 @@ public abstract class BaseIntegrationTest {
     }
 
     /**
-     * Sets up WireMock stub for follower-api getFollowing endpoint.
+     * Sets up WireMock stub for follower-api getFollowingIds endpoint.
      *
      * @param userId           the user ID whose following list to retrieve
      * @param followingUserIds list of following user IDs to return
-     * @param page             page number (default: 0)
-     * @param size             page size (default: 100)
      */
-    protected void setupFollowingStub(UUID userId, List<UUID> followingUserIds, int page, int size) {
+    protected void setupFollowingStub(UUID userId, List<UUID> followingUserIds) {
         if (wireMockServer == null) {
             return;
         }
 
-        List<Map<String, String>> content = followingUserIds.stream()
-            .map(followingId -> Map.of(
-                "id", followingId.toString(),
-                "login", "user_" + followingId.toString().substring(0, 8),
-                "createdAt", "2025-01-20T15:30:00Z"
-            ))
-            .toList();
-
-        Map<String, Object> responseBody = Map.of(
-            "content", content,
-            "page", Map.of(
-                "size", size,
-                "number", page,
-                "totalElements", followingUserIds.size(),
-                "totalPages", (followingUserIds.size() + size - 1) / size
-            )
-        );
-
         try {
             ObjectMapper objectMapper = new ObjectMapper();
-            String responseJson = objectMapper.writeValueAsString(responseBody);
+            String responseJson = objectMapper.writeValueAsString(followingUserIds);
 
             wireMockServer.stubFor(
-                get(urlPathEqualTo("/api/v1/follows/" + userId + "/following"))
-                    .withQueryParam("page", equalTo(String.valueOf(page)))
-                    .withQueryParam("size", equalTo(String.valueOf(size)))
+                get(urlPathEqualTo("/api/v1/follows/" + userId + "/following/ids"))
                     .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
@@ -168,16 +146,16 @@ public abstract class BaseIntegrationTest {
     }
 
     /**
-     * Sets up WireMock stub for follower-api getFollowing endpoint with empty result.
+     * Sets up WireMock stub for follower-api getFollowingIds endpoint with empty result.
      *
      * @param userId the user ID whose following list to retrieve
      */
     protected void setupFollowingStubEmpty(UUID userId) {
-        setupFollowingStub(userId, Collections.emptyList(), 0, 100);
+        setupFollowingStub(userId, Collections.emptyList());
     }
 
     /**
-     * Sets up WireMock stub for follower-api getFollowing endpoint with error response.
+     * Sets up WireMock stub for follower-api getFollowingIds endpoint with error response.
      *
      * @param userId     the user ID whose following list to retrieve
      * @param statusCode HTTP status code to return
@@ -188,15 +166,7 @@ public abstract class BaseIntegrationTest {
         }
 
         wireMockServer.stubFor(
-            get(urlPathMatching("/api/v1/follows/" + userId + "/following.*"))
-                .willReturn(aResponse()
-                    .withStatus(statusCode)
-                    .withHeader("Content-Type", "application/json")
-                    .withBody("{\"error\":\"Internal Server Error\"}"))
-        );
-
-        wireMockServer.stubFor(
-            get(urlPathEqualTo("/api/v1/follows/" + userId + "/following"))
+            get(urlPathEqualTo("/api/v1/follows/" + userId + "/following/ids"))
                 .willReturn(aResponse()
                     .withStatus(statusCode)
                     .withHeader("Content-Type", "application/json")
@@ -0,0 +1,155 @@
+package com.twitter.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingCountMinSketchTest {
+
+    private static final long BUCKET_MILLIS = 1_000L;
+    private static final long NOW = 1_700_000_000_000L;
+
+    private SlidingCountMinSketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        sketch = new SlidingCountMinSketch(4, 1024, 6, BUCKET_MILLIS);
+    }
+
+    @Nested
+    class EstimateTests {
+
+        @Test
+        void estimate_WhenKeyWasNotAdded_ShouldReturnZero() {
+            assertThat(sketch.estimate(42L, NOW)).isZero();
+        }
+
+        @Test
+        void estimate_ShouldSumCountsOfAllBucketsInWindow() {
+            sketch.add(42L, 2, NOW);
+            sketch.add(42L, 3, NOW + BUCKET_MILLIS);
+            sketch.add(42L, 5, NOW + 5 * BUCKET_MILLIS);
+
+            assertThat(sketch.estimate(42L, NOW + 5 * BUCKET_MILLIS)).isEqualTo(10);
+        }
+
+        @Test
+        void estimate_ShouldExcludeBucketsThatLeftWindow() {
+            sketch.add(42L, 2, NOW);
+            sketch.add(42L, 3, NOW + BUCKET_MILLIS);
+
+            assertThat(sketch.estimate(42L, NOW + 6 * BUCKET_MILLIS)).isEqualTo(3);
+            assertThat(sketch.estimate(42L, NOW + 7 * BUCKET_MILLIS)).isZero();
+        }
+
+        @Test
+        void estimate_ShouldNeverUnderestimateWithManyKeys() {
+            for (long key = 0; key < 5_000; key++) {
+                sketch.add(key * 0x9E3779B97F4A7C15L, 1 + key % 3, NOW);
+            }
+
+            for (long key = 0; key < 5_000; key++) {
+                assertThat(sketch.estimate(key * 0x9E3779B97F4A7C15L, NOW)).isGreaterThanOrEqualTo(1 + key % 3);
+            }
+        }
+    }
+
+    @Nested
+    class AddTests {
+
+        @Test
+        void add_WhenSlotWasNotPrepared_ShouldTakeItOverWithoutClearing() {
+            sketch.add(42L, 7, NOW);
+            sketch.add(42L, 1, NOW + 7 * BUCKET_MILLIS);
+
+            assertThat(sketch.estimate(42L, NOW + 7 * BUCKET_MILLIS)).isEqualTo(8);
+        }
+
+        @Test
+        void add_WhenEventIsOlderThanBucket_ShouldDropIt() {
+            sketch.add(42L, 1, NOW + 7 * BUCKET_MILLIS);
+            sketch.add(42L, 7, NOW);
+
+            assertThat(sketch.estimate(42L, NOW + 7 * BUCKET_MILLIS)).isEqualTo(1);
+        }
+
+        @Test
+        void add_FromManyThreads_ShouldCountEveryEvent() throws Exception {
+            int threads = 8;
+            int eventsPerThread = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int j = 0; j < eventsPerThread; j++) {
+                            sketch.add(42L, 1, NOW);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(sketch.estimate(42L, NOW)).isEqualTo((long) threads * eventsPerThread);
+        }
+    }
+
+    @Nested
+    class PrepareTests {
+
+        @Test
+        void prepare_WhenSlotIsReused_ShouldClearOldCounts() {
+            sketch.add(42L, 7, NOW);
+
+            sketch.prepare(NOW + 6 * BUCKET_MILLIS);
+            sketch.add(42L, 1, NOW + 7 * BUCKET_MILLIS);
+
+            assertThat(sketch.estimate(42L, NOW + 7 * BUCKET_MILLIS)).isEqualTo(1);
+        }
+
+        @Test
+        void prepare_ShouldKeepBucketsInsideWindow() {
+            for (int bucket = 0; bucket < 6; bucket++) {
+                sketch.add(42L, 1, NOW + bucket * BUCKET_MILLIS);
+            }
+
+            sketch.prepare(NOW + 5 * BUCKET_MILLIS);
+
+            assertThat(sketch.estimate(42L, NOW + 5 * BUCKET_MILLIS)).isEqualTo(6);
+        }
+
+        @Test
+        void prepare_WhenCalledAgainInSameBucket_ShouldKeepCountsOfPreparedBucket() {
+            sketch.prepare(NOW);
+            sketch.add(42L, 3, NOW + BUCKET_MILLIS);
+
+            sketch.prepare(NOW);
+
+            assertThat(sketch.estimate(42L, NOW + BUCKET_MILLIS)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void counters_ShouldBeFixedByDimensions() {
+        assertThat(sketch.counters()).isEqualTo(7 * 4 * 1024);
+        assertThat(new SlidingCountMinSketch(2, 1000, 3, BUCKET_MILLIS).counters()).isEqualTo(4 * 2 * 1024);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.twitter.trending;
+
+import com.twitter.common.exception.validation.FormatValidationException;
+import com.twitter.config.TrendingProperties;
+import com.twitter.dto.response.TrendingResponseDto;
+import com.twitter.dto.trending.TrendingHashtagDto;
+import com.twitter.dto.trending.TrendingSnapshotDto;
+import com.twitter.dto.trending.TrendingTweetDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrendingAggregatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrendingAggregator aggregator;
+    private UUID tweetId;
+    private UUID otherTweetId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new TrendingAggregator(properties(true, 3, Duration.ofMinutes(1)), meterRegistry);
+        tweetId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        otherTweetId = UUID.fromString("223e4567-e89b-12d3-a456-426614174002");
+    }
+
+    private static TrendingProperties properties(boolean enabled, int topK, Duration snapshotTtl) {
+        return new TrendingProperties(enabled, Duration.ofHours(1), 12, 4, 1024, topK, 1, 3,
+            "instance-a", List.of(), snapshotTtl, Duration.ofSeconds(2));
+    }
+
+    @Nested
+    class LocalEventsTests {
+
+        @Test
+        void refresh_ShouldScoreTweetsByWeightedLikesAndRetweets() {
+            aggregator.onTweetLiked(tweetId);
+            aggregator.onTweetLiked(tweetId);
+            aggregator.onTweetRetweeted(otherTweetId);
+
+            aggregator.refresh();
+
+            assertThat(aggregator.getTrending(3).tweets())
+                .containsExactly(new TrendingTweetDto(otherTweetId, 3), new TrendingTweetDto(tweetId, 2));
+            assertThat(meterRegistry.get("trending.events").tag("type", "like").counter().count()).isEqualTo(2.0);
+        }
+
+        @Test
+        void refresh_ShouldCountHashtagUses() {
+            aggregator.onHashtagsUsed(List.of("java", "spring"));
+            aggregator.onHashtagsUsed(List.of("java"));
+
+            aggregator.refresh();
+
+            assertThat(aggregator.getTrending(3).hashtags())
+                .containsExactly(new TrendingHashtagDto("java", 2), new TrendingHashtagDto("spring", 1));
+        }
+
+        @Test
+        void getTrending_BeforeRefresh_ShouldReturnEmptyLists() {
+            aggregator.onHashtagsUsed(List.of("java"));
+
+            TrendingResponseDto result = aggregator.getTrending(3);
+
+            assertThat(result.hashtags()).isEmpty();
+            assertThat(result.tweets()).isEmpty();
+        }
+
+        @Test
+        void onTweetLiked_WhenDisabled_ShouldNotCount() {
+            TrendingAggregator disabled = new TrendingAggregator(
+                properties(false, 3, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+            disabled.onTweetLiked(tweetId);
+            disabled.refresh();
+
+            assertThat(disabled.getTrending(3).tweets()).isEmpty();
+        }
+    }
+
+    @Nested
+    class MergeTests {
+
+        @Test
+        void refresh_ShouldSumLocalAndRemoteScores() {
+            aggregator.onHashtagsUsed(List.of("java"));
+            aggregator.accept(new TrendingSnapshotDto("instance-b",
+                List.of(new TrendingHashtagDto("java", 4), new TrendingHashtagDto("kotlin", 2)),
+                List.of(new TrendingTweetDto(tweetId, 6))));
+
+            aggregator.refresh();
+
+            TrendingResponseDto result = aggregator.getTrending(3);
+            assertThat(result.hashtags())
+                .containsExactly(new TrendingHashtagDto("java", 5), new TrendingHashtagDto("kotlin", 2));
+            assertThat(result.tweets()).containsExactly(new TrendingTweetDto(tweetId, 6));
+        }
+
+        @Test
+        void refresh_ShouldKeepOnlyTopK() {
+            aggregator.accept(new TrendingSnapshotDto("instance-b",
+                List.of(new TrendingHashtagDto("a", 1), new TrendingHashtagDto("b", 2),
+                    new TrendingHashtagDto("c", 3), new TrendingHashtagDto("d", 4)),
+                List.of()));
+
+            aggregator.refresh();
+
+            assertThat(aggregator.getTrending(3).hashtags()).extracting(TrendingHashtagDto::tag)
+                .containsExactly("d", "c", "b");
+        }
+
+        @Test
+        void accept_WithMalformedSnapshot_ShouldSkipBadEntriesAndKeepRefreshing() {
+            aggregator.accept(new TrendingSnapshotDto(null, List.of(new TrendingHashtagDto("java", 4)), List.of()));
+            aggregator.accept(new TrendingSnapshotDto("instance-b",
+                Arrays.asList(new TrendingHashtagDto(null, 9), null, new TrendingHashtagDto("java", 4)),
+                null));
+
+            aggregator.refresh();
+
+            TrendingResponseDto result = aggregator.getTrending(3);
+            assertThat(result.hashtags()).containsExactly(new TrendingHashtagDto("java", 4));
+            assertThat(result.tweets()).isEmpty();
+            assertThat(meterRegistry.get("trending.peers").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        void accept_ShouldReplacePreviousSnapshotOfSameInstance() {
+            aggregator.accept(new TrendingSnapshotDto("instance-b", List.of(new TrendingHashtagDto("java", 4)), List.of()));
+            aggregator.accept(new TrendingSnapshotDto("instance-b", List.of(new TrendingHashtagDto("java", 1)), List.of()));
+
+            aggregator.refresh();
+
+            assertThat(aggregator.getTrending(3).hashtags()).containsExactly(new TrendingHashtagDto("java", 1));
+        }
+
+        @Test
+        void accept_WhenSnapshotIsOwn_ShouldIgnoreIt() {
+            aggregator.accept(new TrendingSnapshotDto("instance-a", List.of(new TrendingHashtagDto("java", 4)), List.of()));
+
+            aggregator.refresh();
+
+            assertThat(aggregator.getTrending(3).hashtags()).isEmpty();
+            assertThat(meterRegistry.get("trending.peers").gauge().value()).isZero();
+        }
+
+        @Test
+        void refresh_WhenRemoteSnapshotExpired_ShouldDropIt() {
+            TrendingAggregator expiring = new TrendingAggregator(properties(true, 3, Duration.ZERO), meterRegistry);
+            expiring.accept(new TrendingSnapshotDto("instance-b", List.of(new TrendingHashtagDto("java", 4)), List.of()));
+
+            expiring.refresh();
+
+            assertThat(expiring.getTrending(3).hashtags()).isEmpty();
+        }
+
+        @Test
+        void getLocalSnapshot_ShouldContainOnlyLocalCounts() {
+            aggregator.onHashtagsUsed(List.of("java"));
+            aggregator.accept(new TrendingSnapshotDto("instance-b", List.of(new TrendingHashtagDto("java", 4)), List.of()));
+
+            aggregator.refresh();
+
+            TrendingSnapshotDto snapshot = aggregator.getLocalSnapshot();
+            assertThat(snapshot.instanceId()).isEqualTo("instance-a");
+            assertThat(snapshot.hashtags()).containsExactly(new TrendingHashtagDto("java", 1));
+        }
+    }
+
+    @Nested
+    class GetTrendingTests {
+
+        @Test
+        void getTrending_ShouldReturnAtMostLimitEntries() {
+            aggregator.onHashtagsUsed(List.of("java", "spring", "kotlin"));
+            aggregator.refresh();
+
+            assertThat(aggregator.getTrending(1).hashtags()).hasSize(1);
+        }
+
+        @Test
+        void getTrending_WhenLimitOutOfRange_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> aggregator.getTrending(0))
+                .isInstanceOf(FormatValidationException.class)
+                .hasMessageContaining("between 1 and 3");
+            assertThatThrownBy(() -> aggregator.getTrending(4))
+                .isInstanceOf(FormatValidationException.class);
+        }
+    }
+}
\ No newline at end of file
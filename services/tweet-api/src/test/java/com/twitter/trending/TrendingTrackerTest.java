@@ -0,0 +1,72 @@
+package com.twitter.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingTrackerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private TrendingTracker<String> tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new TrendingTracker<>(new SlidingCountMinSketch(4, 1024, 4, 1_000L), TrendingAggregator::hash, 2);
+    }
+
+    @Test
+    void refresh_ShouldReturnHeaviestKeysFirst() {
+        tracker.add("java", 3, NOW);
+        tracker.add("spring", 5, NOW);
+        tracker.add("kotlin", 1, NOW);
+
+        List<TrendingCount<String>> top = tracker.refresh(NOW);
+
+        assertThat(top).containsExactly(new TrendingCount<>("spring", 5), new TrendingCount<>("java", 3));
+    }
+
+    @Test
+    void refresh_ShouldDropKeysOutsideTopAndKeysThatLeftWindow() {
+        tracker.add("java", 3, NOW);
+        tracker.add("spring", 5, NOW);
+        tracker.add("kotlin", 1, NOW);
+
+        tracker.refresh(NOW);
+        assertThat(tracker.candidates()).isEqualTo(2);
+
+        assertThat(tracker.refresh(NOW + 10_000L)).isEmpty();
+        assertThat(tracker.candidates()).isZero();
+    }
+
+    @Test
+    void add_WhenTopIsFull_ShouldAdmitOnlyKeysReachingLightestCount() {
+        tracker.add("java", 3, NOW);
+        tracker.add("spring", 5, NOW);
+        tracker.refresh(NOW);
+
+        tracker.add("kotlin", 1, NOW);
+        assertThat(tracker.candidates()).isEqualTo(2);
+
+        tracker.add("rust", 4, NOW);
+        assertThat(tracker.candidates()).isEqualTo(3);
+        assertThat(tracker.refresh(NOW))
+            .containsExactly(new TrendingCount<>("spring", 5), new TrendingCount<>("rust", 4));
+    }
+
+    @Test
+    void add_WhenKeyBecomesHeavyGradually_ShouldAdmitItOnceItReachesThreshold() {
+        tracker.add("java", 2, NOW);
+        tracker.add("spring", 2, NOW);
+        tracker.refresh(NOW);
+
+        tracker.add("kotlin", 1, NOW);
+        tracker.add("kotlin", 1, NOW);
+        tracker.add("kotlin", 1, NOW);
+
+        assertThat(tracker.refresh(NOW)).extracting(TrendingCount::key).contains("kotlin");
+    }
+}
\ No newline at end of file
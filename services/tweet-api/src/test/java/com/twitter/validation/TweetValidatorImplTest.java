@@ -787,4 +787,74 @@ class TweetValidatorImplTest {
             verify(userGateway, times(1)).existsUser(nonExistentUserId);
         }
     }
+
+    @Nested
+    class ValidateForSearchTests {
+
+        @Test
+        void validateForSearch_WhenQueryAndLimitAreValid_ShouldCompleteWithoutExceptions() {
+            assertThatCode(() -> tweetValidator.validateForSearch("postgres index", 20))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void validateForSearch_WhenQueryIsBlank_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> tweetValidator.validateForSearch("   ", 20))
+                .isInstanceOf(FormatValidationException.class)
+                .satisfies(exception -> {
+                    FormatValidationException ex = (FormatValidationException) exception;
+                    assertThat(ex.getConstraintName()).isEqualTo("EMPTY_QUERY");
+                });
+        }
+
+        @Test
+        void validateForSearch_WhenQueryIsTooLong_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> tweetValidator.validateForSearch("a".repeat(201), 20))
+                .isInstanceOf(FormatValidationException.class)
+                .satisfies(exception -> {
+                    FormatValidationException ex = (FormatValidationException) exception;
+                    assertThat(ex.getConstraintName()).isEqualTo("QUERY_TOO_LONG");
+                });
+        }
+
+        @Test
+        void validateForSearch_WhenLimitIsOutOfRange_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> tweetValidator.validateForSearch("postgres", 101))
+                .isInstanceOf(FormatValidationException.class)
+                .satisfies(exception -> {
+                    FormatValidationException ex = (FormatValidationException) exception;
+                    assertThat(ex.getConstraintName()).isEqualTo("LIMIT_OUT_OF_RANGE");
+                });
+        }
+    }
+
+    @Nested
+    class ValidateForHashtagFeedTests {
+
+        @Test
+        void validateForHashtagFeed_WhenTagAndLimitAreValid_ShouldCompleteWithoutExceptions() {
+            assertThatCode(() -> tweetValidator.validateForHashtagFeed("#Java_21", 20))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        void validateForHashtagFeed_WhenTagIsInvalid_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> tweetValidator.validateForHashtagFeed("2024", 20))
+                .isInstanceOf(FormatValidationException.class)
+                .satisfies(exception -> {
+                    FormatValidationException ex = (FormatValidationException) exception;
+                    assertThat(ex.getConstraintName()).isEqualTo("INVALID_HASHTAG");
+                });
+        }
+
+        @Test
+        void validateForHashtagFeed_WhenLimitIsOutOfRange_ShouldThrowFormatValidationException() {
+            assertThatThrownBy(() -> tweetValidator.validateForHashtagFeed("java", 0))
+                .isInstanceOf(FormatValidationException.class)
+                .satisfies(exception -> {
+                    FormatValidationException ex = (FormatValidationException) exception;
+                    assertThat(ex.getConstraintName()).isEqualTo("LIMIT_OUT_OF_RANGE");
+                });
+        }
+    }
 }
\ No newline at end of file
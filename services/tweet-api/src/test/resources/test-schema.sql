@@ -0,0 +1,2 @@
+-- Columns maintained by the database and not mapped by the entities, as in the Liquibase changelog
+ALTER TABLE tweets ADD COLUMN content_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED;
@@ -1,8 +1,12 @@
 package com.twitter.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.twitter.common.dto.request.user.UserExistsBatchRequestDto;
+import com.twitter.common.dto.request.user.UserLoginBatchRequestDto;
 import com.twitter.common.dto.request.user.UserRequestDto;
+import com.twitter.common.dto.response.user.UserExistsBatchResponseDto;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
+import com.twitter.common.dto.response.user.UserLoginBatchResponseDto;
 import com.twitter.common.dto.response.user.UserResponseDto;
 import com.twitter.common.exception.validation.BusinessRuleValidationException;
 import com.twitter.common.exception.validation.ValidationException;
@@ -68,6 +72,76 @@ public interface UserApi {
         )
         UUID userId);
 
+    /**
+     * Checks which of several users exist with a single lookup.
+     * <p>
+     * Intended for bulk operations in other services that would otherwise check every user
+     * with a separate request.
+     *
+     * @param existsBatchRequest the identifiers of the users to check
+     * @return ResponseEntity containing the identifiers of the existing users
+     */
+    @Operation(
+        summary = "Check existence of several users",
+        description = "Checks which of the given user identifiers (up to 1000) belong to existing users. " +
+            "Returns only the identifiers of existing users, in no particular order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "User existence check completed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserExistsBatchResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty list, null identifier or more than 1000 identifiers",
+            content = @Content(
+                mediaType = "application/problem+json"
+            )
+        )
+    })
+    ResponseEntity<UserExistsBatchResponseDto> existsUsers(
+        @Parameter(description = "Identifiers of the users to check", required = true)
+        UserExistsBatchRequestDto existsBatchRequest);
+
+    /**
+     * Resolves the logins of several users with a single lookup.
+     * <p>
+     * Intended for other services that display lists of users and would otherwise fetch every
+     * user with a separate request.
+     *
+     * @param loginBatchRequest the identifiers of the users whose logins are requested
+     * @return ResponseEntity containing the logins of the existing users keyed by identifier
+     */
+    @Operation(
+        summary = "Get logins of several users",
+        description = "Resolves the logins of the given user identifiers (up to 1000). " +
+            "Identifiers of missing users are absent from the response."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "User logins resolved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserLoginBatchResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty list, null identifier or more than 1000 identifiers",
+            content = @Content(
+                mediaType = "application/problem+json"
+            )
+        )
+    })
+    ResponseEntity<UserLoginBatchResponseDto> getUserLogins(
+        @Parameter(description = "Identifiers of the users whose logins are requested", required = true)
+        UserLoginBatchRequestDto loginBatchRequest);
+
     /**
      * Retrieves a user by their unique identifier.
      * <p>
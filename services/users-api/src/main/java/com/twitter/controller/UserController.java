@@ -2,8 +2,12 @@ package com.twitter.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.twitter.common.aspect.LoggableRequest;
+import com.twitter.common.dto.request.user.UserExistsBatchRequestDto;
+import com.twitter.common.dto.request.user.UserLoginBatchRequestDto;
 import com.twitter.common.dto.request.user.UserRequestDto;
+import com.twitter.common.dto.response.user.UserExistsBatchResponseDto;
 import com.twitter.common.dto.response.user.UserExistsResponseDto;
+import com.twitter.common.dto.response.user.UserLoginBatchResponseDto;
 import com.twitter.common.dto.response.user.UserResponseDto;
 import com.twitter.dto.UserRoleUpdateDto;
 import com.twitter.dto.UserUpdateDto;
@@ -19,6 +23,8 @@ import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -46,6 +52,28 @@ public class UserController implements UserApi {
         return ResponseEntity.ok(new UserExistsResponseDto(exists));
     }
 
+    /**
+     * @see UserApi#existsUsers
+     */
+    @LoggableRequest
+    @PostMapping("/exists/batch")
+    @Override
+    public ResponseEntity<UserExistsBatchResponseDto> existsUsers(@RequestBody @Valid UserExistsBatchRequestDto existsBatchRequest) {
+        List<UUID> existingIds = userService.findExistingIds(existsBatchRequest.userIds());
+        return ResponseEntity.ok(new UserExistsBatchResponseDto(existingIds));
+    }
+
+    /**
+     * @see UserApi#getUserLogins
+     */
+    @LoggableRequest
+    @PostMapping("/logins/batch")
+    @Override
+    public ResponseEntity<UserLoginBatchResponseDto> getUserLogins(@RequestBody @Valid UserLoginBatchRequestDto loginBatchRequest) {
+        Map<UUID, String> logins = userService.findLogins(loginBatchRequest.userIds());
+        return ResponseEntity.ok(new UserLoginBatchResponseDto(logins));
+    }
+
     /**
      * @see UserApi#getUserById
      */
@@ -0,0 +1,26 @@
+package com.twitter.dto;
+
+import java.util.UUID;
+
+/**
+ * Projection of a user reduced to the identifier and login.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public interface UserLoginView {
+
+    /**
+     * Returns the user identifier.
+     *
+     * @return the user identifier
+     */
+    UUID getId();
+
+    /**
+     * Returns the user login.
+     *
+     * @return the user login
+     */
+    String getLogin();
+}
\ No newline at end of file
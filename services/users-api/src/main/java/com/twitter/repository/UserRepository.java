@@ -2,10 +2,15 @@ package com.twitter.repository;
 
 import com.twitter.common.enums.user.UserRole;
 import com.twitter.common.enums.user.UserStatus;
+import com.twitter.dto.UserLoginView;
 import com.twitter.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -25,4 +30,10 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
     boolean existsByLoginAndIdNot(String login, UUID id);
 
     boolean existsByEmailAndIdNot(String email, UUID id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u.id AS id, u.login AS login FROM User u WHERE u.id IN :ids")
+    List<UserLoginView> findLogins(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import com.twitter.dto.filter.UserFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -122,4 +124,20 @@ public interface UserService {
      * @return true if the user exists, false otherwise
      */
     boolean existsById(UUID id);
+
+    /**
+     * Determines which of the given identifiers belong to existing users with a single query.
+     *
+     * @param ids the unique identifiers of the users to check
+     * @return the identifiers of the users that exist, in no particular order
+     */
+    List<UUID> findExistingIds(List<UUID> ids);
+
+    /**
+     * Resolves the logins of the given users with a single query.
+     *
+     * @param ids the unique identifiers of the users whose logins are requested
+     * @return the logins of the existing users keyed by user identifier; missing users are absent
+     */
+    Map<UUID, String> findLogins(List<UUID> ids);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.twitter.common.dto.request.user.UserRequestDto;
 import com.twitter.common.dto.response.user.UserResponseDto;
 import com.twitter.common.enums.user.UserRole;
 import com.twitter.common.enums.user.UserStatus;
+import com.twitter.dto.UserLoginView;
 import com.twitter.dto.UserPatchDto;
 import com.twitter.dto.UserRoleUpdateDto;
 import com.twitter.dto.UserUpdateDto;
@@ -26,8 +27,12 @@ import org.springframework.web.server.ResponseStatusException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the user management service.
@@ -168,6 +173,31 @@ public class UserServiceImpl implements UserService {
         return userRepository.existsById(id);
     }
 
+    /**
+     * @see UserService#findExistingIds
+     */
+    @Override
+    public List<UUID> findExistingIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return userRepository.findExistingIds(new HashSet<>(ids));
+    }
+
+    /**
+     * @see UserService#findLogins
+     */
+    @Override
+    public Map<UUID, String> findLogins(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return userRepository.findLogins(new HashSet<>(ids)).stream()
+            .collect(Collectors.toMap(UserLoginView::getId, UserLoginView::getLogin));
+    }
+
     /**
      * Sets a hashed password for a user.
      * <p>
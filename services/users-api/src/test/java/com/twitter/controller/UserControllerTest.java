@@ -1,6 +1,8 @@
 package com.twitter.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twitter.common.dto.request.user.UserExistsBatchRequestDto;
+import com.twitter.common.dto.request.user.UserLoginBatchRequestDto;
 import com.twitter.common.dto.request.user.UserRequestDto;
 import com.twitter.common.enums.user.UserRole;
 import com.twitter.common.enums.user.UserStatus;
@@ -1204,4 +1206,62 @@ public class UserControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.exists").value(false));
         }
     }
+
+    @Nested
+    class ExistsUsersIntegrationTests {
+
+        @Test
+        void existsUsers_WithExistingAndMissingUsers_ShouldReturnOnlyExistingIds() throws Exception {
+            User savedUser = userRepository.saveAndFlush(createTestUser("testuser", "Test", "User", "test@example.com"));
+            UUID missingUserId = UUID.randomUUID();
+            UserExistsBatchRequestDto request = new UserExistsBatchRequestDto(List.of(savedUser.getId(), missingUserId));
+
+            mockMvc.perform(post("/api/v1/users/exists/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.existingIds.length()").value(1))
+                .andExpect(jsonPath("$.existingIds[0]").value(savedUser.getId().toString()));
+        }
+
+        @Test
+        void existsUsers_WithEmptyList_ShouldReturn400BadRequest() throws Exception {
+            UserExistsBatchRequestDto request = new UserExistsBatchRequestDto(List.of());
+
+            mockMvc.perform(post("/api/v1/users/exists/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class GetUserLoginsIntegrationTests {
+
+        @Test
+        void getUserLogins_WithExistingAndMissingUsers_ShouldReturnOnlyExistingLogins() throws Exception {
+            User savedUser = userRepository.saveAndFlush(createTestUser("testuser", "Test", "User", "test@example.com"));
+            UUID missingUserId = UUID.randomUUID();
+            UserLoginBatchRequestDto request = new UserLoginBatchRequestDto(List.of(savedUser.getId(), missingUserId));
+
+            mockMvc.perform(post("/api/v1/users/logins/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.logins.length()").value(1))
+                .andExpect(jsonPath("$.logins['" + savedUser.getId() + "']").value("testuser"));
+        }
+
+        @Test
+        void getUserLogins_WithEmptyList_ShouldReturn400BadRequest() throws Exception {
+            UserLoginBatchRequestDto request = new UserLoginBatchRequestDto(List.of());
+
+            mockMvc.perform(post("/api/v1/users/logins/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        }
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.twitter.common.enums.user.UserStatus;
 import com.twitter.common.exception.validation.BusinessRuleValidationException;
 import com.twitter.common.exception.validation.FormatValidationException;
 import com.twitter.common.exception.validation.UniquenessValidationException;
+import com.twitter.dto.UserLoginView;
 import com.twitter.dto.UserPatchDto;
 import com.twitter.dto.UserRoleUpdateDto;
 import com.twitter.dto.UserUpdateDto;
@@ -33,7 +34,9 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1879,4 +1882,55 @@ class UserServiceImplTest {
             verify(userRepository, never()).existsById(any());
         }
     }
+
+    @Nested
+    class FindExistingIdsTest {
+
+        @Test
+        void findExistingIds_WithDuplicates_ShouldQueryEachIdentifierOnce() {
+            UUID existingId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            UUID missingId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            when(userRepository.findExistingIds(Set.of(existingId, missingId))).thenReturn(List.of(existingId));
+
+            List<UUID> result = userService.findExistingIds(List.of(existingId, missingId, existingId));
+
+            assertThat(result).containsExactly(existingId);
+            verify(userRepository).findExistingIds(Set.of(existingId, missingId));
+        }
+
+        @Test
+        void findExistingIds_WithEmptyList_ShouldReturnEmptyListWithoutCallingRepository() {
+            List<UUID> result = userService.findExistingIds(List.of());
+
+            assertThat(result).isEmpty();
+            verify(userRepository, never()).findExistingIds(any());
+        }
+    }
+
+    @Nested
+    class FindLoginsTest {
+
+        @Test
+        void findLogins_WithDuplicates_ShouldResolveEachIdentifierOnce() {
+            UUID existingId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+            UUID missingId = UUID.fromString("987fcdeb-51a2-43d7-b123-426614174999");
+            UserLoginView view = mock(UserLoginView.class);
+            when(view.getId()).thenReturn(existingId);
+            when(view.getLogin()).thenReturn("testuser");
+            when(userRepository.findLogins(Set.of(existingId, missingId))).thenReturn(List.of(view));
+
+            Map<UUID, String> result = userService.findLogins(List.of(existingId, missingId, existingId));
+
+            assertThat(result).containsExactly(Map.entry(existingId, "testuser"));
+            verify(userRepository).findLogins(Set.of(existingId, missingId));
+        }
+
+        @Test
+        void findLogins_WithEmptyList_ShouldReturnEmptyMapWithoutCallingRepository() {
+            Map<UUID, String> result = userService.findLogins(List.of());
+
+            assertThat(result).isEmpty();
+            verify(userRepository, never()).findLogins(any());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,347 @@
+package com.twitter.common.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Bounded concurrent map backing the in-process caches of the services.
+ * <p>
+ * Values decide themselves whether they are expired, so a cache may keep a deadline per entry or
+ * serve entries past their TTL for a while. When the map grows over its maximum size, one thread
+ * removes the expired entries and then the least recently used ones until the size drops below 90%
+ * of the limit; the other threads do not wait for it. Read times are recorded with a granularity of
+ * one millisecond, so reads of a hot entry do not write to it on every call. Values rejected by the
+ * evictable predicate, such as reservations of running requests, are never evicted and are only
+ * removed once they expire, so the map may stay over its limit while they are alive.
+ * <p>
+ * Conditional operations compare values by identity, so a caller can replace or remove exactly the
+ * value it installed. Null keys and values are not allowed.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author geron
+ * @version 1.0
+ */
+public class BoundedTtlCache<K, V> {
+
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ConcurrentHashMap<K, Node<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxSize;
+    private final Expiry<V> expiry;
+    private final Predicate<V> evictable;
+    private final LongSupplier nanoClock;
+
+    public BoundedTtlCache(int maxSize, Expiry<V> expiry) {
+        this(maxSize, expiry, value -> true, System::nanoTime);
+    }
+
+    public BoundedTtlCache(int maxSize, Expiry<V> expiry, Predicate<V> evictable, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.expiry = expiry;
+        this.evictable = evictable;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the value of a key, expired or not, and records the read.
+     *
+     * @param key the key
+     * @return the value, or null if the key is absent
+     */
+    public V get(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.touch(nanoClock.getAsLong());
+        return node.value;
+    }
+
+    /**
+     * Puts a value, replacing the current one.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        entries.put(key, new Node<>(value, nanoClock.getAsLong()));
+        evictIfNeeded();
+    }
+
+    /**
+     * Puts a value if the key is absent.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the current value, or null if the given value was put
+     */
+    public V putIfAbsent(K key, V value) {
+        Node<V> current = entries.putIfAbsent(key, new Node<>(value, nanoClock.getAsLong()));
+        if (current != null) {
+            return current.value;
+        }
+        evictIfNeeded();
+        return null;
+    }
+
+    /**
+     * Replaces the value of a key if it is the given instance.
+     *
+     * @param key      the key
+     * @param expected the value expected to be current
+     * @param value    the new value
+     * @return true if the value was replaced
+     */
+    public boolean replace(K key, V expected, V value) {
+        long now = nanoClock.getAsLong();
+        boolean[] replaced = new boolean[1];
+        entries.computeIfPresent(key, (ignored, current) -> {
+            if (current.value != expected) {
+                return current;
+            }
+            replaced[0] = true;
+            return new Node<>(value, now);
+        });
+        return replaced[0];
+    }
+
+    /**
+     * Removes a key if its value is the given instance.
+     *
+     * @param key      the key
+     * @param expected the value expected to be current
+     * @return true if the key was removed
+     */
+    public boolean remove(K key, V expected) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(key, (ignored, current) -> {
+            if (current.value != expected) {
+                return current;
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Atomically computes the value of a key from its current value, as {@link Map#compute} does.
+     *
+     * @param key               the key
+     * @param remappingFunction function computing the new value from the key and the current value,
+     *                          which is null if absent; returning null removes the key
+     * @return the new value, or null if the key is absent
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        long now = nanoClock.getAsLong();
+        Node<V> node = entries.compute(key,
+            (k, current) -> remap(current, remappingFunction.apply(k, current == null ? null : current.value), now));
+        evictIfNeeded();
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Atomically computes the value of a present key, as {@link Map#computeIfPresent} does.
+     *
+     * @param key               the key
+     * @param remappingFunction function computing the new value from the key and the current value;
+     *                          returning null removes the key
+     * @return the new value, or null if the key is absent
+     */
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        long now = nanoClock.getAsLong();
+        Node<V> node = entries.computeIfPresent(key,
+            (k, current) -> remap(current, remappingFunction.apply(k, current.value), now));
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the value of a key, computing it if the key is absent, as {@link Map#computeIfAbsent} does.
+     *
+     * @param key             the key
+     * @param mappingFunction function computing the value of an absent key
+     * @return the current or computed value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Node<V> current = entries.get(key);
+        if (current != null) {
+            current.touch(nanoClock.getAsLong());
+            return current.value;
+        }
+
+        long now = nanoClock.getAsLong();
+        boolean[] created = new boolean[1];
+        Node<V> node = entries.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            created[0] = value != null;
+            return value == null ? null : new Node<>(value, now);
+        });
+        if (created[0]) {
+            evictIfNeeded();
+        }
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Evicts entries if the cache is full and reports whether a new key fits under the maximum size.
+     *
+     * @return true if the cache holds fewer entries than its maximum size
+     */
+    public boolean makeRoom() {
+        evictAbove(maxSize - 1);
+        return entries.size() < maxSize;
+    }
+
+    /**
+     * Returns the number of entries, including expired ones that were not removed yet.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of entries removed by eviction since the cache was created.
+     *
+     * @return number of evicted entries
+     */
+    public double evictionCount() {
+        return evictions.sum();
+    }
+
+    private void evictIfNeeded() {
+        evictAbove(maxSize);
+    }
+
+    /**
+     * Evicts entries if the size is over the given limit.
+     * <p>
+     * Only one thread evicts at a time; the others skip the eviction.
+     *
+     * @param limit the size above which entries are evicted
+     */
+    private void evictAbove(int limit) {
+        if (entries.size() <= limit || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = nanoClock.getAsLong();
+            int evicted = 0;
+            for (Map.Entry<K, Node<V>> entry : entries.entrySet()) {
+                Node<V> node = entry.getValue();
+                if (expiry.isExpired(node.value, now) && entries.remove(entry.getKey(), node)) {
+                    evicted++;
+                }
+            }
+
+            int excess = entries.size() - (int) (maxSize * EVICTION_TARGET_RATIO);
+            if (excess > 0) {
+                evicted += evictLeastRecentlyUsed(excess);
+            }
+            evictions.add(evicted);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Removes up to the given number of evictable entries with the oldest read times.
+     *
+     * @param count the number of entries to remove
+     * @return the number of removed entries
+     */
+    private int evictLeastRecentlyUsed(int count) {
+        long[] accessTimes = entries.values().stream()
+            .filter(node -> evictable.test(node.value))
+            .mapToLong(node -> node.accessedAtNanos)
+            .toArray();
+        if (accessTimes.length == 0) {
+            return 0;
+        }
+        Arrays.sort(accessTimes);
+        long cutoff = accessTimes[Math.min(count, accessTimes.length) - 1];
+
+        int evicted = 0;
+        for (Map.Entry<K, Node<V>> entry : entries.entrySet()) {
+            if (evicted >= count) {
+                break;
+            }
+            Node<V> node = entry.getValue();
+            if (node.accessedAtNanos - cutoff <= 0 && evictable.test(node.value)
+                && entries.remove(entry.getKey(), node)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private static <V> Node<V> remap(Node<V> current, V value, long now) {
+        if (value == null) {
+            return null;
+        }
+        return current != null && current.value == value ? current : new Node<>(value, now);
+    }
+
+    /**
+     * Tells whether a cached value is expired.
+     *
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface Expiry<V> {
+
+        /**
+         * Tells whether the value is expired and may be removed regardless of its read time.
+         *
+         * @param value    the cached value
+         * @param nowNanos the current value of the cache clock
+         * @return true if the value is expired
+         */
+        boolean isExpired(V value, long nowNanos);
+    }
+
+    /**
+     * Cached value with the time it was last read.
+     *
+     * @param <V> the value type
+     */
+    private static final class Node<V> {
+
+        private final V value;
+        private volatile long accessedAtNanos;
+
+        private Node(V value, long accessedAtNanos) {
+            this.value = value;
+            this.accessedAtNanos = accessedAtNanos;
+        }
+
+        private void touch(long now) {
+            if (now - accessedAtNanos >= ACCESS_GRANULARITY_NANOS) {
+                accessedAtNanos = now;
+            }
+        }
+    }
+}
\ No newline at end of file
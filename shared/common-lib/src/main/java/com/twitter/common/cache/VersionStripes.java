@@ -0,0 +1,57 @@
+package com.twitter.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Striped change counters guarding cache fills against concurrent writes.
+ * <p>
+ * A cache that loads from the database without locks may read a row just before a write commits
+ * and install it just after the write invalidated the key. Writers increment the counter of the key
+ * before they invalidate, and a loader reads it before the load and installs the loaded value only
+ * if it did not change. Keys sharing a stripe only cause a skipped fill, never a stale one.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public class VersionStripes {
+
+    private final AtomicLongArray versions;
+    private final int mask;
+
+    /**
+     * Creates the counters.
+     *
+     * @param stripes number of counters, a power of two
+     */
+    public VersionStripes(int stripes) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Number of stripes must be a power of two: " + stripes);
+        }
+        this.versions = new AtomicLongArray(stripes);
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * Returns the current version of the stripe of a key.
+     *
+     * @param key the key
+     * @return the version to compare after the load
+     */
+    public long get(Object key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * Marks the key as changed.
+     *
+     * @param key the key
+     */
+    public void increment(Object key) {
+        versions.incrementAndGet(stripe(key));
+    }
+
+    private int stripe(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.twitter.common.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limit of concurrently processed requests that adapts to the observed latency.
+ * <p>
+ * The latency of completed requests is averaged over {@code app.concurrency-limit.sample-window}
+ * and compared with a slowly moving long-term average. While requests are not slower than
+ * {@code rtt-tolerance} times the long-term latency, the limit grows by the square root of
+ * itself per window; once they are, it shrinks in proportion to the slowdown, smoothed by
+ * {@code smoothing}. The limit therefore settles near the concurrency the service completes
+ * without queueing, and requests beyond it are rejected at once instead of waiting in the
+ * Tomcat and connection pool queues. The limit does not grow while fewer than half of the
+ * allowed requests are in flight, as the latency then says nothing about higher load.
+ * <p>
+ * Admission is a compare-and-set on the in-flight counter; the limit is recalculated by the one
+ * request that closes a window, so no request waits for a lock.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_WEIGHT = 0.05;
+    private static final double LONG_RTT_RECOVERY_RATIO = 2.0;
+    private static final double LONG_RTT_RECOVERY_DECAY = 0.95;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger admissionLimit = new AtomicInteger();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowStart;
+    private final LongSupplier nanoClock;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long sampleWindowNanos;
+    private final int minWindowSamples;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private volatile double limit;
+    private volatile double longRtt;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.sampleWindowNanos = properties.sampleWindow().toNanos();
+        this.minWindowSamples = properties.minWindowSamples();
+        this.rttTolerance = properties.rttTolerance();
+        this.smoothing = properties.smoothing();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.initialLimit()));
+        this.admissionLimit.set((int) limit);
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+        Gauge.builder("concurrency.limit", admissionLimit, AtomicInteger::get)
+            .description("Current limit of concurrently processed requests")
+            .register(meterRegistry);
+        Gauge.builder("concurrency.in_flight", inFlight, AtomicInteger::get)
+            .description("Number of requests being processed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Admits a request if the limit allows it.
+     *
+     * @return true if the request was admitted and {@link #release(long)} must be called when it completes
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes an admitted request and records its latency.
+     *
+     * @param rttNanos time the request took in nanoseconds
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start < sampleWindowNanos || windowSamples.sum() < minWindowSamples
+            || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttSum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples > 0) {
+            updateLimit((double) rttSum / samples, maxInFlight);
+        }
+    }
+
+    /**
+     * Returns the current limit of concurrently processed requests.
+     *
+     * @return current limit
+     */
+    public int getLimit() {
+        return admissionLimit.get();
+    }
+
+    /**
+     * Returns the number of requests being processed.
+     *
+     * @return number of admitted requests that have not completed yet
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void updateLimit(double shortRtt, int maxInFlight) {
+        double current = limit;
+        double baseline = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) * LONG_RTT_WEIGHT;
+        if (baseline > shortRtt * LONG_RTT_RECOVERY_RATIO) {
+            baseline *= LONG_RTT_RECOVERY_DECAY;
+        }
+        longRtt = baseline;
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * baseline / shortRtt));
+        if (gradient == 1.0 && maxInFlight < current / 2) {
+            return;
+        }
+
+        double target = current * gradient + Math.sqrt(current);
+        double next = Math.max(minLimit, Math.min(maxLimit, current * (1 - smoothing) + target * smoothing));
+        if ((int) next != (int) current) {
+            log.debug("Concurrency limit changed: {} -> {}, shortRtt={}ns, longRtt={}ns",
+                (int) current, (int) next, (long) shortRtt, (long) baseline);
+        }
+        limit = next;
+        admissionLimit.set((int) next);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.twitter.common.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Servlet filter shedding requests over the {@link AdaptiveConcurrencyLimiter} limit.
+ * <p>
+ * The filter runs ahead of the other application filters, so a request over the limit is answered
+ * with 503 Service Unavailable and a Retry-After header before it reads its body, takes a database
+ * connection or calls another service. Admitted requests report their latency to the limiter when
+ * they complete. Actuator endpoints are never shed, so health checks keep answering under overload.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Order of the filter, right after the request observation filter of Spring Boot.
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private static final URI PROBLEM_TYPE = URI.create("https://example.com/errors/overloaded");
+    private static final String ACTUATOR_PATH = "/actuator";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                  AdaptiveConcurrencyLimiter limiter,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.rejectedCounter = Counter.builder("concurrency.rejected")
+            .description("Number of requests rejected by the concurrency limit")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || request.getRequestURI().startsWith(ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejectedCounter.increment();
+            log.debug("Request rejected by concurrency limit {}: {} {}",
+                limiter.getLimit(), request.getMethod(), request.getRequestURI());
+            writeOverloaded(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private void writeOverloaded(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status,
+            "The service is overloaded, please retry later");
+        problemDetail.setTitle(status.getReasonPhrase());
+        problemDetail.setType(PROBLEM_TYPE);
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
\ No newline at end of file
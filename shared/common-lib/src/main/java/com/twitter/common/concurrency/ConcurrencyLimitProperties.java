@@ -0,0 +1,48 @@
+package com.twitter.common.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for adaptive concurrency limiting of incoming requests.
+ *
+ * @param enabled          whether requests over the limit are rejected
+ * @param initialLimit     number of concurrent requests allowed at startup
+ * @param minLimit         lower bound of the limit
+ * @param maxLimit         upper bound of the limit
+ * @param sampleWindow     how often the limit is recalculated from the observed latency
+ * @param minWindowSamples minimum number of completed requests in a window needed to recalculate the limit
+ * @param rttTolerance     how much slower than the long-term latency requests may get before the limit is reduced
+ * @param smoothing        weight of a recalculated limit against the current one, from 0 to 1
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("100")
+    int initialLimit,
+
+    @DefaultValue("10")
+    int minLimit,
+
+    @DefaultValue("500")
+    int maxLimit,
+
+    @DefaultValue("1s")
+    Duration sampleWindow,
+
+    @DefaultValue("10")
+    int minWindowSamples,
+
+    @DefaultValue("1.5")
+    double rttTolerance,
+
+    @DefaultValue("0.2")
+    double smoothing
+) {
+}
\ No newline at end of file
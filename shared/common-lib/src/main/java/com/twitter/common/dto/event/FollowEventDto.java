@@ -0,0 +1,69 @@
+package com.twitter.common.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.twitter.common.enums.follow.FollowEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a follow relationship change published by follower-api.
+ * <p>
+ * Events are delivered at least once. Events of the same follower are delivered in the order the
+ * changes were committed, and their identifiers grow in that order, so a consumer can apply them
+ * incrementally and skip an event whose identifier it has already seen.
+ *
+ * @param id          identifier of the event, increasing in commit order for every follower
+ * @param type        the kind of change
+ * @param followerId  the follower user identifier
+ * @param followingId the followed user identifier
+ * @param occurredAt  when the change was committed
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowEvent",
+    description = "Follow relationship change published by follower-api",
+    example = """
+        {
+          "id": 42,
+          "type": "FOLLOWED",
+          "followerId": "123e4567-e89b-12d3-a456-426614174000",
+          "followingId": "987fcdeb-51a2-43d7-b123-426614174999",
+          "occurredAt": "2025-01-20T15:30:00Z"
+        }
+        """
+)
+@Builder
+public record FollowEventDto(
+    @Schema(description = "Identifier of the event, increasing in commit order for every follower", example = "42")
+    long id,
+
+    @Schema(description = "Kind of change", example = "FOLLOWED")
+    FollowEventType type,
+
+    @Schema(
+        description = "ID of the follower",
+        example = "123e4567-e89b-12d3-a456-426614174000",
+        format = "uuid"
+    )
+    UUID followerId,
+
+    @Schema(
+        description = "ID of the followed user",
+        example = "987fcdeb-51a2-43d7-b123-426614174999",
+        format = "uuid"
+    )
+    UUID followingId,
+
+    @Schema(
+        description = "Timestamp when the change happened",
+        example = "2025-01-20T15:30:00Z",
+        format = "date-time"
+    )
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+    LocalDateTime occurredAt
+) {
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.twitter.common.dto.request.user;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for resolving the logins of several users in one request.
+ *
+ * @param userIds the identifiers of the users whose logins are requested (1-1000 items)
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "UserLoginBatchRequest",
+    description = "Data structure for resolving the logins of several users by their identifiers",
+    example = """
+        {
+          "userIds": [
+            "123e4567-e89b-12d3-a456-426614174000",
+            "987fcdeb-51a2-43d7-b123-426614174999"
+          ]
+        }
+        """
+)
+@Builder
+public record UserLoginBatchRequestDto(
+    @ArraySchema(
+        schema = @Schema(format = "uuid", example = "123e4567-e89b-12d3-a456-426614174000"),
+        minItems = 1,
+        maxItems = UserLoginBatchRequestDto.MAX_USER_IDS
+    )
+    @NotEmpty(message = "User IDs cannot be empty")
+    @Size(max = UserLoginBatchRequestDto.MAX_USER_IDS, message = "No more than 1000 user logins can be resolved at once")
+    List<@NotNull(message = "User ID cannot be null") UUID> userIds
+) {
+
+    /**
+     * Maximum number of user identifiers accepted in one request.
+     */
+    public static final int MAX_USER_IDS = 1000;
+}
\ No newline at end of file
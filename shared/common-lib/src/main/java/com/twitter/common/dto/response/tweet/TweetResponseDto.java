@@ -1,6 +1,7 @@
 package com.twitter.common.dto.response.tweet;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
@@ -9,6 +10,11 @@ import java.util.UUID;
 
 /**
  * Response DTO for Tweet data.
+ * <p>
+ * The viewer state flags (likedByViewer, retweetedByViewer) are only populated when the
+ * tweets are requested on behalf of a viewer and are omitted from the JSON otherwise. The
+ * retweet attribution (retweetedBy, retweetedAt) is only populated for timeline entries that
+ * appear because a followed user retweeted the tweet.
  *
  * @author geron
  * @version 1.0
@@ -28,7 +34,7 @@ import java.util.UUID;
         }
         """
 )
-@Builder
+@Builder(toBuilder = true)
 public record TweetResponseDto(
     @Schema(
         description = "Unique identifier for the tweet",
@@ -80,7 +86,42 @@ public record TweetResponseDto(
         nullable = true
     )
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
-    LocalDateTime deletedAt
+    LocalDateTime deletedAt,
+
+    @Schema(
+        description = "Whether the viewer has liked this tweet. Present only when a viewer is specified.",
+        example = "true",
+        nullable = true
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean likedByViewer,
+
+    @Schema(
+        description = "Whether the viewer has retweeted this tweet. Present only when a viewer is specified.",
+        example = "false",
+        nullable = true
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean retweetedByViewer,
+
+    @Schema(
+        description = "ID of the followed user whose retweet brought this tweet into the timeline. Present only for retweet timeline entries.",
+        example = "456e7890-e89b-12d3-a456-426614174222",
+        format = "uuid",
+        nullable = true
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    UUID retweetedBy,
+
+    @Schema(
+        description = "Timestamp of the retweet that brought this tweet into the timeline. Present only for retweet timeline entries.",
+        example = "2025-01-22T08:00:00Z",
+        format = "date-time",
+        nullable = true
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+    LocalDateTime retweetedAt
 ) {
 }
 
@@ -0,0 +1,28 @@
+package com.twitter.common.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a batch user existence check response.
+ *
+ * @param existingIds the requested identifiers that belong to existing users
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "UserExistsBatchResponse",
+    description = "Response listing which of the requested users exist in the system",
+    example = "{\"existingIds\": [\"123e4567-e89b-12d3-a456-426614174000\"]}"
+)
+public record UserExistsBatchResponseDto(
+    @ArraySchema(
+        schema = @Schema(format = "uuid", example = "123e4567-e89b-12d3-a456-426614174000"),
+        arraySchema = @Schema(description = "Requested identifiers that belong to existing users, in no particular order")
+    )
+    List<UUID> existingIds
+) {
+}
\ No newline at end of file
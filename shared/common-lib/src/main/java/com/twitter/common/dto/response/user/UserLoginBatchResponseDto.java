@@ -0,0 +1,24 @@
+package com.twitter.common.dto.response.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a batch user login response.
+ *
+ * @param logins the logins of the existing requested users keyed by user identifier
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "UserLoginBatchResponse",
+    description = "Response mapping the requested user identifiers to the logins of existing users",
+    example = "{\"logins\": {\"123e4567-e89b-12d3-a456-426614174000\": \"jane_doe\"}}"
+)
+public record UserLoginBatchResponseDto(
+    @Schema(description = "Logins keyed by user identifier; identifiers of missing users are absent")
+    Map<UUID, String> logins
+) {
+}
\ No newline at end of file
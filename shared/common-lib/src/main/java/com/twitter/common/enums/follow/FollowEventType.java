@@ -0,0 +1,31 @@
+package com.twitter.common.enums.follow;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enumeration of follow relationship change events published by follower-api.
+ *
+ * <p>The available types:</p>
+ * - <strong>FOLLOWED</strong> - A follow relationship was created
+ * - <strong>UNFOLLOWED</strong> - A follow relationship was removed
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Schema(
+    name = "FollowEventType",
+    description = "Type of a follow relationship change event",
+    example = "FOLLOWED"
+)
+public enum FollowEventType {
+
+    /**
+     * The follower started following the followed user.
+     */
+    FOLLOWED,
+
+    /**
+     * The follower stopped following the followed user.
+     */
+    UNFOLLOWED
+}
\ No newline at end of file
@@ -5,8 +5,10 @@ import com.twitter.common.exception.validation.FormatValidationException;
 import com.twitter.common.exception.validation.UniquenessValidationException;
 import com.twitter.common.exception.validation.ValidationException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -68,6 +70,39 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Handles rate limit violations and converts them to ProblemDetail with a Retry-After header.
+     *
+     * <p>Response format:</p>
+     * <pre>
+     * {
+     *   "type": "https://example.com/errors/rate-limit",
+     *   "title": "Too Many Requests",
+     *   "status": 429,
+     *   "detail": "Rate limit of endpoint 'tweets-create' exceeded",
+     *   "timestamp": "2025-01-27T15:30:00Z",
+     *   "endpoint": "tweets-create"
+     * }
+     * </pre>
+     *
+     * @param ex the RateLimitExceededException that was thrown
+     * @return ResponseEntity with 429 status, Retry-After header and ProblemDetail body
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimitExceededException(RateLimitExceededException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ex.getMessage()
+        );
+        problemDetail.setTitle("Too Many Requests");
+        problemDetail.setType(URI.create("https://example.com/errors/rate-limit"));
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("endpoint", ex.getEndpoint());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(problemDetail);
+    }
+
     /**
      * Handles general RuntimeException instances and converts them to ProblemDetail.
      *
@@ -0,0 +1,43 @@
+package com.twitter.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a user has used up the rate limit of an endpoint.
+ * <p>
+ * It is converted by the {@link GlobalExceptionHandler} into 429 Too Many Requests with a
+ * Retry-After header telling the client when the next call will be accepted.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * Name of the limited endpoint.
+     */
+    private final String endpoint;
+
+    /**
+     * Time after which the next call will be accepted.
+     */
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String endpoint, Duration retryAfter) {
+        super(String.format("Rate limit of endpoint '%s' exceeded", endpoint));
+        this.endpoint = endpoint;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the Retry-After value in whole seconds, rounded up.
+     *
+     * @return seconds until the next call will be accepted, at least 1
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
\ No newline at end of file
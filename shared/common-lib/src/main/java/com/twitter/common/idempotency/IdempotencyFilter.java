@@ -0,0 +1,291 @@
+package com.twitter.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * Servlet filter answering retried POST requests from stored responses.
+ * <p>
+ * A client that sends a POST request with an {@code Idempotency-Key} header may repeat the request
+ * with the same key after a timeout. The first request with a key runs normally; a successful
+ * response is stored in the {@link IdempotencyStore} and replayed to every retry with the
+ * {@code Idempotent-Replayed: true} header, without running the mutation and its validation again.
+ * Keys are scoped to the request path and bound to a digest of the request body:
+ * <ul>
+ *   <li>a retry arriving while the first request still runs gets 409 Conflict with Retry-After;</li>
+ *   <li>reusing a key for a different body gets 422 Unprocessable Entity;</li>
+ *   <li>failed requests are not stored, so a retry runs the request again;</li>
+ *   <li>a successful response larger than {@code max-response-size} is not stored, and its retries
+ *   get 409 Conflict instead of running the mutation again.</li>
+ * </ul>
+ * The body is read into memory to compute its digest, so a request with the header and a body
+ * larger than {@code max-request-size} is rejected with 413 Payload Too Large without running it.
+ * Requests without the header are not affected.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /**
+     * Request header carrying the idempotency key.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Response header marking a replayed response.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final URI PROBLEM_TYPE = URI.create("https://example.com/errors/idempotency-error");
+    private static final String IN_PROGRESS_RETRY_AFTER_SECONDS = "1";
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter inProgressCounter;
+    private final Counter mismatchCounter;
+    private final Counter completedCounter;
+    private final Counter tooLargeCounter;
+    private final Counter unstoredCounter;
+
+    public IdempotencyFilter(IdempotencyProperties properties,
+                             IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.executedCounter = requestsCounter(meterRegistry, "executed");
+        this.replayedCounter = requestsCounter(meterRegistry, "replayed");
+        this.inProgressCounter = requestsCounter(meterRegistry, "in_progress");
+        this.mismatchCounter = requestsCounter(meterRegistry, "mismatch");
+        this.completedCounter = requestsCounter(meterRegistry, "completed");
+        this.tooLargeCounter = requestsCounter(meterRegistry, "too_large");
+        this.unstoredCounter = Counter.builder("idempotency.responses.unstored")
+            .description("Number of successful responses too large to be stored for replay")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled()
+            || !HttpMethod.POST.matches(request.getMethod())
+            || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.maxKeyLength()) {
+            writeProblem(response, HttpStatus.BAD_REQUEST, String.format(
+                "%s header must be from 1 to %d characters", IDEMPOTENCY_KEY_HEADER, properties.maxKeyLength()));
+            return;
+        }
+
+        byte[] body = request.getContentLengthLong() > properties.maxRequestSize()
+            ? null
+            : request.getInputStream().readNBytes(properties.maxRequestSize() + 1);
+        if (body == null || body.length > properties.maxRequestSize()) {
+            tooLargeCounter.increment();
+            writeProblem(response, HttpStatus.PAYLOAD_TOO_LARGE, String.format(
+                "Requests with the %s header must not be larger than %d bytes",
+                IDEMPOTENCY_KEY_HEADER, properties.maxRequestSize()));
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String key = request.getRequestURI() + " " + idempotencyKey;
+        byte[] fingerprint = fingerprint(request.getQueryString(), cachedRequest.body);
+
+        IdempotencyStore.Lookup lookup = store.begin(key, fingerprint);
+        switch (lookup.state()) {
+            case STARTED -> execute(cachedRequest, response, filterChain, lookup.reservation());
+            case REPLAY -> replay(response, lookup.response(), key);
+            case IN_PROGRESS -> {
+                inProgressCounter.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, IN_PROGRESS_RETRY_AFTER_SECONDS);
+                writeProblem(response, HttpStatus.CONFLICT,
+                    "A request with this idempotency key is still being processed");
+            }
+            case MISMATCH -> {
+                mismatchCounter.increment();
+                writeProblem(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "The idempotency key was already used with a different request");
+            }
+            case COMPLETED -> {
+                completedCounter.increment();
+                writeProblem(response, HttpStatus.CONFLICT,
+                    "A request with this idempotency key was already processed, but its response cannot be replayed");
+            }
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyStore.Reservation reservation) throws ServletException, IOException {
+        executedCounter.increment();
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+
+            int status = cachingResponse.getStatus();
+            byte[] body = cachingResponse.getContentAsByteArray();
+            if (HttpStatusCode.valueOf(status).is2xxSuccessful()) {
+                if (body.length <= properties.maxResponseSize()) {
+                    store.complete(reservation,
+                        new IdempotencyStore.StoredResponse(status, cachingResponse.getContentType(), body));
+                } else {
+                    log.warn("Response of {} bytes to {} exceeds max-response-size, retries will be refused",
+                        body.length, request.getRequestURI());
+                    unstoredCounter.increment();
+                    store.completeWithoutResponse(reservation);
+                }
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(reservation);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse storedResponse, String key)
+        throws IOException {
+        replayedCounter.increment();
+        log.debug("Replaying stored response for idempotency key: {}", key);
+        response.setStatus(storedResponse.status());
+        if (storedResponse.contentType() != null) {
+            response.setContentType(storedResponse.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String detail) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(status.getReasonPhrase());
+        problemDetail.setType(PROBLEM_TYPE);
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private static byte[] fingerprint(String queryString, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (queryString != null) {
+                digest.update(queryString.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter requestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+            .description("Number of POST requests with an idempotency key")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Request whose body was read ahead to compute its digest and is served again from memory.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                ? Charset.forName(getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.twitter.common.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for handling of the {@code Idempotency-Key} header.
+ *
+ * @param enabled         whether POST requests with the header are deduplicated
+ * @param ttl             how long the response to a key is replayed to retries
+ * @param maxSize         maximum number of keys kept in memory
+ * @param maxKeyLength    maximum length of a key
+ * @param maxRequestSize  maximum size in bytes of a request body read ahead to compute its digest;
+ *                        larger requests with the header are rejected with 413 Payload Too Large
+ * @param maxResponseSize maximum size in bytes of a response body that is stored for replay
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("1h")
+    Duration ttl,
+
+    @DefaultValue("10000")
+    int maxSize,
+
+    @DefaultValue("255")
+    int maxKeyLength,
+
+    @DefaultValue("1048576")
+    int maxRequestSize,
+
+    @DefaultValue("65536")
+    int maxResponseSize
+) {
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.twitter.common.idempotency;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+
+/**
+ * Bounded in-process store of recent idempotency keys and the responses produced for them.
+ * <p>
+ * A key is reserved when its first request starts and completed with the response once the request
+ * succeeds, so a retry arriving while the first request still runs is told so instead of running
+ * the mutation twice. Keys are kept for {@code app.idempotency.ttl} in a {@link BoundedTtlCache} of
+ * {@code app.idempotency.max-size} keys. Only keys with a stored response can be evicted early: a
+ * reservation of a running request is kept until it expires, even if the store is over its limit,
+ * because dropping it would let a retry run the mutation a second time. A request whose response is
+ * too large to be stored still completes its key, without a response, so that retries are refused
+ * instead of running the mutation again.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+public class IdempotencyStore {
+
+    private final BoundedTtlCache<String, Entry> entries;
+    private final long ttlNanos;
+
+    public IdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.entries = new BoundedTtlCache<>(properties.maxSize(), Entry::isExpired,
+            Entry::completed, System::nanoTime);
+        this.ttlNanos = properties.ttl().toNanos();
+        Gauge.builder("idempotency.store.size", entries, BoundedTtlCache::size)
+            .description("Number of idempotency keys kept for replay")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reserves a key for a request or returns what is already known about it.
+     *
+     * @param key         the scoped idempotency key
+     * @param fingerprint digest of the request the key is used with
+     * @return a {@link State#STARTED} lookup with the reservation if the caller reserved the key and
+     * must run the request, otherwise the state of the request that reserved it earlier
+     */
+    public Lookup begin(String key, byte[] fingerprint) {
+        Entry reserved = new Entry(fingerprint, false, null, System.nanoTime() + ttlNanos);
+        while (true) {
+            Entry current = entries.get(key);
+            if (current == null || current.isExpired(System.nanoTime())) {
+                boolean won = current == null
+                    ? entries.putIfAbsent(key, reserved) == null
+                    : entries.replace(key, current, reserved);
+                if (won) {
+                    return Lookup.started(new Reservation(key, reserved));
+                }
+                continue;
+            }
+
+            if (!MessageDigest.isEqual(current.fingerprint(), fingerprint)) {
+                return new Lookup(State.MISMATCH, null, null);
+            }
+            if (!current.completed()) {
+                return new Lookup(State.IN_PROGRESS, null, null);
+            }
+            return current.response() == null
+                ? new Lookup(State.COMPLETED, null, null)
+                : new Lookup(State.REPLAY, current.response(), null);
+        }
+    }
+
+    /**
+     * Stores the response to a reserved key for replay to retries.
+     * <p>
+     * Nothing is stored if the reservation expired and the key was reserved again meanwhile.
+     *
+     * @param reservation the reservation returned by {@link #begin}
+     * @param response    the response to replay
+     */
+    public void complete(Reservation reservation, StoredResponse response) {
+        Entry reserved = reservation.entry;
+        entries.replace(reservation.key, reserved,
+            new Entry(reserved.fingerprint(), true, response, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Marks a reserved key as completed by a request whose response could not be stored, so that
+     * retries are refused with {@link State#COMPLETED} instead of running the request again.
+     * <p>
+     * Nothing is changed if the reservation expired and the key was reserved again meanwhile.
+     *
+     * @param reservation the reservation returned by {@link #begin}
+     */
+    public void completeWithoutResponse(Reservation reservation) {
+        complete(reservation, null);
+    }
+
+    /**
+     * Releases a reserved key whose request failed, so that a retry runs the request again.
+     * <p>
+     * A newer reservation of the same key is left untouched.
+     *
+     * @param reservation the reservation returned by {@link #begin}
+     */
+    public void release(Reservation reservation) {
+        entries.remove(reservation.key, reservation.entry);
+    }
+
+    /**
+     * Returns the number of keys in the store.
+     *
+     * @return number of store entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * State of a key found by {@link #begin}.
+     */
+    public enum State {
+        /**
+         * The key was free and is now reserved by the caller.
+         */
+        STARTED,
+        /**
+         * The request that reserved the key has not completed yet.
+         */
+        IN_PROGRESS,
+        /**
+         * The request completed and its response can be replayed.
+         */
+        REPLAY,
+        /**
+         * The request completed, but its response was not stored and cannot be replayed.
+         */
+        COMPLETED,
+        /**
+         * The key was used with a different request.
+         */
+        MISMATCH
+    }
+
+    /**
+     * Result of {@link #begin}.
+     *
+     * @param state       the state of the key
+     * @param response    the response to replay, only set in the {@link State#REPLAY} state
+     * @param reservation the reservation to complete or release, only set in the {@link State#STARTED} state
+     */
+    public record Lookup(State state, StoredResponse response, Reservation reservation) {
+
+        static Lookup started(Reservation reservation) {
+            return new Lookup(State.STARTED, null, reservation);
+        }
+    }
+
+    /**
+     * Key reserved by the caller of {@link #begin}.
+     * <p>
+     * Completing or releasing a reservation affects the key only while it is still held by this
+     * reservation, so a request that outlived its reservation cannot overwrite or drop a newer one.
+     */
+    public static final class Reservation {
+
+        private final String key;
+        private final Entry entry;
+
+        private Reservation(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Response replayed to the retries of a request.
+     *
+     * @param status      the HTTP status code
+     * @param contentType the content type of the body, may be null
+     * @param body        the response body
+     */
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * Known key.
+     *
+     * @param fingerprint    digest of the request the key was used with
+     * @param completed      whether the request has completed
+     * @param response       the stored response, or null while the request runs or if it was not stored
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the key is forgotten
+     */
+    private record Entry(byte[] fingerprint, boolean completed, StoredResponse response, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.twitter.common.ratelimit;
+
+import com.twitter.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Aspect enforcing {@link RateLimited} limits on controller methods.
+ * <p>
+ * The user key is evaluated from the method arguments and a token is taken from the user's bucket
+ * of the endpoint before the method runs, so a user over the limit is rejected with
+ * {@link RateLimitExceededException} before any remote call or database connection is made. When
+ * the key expression yields a collection, every user of the call is charged one token per element;
+ * the call is rejected at the first user over the limit, and tokens already taken for the other
+ * users are not returned.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+@Aspect
+@Component
+public class RateLimitAspect {
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final ConcurrentHashMap<String, Expression> expressions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RateLimitAspect(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Takes a token for the calling user and proceeds, or rejects the call when the bucket is empty.
+     *
+     * @param joinPoint   the intercepted controller method call
+     * @param rateLimited the limit annotation of the method
+     * @return the result of the method
+     * @throws RateLimitExceededException if the user has used up the limit of the endpoint
+     * @throws Throwable                  if the method throws
+     */
+    @Around("@annotation(rateLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
+        RateLimitProperties.EndpointLimit limit = properties.endpoints().get(rateLimited.endpoint());
+        if (!properties.enabled() || limit == null) {
+            return joinPoint.proceed();
+        }
+
+        Object key = evaluateKey(joinPoint, rateLimited.key());
+        if (key instanceof Collection<?> keys) {
+            Map<Object, Long> permits = keys.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), LinkedHashMap::new, Collectors.counting()));
+            permits.forEach((userKey, count) -> acquire(rateLimited.endpoint(), limit, userKey, count.intValue()));
+        } else if (key != null) {
+            acquire(rateLimited.endpoint(), limit, key, 1);
+        }
+        return joinPoint.proceed();
+    }
+
+    private void acquire(String endpoint, RateLimitProperties.EndpointLimit limit, Object key, int permits) {
+        long waitNanos = rateLimiter.tryAcquire(endpoint, limit, key, permits);
+        if (waitNanos > 0) {
+            log.debug("Rate limit exceeded: endpoint={}, key={}, permits={}, waitNanos={}", endpoint, key, permits, waitNanos);
+            rejectedCounter(endpoint).increment();
+            throw new RateLimitExceededException(endpoint, Duration.ofNanos(waitNanos));
+        }
+    }
+
+    private Object evaluateKey(ProceedingJoinPoint joinPoint, String keyExpression) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+            null, signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+        return expressions.computeIfAbsent(keyExpression, parser::parseExpression).getValue(context);
+    }
+
+    private Counter rejectedCounter(String endpoint) {
+        return rejectedCounters.computeIfAbsent(endpoint, name -> Counter.builder("rate.limit.rejected")
+            .description("Number of calls rejected by the rate limit")
+            .tag("endpoint", name)
+            .register(meterRegistry));
+    }
+}
\ No newline at end of file
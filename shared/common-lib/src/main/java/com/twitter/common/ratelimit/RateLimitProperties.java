@@ -0,0 +1,44 @@
+package com.twitter.common.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration properties for per-user rate limiting of endpoints annotated with {@link RateLimited}.
+ *
+ * @param enabled    whether calls are limited
+ * @param maxBuckets maximum number of user buckets kept in memory
+ * @param endpoints  limits by endpoint name
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("100000")
+    int maxBuckets,
+
+    @DefaultValue
+    Map<String, EndpointLimit> endpoints
+) {
+
+    /**
+     * Token bucket of one endpoint.
+     *
+     * @param capacity       maximum number of calls a user can make in a burst
+     * @param refillInterval time after which one more token is added to the bucket
+     */
+    public record EndpointLimit(
+        @DefaultValue("20")
+        int capacity,
+
+        @DefaultValue("1s")
+        Duration refillInterval
+    ) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.twitter.common.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation limiting the rate of calls to a controller method per user.
+ * <p>
+ * Every call takes a token from the bucket of the calling user for the endpoint; when the bucket
+ * is empty, the call is rejected by the RateLimitAspect with 429 Too Many Requests before the
+ * method body runs. Bucket capacity and refill rate are configured per endpoint under
+ * {@code app.rate-limit.endpoints}; endpoints without configuration are not limited.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * Name of the endpoint in {@code app.rate-limit.endpoints}, for example {@code tweets-create}.
+     *
+     * @return the endpoint name
+     */
+    String endpoint();
+
+    /**
+     * SpEL expression evaluated against the method arguments that yields the user the call is
+     * counted for, for example {@code #request.userId()}. Calls for which the expression yields
+     * null are not limited.
+     * <p>
+     * A call acting for many users at once, such as a batch endpoint, may yield a collection, for
+     * example {@code #request.follows().![followerId()]}. Each element then takes one token from the
+     * bucket of its user, so a batch of n items costs as much as n single calls.
+     *
+     * @return the key expression
+     */
+    String key();
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.twitter.common.ratelimit;
+
+import com.twitter.common.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets keyed by endpoint and user.
+ * <p>
+ * The state of a bucket is a single {@code long}, the theoretical arrival time of the next call as
+ * in the generic cell rate algorithm: every call moves it {@code refill-interval} forward, and a call
+ * is allowed while it stays within {@code capacity} intervals of the current time. This is a token
+ * bucket with the given capacity that gains one token per interval, updated with one
+ * compare-and-set and no locks or allocation per call.
+ * <p>
+ * A bucket whose arrival time is in the past is full and indistinguishable from a new one, so only
+ * such buckets are dropped when the number of buckets reaches {@code app.rate-limit.max-buckets}.
+ * A bucket that still holds a debt is never dropped, because dropping it would hand the user a full
+ * bucket again and a client could reset its own limit by rotating keys. While the map is full of
+ * such buckets, calls of users without a bucket are counted against one shared overflow bucket of
+ * the endpoint.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    private final BoundedTtlCache<BucketKey, AtomicLong> buckets;
+    private final ConcurrentHashMap<String, AtomicLong> overflowBuckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final Counter overflowCounter;
+
+    @Autowired
+    public TokenBucketRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.buckets = new BoundedTtlCache<>(properties.maxBuckets(),
+            (bucket, now) -> bucket.get() - now <= 0, bucket -> false, nanoClock);
+        this.nanoClock = nanoClock;
+        this.overflowCounter = Counter.builder("rate.limit.overflow")
+            .description("Number of calls counted against the shared bucket because no bucket could be created")
+            .register(meterRegistry);
+        Gauge.builder("rate.limit.buckets", buckets, BoundedTtlCache::size)
+            .description("Number of rate limit buckets kept in memory")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the bucket of a user for an endpoint.
+     *
+     * @param endpoint the endpoint name
+     * @param limit    the limit of the endpoint
+     * @param key      the user the call is counted for
+     * @return 0 if a token was taken, otherwise nanoseconds until the next token is available
+     */
+    public long tryAcquire(String endpoint, RateLimitProperties.EndpointLimit limit, Object key) {
+        return tryAcquire(endpoint, limit, key, 1);
+    }
+
+    /**
+     * Takes several tokens at once from the bucket of a user for an endpoint.
+     * <p>
+     * Either all tokens are taken or none. A call asking for more tokens than the capacity of the
+     * endpoint is never allowed.
+     *
+     * @param endpoint the endpoint name
+     * @param limit    the limit of the endpoint
+     * @param key      the user the call is counted for
+     * @param permits  number of tokens to take
+     * @return 0 if the tokens were taken, otherwise nanoseconds until enough tokens are available
+     */
+    public long tryAcquire(String endpoint, RateLimitProperties.EndpointLimit limit, Object key, int permits) {
+        long now = nanoClock.getAsLong();
+        long interval = limit.refillInterval().toNanos();
+        long cost = interval * permits;
+        long tolerance = interval * limit.capacity();
+
+        BucketKey bucketKey = new BucketKey(endpoint, key);
+        AtomicLong bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            if (buckets.makeRoom()) {
+                bucket = buckets.computeIfAbsent(bucketKey, ignored -> new AtomicLong(now));
+            } else {
+                overflowCounter.increment();
+                bucket = overflowBuckets.computeIfAbsent(endpoint, ignored -> new AtomicLong(now));
+            }
+        }
+
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival - now, 0) + now + cost;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of buckets kept in memory.
+     *
+     * @return number of buckets
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Identifier of a bucket.
+     *
+     * @param endpoint the endpoint name
+     * @param key      the user the calls are counted for
+     */
+    private record BucketKey(String endpoint, Object key) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.twitter.common.resilience;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown when a call to another service is rejected without being sent.
+ * <p>
+ * It extends {@link IOException}, so Feign reports it like any other failure to reach the
+ * service and the gateways handle it as such.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public class CallRejectedException extends IOException {
+
+    public CallRejectedException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.twitter.common.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker of one client.
+ * <p>
+ * While the circuit is closed, the outcomes of the last {@code slidingWindowSize} calls are kept and
+ * the circuit opens once at least {@code minimumCalls} of them were recorded and the share of
+ * failures reaches {@code failureRateThreshold}. An open circuit rejects calls for
+ * {@code openDuration}, then lets {@code halfOpenCalls} trial calls through: the circuit closes when
+ * all of them succeed and opens again on the first failure.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(ResilienceProperties.ClientPolicy policy, LongSupplier nanoClock) {
+        this.failureRateThreshold = policy.failureRateThreshold();
+        this.minimumCalls = policy.minimumCalls();
+        this.openDurationNanos = policy.openDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, policy.halfOpenCalls());
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[Math.max(1, policy.slidingWindowSize())];
+    }
+
+    /**
+     * Asks for permission to make a call.
+     *
+     * @return true if the call may be made and its outcome must be recorded
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCalls >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCalls) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Returns the current state of the circuit.
+     *
+     * @return state of the circuit
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCalls == outcomes.length) {
+            if (outcomes[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        outcomes[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+    }
+}
\ No newline at end of file
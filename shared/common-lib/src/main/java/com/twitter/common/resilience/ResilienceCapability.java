@@ -0,0 +1,26 @@
+package com.twitter.common.resilience;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * Feign capability wrapping the HTTP client of every Feign client into a {@link ResilientClient}.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public class ResilienceCapability implements Capability {
+
+    private final ResilienceProperties properties;
+    private final ResilienceRegistry registry;
+
+    public ResilienceCapability(ResilienceProperties properties, ResilienceRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return properties.enabled() ? new ResilientClient(client, registry) : client;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.twitter.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the resilience of Feign clients.
+ * <p>
+ * It is only active in services that use Feign; Spring Cloud OpenFeign applies the
+ * {@link ResilienceCapability} bean to every Feign client of the service.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnClass(name = "feign.Capability")
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public ResilienceRegistry resilienceRegistry(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        return new ResilienceRegistry(properties, meterRegistry);
+    }
+
+    @Bean
+    public ResilienceCapability resilienceCapability(ResilienceProperties properties, ResilienceRegistry registry) {
+        return new ResilienceCapability(properties, registry);
+    }
+}
\ No newline at end of file
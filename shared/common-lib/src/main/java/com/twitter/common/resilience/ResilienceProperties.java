@@ -0,0 +1,95 @@
+package com.twitter.common.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration properties for the resilience of calls made by Feign clients.
+ *
+ * @param enabled  whether Feign calls are guarded
+ * @param defaults policy of clients without their own entry in {@code clients}
+ * @param clients  policies by Feign client name, replacing the defaults as a whole
+ * @author geron
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.resilience")
+public record ResilienceProperties(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue
+    ClientPolicy defaults,
+
+    @DefaultValue
+    Map<String, ClientPolicy> clients
+) {
+
+    /**
+     * Returns the policy of a Feign client.
+     *
+     * @param client the Feign client name
+     * @return the policy configured for the client, or the default policy
+     */
+    public ClientPolicy policyFor(String client) {
+        return clients.getOrDefault(client, defaults);
+    }
+
+    /**
+     * Resilience policy of one Feign client.
+     *
+     * @param failureRateThreshold percentage of failed calls in the window that opens the circuit
+     * @param slidingWindowSize    number of most recent calls the failure rate is calculated from
+     * @param minimumCalls         number of calls in the window needed before the circuit can open
+     * @param openDuration         how long an open circuit rejects calls before trial calls are let through
+     * @param halfOpenCalls        number of successful trial calls that close the circuit again
+     * @param maxConcurrentCalls   maximum number of calls to the client in flight at once
+     * @param maxRetries           maximum number of retries of a failed GET call
+     * @param retryBackoff         base delay before the first retry, doubled for every next one
+     * @param maxRetryBackoff      upper bound of the delay before a retry
+     * @param hedgeDelay           time after which a slow GET call is sent a second time, zero to disable
+     */
+    public record ClientPolicy(
+        @DefaultValue("50")
+        int failureRateThreshold,
+
+        @DefaultValue("20")
+        int slidingWindowSize,
+
+        @DefaultValue("10")
+        int minimumCalls,
+
+        @DefaultValue("10s")
+        Duration openDuration,
+
+        @DefaultValue("3")
+        int halfOpenCalls,
+
+        @DefaultValue("20")
+        int maxConcurrentCalls,
+
+        @DefaultValue("2")
+        int maxRetries,
+
+        @DefaultValue("50ms")
+        Duration retryBackoff,
+
+        @DefaultValue("500ms")
+        Duration maxRetryBackoff,
+
+        @DefaultValue("0s")
+        Duration hedgeDelay
+    ) {
+
+        /**
+         * Returns whether slow GET calls are hedged.
+         *
+         * @return true if {@code hedgeDelay} is positive
+         */
+        public boolean hedgingEnabled() {
+            return hedgeDelay.isPositive();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.twitter.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of the circuit breakers, bulkheads and metrics of Feign clients.
+ * <p>
+ * The state of a client is created on its first call from {@link ResilienceProperties#policyFor}
+ * and shared by all calls to the client, whichever Feign interface they are made through.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public class ResilienceRegistry implements DisposableBean {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, ClientResilience> clients = new ConcurrentHashMap<>();
+
+    @Getter
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ResilienceRegistry(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    ResilienceRegistry(ResilienceProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the state of a client, creating it on first use.
+     *
+     * @param client the Feign client name
+     * @return circuit breaker, bulkhead and metrics of the client
+     */
+    public ClientResilience forClient(String client) {
+        return clients.computeIfAbsent(client, this::create);
+    }
+
+    @Override
+    public void destroy() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    private ClientResilience create(String client) {
+        ResilienceProperties.ClientPolicy policy = properties.policyFor(client);
+        ClientResilience resilience = new ClientResilience(client, policy,
+            new CircuitBreaker(policy, nanoClock), new Semaphore(policy.maxConcurrentCalls()), meterRegistry);
+        Gauge.builder("resilience.circuit.state", resilience.getCircuitBreaker(), breaker -> breaker.getState().ordinal())
+            .description("State of the circuit breaker: 0 closed, 1 open, 2 half-open")
+            .tag("client", client)
+            .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.available", resilience.getBulkhead(), Semaphore::availablePermits)
+            .description("Number of calls that can still be started concurrently")
+            .tag("client", client)
+            .register(meterRegistry);
+        return resilience;
+    }
+
+    /**
+     * Circuit breaker, bulkhead and metrics of one client.
+     */
+    @Getter
+    public static final class ClientResilience {
+
+        private final String client;
+        private final ResilienceProperties.ClientPolicy policy;
+        private final CircuitBreaker circuitBreaker;
+        private final Semaphore bulkhead;
+        private final Counter successCalls;
+        private final Counter failedCalls;
+        private final Counter circuitOpenCalls;
+        private final Counter bulkheadFullCalls;
+        private final Counter retries;
+        private final Counter hedgesSent;
+        private final Counter hedgesWon;
+
+        private ClientResilience(String client,
+                                 ResilienceProperties.ClientPolicy policy,
+                                 CircuitBreaker circuitBreaker,
+                                 Semaphore bulkhead,
+                                 MeterRegistry meterRegistry) {
+            this.client = client;
+            this.policy = policy;
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead = bulkhead;
+            this.successCalls = callsCounter(meterRegistry, client, "success");
+            this.failedCalls = callsCounter(meterRegistry, client, "failure");
+            this.circuitOpenCalls = callsCounter(meterRegistry, client, "circuit_open");
+            this.bulkheadFullCalls = callsCounter(meterRegistry, client, "bulkhead_full");
+            this.retries = Counter.builder("resilience.retries")
+                .description("Number of retried GET calls")
+                .tag("client", client)
+                .register(meterRegistry);
+            this.hedgesSent = hedgesCounter(meterRegistry, client, "sent");
+            this.hedgesWon = hedgesCounter(meterRegistry, client, "won");
+        }
+
+        private static Counter callsCounter(MeterRegistry meterRegistry, String client, String result) {
+            return Counter.builder("resilience.calls")
+                .description("Number of calls to another service by result")
+                .tag("client", client)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+
+        private static Counter hedgesCounter(MeterRegistry meterRegistry, String client, String result) {
+            return Counter.builder("resilience.hedges")
+                .description("Number of hedged GET calls sent and answered first")
+                .tag("client", client)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+    }
+}
\ No newline at end of file
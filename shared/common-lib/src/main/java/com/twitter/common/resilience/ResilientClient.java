@@ -0,0 +1,228 @@
+package com.twitter.common.resilience;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Feign {@link Client} guarding calls to another service.
+ * <p>
+ * Every call takes a permit of the client's bulkhead and of its {@link CircuitBreaker}; when either
+ * is not available the call fails at once with {@link CallRejectedException}, so a slow or failing
+ * service holds at most {@code max-concurrent-calls} request threads of the caller. A call fails
+ * for the circuit breaker when no response is received or the response status is 5xx.
+ * <p>
+ * GET calls are idempotent and are retried up to {@code max-retries} times after an I/O error or a
+ * 502, 503 or 504 response, waiting a random delay of up to {@code retry-backoff} doubled per retry
+ * and capped at {@code max-retry-backoff}. With a positive {@code hedge-delay}, a GET call that got
+ * no response within the delay is sent a second time if the bulkhead has a free permit, and the
+ * first usable response is returned.
+ *
+ * @author geron
+ * @version 1.0
+ */
+@Slf4j
+public class ResilientClient implements Client {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final Client delegate;
+    private final ResilienceRegistry registry;
+
+    public ResilientClient(Client delegate, ResilienceRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        ResilienceRegistry.ClientResilience client = registry.forClient(clientName(request));
+        if (!client.getBulkhead().tryAcquire()) {
+            client.getBulkheadFullCalls().increment();
+            throw new CallRejectedException(String.format("Too many concurrent calls to %s", client.getClient()));
+        }
+
+        try {
+            if (!client.getCircuitBreaker().tryAcquirePermission()) {
+                client.getCircuitOpenCalls().increment();
+                throw new CallRejectedException(String.format("Circuit breaker of %s is open", client.getClient()));
+            }
+
+            Response response;
+            try {
+                response = executeWithRetry(request, options, client);
+            } catch (IOException | RuntimeException ex) {
+                client.getCircuitBreaker().onFailure();
+                client.getFailedCalls().increment();
+                throw ex;
+            }
+
+            if (isServerError(response.status())) {
+                client.getCircuitBreaker().onFailure();
+                client.getFailedCalls().increment();
+            } else {
+                client.getCircuitBreaker().onSuccess();
+                client.getSuccessCalls().increment();
+            }
+            return response;
+        } finally {
+            client.getBulkhead().release();
+        }
+    }
+
+    private Response executeWithRetry(Request request, Request.Options options,
+                                      ResilienceRegistry.ClientResilience client) throws IOException {
+        ResilienceProperties.ClientPolicy policy = client.getPolicy();
+        boolean idempotent = request.httpMethod() == Request.HttpMethod.GET;
+        int maxAttempts = idempotent ? policy.maxRetries() + 1 : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= maxAttempts;
+            try {
+                Response response = idempotent && policy.hedgingEnabled()
+                    ? executeHedged(request, options, client)
+                    : delegate.execute(request, options);
+                if (lastAttempt || !RETRYABLE_STATUSES.contains(response.status())) {
+                    return response;
+                }
+                log.debug("Retrying {} {} after status {}", request.httpMethod(), request.url(), response.status());
+                response.close();
+            } catch (IOException ex) {
+                if (lastAttempt) {
+                    throw ex;
+                }
+                log.debug("Retrying {} {} after error: {}", request.httpMethod(), request.url(), ex.getMessage());
+            }
+
+            client.getRetries().increment();
+            backoff(policy, attempt);
+        }
+    }
+
+    private Response executeHedged(Request request, Request.Options options,
+                                   ResilienceRegistry.ClientResilience client) throws IOException {
+        CompletableFuture<Response> primary = submit(request, options);
+        try {
+            return primary.get(client.getPolicy().hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            log.trace("No response from {} within hedge delay", client.getClient());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + client.getClient());
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        }
+
+        if (!client.getBulkhead().tryAcquire()) {
+            return await(primary, client);
+        }
+        client.getHedgesSent().increment();
+        CompletableFuture<Response> hedge = submit(request, options);
+        hedge.whenComplete((response, error) -> client.getBulkhead().release());
+
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        primary.whenComplete(firstUsable(winner, pending));
+        hedge.whenComplete(firstUsable(winner, pending));
+
+        Response response = await(winner, client);
+        if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+            client.getHedgesWon().increment();
+        }
+        return response;
+    }
+
+    private CompletableFuture<Response> submit(Request request, Request.Options options) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return delegate.execute(request, options);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, registry.getHedgeExecutor());
+    }
+
+    /**
+     * Completes the winner with the first response that is not a server error. The outcome of the
+     * last call is passed on when neither was usable; other responses are closed.
+     */
+    private static BiConsumer<Response, Throwable> firstUsable(CompletableFuture<Response> winner, AtomicInteger pending) {
+        return (response, error) -> {
+            boolean usable = error == null && !isServerError(response.status());
+            boolean last = pending.decrementAndGet() == 0;
+            if (usable || last) {
+                boolean completed = error == null ? winner.complete(response) : winner.completeExceptionally(error);
+                if (completed) {
+                    return;
+                }
+            }
+            if (response != null) {
+                response.close();
+            }
+        };
+    }
+
+    private static Response await(CompletableFuture<Response> future, ResilienceRegistry.ClientResilience client)
+        throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + client.getClient());
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return new IOException(cause);
+    }
+
+    private static void backoff(ResilienceProperties.ClientPolicy policy, int attempt) throws IOException {
+        long base = policy.retryBackoff().toNanos() << Math.min(attempt - 1, MAX_BACKOFF_DOUBLINGS);
+        long cap = Math.min(policy.maxRetryBackoff().toNanos(), base);
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    private static boolean isServerError(int status) {
+        return status >= 500;
+    }
+
+    private static String clientName(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return URI.create(request.url()).getHost();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.twitter.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects of a transaction until it commits.
+ * <p>
+ * Caches, graphs and streams kept in memory must not see a change that may still be rolled back,
+ * and a concurrent reader must not put back the state a transaction is replacing. Actions are run
+ * after the commit of the current transaction, or immediately when no transaction is active. An
+ * action is not run if the transaction rolls back.
+ *
+ * @author geron
+ * @version 1.0
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or immediately without a transaction.
+     *
+     * @param action the action to run
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
\ No newline at end of file
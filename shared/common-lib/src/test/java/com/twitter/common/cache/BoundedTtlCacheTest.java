@@ -0,0 +1,142 @@
+package com.twitter.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private BoundedTtlCache<String, Value> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BoundedTtlCache<>(10, Value::isExpired, Value::evictable, clock::get);
+    }
+
+    private Value value(String name) {
+        return new Value(name, clock.get() + 1_000 * MILLI, true);
+    }
+
+    @Nested
+    class ConditionalOperationTests {
+
+        @Test
+        void replace_WithCurrentInstance_ShouldReplaceValue() {
+            Value current = value("a");
+            Value next = value("b");
+            cache.put("key", current);
+
+            assertThat(cache.replace("key", current, next)).isTrue();
+            assertThat(cache.get("key")).isSameAs(next);
+        }
+
+        @Test
+        void replace_WithEqualButDifferentInstance_ShouldKeepValue() {
+            Value current = value("a");
+            cache.put("key", current);
+
+            assertThat(cache.replace("key", new Value("a", current.expiresAtNanos(), true), value("b"))).isFalse();
+            assertThat(cache.get("key")).isSameAs(current);
+        }
+
+        @Test
+        void remove_WithOtherInstance_ShouldKeepValue() {
+            Value current = value("a");
+            cache.put("key", current);
+
+            assertThat(cache.remove("key", value("b"))).isFalse();
+            assertThat(cache.remove("key", current)).isTrue();
+            assertThat(cache.get("key")).isNull();
+        }
+
+        @Test
+        void putIfAbsent_WhenPresent_ShouldReturnCurrentValue() {
+            Value current = value("a");
+            cache.put("key", current);
+
+            assertThat(cache.putIfAbsent("key", value("b"))).isSameAs(current);
+            assertThat(cache.putIfAbsent("other", value("c"))).isNull();
+        }
+    }
+
+    @Nested
+    class EvictionTests {
+
+        @Test
+        void put_WhenOverMaxSize_ShouldRemoveExpiredEntriesFirst() {
+            for (int i = 0; i < 5; i++) {
+                cache.put("expired-" + i, new Value("e", clock.get(), true));
+            }
+            clock.addAndGet(10 * MILLI);
+            for (int i = 0; i < 6; i++) {
+                cache.put("live-" + i, value("l"));
+            }
+
+            assertThat(cache.size()).isEqualTo(6);
+            assertThat(cache.evictionCount()).isEqualTo(5.0);
+        }
+
+        @Test
+        void put_WhenOverMaxSize_ShouldEvictLeastRecentlyReadEntries() {
+            for (int i = 0; i < 10; i++) {
+                cache.put("key-" + i, value("v"));
+                clock.addAndGet(10 * MILLI);
+            }
+            cache.get("key-0");
+            cache.get("key-1");
+            clock.addAndGet(10 * MILLI);
+
+            cache.put("key-10", value("v"));
+
+            assertThat(cache.size()).isEqualTo(9);
+            assertThat(cache.get("key-0")).isNotNull();
+            assertThat(cache.get("key-1")).isNotNull();
+            assertThat(cache.get("key-10")).isNotNull();
+            assertThat(cache.get("key-2")).isNull();
+            assertThat(cache.get("key-3")).isNull();
+        }
+
+        @Test
+        void put_WhenOverMaxSize_ShouldNeverEvictPinnedEntries() {
+            for (int i = 0; i < 10; i++) {
+                cache.put("pinned-" + i, new Value("p", clock.get() + 1_000 * MILLI, false));
+            }
+
+            cache.put("key", value("v"));
+
+            assertThat(cache.size()).isEqualTo(10);
+            for (int i = 0; i < 10; i++) {
+                assertThat(cache.get("pinned-" + i)).isNotNull();
+            }
+        }
+
+        @Test
+        void makeRoom_WhenOnlyPinnedEntriesLeft_ShouldReportFull() {
+            for (int i = 0; i < 10; i++) {
+                cache.put("pinned-" + i, new Value("p", clock.get() + 1_000 * MILLI, false));
+            }
+
+            assertThat(cache.makeRoom()).isFalse();
+
+            clock.addAndGet(2_000 * MILLI);
+
+            assertThat(cache.makeRoom()).isTrue();
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    private record Value(String name, long expiresAtNanos, boolean evictable) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
\ No newline at end of file
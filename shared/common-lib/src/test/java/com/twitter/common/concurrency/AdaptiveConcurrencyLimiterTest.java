@@ -0,0 +1,133 @@
+package com.twitter.common.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST_RTT = Duration.ofMillis(10).toNanos();
+    private static final long SLOW_RTT = Duration.ofMillis(100).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(
+            new ConcurrencyLimitProperties(true, 20, 5, 100, Duration.ofSeconds(1), 10, 1.5, 0.2),
+            meterRegistry, clock::get);
+    }
+
+    private void runWindow(int concurrency, long rttNanos) {
+        for (int i = 0; i < concurrency; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        for (int i = 0; i < concurrency - 1; i++) {
+            limiter.release(rttNanos);
+        }
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        limiter.release(rttNanos);
+    }
+
+    @Nested
+    class TryAcquireTests {
+
+        @Test
+        void tryAcquire_UpToLimit_ShouldAdmitRequests() {
+            for (int i = 0; i < 20; i++) {
+                assertThat(limiter.tryAcquire()).isTrue();
+            }
+
+            assertThat(limiter.getInFlight()).isEqualTo(20);
+        }
+
+        @Test
+        void tryAcquire_OverLimit_ShouldRejectUntilReleased() {
+            for (int i = 0; i < 20; i++) {
+                limiter.tryAcquire();
+            }
+
+            assertThat(limiter.tryAcquire()).isFalse();
+
+            limiter.release(FAST_RTT);
+
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+
+    @Nested
+    class LimitTests {
+
+        @Test
+        void release_WithStableLatencyAtLimit_ShouldIncreaseLimit() {
+            for (int i = 0; i < 3; i++) {
+                runWindow(limiter.getLimit(), FAST_RTT);
+            }
+
+            assertThat(limiter.getLimit()).isGreaterThan(20);
+        }
+
+        @Test
+        void release_WithLowUtilization_ShouldKeepLimit() {
+            runWindow(5, FAST_RTT);
+            runWindow(5, FAST_RTT);
+
+            assertThat(limiter.getLimit()).isEqualTo(20);
+        }
+
+        @Test
+        void release_WhenLatencyGrows_ShouldDecreaseLimit() {
+            runWindow(20, FAST_RTT);
+            int beforeSlowdown = limiter.getLimit();
+
+            runWindow(15, SLOW_RTT);
+            runWindow(15, SLOW_RTT);
+
+            assertThat(limiter.getLimit()).isLessThan(beforeSlowdown);
+        }
+
+        @Test
+        void release_UnderSustainedSlowdown_ShouldNotGoBelowMinLimit() {
+            runWindow(20, FAST_RTT);
+            for (int i = 0; i < 100; i++) {
+                runWindow(Math.min(limiter.getLimit(), 10), SLOW_RTT * (i + 2));
+            }
+
+            assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(5);
+        }
+
+        @Test
+        void release_WithTooFewSamples_ShouldNotRecalculateLimit() {
+            runWindow(20, FAST_RTT);
+            int limit = limiter.getLimit();
+
+            for (int i = 0; i < 5; i++) {
+                limiter.tryAcquire();
+            }
+            clock.addAndGet(Duration.ofSeconds(5).toNanos());
+            for (int i = 0; i < 5; i++) {
+                limiter.release(SLOW_RTT);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(limit);
+        }
+
+        @Test
+        void limit_ShouldBeExposedAsGauges() {
+            limiter.tryAcquire();
+
+            assertThat(meterRegistry.get("concurrency.limit").gauge().value()).isEqualTo(20.0);
+            assertThat(meterRegistry.get("concurrency.in_flight").gauge().value()).isEqualTo(1.0);
+        }
+    }
+}
\ No newline at end of file
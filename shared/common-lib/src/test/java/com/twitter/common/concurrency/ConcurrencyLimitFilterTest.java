@@ -0,0 +1,91 @@
+package com.twitter.common.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties =
+            new ConcurrencyLimitProperties(true, 2, 1, 10, Duration.ofSeconds(1), 10, 1.5, 0.2);
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+        filter = new ConcurrencyLimitFilter(properties, limiter, objectMapper, meterRegistry);
+        executions = new AtomicInteger();
+    }
+
+    private FilterChain countingChain() {
+        return (request, response) -> executions.incrementAndGet();
+    }
+
+    @Test
+    void doFilter_UnderLimit_ShouldProceedAndReleaseSlot() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tweets"), response, countingChain());
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_OverLimit_ShouldReturnServiceUnavailable() throws Exception {
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/tweets"), response, countingChain());
+
+        assertThat(executions.get()).isZero();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentType()).isEqualTo("application/problem+json");
+        assertThat(response.getContentAsString()).contains("https://example.com/errors/overloaded");
+        assertThat(meterRegistry.get("concurrency.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doFilter_ActuatorOverLimit_ShouldProceed() throws Exception {
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, countingChain());
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_WhenChainThrows_ShouldReleaseSlot() {
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(
+            new MockHttpServletRequest("GET", "/api/v1/tweets"), new MockHttpServletResponse(), failingChain))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
\ No newline at end of file
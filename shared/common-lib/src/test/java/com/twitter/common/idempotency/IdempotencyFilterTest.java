@@ -0,0 +1,301 @@
+package com.twitter.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"userId\":\"123e4567-e89b-12d3-a456-426614174000\",\"content\":\"Hello\"}";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties(true, Duration.ofHours(1), 100, 16, 2048, 1024);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(properties, meterRegistry);
+        filter = new IdempotencyFilter(properties, store, objectMapper, meterRegistry);
+        executions = new AtomicInteger();
+    }
+
+    private MockHttpServletRequest request(String method, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/tweets");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private FilterChain respondingChain(int status) {
+        return (ServletRequest request, ServletResponse response) -> {
+            executions.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"execution\":" + executions.get() + ",\"echo\":" + body + "}");
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Nested
+    class ReplayTests {
+
+        @Test
+        void doFilter_WhenKeyIsRetried_ShouldReplayStoredResponseWithoutExecuting() throws Exception {
+            MockHttpServletResponse first = perform(request("POST", "key-1", BODY), respondingChain(201));
+            MockHttpServletResponse retry = perform(request("POST", "key-1", BODY), respondingChain(201));
+
+            assertThat(executions).hasValue(1);
+            assertThat(first.getStatus()).isEqualTo(201);
+            assertThat(first.getContentAsString()).contains("\"execution\":1").contains("Hello");
+            assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getContentType()).isEqualTo("application/json");
+            assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+            assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        @Test
+        void doFilter_WithDifferentKeys_ShouldExecuteEachRequest() throws Exception {
+            perform(request("POST", "key-1", BODY), respondingChain(201));
+            perform(request("POST", "key-2", BODY), respondingChain(201));
+
+            assertThat(executions).hasValue(2);
+            assertThat(store.size()).isEqualTo(2);
+        }
+
+        @Test
+        void doFilter_WhenKeyIsReusedOnAnotherPath_ShouldExecuteRequest() throws Exception {
+            perform(request("POST", "key-1", BODY), respondingChain(201));
+            MockHttpServletRequest likeRequest = request("POST", "key-1", BODY);
+            likeRequest.setRequestURI("/api/v1/tweets/223e4567-e89b-12d3-a456-426614174001/like");
+            perform(likeRequest, respondingChain(201));
+
+            assertThat(executions).hasValue(2);
+        }
+
+        @Test
+        void doFilter_WhenRequestFails_ShouldNotStoreResponseAndExecuteRetry() throws Exception {
+            MockHttpServletResponse failed = perform(request("POST", "key-1", BODY), respondingChain(503));
+            MockHttpServletResponse retry = perform(request("POST", "key-1", BODY), respondingChain(201));
+
+            assertThat(executions).hasValue(2);
+            assertThat(failed.getStatus()).isEqualTo(503);
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        }
+
+        @Test
+        void doFilter_WhenChainThrows_ShouldReleaseKey() throws Exception {
+            FilterChain throwingChain = (request, response) -> {
+                executions.incrementAndGet();
+                throw new IllegalStateException("Database unavailable");
+            };
+
+            try {
+                perform(request("POST", "key-1", BODY), throwingChain);
+            } catch (IllegalStateException expected) {
+                // the exception is propagated to the container
+            }
+            perform(request("POST", "key-1", BODY), respondingChain(201));
+
+            assertThat(executions).hasValue(2);
+        }
+    }
+
+    @Nested
+    class ConflictTests {
+
+        @Test
+        void doFilter_WhenKeyIsReusedWithDifferentBody_ShouldReturn422() throws Exception {
+            perform(request("POST", "key-1", BODY), respondingChain(201));
+            MockHttpServletResponse response = perform(request("POST", "key-1", "{\"content\":\"Other\"}"),
+                respondingChain(201));
+
+            assertThat(executions).hasValue(1);
+            assertThat(response.getStatus()).isEqualTo(422);
+            assertThat(response.getContentType()).isEqualTo("application/problem+json");
+            assertThat(response.getContentAsString())
+                .contains("\"title\":\"Unprocessable Entity\"")
+                .contains("\"timestamp\"");
+        }
+
+        @Test
+        void doFilter_WhenRetryArrivesDuringFirstRequest_ShouldReturn409WithRetryAfter() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FilterChain blockingChain = (request, response) -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respondingChain(201).doFilter(request, response);
+            };
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<MockHttpServletResponse> first = executor.submit(
+                    () -> perform(request("POST", "key-1", BODY), blockingChain));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+                MockHttpServletResponse retry = perform(request("POST", "key-1", BODY), respondingChain(201));
+                release.countDown();
+
+                assertThat(retry.getStatus()).isEqualTo(409);
+                assertThat(retry.getHeader("Retry-After")).isEqualTo("1");
+                assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+                assertThat(executions).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void doFilter_WhenResponseIsTooLargeToStore_ShouldRefuseRetryWith409() throws Exception {
+            String largeBody = "\"" + "x".repeat(1100) + "\"";
+            MockHttpServletResponse first = perform(request("POST", "key-1", largeBody), respondingChain(200));
+            MockHttpServletResponse retry = perform(request("POST", "key-1", largeBody), respondingChain(200));
+
+            assertThat(executions).hasValue(1);
+            assertThat(first.getStatus()).isEqualTo(200);
+            assertThat(first.getContentAsString()).contains("xxx");
+            assertThat(retry.getStatus()).isEqualTo(409);
+            assertThat(retry.getHeader("Retry-After")).isNull();
+            assertThat(meterRegistry.get("idempotency.responses.unstored").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    class RequestBodyTests {
+
+        @Test
+        void doFilter_WithContentLengthOverLimit_ShouldReturn413WithoutExecuting() throws Exception {
+            MockHttpServletResponse response = perform(request("POST", "key-1", "x".repeat(2049)), respondingChain(201));
+
+            assertThat(response.getStatus()).isEqualTo(413);
+            assertThat(response.getContentType()).isEqualTo("application/problem+json");
+            assertThat(executions).hasValue(0);
+            assertThat(store.size()).isZero();
+        }
+
+        @Test
+        void doFilter_WithUnknownLengthBodyOverLimit_ShouldReturn413WithoutExecuting() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tweets") {
+                @Override
+                public long getContentLengthLong() {
+                    return -1;
+                }
+            };
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+            request.setContent("x".repeat(2049).getBytes(StandardCharsets.UTF_8));
+
+            MockHttpServletResponse response = perform(request, respondingChain(201));
+
+            assertThat(response.getStatus()).isEqualTo(413);
+            assertThat(executions).hasValue(0);
+        }
+
+        @Test
+        void doFilter_WhenChainReadsBodyWithReadListener_ShouldDeliverWholeBody() throws Exception {
+            StringBuilder read = new StringBuilder();
+            AtomicInteger allDataRead = new AtomicInteger();
+            FilterChain listeningChain = (request, response) -> {
+                ServletInputStream input = request.getInputStream();
+                input.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        while (input.isReady() && !input.isFinished()) {
+                            read.append((char) input.read());
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allDataRead.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        throw new AssertionError(throwable);
+                    }
+                });
+                ((HttpServletResponse) response).setStatus(201);
+            };
+
+            MockHttpServletResponse response = perform(request("POST", "key-1", BODY), listeningChain);
+
+            assertThat(response.getStatus()).isEqualTo(201);
+            assertThat(read.toString()).isEqualTo(BODY);
+            assertThat(allDataRead).hasValue(1);
+        }
+    }
+
+    @Nested
+    class BypassTests {
+
+        @Test
+        void doFilter_WithoutKey_ShouldExecuteEveryRequest() throws Exception {
+            perform(request("POST", null, BODY), respondingChain(201));
+            perform(request("POST", null, BODY), respondingChain(201));
+
+            assertThat(executions).hasValue(2);
+            assertThat(store.size()).isZero();
+        }
+
+        @Test
+        void doFilter_WithNonPostMethod_ShouldIgnoreKey() throws Exception {
+            perform(request("DELETE", "key-1", BODY), respondingChain(204));
+            perform(request("DELETE", "key-1", BODY), respondingChain(204));
+
+            assertThat(executions).hasValue(2);
+            assertThat(store.size()).isZero();
+        }
+
+        @Test
+        void doFilter_WithTooLongKey_ShouldReturn400() throws Exception {
+            MockHttpServletResponse response = perform(request("POST", "k".repeat(17), BODY), respondingChain(201));
+
+            assertThat(response.getStatus()).isEqualTo(400);
+            assertThat(executions).hasValue(0);
+        }
+    }
+}
\ No newline at end of file
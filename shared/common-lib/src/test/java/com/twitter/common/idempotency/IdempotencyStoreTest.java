@@ -0,0 +1,95 @@
+package com.twitter.common.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyStoreTest {
+
+    private static final byte[] FINGERPRINT = {1, 2, 3};
+    private static final byte[] OTHER_FINGERPRINT = {4, 5, 6};
+    private static final IdempotencyStore.StoredResponse RESPONSE =
+        new IdempotencyStore.StoredResponse(201, "application/json", new byte[]{'{', '}'});
+
+    private static IdempotencyStore store(Duration ttl, int maxSize) {
+        return new IdempotencyStore(new IdempotencyProperties(true, ttl, maxSize, 16, 2048, 1024), new SimpleMeterRegistry());
+    }
+
+    @Nested
+    class EvictionTests {
+
+        @Test
+        void begin_WhenStoreIsFullOfRunningRequests_ShouldKeepTheirReservations() {
+            IdempotencyStore store = store(Duration.ofHours(1), 10);
+            for (int i = 0; i < 20; i++) {
+                assertThat(store.begin("key-" + i, FINGERPRINT).state()).isEqualTo(IdempotencyStore.State.STARTED);
+            }
+
+            assertThat(store.size()).isEqualTo(20);
+            for (int i = 0; i < 20; i++) {
+                assertThat(store.begin("key-" + i, FINGERPRINT).state()).isEqualTo(IdempotencyStore.State.IN_PROGRESS);
+            }
+        }
+
+        @Test
+        void begin_WhenStoreIsFull_ShouldEvictCompletedKeysOnly() {
+            IdempotencyStore store = store(Duration.ofHours(1), 10);
+            for (int i = 0; i < 5; i++) {
+                store.begin("running-" + i, FINGERPRINT);
+            }
+            for (int i = 0; i < 10; i++) {
+                IdempotencyStore.Lookup lookup = store.begin("done-" + i, FINGERPRINT);
+                store.complete(lookup.reservation(), RESPONSE);
+            }
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(store.begin("running-" + i, FINGERPRINT).state()).isEqualTo(IdempotencyStore.State.IN_PROGRESS);
+            }
+            assertThat(store.size()).isLessThanOrEqualTo(10);
+        }
+    }
+
+    @Nested
+    class ReservationTests {
+
+        @Test
+        void complete_AfterKeyWasReservedAgain_ShouldNotOverwriteNewReservation() throws InterruptedException {
+            IdempotencyStore store = store(Duration.ofMillis(200), 10);
+            IdempotencyStore.Lookup stale = store.begin("key", FINGERPRINT);
+            Thread.sleep(300);
+            IdempotencyStore.Lookup current = store.begin("key", OTHER_FINGERPRINT);
+
+            store.complete(stale.reservation(), RESPONSE);
+
+            assertThat(current.state()).isEqualTo(IdempotencyStore.State.STARTED);
+            assertThat(store.begin("key", OTHER_FINGERPRINT).state()).isEqualTo(IdempotencyStore.State.IN_PROGRESS);
+        }
+
+        @Test
+        void release_AfterKeyWasReservedAgain_ShouldKeepNewReservation() throws InterruptedException {
+            IdempotencyStore store = store(Duration.ofMillis(200), 10);
+            IdempotencyStore.Lookup stale = store.begin("key", FINGERPRINT);
+            Thread.sleep(300);
+            store.begin("key", OTHER_FINGERPRINT);
+
+            store.release(stale.reservation());
+
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.begin("key", OTHER_FINGERPRINT).state()).isEqualTo(IdempotencyStore.State.IN_PROGRESS);
+        }
+
+        @Test
+        void release_OwnReservation_ShouldFreeKey() {
+            IdempotencyStore store = store(Duration.ofHours(1), 10);
+            IdempotencyStore.Lookup lookup = store.begin("key", FINGERPRINT);
+
+            store.release(lookup.reservation());
+
+            assertThat(store.begin("key", FINGERPRINT).state()).isEqualTo(IdempotencyStore.State.STARTED);
+        }
+    }
+}
\ No newline at end of file
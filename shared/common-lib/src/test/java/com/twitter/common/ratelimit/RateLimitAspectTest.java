@@ -0,0 +1,89 @@
+package com.twitter.common.ratelimit;
+
+import com.twitter.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitAspectTest {
+
+    private static final RateLimitProperties.EndpointLimit LIMIT =
+        new RateLimitProperties.EndpointLimit(3, Duration.ofHours(1));
+
+    private SimpleMeterRegistry meterRegistry;
+    private Endpoints endpoints;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties properties = new RateLimitProperties(true, 100, Map.of("single", LIMIT, "batch", LIMIT));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Endpoints());
+        factory.addAspect(new RateLimitAspect(properties, new TokenBucketRateLimiter(properties, meterRegistry), meterRegistry));
+        endpoints = factory.getProxy();
+    }
+
+    @Nested
+    class SingleKeyTests {
+
+        @Test
+        void limit_OverCapacity_ShouldRejectCall() {
+            UUID userId = UUID.randomUUID();
+            for (int i = 0; i < 3; i++) {
+                endpoints.single(new Item(userId));
+            }
+
+            assertThatThrownBy(() -> endpoints.single(new Item(userId)))
+                .isInstanceOf(RateLimitExceededException.class);
+            assertThat(meterRegistry.get("rate.limit.rejected").tag("endpoint", "single").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    class CollectionKeyTests {
+
+        @Test
+        void limit_WithBatch_ShouldChargeOneTokenPerItemOfEachUser() {
+            UUID userId = UUID.randomUUID();
+            UUID otherUserId = UUID.randomUUID();
+
+            endpoints.batch(List.of(new Item(userId), new Item(userId), new Item(otherUserId)));
+
+            endpoints.batch(List.of(new Item(userId), new Item(otherUserId), new Item(otherUserId)));
+            assertThatThrownBy(() -> endpoints.batch(List.of(new Item(userId))))
+                .isInstanceOf(RateLimitExceededException.class);
+        }
+
+        @Test
+        void limit_WithBatchLargerThanCapacity_ShouldRejectCall() {
+            UUID userId = UUID.randomUUID();
+
+            assertThatThrownBy(() -> endpoints.batch(List.of(new Item(userId), new Item(userId), new Item(userId), new Item(userId))))
+                .isInstanceOf(RateLimitExceededException.class);
+            endpoints.batch(List.of(new Item(userId), new Item(userId), new Item(userId)));
+        }
+    }
+
+    record Item(UUID userId) {
+    }
+
+    static class Endpoints {
+
+        @RateLimited(endpoint = "single", key = "#p0.userId()")
+        public void single(Item item) {
+        }
+
+        @RateLimited(endpoint = "batch", key = "#p0.![userId()]")
+        public void batch(List<Item> items) {
+        }
+    }
+}
\ No newline at end of file
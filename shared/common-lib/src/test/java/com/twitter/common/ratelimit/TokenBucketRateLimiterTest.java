@@ -0,0 +1,190 @@
+package com.twitter.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final String ENDPOINT = "tweets-create";
+    private static final RateLimitProperties.EndpointLimit LIMIT =
+        new RateLimitProperties.EndpointLimit(3, Duration.ofSeconds(1));
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private TokenBucketRateLimiter rateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new TokenBucketRateLimiter(
+            new RateLimitProperties(true, 10, Map.of(ENDPOINT, LIMIT)), meterRegistry, clock::get);
+    }
+
+    @Nested
+    class TryAcquireTests {
+
+        @Test
+        void tryAcquire_WithinCapacity_ShouldAllowBurst() {
+            UUID userId = UUID.randomUUID();
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isZero();
+            }
+        }
+
+        @Test
+        void tryAcquire_WhenBucketEmpty_ShouldReturnWaitUntilNextToken() {
+            UUID userId = UUID.randomUUID();
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId);
+            }
+
+            clock.addAndGet(Duration.ofMillis(400).toNanos());
+
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isEqualTo(Duration.ofMillis(600).toNanos());
+        }
+
+        @Test
+        void tryAcquire_AfterRefillInterval_ShouldAllowOneMoreCall() {
+            UUID userId = UUID.randomUUID();
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId);
+            }
+
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isZero();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isPositive();
+        }
+
+        @Test
+        void tryAcquire_AfterLongIdle_ShouldNotExceedCapacity() {
+            UUID userId = UUID.randomUUID();
+            rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId);
+
+            clock.addAndGet(Duration.ofMinutes(10).toNanos());
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isZero();
+            }
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isPositive();
+        }
+
+        @Test
+        void tryAcquire_WithDifferentUsersAndEndpoints_ShouldUseSeparateBuckets() {
+            UUID userId = UUID.randomUUID();
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId);
+            }
+
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId)).isPositive();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID())).isZero();
+            assertThat(rateLimiter.tryAcquire("likes-create", LIMIT, userId)).isZero();
+        }
+
+        @Test
+        void tryAcquire_WithSeveralPermits_ShouldTakeThemAllOrNone() {
+            UUID userId = UUID.randomUUID();
+
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId, 2)).isZero();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId, 2)).isEqualTo(Duration.ofSeconds(1).toNanos());
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId, 1)).isZero();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId, 1)).isPositive();
+        }
+
+        @Test
+        void tryAcquire_WithMorePermitsThanCapacity_ShouldNeverAllow() {
+            UUID userId = UUID.randomUUID();
+
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId, 4)).isPositive();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId, 3)).isZero();
+        }
+
+        @Test
+        void tryAcquire_WithConcurrentCalls_ShouldAllowExactlyCapacity() throws Exception {
+            UUID userId = UUID.randomUUID();
+            AtomicInteger allowed = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                for (int i = 0; i < 100; i++) {
+                    executor.submit(() -> {
+                        if (rateLimiter.tryAcquire(ENDPOINT, LIMIT, userId) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    });
+                }
+            } finally {
+                executor.shutdown();
+                assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            }
+
+            assertThat(allowed.get()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class EvictionTests {
+
+        @Test
+        void tryAcquire_WhenMaxBucketsExceeded_ShouldEvictFullBucketsFirst() {
+            UUID limitedUser = UUID.randomUUID();
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, limitedUser);
+            }
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            for (int i = 0; i < 9; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID());
+            }
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+            rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID());
+
+            assertThat(rateLimiter.size()).isEqualTo(2);
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, limitedUser)).isZero();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, limitedUser)).isZero();
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, limitedUser)).isPositive();
+        }
+
+        @Test
+        void tryAcquire_WhenAllBucketsAreDrained_ShouldKeepThemAndUseOverflowBucket() {
+            UUID limitedUser = UUID.randomUUID();
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, limitedUser);
+            }
+            for (int i = 0; i < 9; i++) {
+                rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID());
+            }
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID())).isZero();
+            }
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID())).isPositive();
+
+            assertThat(rateLimiter.size()).isEqualTo(10);
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, LIMIT, limitedUser)).isPositive();
+            assertThat(meterRegistry.get("rate.limit.overflow").counter().count()).isEqualTo(4.0);
+        }
+
+        @Test
+        void size_ShouldBeExposedAsGauge() {
+            rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID());
+            rateLimiter.tryAcquire(ENDPOINT, LIMIT, UUID.randomUUID());
+
+            assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isEqualTo(2.0);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.twitter.common.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.ClientPolicy policy = new ResilienceProperties.ClientPolicy(
+            50, 10, 4, Duration.ofSeconds(10), 2, 10, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        circuitBreaker = new CircuitBreaker(policy, clock::get);
+    }
+
+    private void record(int successes, int failures) {
+        for (int i = 0; i < successes; i++) {
+            circuitBreaker.onSuccess();
+        }
+        for (int i = 0; i < failures; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void open() {
+        record(0, 4);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void onFailure_BeforeMinimumCalls_ShouldKeepCircuitClosed() {
+        record(0, 3);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void onFailure_WhenFailureRateReachesThreshold_ShouldOpenCircuit() {
+        record(3, 2);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void onFailure_WithOldFailuresOutOfWindow_ShouldKeepCircuitClosed() {
+        record(0, 3);
+        record(10, 0);
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tryAcquirePermission_AfterOpenDuration_ShouldAllowLimitedTrialCalls() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void onSuccess_WhenAllTrialCallsSucceed_ShouldCloseCircuit() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+
+        record(2, 0);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        record(0, 3);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void onFailure_WhenTrialCallFails_ShouldOpenCircuitAgain() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+}
\ No newline at end of file
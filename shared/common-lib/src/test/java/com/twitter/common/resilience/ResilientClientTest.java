@@ -0,0 +1,246 @@
+package com.twitter.common.resilience;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientClientTest {
+
+    private static final String CLIENT = "users-api";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResilienceRegistry registry;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.destroy();
+        }
+    }
+
+    private ResilientClient client(Client delegate, int maxConcurrentCalls, Duration hedgeDelay) {
+        ResilienceProperties.ClientPolicy policy = new ResilienceProperties.ClientPolicy(
+            50, 10, 4, Duration.ofSeconds(10), 2, maxConcurrentCalls, 2,
+            Duration.ofMillis(1), Duration.ofMillis(2), hedgeDelay);
+        registry = new ResilienceRegistry(new ResilienceProperties(true, policy, Map.of()), meterRegistry);
+        return new ResilientClient(delegate, registry);
+    }
+
+    private ResilientClient client(Client delegate) {
+        return client(delegate, 10, Duration.ZERO);
+    }
+
+    private static Request request(Request.HttpMethod method) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, CLIENT, "http://localhost:8081"));
+        return Request.create(method, "http://localhost:8081/api/v1/users/1/exists",
+            Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+            .status(status)
+            .request(request)
+            .headers(Map.of())
+            .body(new byte[0])
+            .build();
+    }
+
+    private Client responding(int... statuses) {
+        return (request, options) -> {
+            int call = calls.getAndIncrement();
+            return response(request, statuses[Math.min(call, statuses.length - 1)]);
+        };
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("resilience.calls").tag("client", CLIENT).tag("result", result).counter().count();
+    }
+
+    @Nested
+    class RetryTests {
+
+        @Test
+        void execute_GetWithTransientServerError_ShouldRetryAndReturnResponse() throws Exception {
+            ResilientClient client = client(responding(503, 200));
+
+            Response response = client.execute(request(Request.HttpMethod.GET), new Request.Options());
+
+            assertThat(response.status()).isEqualTo(200);
+            assertThat(calls.get()).isEqualTo(2);
+            assertThat(meterRegistry.get("resilience.retries").counter().count()).isEqualTo(1.0);
+            assertThat(calls("success")).isEqualTo(1.0);
+        }
+
+        @Test
+        void execute_GetWithPersistentIoError_ShouldThrowAfterMaxRetries() {
+            ResilientClient client = client((request, options) -> {
+                calls.incrementAndGet();
+                throw new IOException("Connection refused");
+            });
+
+            assertThatThrownBy(() -> client.execute(request(Request.HttpMethod.GET), new Request.Options()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Connection refused");
+            assertThat(calls.get()).isEqualTo(3);
+            assertThat(calls("failure")).isEqualTo(1.0);
+        }
+
+        @Test
+        void execute_PostWithServerError_ShouldNotRetry() throws Exception {
+            ResilientClient client = client(responding(503, 200));
+
+            Response response = client.execute(request(Request.HttpMethod.POST), new Request.Options());
+
+            assertThat(response.status()).isEqualTo(503);
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        void execute_GetWithInternalServerError_ShouldNotRetry() throws Exception {
+            ResilientClient client = client(responding(500, 200));
+
+            Response response = client.execute(request(Request.HttpMethod.GET), new Request.Options());
+
+            assertThat(response.status()).isEqualTo(500);
+            assertThat(calls.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class CircuitBreakerTests {
+
+        @Test
+        void execute_WhenCircuitOpen_ShouldRejectWithoutCalling() throws Exception {
+            ResilientClient client = client(responding(500));
+            for (int i = 0; i < 4; i++) {
+                client.execute(request(Request.HttpMethod.GET), new Request.Options());
+            }
+
+            assertThatThrownBy(() -> client.execute(request(Request.HttpMethod.GET), new Request.Options()))
+                .isInstanceOf(CallRejectedException.class);
+            assertThat(calls.get()).isEqualTo(4);
+            assertThat(calls("circuit_open")).isEqualTo(1.0);
+            assertThat(meterRegistry.get("resilience.circuit.state").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        void execute_WithClientErrors_ShouldKeepCircuitClosed() throws Exception {
+            ResilientClient client = client(responding(404));
+            for (int i = 0; i < 10; i++) {
+                client.execute(request(Request.HttpMethod.GET), new Request.Options());
+            }
+
+            assertThat(client.execute(request(Request.HttpMethod.GET), new Request.Options()).status()).isEqualTo(404);
+            assertThat(calls("success")).isEqualTo(11.0);
+        }
+    }
+
+    @Nested
+    class BulkheadTests {
+
+        @Test
+        void execute_WhenBulkheadFull_ShouldRejectAndReleaseAfterCompletion() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ResilientClient client = client((request, options) -> {
+                if (calls.getAndIncrement() == 0) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return response(request, 200);
+            }, 1, Duration.ZERO);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Response> slowCall = executor.submit(
+                    () -> client.execute(request(Request.HttpMethod.GET), new Request.Options()));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+                assertThatThrownBy(() -> client.execute(request(Request.HttpMethod.GET), new Request.Options()))
+                    .isInstanceOf(CallRejectedException.class);
+                assertThat(calls("bulkhead_full")).isEqualTo(1.0);
+
+                release.countDown();
+                assertThat(slowCall.get(5, TimeUnit.SECONDS).status()).isEqualTo(200);
+                assertThat(client.execute(request(Request.HttpMethod.GET), new Request.Options()).status()).isEqualTo(200);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    class HedgingTests {
+
+        @Test
+        void execute_WhenPrimaryIsSlow_ShouldReturnHedgedResponse() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            ResilientClient client = client((request, options) -> {
+                if (calls.getAndIncrement() == 0) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return response(request, 201);
+                }
+                return response(request, 200);
+            }, 10, Duration.ofMillis(20));
+
+            try {
+                Response response = client.execute(request(Request.HttpMethod.GET), new Request.Options());
+
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(calls.get()).isEqualTo(2);
+                assertThat(meterRegistry.get("resilience.hedges").tag("result", "sent").counter().count()).isEqualTo(1.0);
+                assertThat(meterRegistry.get("resilience.hedges").tag("result", "won").counter().count()).isEqualTo(1.0);
+            } finally {
+                release.countDown();
+            }
+        }
+
+        @Test
+        void execute_WhenPrimaryIsFast_ShouldNotHedge() throws Exception {
+            ResilientClient client = client(responding(200), 10, Duration.ofSeconds(5));
+
+            Response response = client.execute(request(Request.HttpMethod.GET), new Request.Options());
+
+            assertThat(response.status()).isEqualTo(200);
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(meterRegistry.get("resilience.hedges").tag("result", "sent").counter().count()).isZero();
+        }
+    }
+}
\ No newline at end of file